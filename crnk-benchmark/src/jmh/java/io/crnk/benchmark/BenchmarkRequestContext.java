@@ -0,0 +1,116 @@
+package io.crnk.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import io.crnk.core.engine.http.HttpHeaders;
+import io.crnk.core.engine.http.HttpRequestContextBase;
+import io.crnk.core.engine.http.HttpResponse;
+import io.crnk.legacy.internal.RepositoryMethodParameterProvider;
+
+/**
+ * In-memory request to drive the request pipeline without any web framework.
+ */
+public class BenchmarkRequestContext implements HttpRequestContextBase {
+
+	private final String method;
+
+	private final String path;
+
+	private final Map<String, Set<String>> parameters;
+
+	private final Map<String, String> requestHeaders = new HashMap<>();
+
+	private final byte[] requestBody;
+
+	private HttpResponse response = new HttpResponse();
+
+	public BenchmarkRequestContext(String method, String path, Map<String, Set<String>> parameters, String requestBody) {
+		this.method = method;
+		this.path = path;
+		this.parameters = parameters;
+		this.requestBody = requestBody != null ? requestBody.getBytes(StandardCharsets.UTF_8) : null;
+		requestHeaders.put(HttpHeaders.HTTP_HEADER_ACCEPT, HttpHeaders.JSONAPI_CONTENT_TYPE);
+		if (requestBody != null) {
+			requestHeaders.put(HttpHeaders.HTTP_CONTENT_TYPE, HttpHeaders.JSONAPI_CONTENT_TYPE);
+		}
+	}
+
+	public static BenchmarkRequestContext get(String path, Map<String, Set<String>> parameters) {
+		return new BenchmarkRequestContext("GET", path, parameters, null);
+	}
+
+	public BenchmarkRequestContext setRequestHeader(String name, String value) {
+		requestHeaders.put(name, value);
+		return this;
+	}
+
+	@Override
+	public RepositoryMethodParameterProvider getRequestParameterProvider() {
+		return new RepositoryMethodParameterProvider() {
+			@Override
+			public <T> T provide(java.lang.reflect.Method method, int parameterIndex) {
+				return null;
+			}
+		};
+	}
+
+	@Override
+	public String getRequestHeader(String name) {
+		return requestHeaders.get(name);
+	}
+
+	@Override
+	public Map<String, Set<String>> getRequestParameters() {
+		return parameters != null ? parameters : Collections.emptyMap();
+	}
+
+	@Override
+	public String getPath() {
+		return path;
+	}
+
+	@Override
+	public String getBaseUrl() {
+		return CrnkBenchmarkState.BASE_URL;
+	}
+
+	@Override
+	public byte[] getRequestBody() {
+		return requestBody;
+	}
+
+	@Override
+	public void setResponseHeader(String name, String value) {
+		response.setHeader(name, value);
+	}
+
+	@Override
+	public void setResponse(int code, byte[] body) {
+		response.setStatusCode(code);
+		response.setBody(body);
+	}
+
+	@Override
+	public String getMethod() {
+		return method;
+	}
+
+	@Override
+	public String getResponseHeader(String name) {
+		return response.getHeader(name);
+	}
+
+	@Override
+	public HttpResponse getResponse() {
+		return response;
+	}
+
+	@Override
+	public void setResponse(HttpResponse response) {
+		this.response = response;
+	}
+}
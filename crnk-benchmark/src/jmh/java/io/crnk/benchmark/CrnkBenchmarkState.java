@@ -0,0 +1,113 @@
+package io.crnk.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import io.crnk.core.boot.CrnkBoot;
+import io.crnk.core.engine.http.HttpResponse;
+import io.crnk.core.engine.result.Result;
+import io.crnk.core.engine.url.ConstantServiceUrlProvider;
+import io.crnk.core.module.discovery.EmptyServiceDiscovery;
+import io.crnk.operations.server.OperationsModule;
+import io.crnk.test.mock.TestModule;
+import io.crnk.test.mock.models.Project;
+import io.crnk.test.mock.models.Task;
+import io.crnk.test.mock.repository.ProjectRepository;
+import io.crnk.test.mock.repository.TaskRepository;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Boots Crnk in-process with the repositories of the <code>crnk-test</code> module and populates them with
+ * projects and their tasks.
+ */
+@State(Scope.Benchmark)
+public class CrnkBenchmarkState {
+
+	public static final String BASE_URL = "http://localhost:8080/api";
+
+	@Param({"10"})
+	public int numProjects;
+
+	@Param({"10"})
+	public int numTasksPerProject;
+
+	private CrnkBoot boot;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		TestModule.clear();
+
+		boot = new CrnkBoot();
+		boot.setServiceDiscovery(new EmptyServiceDiscovery());
+		boot.setServiceUrlProvider(new ConstantServiceUrlProvider(BASE_URL));
+		boot.addModule(new TestModule());
+		boot.addModule(OperationsModule.create());
+		boot.boot();
+
+		ProjectRepository projectRepository = new ProjectRepository();
+		TaskRepository taskRepository = new TaskRepository();
+		long taskId = 1;
+		for (long projectId = 1; projectId <= numProjects; projectId++) {
+			Project project = new Project();
+			project.setId(projectId);
+			project.setName("project" + projectId);
+			project.setDescription("description of project " + projectId);
+
+			List<Task> tasks = new ArrayList<>();
+			for (int i = 0; i < numTasksPerProject; i++) {
+				Task task = new Task();
+				task.setId(taskId++);
+				task.setName("task" + task.getId());
+				task.setProject(project);
+				taskRepository.save(task);
+				tasks.add(task);
+			}
+			project.setTasks(tasks);
+			projectRepository.save(project);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		TestModule.clear();
+	}
+
+	public CrnkBoot getBoot() {
+		return boot;
+	}
+
+	/**
+	 * Dispatches the request through {@link io.crnk.core.engine.dispatcher.RequestDispatcher#process} and
+	 * materializes the response body.
+	 */
+	public HttpResponse execute(BenchmarkRequestContext requestContext) {
+		try {
+			Optional<Result<HttpResponse>> result = boot.getRequestDispatcher().process(requestContext);
+			HttpResponse response = result.get().get();
+			response.getBody();
+			return response;
+		}
+		catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	public static Map<String, Set<String>> parameters(String... keyValues) {
+		Map<String, Set<String>> parameters = new HashMap<>();
+		for (int i = 0; i < keyValues.length; i += 2) {
+			parameters.put(keyValues[i], Collections.singleton(keyValues[i + 1]));
+		}
+		return parameters;
+	}
+}
@@ -0,0 +1,94 @@
+package io.crnk.benchmark;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import io.crnk.core.engine.http.HttpHeaders;
+import io.crnk.core.engine.http.HttpResponse;
+import io.crnk.operations.server.OperationsRequestProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures complete requests from parsing the URL and body up to serializing the response document.
+ * Run together with the GC profiler to obtain allocation rates per request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RequestPipelineBenchmark {
+
+	private static final int NUM_OPERATIONS = 10;
+
+	private static final long WRITE_TASK_ID = 1;
+
+	private Map<String, Set<String>> collectionParameters;
+
+	private Map<String, Set<String>> includeParameters;
+
+	private String postBody;
+
+	private String patchBody;
+
+	private String operationsBody;
+
+	@Setup
+	public void setup() {
+		collectionParameters = CrnkBenchmarkState.parameters("page[limit]", "50", "sort", "-name");
+		includeParameters = CrnkBenchmarkState.parameters("include", "tasks.project", "fields[tasks]", "name,project");
+
+		// make use of client-generated ids to keep the number of resources constant
+		postBody = "{\"data\":{\"type\":\"tasks\",\"id\":\"" + WRITE_TASK_ID + "\",\"attributes\":{\"name\":\"posted\"}}}";
+		patchBody = "{\"data\":{\"type\":\"tasks\",\"id\":\"" + WRITE_TASK_ID + "\",\"attributes\":{\"name\":\"patched\"}}}";
+
+		StringBuilder operations = new StringBuilder("[");
+		for (int i = 0; i < NUM_OPERATIONS; i++) {
+			if (i > 0) {
+				operations.append(',');
+			}
+			long id = WRITE_TASK_ID + i;
+			operations.append("{\"op\":\"PATCH\",\"path\":\"tasks/").append(id).append("\",\"value\":{\"type\":\"tasks\",\"id\":\"")
+					.append(id).append("\",\"attributes\":{\"name\":\"operation").append(i).append("\"}}}");
+		}
+		operationsBody = operations.append(']').toString();
+	}
+
+	@Benchmark
+	public HttpResponse getCollection(CrnkBenchmarkState state) {
+		return state.execute(BenchmarkRequestContext.get("/tasks", collectionParameters));
+	}
+
+	@Benchmark
+	public HttpResponse getResource(CrnkBenchmarkState state) {
+		return state.execute(BenchmarkRequestContext.get("/tasks/" + WRITE_TASK_ID, null));
+	}
+
+	@Benchmark
+	public HttpResponse getCollectionWithNestedInclusions(CrnkBenchmarkState state) {
+		return state.execute(BenchmarkRequestContext.get("/projects", includeParameters));
+	}
+
+	@Benchmark
+	public HttpResponse post(CrnkBenchmarkState state) {
+		return state.execute(new BenchmarkRequestContext("POST", "/tasks", null, postBody));
+	}
+
+	@Benchmark
+	public HttpResponse patch(CrnkBenchmarkState state) {
+		return state.execute(new BenchmarkRequestContext("PATCH", "/tasks/" + WRITE_TASK_ID, null, patchBody));
+	}
+
+	@Benchmark
+	public HttpResponse bulkOperations(CrnkBenchmarkState state) {
+		BenchmarkRequestContext requestContext = new BenchmarkRequestContext("PATCH", "/operations", null, operationsBody);
+		requestContext.setRequestHeader(HttpHeaders.HTTP_HEADER_ACCEPT, OperationsRequestProcessor.JSONPATCH_CONTENT_TYPE);
+		requestContext.setRequestHeader(HttpHeaders.HTTP_CONTENT_TYPE, OperationsRequestProcessor.JSONPATCH_CONTENT_TYPE);
+		return state.execute(requestContext);
+	}
+}
@@ -0,0 +1,35 @@
+package io.crnk.client;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletableFuture;
+
+import io.crnk.core.queryspec.QuerySpec;
+import io.crnk.core.resource.list.DefaultResourceList;
+
+/**
+ * Non-blocking counterpart of {@link io.crnk.core.repository.ResourceRepositoryV2} obtained with
+ * {@link CrnkClient#getAsyncRepositoryForType(Class)}. Requests do not block the calling thread if the
+ * {@link io.crnk.client.http.HttpAdapter} supports it, such as
+ * {@link io.crnk.client.http.apache.HttpAsyncClientAdapter} and {@link io.crnk.client.http.okhttp.OkHttpAdapter}.
+ * Returned futures fail with the exceptions the blocking repository would throw, such as {@link ClientException} and
+ * {@link TransportException}. Dependent stages run on the threads of the HTTP client and must not block.
+ *
+ * @param <T> resource type
+ * @param <I> identifier type
+ */
+public interface AsyncResourceRepository<T, I extends Serializable> {
+
+	Class<T> getResourceClass();
+
+	CompletableFuture<T> findOne(I id, QuerySpec querySpec);
+
+	CompletableFuture<DefaultResourceList<T>> findAll(QuerySpec querySpec);
+
+	CompletableFuture<DefaultResourceList<T>> findAll(Iterable<I> ids, QuerySpec querySpec);
+
+	<S extends T> CompletableFuture<S> save(S resource);
+
+	<S extends T> CompletableFuture<S> create(S resource);
+
+	CompletableFuture<Void> delete(I id);
+}
@@ -18,6 +18,7 @@ import io.crnk.client.http.HttpAdapter;
 import io.crnk.client.http.HttpAdapterProvider;
 import io.crnk.client.http.apache.HttpClientAdapterProvider;
 import io.crnk.client.http.okhttp.OkHttpAdapterProvider;
+import io.crnk.client.internal.AsyncResourceRepositoryStubImpl;
 import io.crnk.client.internal.ClientDocumentMapper;
 import io.crnk.client.internal.ClientStubInvocationHandler;
 import io.crnk.client.internal.RelationshipRepositoryStubImpl;
@@ -508,6 +509,16 @@ public class CrnkClient {
 
 	}
 
+	/**
+	 * @param resourceClass repository class
+	 * @return non-blocking stub for the given resourceClass
+	 */
+	@SuppressWarnings("unchecked")
+	public <T, I extends Serializable> AsyncResourceRepository<T, I> getAsyncRepositoryForType(Class<T> resourceClass) {
+		ResourceRepositoryV2<T, I> repository = getRepositoryForType(resourceClass);
+		return new AsyncResourceRepositoryStubImpl<>(this, (ResourceRepositoryStubImpl<T, I>) repository);
+	}
+
 	/**
 	 * Generic access using {@link Resource} class without type mapping.
 	 */
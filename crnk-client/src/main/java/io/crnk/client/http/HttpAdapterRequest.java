@@ -1,6 +1,7 @@
 package io.crnk.client.http;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public interface HttpAdapterRequest {
 
@@ -8,4 +9,22 @@ public interface HttpAdapterRequest {
 
 	HttpAdapterResponse execute() throws IOException;
 
+	/**
+	 * Executes the request without blocking the calling thread. Adapters lacking support for non-blocking requests
+	 * execute the request right away and return a completed future.
+	 *
+	 * @return future completed with the response, or exceptionally with the {@link IOException} of the transport.
+	 * Dependent stages run on the threads of the underlying HTTP client and must not block.
+	 */
+	default CompletableFuture<HttpAdapterResponse> executeAsync() {
+		CompletableFuture<HttpAdapterResponse> future = new CompletableFuture<>();
+		try {
+			future.complete(execute());
+		}
+		catch (IOException | RuntimeException e) {
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
 }
@@ -0,0 +1,121 @@
+package io.crnk.client.http.apache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import io.crnk.client.http.HttpAdapter;
+import io.crnk.client.http.HttpAdapterRequest;
+import io.crnk.core.engine.http.HttpMethod;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+
+/**
+ * Adapter for the non-blocking Apache HttpAsyncClient. Requests executed with
+ * {@link HttpAdapterRequest#executeAsync()} do not occupy a thread while waiting for the response, making it a
+ * fit for large numbers of concurrent requests. The connection pool is limited to
+ * {@link #DEFAULT_MAX_CONN_TOTAL} connections, {@link #DEFAULT_MAX_CONN_PER_ROUTE} of them per host, further requests
+ * wait for a connection to become available. The I/O threads of the client are stopped with {@link #close()}.
+ */
+public class HttpAsyncClientAdapter implements HttpAdapter, Closeable {
+
+	public static final int DEFAULT_MAX_CONN_TOTAL = 100;
+
+	public static final int DEFAULT_MAX_CONN_PER_ROUTE = 50;
+
+	private CloseableHttpAsyncClient impl;
+
+	private CopyOnWriteArrayList<HttpAsyncClientAdapterListener> listeners = new CopyOnWriteArrayList<>();
+
+	private Integer receiveTimeout;
+
+	private int maxConnTotal = DEFAULT_MAX_CONN_TOTAL;
+
+	private int maxConnPerRoute = DEFAULT_MAX_CONN_PER_ROUTE;
+
+	public static HttpAsyncClientAdapter newInstance() {
+		return new HttpAsyncClientAdapter();
+	}
+
+	public void addListener(HttpAsyncClientAdapterListener listener) {
+		checkNotInitialized();
+		listeners.add(listener);
+	}
+
+	/**
+	 * @param maxConnTotal maximum number of connections to all hosts, {@link #DEFAULT_MAX_CONN_TOTAL} by default
+	 */
+	public void setMaxConnTotal(int maxConnTotal) {
+		checkNotInitialized();
+		this.maxConnTotal = maxConnTotal;
+	}
+
+	/**
+	 * @param maxConnPerRoute maximum number of connections to a single host, {@link #DEFAULT_MAX_CONN_PER_ROUTE} by
+	 *                        default
+	 */
+	public void setMaxConnPerRoute(int maxConnPerRoute) {
+		checkNotInitialized();
+		this.maxConnPerRoute = maxConnPerRoute;
+	}
+
+	private void checkNotInitialized() {
+		if (impl != null) {
+			throw new IllegalStateException("already initialized");
+		}
+	}
+
+	public CloseableHttpAsyncClient getImplementation() {
+		if (impl == null) {
+			initImpl();
+		}
+		return impl;
+	}
+
+	private synchronized void initImpl() {
+		if (impl == null) {
+			HttpAsyncClientBuilder builder = HttpAsyncClients.custom();
+			builder.setMaxConnTotal(maxConnTotal);
+			builder.setMaxConnPerRoute(maxConnPerRoute);
+
+			if (receiveTimeout != null) {
+				RequestConfig.Builder requestBuilder = RequestConfig.custom();
+				requestBuilder = requestBuilder.setSocketTimeout(receiveTimeout);
+				builder.setDefaultRequestConfig(requestBuilder.build());
+			}
+
+			for (HttpAsyncClientAdapterListener listener : listeners) {
+				listener.onBuild(builder);
+			}
+
+			CloseableHttpAsyncClient client = builder.build();
+			client.start();
+			impl = client;
+		}
+	}
+
+	@Override
+	public HttpAdapterRequest newRequest(String url, HttpMethod method, String requestBody) {
+		CloseableHttpAsyncClient implementation = getImplementation();
+		return new HttpAsyncClientRequest(implementation, url, method, requestBody);
+	}
+
+	@Override
+	public void setReceiveTimeout(int timeout, TimeUnit unit) {
+		checkNotInitialized();
+		receiveTimeout = (int) unit.toMillis(timeout);
+	}
+
+	/**
+	 * Closes the client and stops its I/O threads if it has been initialized.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (impl != null) {
+			impl.close();
+		}
+	}
+}
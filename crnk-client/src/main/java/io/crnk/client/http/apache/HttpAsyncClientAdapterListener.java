@@ -0,0 +1,9 @@
+package io.crnk.client.http.apache;
+
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+
+public interface HttpAsyncClientAdapterListener {
+
+	void onBuild(HttpAsyncClientBuilder builder);
+
+}
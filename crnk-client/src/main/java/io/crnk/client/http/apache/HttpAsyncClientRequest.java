@@ -0,0 +1,80 @@
+package io.crnk.client.http.apache;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import io.crnk.client.http.HttpAdapterRequest;
+import io.crnk.client.http.HttpAdapterResponse;
+import io.crnk.core.engine.http.HttpMethod;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+
+public class HttpAsyncClientRequest implements HttpAdapterRequest {
+
+	private HttpRequestBase requestBase;
+
+	private CloseableHttpAsyncClient impl;
+
+	public HttpAsyncClientRequest(CloseableHttpAsyncClient impl, String url, HttpMethod method, String requestBody) {
+		this.impl = impl;
+		requestBase = HttpClientRequest.createRequest(url, method, requestBody);
+	}
+
+	@Override
+	public void header(String name, String value) {
+		requestBase.setHeader(name, value);
+	}
+
+	@Override
+	public HttpAdapterResponse execute() throws IOException {
+		try {
+			return executeAsync().get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException(e.getMessage());
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+	@Override
+	public CompletableFuture<HttpAdapterResponse> executeAsync() {
+		final CompletableFuture<HttpAdapterResponse> future = new CompletableFuture<>();
+		impl.execute(requestBase, new FutureCallback<HttpResponse>() {
+
+			@Override
+			public void completed(HttpResponse response) {
+				try {
+					future.complete(new HttpClientResponse(response));
+				}
+				catch (IOException | RuntimeException e) {
+					future.completeExceptionally(e);
+				}
+			}
+
+			@Override
+			public void failed(Exception e) {
+				future.completeExceptionally(e);
+			}
+
+			@Override
+			public void cancelled() {
+				future.cancel(false);
+			}
+		});
+		return future;
+	}
+}
@@ -26,22 +26,25 @@ public class HttpClientRequest implements HttpAdapterRequest {
 
 	public HttpClientRequest(CloseableHttpClient impl, String url, HttpMethod method, String requestBody) {
 		this.impl = impl;
+		requestBase = createRequest(url, method, requestBody);
+	}
+
+	protected static HttpRequestBase createRequest(String url, HttpMethod method, String requestBody) {
 		if (method == HttpMethod.GET) {
-			requestBase = new HttpGet(url);
+			return new HttpGet(url);
 		} else if (method == HttpMethod.POST) {
 			HttpPost post = new HttpPost(url);
 			post.setEntity(new StringEntity(requestBody, CONTENT_TYPE));
-			requestBase = post;
+			return post;
 		} else if (method == HttpMethod.PATCH) {
 			HttpPatch post = new HttpPatch(url);
 			post.setEntity(new StringEntity(requestBody, CONTENT_TYPE));
-			requestBase = post;
+			return post;
 		} else if (method == HttpMethod.DELETE) {
-			requestBase = new HttpDelete(url);
+			return new HttpDelete(url);
 		} else {
 			throw new UnsupportedOperationException(method.toString());
 		}
-
 	}
 
 	@Override
@@ -3,19 +3,19 @@ package io.crnk.client.http.apache;
 import io.crnk.client.http.HttpAdapterResponse;
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
 import org.apache.http.ParseException;
-import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.util.EntityUtils;
 
 import java.io.IOException;
 
 public class HttpClientResponse implements HttpAdapterResponse {
 
-	private CloseableHttpResponse response;
+	private HttpResponse response;
 
 	private String body;
 
-	public HttpClientResponse(CloseableHttpResponse response) throws ParseException, IOException {
+	public HttpClientResponse(HttpResponse response) throws ParseException, IOException {
 		this.response = response;
 
 		HttpEntity entity = response.getEntity();
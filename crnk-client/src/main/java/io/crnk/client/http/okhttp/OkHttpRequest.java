@@ -1,11 +1,14 @@
 package io.crnk.client.http.okhttp;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 import io.crnk.client.http.HttpAdapterRequest;
 import io.crnk.client.http.HttpAdapterResponse;
 import io.crnk.core.engine.http.HttpHeaders;
 import io.crnk.core.engine.http.HttpMethod;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -42,4 +45,23 @@ public class OkHttpRequest implements HttpAdapterRequest {
 		return new OkHttpResponse(response);
 	}
 
+	@Override
+	public CompletableFuture<HttpAdapterResponse> executeAsync() {
+		final CompletableFuture<HttpAdapterResponse> future = new CompletableFuture<>();
+		Request request = builder.build();
+		client.newCall(request).enqueue(new Callback() {
+
+			@Override
+			public void onFailure(Call call, IOException e) {
+				future.completeExceptionally(e);
+			}
+
+			@Override
+			public void onResponse(Call call, Response response) {
+				future.complete(new OkHttpResponse(response));
+			}
+		});
+		return future;
+	}
+
 }
@@ -0,0 +1,80 @@
+package io.crnk.client.internal;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletableFuture;
+
+import io.crnk.client.AsyncResourceRepository;
+import io.crnk.client.CrnkClient;
+import io.crnk.core.engine.http.HttpMethod;
+import io.crnk.core.engine.information.resource.ResourceInformation;
+import io.crnk.core.queryspec.QuerySpec;
+import io.crnk.core.resource.list.DefaultResourceList;
+
+/**
+ * Issues the same requests as {@link ResourceRepositoryStubImpl} without blocking the calling thread.
+ */
+public class AsyncResourceRepositoryStubImpl<T, I extends Serializable> extends ClientStubBase
+		implements AsyncResourceRepository<T, I> {
+
+	private ResourceRepositoryStubImpl<T, I> stub;
+
+	private ResourceInformation resourceInformation;
+
+	public AsyncResourceRepositoryStubImpl(CrnkClient client, ResourceRepositoryStubImpl<T, I> stub) {
+		super(client, stub.urlBuilder, stub.resourceClass);
+		this.stub = stub;
+		this.resourceInformation = stub.getResourceInformation();
+	}
+
+	@Override
+	public Class<T> getResourceClass() {
+		return stub.getResourceClass();
+	}
+
+	@Override
+	public CompletableFuture<T> findOne(I id, QuerySpec querySpec) {
+		String url = urlBuilder.buildUrl(resourceInformation, id, querySpec);
+		return executeGetAsync(url, ResponseType.RESOURCE);
+	}
+
+	@Override
+	public CompletableFuture<DefaultResourceList<T>> findAll(QuerySpec querySpec) {
+		String url = urlBuilder.buildUrl(resourceInformation, null, querySpec);
+		return executeGetAsync(url, ResponseType.RESOURCES);
+	}
+
+	@Override
+	public CompletableFuture<DefaultResourceList<T>> findAll(Iterable<I> ids, QuerySpec querySpec) {
+		String url = urlBuilder.buildUrl(resourceInformation, ids, querySpec);
+		return executeGetAsync(url, ResponseType.RESOURCES);
+	}
+
+	@Override
+	public <S extends T> CompletableFuture<S> save(S resource) {
+		return modify(resource, false);
+	}
+
+	@Override
+	public <S extends T> CompletableFuture<S> create(S resource) {
+		return modify(resource, true);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <S extends T> CompletableFuture<S> modify(S resource, boolean create) {
+		String url = stub.getUpdateUrl(resource, create);
+		String requestBody = stub.toRequestBody(resource);
+		HttpMethod method = stub.getUpdateMethod(create);
+		return (CompletableFuture<S>) executeAsync(url, ResponseType.RESOURCE, method, requestBody);
+	}
+
+	@Override
+	public CompletableFuture<Void> delete(I id) {
+		String url = urlBuilder.buildUrl(resourceInformation, id, (QuerySpec) null);
+		return executeAsync(url, ResponseType.NONE, HttpMethod.DELETE, null).thenApply(it -> null);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <R> CompletableFuture<R> executeGetAsync(String url, ResponseType responseType) {
+		return (CompletableFuture<R>) executeAsync(url, responseType, HttpMethod.GET, null);
+	}
+}
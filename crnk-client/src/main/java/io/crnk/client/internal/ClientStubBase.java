@@ -26,6 +26,8 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public class ClientStubBase {
 
@@ -53,49 +55,80 @@ public class ClientStubBase {
 
 	protected Object execute(String url, ResponseType responseType, HttpMethod method, String requestBody) {
 		try {
+			HttpAdapterRequest request = newRequest(url, method, requestBody);
+			HttpAdapterResponse response = request.execute();
+			return handleResponse(response, responseType);
+		} catch (IOException e) {
+			throw new TransportException(e);
+		}
+	}
 
-			HttpAdapter httpAdapter = client.getHttpAdapter();
-			HttpAdapterRequest request = httpAdapter.newRequest(url, method, requestBody);
-
-			LOGGER.debug("requesting {} {}", method, url);
-			if (requestBody != null) {
-				LOGGER.debug("request body: {}", requestBody);
+	/**
+	 * Non-blocking variant of {@link #execute(String, ResponseType, HttpMethod, String)}. The returned future fails
+	 * with the same exceptions the blocking variant throws.
+	 */
+	protected CompletableFuture<Object> executeAsync(String url, final ResponseType responseType, HttpMethod method,
+			String requestBody) {
+		final CompletableFuture<Object> result = new CompletableFuture<>();
+		HttpAdapterRequest request = newRequest(url, method, requestBody);
+		request.executeAsync().whenComplete((response, throwable) -> {
+			try {
+				if (throwable != null) {
+					Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+					result.completeExceptionally(cause instanceof IOException ? new TransportException(cause) : cause);
+				} else {
+					result.complete(handleResponse(response, responseType));
+				}
+			} catch (IOException e) {
+				result.completeExceptionally(new TransportException(e));
+			} catch (RuntimeException e) {
+				result.completeExceptionally(e);
 			}
+		});
+		return result;
+	}
 
-			if (method == HttpMethod.POST || method == HttpMethod.PATCH) {
-				request.header("Content-Type", HttpHeaders.JSONAPI_CONTENT_TYPE + "; charset=" +
-						HttpHeaders.DEFAULT_CHARSET);
-			}
-			request.header("Accept", HttpHeaders.JSONAPI_CONTENT_TYPE);
+	private HttpAdapterRequest newRequest(String url, HttpMethod method, String requestBody) {
+		HttpAdapter httpAdapter = client.getHttpAdapter();
+		HttpAdapterRequest request = httpAdapter.newRequest(url, method, requestBody);
 
-			HttpAdapterResponse response = request.execute();
+		LOGGER.debug("requesting {} {}", method, url);
+		if (requestBody != null) {
+			LOGGER.debug("request body: {}", requestBody);
+		}
 
-			if (!response.isSuccessful()) {
-				throw handleError(response);
-			}
+		if (method == HttpMethod.POST || method == HttpMethod.PATCH) {
+			request.header("Content-Type", HttpHeaders.JSONAPI_CONTENT_TYPE + "; charset=" +
+					HttpHeaders.DEFAULT_CHARSET);
+		}
+		request.header("Accept", HttpHeaders.JSONAPI_CONTENT_TYPE);
+		return request;
+	}
 
-			String body = response.body();
-			LOGGER.debug("response body: {}", body);
-			ObjectMapper objectMapper = client.getObjectMapper();
+	private Object handleResponse(HttpAdapterResponse response, ResponseType responseType) throws IOException {
+		if (!response.isSuccessful()) {
+			throw handleError(response);
+		}
 
-			if (responseType != ResponseType.NONE) {
-				if (body.length() == 0) {
-					throw new ResponseBodyException("no body received");
-				}
-				if (Resource.class.equals(resourceClass)) {
-					Document document = objectMapper.readValue(body, Document.class);
-					return toResourceResponse(document, objectMapper);
-				} else {
-					Document document = objectMapper.readValue(body, Document.class);
+		String body = response.body();
+		LOGGER.debug("response body: {}", body);
+		ObjectMapper objectMapper = client.getObjectMapper();
 
-					ClientDocumentMapper documentMapper = client.getDocumentMapper();
-					return documentMapper.fromDocument(document, responseType == ResponseType.RESOURCES);
-				}
+		if (responseType != ResponseType.NONE) {
+			if (body.length() == 0) {
+				throw new ResponseBodyException("no body received");
+			}
+			if (Resource.class.equals(resourceClass)) {
+				Document document = objectMapper.readValue(body, Document.class);
+				return toResourceResponse(document, objectMapper);
+			} else {
+				Document document = objectMapper.readValue(body, Document.class);
+
+				ClientDocumentMapper documentMapper = client.getDocumentMapper();
+				return documentMapper.fromDocument(document, responseType == ResponseType.RESOURCES);
 			}
-			return null;
-		} catch (IOException e) {
-			throw new TransportException(e);
 		}
+		return null;
 	}
 
 	private static Object toResourceResponse(Document document, ObjectMapper objectMapper) {
@@ -36,6 +36,11 @@ public class ResourceRepositoryStubImpl<T, I extends Serializable> extends Clien
 	}
 
 	private Object executeUpdate(String requestUrl, T resource, boolean create) {
+		String requestBodyValue = toRequestBody(resource);
+		return execute(requestUrl, ResponseType.RESOURCE, getUpdateMethod(create), requestBodyValue);
+	}
+
+	protected String toRequestBody(T resource) {
 		JsonApiResponse response = new JsonApiResponse();
 		response.setEntity(resource);
 
@@ -45,16 +50,25 @@ public class ResourceRepositoryStubImpl<T, I extends Serializable> extends Clien
 		final Document requestDocument = documentMapper.toDocument(response, queryAdapter, mappingConfig).get();
 
 		final ObjectMapper objectMapper = client.getObjectMapper();
-		String requestBodyValue = ExceptionUtil.wrapCatchedExceptions(new Callable<String>() {
+		return ExceptionUtil.wrapCatchedExceptions(new Callable<String>() {
 			@Override
 			public String call() throws Exception {
 				return objectMapper.writeValueAsString(requestDocument);
 			}
 		});
+	}
 
-		HttpMethod method = create || client.getPushAlways() ? HttpMethod.POST : HttpMethod.PATCH;
+	protected HttpMethod getUpdateMethod(boolean create) {
+		return create || client.getPushAlways() ? HttpMethod.POST : HttpMethod.PATCH;
+	}
 
-		return execute(requestUrl, ResponseType.RESOURCE, method, requestBodyValue);
+	protected String getUpdateUrl(T entity, boolean create) {
+		Object id = getId(entity, create);
+		return urlBuilder.buildUrl(resourceInformation, id, (QuerySpec) null);
+	}
+
+	protected ResourceInformation getResourceInformation() {
+		return resourceInformation;
 	}
 
 	@Override
@@ -82,8 +96,7 @@ public class ResourceRepositoryStubImpl<T, I extends Serializable> extends Clien
 
 	@SuppressWarnings("unchecked")
 	private <S extends T> S modify(S entity, boolean create) {
-		Object id = getId(entity, create);
-		String url = urlBuilder.buildUrl(resourceInformation, id, (QuerySpec) null);
+		String url = getUpdateUrl(entity, create);
 		return (S) executeUpdate(url, entity, create);
 	}
 
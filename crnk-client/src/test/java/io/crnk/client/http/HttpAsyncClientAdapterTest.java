@@ -0,0 +1,64 @@
+package io.crnk.client.http;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import io.crnk.client.http.apache.HttpAsyncClientAdapter;
+import io.crnk.client.http.apache.HttpAsyncClientAdapterListener;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class HttpAsyncClientAdapterTest {
+
+	@Test
+	public void testCannotAddListenersAfterInitialization() throws IOException {
+		HttpAsyncClientAdapter adapter = HttpAsyncClientAdapter.newInstance();
+		adapter.getImplementation();
+
+		try {
+			adapter.addListener(Mockito.mock(HttpAsyncClientAdapterListener.class));
+			Assert.fail();
+		} catch (IllegalStateException e) {
+			// ok
+		} finally {
+			adapter.close();
+		}
+	}
+
+	@Test
+	public void testCannotSetTimeoutAfterInitialization() throws IOException {
+		HttpAsyncClientAdapter adapter = HttpAsyncClientAdapter.newInstance();
+		adapter.getImplementation();
+
+		try {
+			adapter.setReceiveTimeout(0, TimeUnit.DAYS);
+			Assert.fail();
+		} catch (IllegalStateException e) {
+			// ok
+		} finally {
+			adapter.close();
+		}
+	}
+
+	@Test
+	public void testCannotSetPoolSizeAfterInitialization() throws IOException {
+		HttpAsyncClientAdapter adapter = HttpAsyncClientAdapter.newInstance();
+		adapter.getImplementation();
+
+		try {
+			adapter.setMaxConnPerRoute(1);
+			Assert.fail();
+		} catch (IllegalStateException e) {
+			// ok
+		} finally {
+			adapter.close();
+		}
+	}
+
+	@Test
+	public void testCloseWithoutInitialization() throws IOException {
+		HttpAsyncClientAdapter adapter = HttpAsyncClientAdapter.newInstance();
+		adapter.close();
+	}
+}
@@ -0,0 +1,65 @@
+package io.crnk.client.http;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.crnk.client.AsyncResourceRepository;
+import io.crnk.client.CrnkClient;
+import io.crnk.client.http.apache.HttpAsyncClientAdapter;
+import io.crnk.client.http.apache.HttpAsyncClientAdapterListener;
+import io.crnk.client.suite.ClientTestContainer;
+import io.crnk.client.suite.RepositoryAccessClientTest;
+import io.crnk.core.queryspec.QuerySpec;
+import io.crnk.core.resource.list.DefaultResourceList;
+import io.crnk.test.mock.models.Task;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class HttpAsyncClientTest extends RepositoryAccessClientTest {
+
+	private HttpAsyncClientAdapterListener listener;
+
+	private HttpAsyncClientAdapter adapter;
+
+	@Override
+	protected void setupClient(CrnkClient client) {
+		super.setupClient(client);
+
+		adapter = HttpAsyncClientAdapter.newInstance();
+		adapter.setReceiveTimeout(30000, TimeUnit.MILLISECONDS);
+		listener = Mockito.mock(HttpAsyncClientAdapterListener.class);
+		adapter.addListener(listener);
+		client.setHttpAdapter(adapter);
+	}
+
+	@After
+	public void closeAdapter() throws IOException {
+		adapter.close();
+	}
+
+	@Test
+	public void testListenerInvoked() {
+		taskRepo.findAll(new QuerySpec(Task.class));
+		Mockito.verify(listener, Mockito.times(1)).onBuild(Mockito.any(HttpAsyncClientBuilder.class));
+	}
+
+	@Test
+	public void testExecuteAsync() throws Exception {
+		CrnkClient client = ((ClientTestContainer) testContainer).getClient();
+		AsyncResourceRepository<Task, Long> asyncTaskRepo = client.getAsyncRepositoryForType(Task.class);
+
+		Task task = new Task();
+		task.setId(13L);
+		task.setName("asyncTask");
+		CompletableFuture<DefaultResourceList<Task>> result = asyncTaskRepo.create(task)
+				.thenCompose(created -> asyncTaskRepo.findAll(new QuerySpec(Task.class)));
+
+		DefaultResourceList<Task> tasks = result.get(30, TimeUnit.SECONDS);
+		Assert.assertEquals(1, tasks.size());
+		Assert.assertEquals("asyncTask", tasks.get(0).getName());
+	}
+}
@@ -1,13 +1,20 @@
 package io.crnk.client.http;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.crnk.client.AsyncResourceRepository;
 import io.crnk.client.CrnkClient;
+import io.crnk.client.suite.ClientTestContainer;
 import io.crnk.client.suite.RepositoryAccessClientTest;
 import io.crnk.client.http.okhttp.OkHttpAdapter;
 import io.crnk.client.http.okhttp.OkHttpAdapterListener;
 import io.crnk.client.http.okhttp.OkHttpAdapterListenerBase;
 import io.crnk.core.queryspec.QuerySpec;
+import io.crnk.core.resource.list.DefaultResourceList;
 import io.crnk.test.mock.models.Task;
 import okhttp3.OkHttpClient;
+import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mockito;
 
@@ -33,4 +40,20 @@ public class OkHttpClientTest extends RepositoryAccessClientTest {
 		taskRepo.findAll(new QuerySpec(Task.class));
 		Mockito.verify(listener, Mockito.times(1)).onBuild(Mockito.any(OkHttpClient.Builder.class));
 	}
+
+	@Test
+	public void testExecuteAsync() throws Exception {
+		CrnkClient client = ((ClientTestContainer) testContainer).getClient();
+		AsyncResourceRepository<Task, Long> asyncTaskRepo = client.getAsyncRepositoryForType(Task.class);
+
+		Task task = new Task();
+		task.setId(13L);
+		task.setName("asyncTask");
+		CompletableFuture<DefaultResourceList<Task>> result = asyncTaskRepo.create(task)
+				.thenCompose(created -> asyncTaskRepo.findAll(new QuerySpec(Task.class)));
+
+		DefaultResourceList<Task> tasks = result.get(30, TimeUnit.SECONDS);
+		Assert.assertEquals(1, tasks.size());
+		Assert.assertEquals("asyncTask", tasks.get(0).getName());
+	}
 }
@@ -0,0 +1,106 @@
+package io.crnk.client.internal;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import io.crnk.client.AsyncResourceRepository;
+import io.crnk.client.CrnkClient;
+import io.crnk.client.TransportException;
+import io.crnk.client.http.HttpAdapter;
+import io.crnk.client.http.HttpAdapterRequest;
+import io.crnk.client.http.HttpAdapterResponse;
+import io.crnk.core.engine.document.Document;
+import io.crnk.core.engine.document.Resource;
+import io.crnk.core.engine.http.HttpMethod;
+import io.crnk.core.exception.ResourceNotFoundException;
+import io.crnk.core.queryspec.QuerySpec;
+import io.crnk.core.utils.Nullable;
+import io.crnk.test.mock.models.Task;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class AsyncResourceRepositoryStubTest {
+
+	private CrnkClient client;
+
+	private HttpAdapterRequest request;
+
+	private CompletableFuture<HttpAdapterResponse> responseFuture;
+
+	private AsyncResourceRepository<Task, Long> repository;
+
+	@Before
+	public void setup() {
+		client = new CrnkClient("http://localhost");
+
+		responseFuture = new CompletableFuture<>();
+		request = Mockito.mock(HttpAdapterRequest.class);
+		Mockito.when(request.executeAsync()).thenReturn(responseFuture);
+
+		HttpAdapter httpAdapter = Mockito.mock(HttpAdapter.class);
+		Mockito.when(httpAdapter.newRequest(Mockito.anyString(), Mockito.any(HttpMethod.class), Mockito.anyString()))
+				.thenReturn(request);
+		Mockito.when(httpAdapter.newRequest(Mockito.anyString(), Mockito.any(HttpMethod.class), Mockito.isNull(String.class)))
+				.thenReturn(request);
+		client.setHttpAdapter(httpAdapter);
+
+		repository = client.getAsyncRepositoryForType(Task.class);
+	}
+
+	@Test
+	public void checkFindOneCompletesWithResponse() throws Exception {
+		CompletableFuture<Task> result = repository.findOne(13L, new QuerySpec(Task.class));
+		Assert.assertFalse(result.isDone());
+		Mockito.verify(request, Mockito.never()).execute();
+
+		Resource resource = new Resource();
+		resource.setType("tasks");
+		resource.setId("13");
+		resource.setAttribute("name", client.getObjectMapper().valueToTree("test"));
+		Document document = new Document();
+		document.setData(Nullable.of((Object) resource));
+		responseFuture.complete(mockResponse(200, client.getObjectMapper().writeValueAsString(document)));
+
+		Task task = result.get();
+		Assert.assertEquals(13L, task.getId().longValue());
+		Assert.assertEquals("test", task.getName());
+	}
+
+	@Test
+	public void checkErrorResponseFailsWithMappedException() throws Exception {
+		CompletableFuture<Task> result = repository.findOne(13L, new QuerySpec(Task.class));
+		responseFuture.complete(mockResponse(404, ""));
+		try {
+			result.get();
+			Assert.fail();
+		}
+		catch (ExecutionException e) {
+			Assert.assertTrue(e.getCause() instanceof ResourceNotFoundException);
+		}
+	}
+
+	@Test
+	public void checkTransportFailureFailsWithTransportException() throws Exception {
+		CompletableFuture<Void> result = repository.delete(13L);
+		responseFuture.completeExceptionally(new IOException("test"));
+		try {
+			result.get();
+			Assert.fail();
+		}
+		catch (ExecutionException e) {
+			Assert.assertTrue(e.getCause() instanceof TransportException);
+			Assert.assertTrue(e.getCause().getCause() instanceof IOException);
+		}
+	}
+
+	private HttpAdapterResponse mockResponse(int code, String body) throws IOException {
+		HttpAdapterResponse response = Mockito.mock(HttpAdapterResponse.class);
+		Mockito.when(response.code()).thenReturn(code);
+		Mockito.when(response.isSuccessful()).thenReturn(code < 400);
+		Mockito.when(response.body()).thenReturn(body);
+		return response;
+	}
+}
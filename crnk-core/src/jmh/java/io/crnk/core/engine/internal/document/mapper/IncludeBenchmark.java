@@ -0,0 +1,161 @@
+package io.crnk.core.engine.internal.document.mapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.crnk.core.boot.CrnkBoot;
+import io.crnk.core.engine.document.Document;
+import io.crnk.core.engine.query.QueryAdapter;
+import io.crnk.core.engine.query.QueryContext;
+import io.crnk.core.engine.url.ConstantServiceUrlProvider;
+import io.crnk.core.module.SimpleModule;
+import io.crnk.core.module.discovery.EmptyServiceDiscovery;
+import io.crnk.core.queryspec.QuerySpec;
+import io.crnk.core.queryspec.internal.QuerySpecAdapter;
+import io.crnk.core.repository.ResourceRepositoryBase;
+import io.crnk.core.repository.response.JsonApiResponse;
+import io.crnk.core.resource.annotations.JsonApiId;
+import io.crnk.core.resource.annotations.JsonApiRelation;
+import io.crnk.core.resource.annotations.JsonApiResource;
+import io.crnk.core.resource.annotations.LookupIncludeBehavior;
+import io.crnk.core.resource.list.ResourceList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Maps 10 root resources with <code>include=children.children.children</code> to a document, resulting in 11110
+ * resources being processed by {@link IncludeLookupSetter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IncludeBenchmark {
+
+	private static final String BASE_URL = "http://localhost:8080";
+
+	private static final int FAN_OUT = 10;
+
+	private static final int DEPTH = 3;
+
+	private DocumentMapper documentMapper;
+
+	private QueryAdapter queryAdapter;
+
+	private JsonApiResponse response;
+
+	private DocumentMappingConfig mappingConfig;
+
+	private long nextId;
+
+	@Setup
+	public void setup() {
+		CrnkBoot boot = new CrnkBoot();
+		boot.setServiceDiscovery(new EmptyServiceDiscovery());
+		boot.setServiceUrlProvider(new ConstantServiceUrlProvider(BASE_URL));
+		SimpleModule module = new SimpleModule("benchmark");
+		module.addRepository(new NodeRepository());
+		boot.addModule(module);
+		boot.boot();
+
+		List<Node> roots = new ArrayList<>();
+		for (int i = 0; i < FAN_OUT; i++) {
+			roots.add(createNode(null, DEPTH));
+		}
+		response = new JsonApiResponse();
+		response.setEntity(roots);
+
+		QuerySpec querySpec = new QuerySpec(Node.class);
+		querySpec.includeRelation(Arrays.asList("children", "children", "children"));
+		QueryContext queryContext = new QueryContext();
+		queryContext.setBaseUrl(BASE_URL);
+		queryAdapter = new QuerySpecAdapter(querySpec, boot.getResourceRegistry(), queryContext);
+
+		documentMapper = boot.getDocumentMapper();
+		mappingConfig = new DocumentMappingConfig();
+	}
+
+	private Node createNode(Node parent, int remainingDepth) {
+		Node node = new Node();
+		node.setId(nextId++);
+		node.setName("node" + node.getId());
+		node.setParent(parent);
+		node.setChildren(new ArrayList<>());
+		if (remainingDepth > 0) {
+			for (int i = 0; i < FAN_OUT; i++) {
+				node.getChildren().add(createNode(node, remainingDepth - 1));
+			}
+		}
+		return node;
+	}
+
+	@Benchmark
+	public Document include() {
+		return documentMapper.toDocument(response, queryAdapter, mappingConfig).get();
+	}
+
+	@JsonApiResource(type = "nodes")
+	public static class Node {
+
+		@JsonApiId
+		private Long id;
+
+		private String name;
+
+		@JsonApiRelation(lookUp = LookupIncludeBehavior.NONE)
+		private Node parent;
+
+		@JsonApiRelation(lookUp = LookupIncludeBehavior.NONE)
+		private List<Node> children;
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Node getParent() {
+			return parent;
+		}
+
+		public void setParent(Node parent) {
+			this.parent = parent;
+		}
+
+		public List<Node> getChildren() {
+			return children;
+		}
+
+		public void setChildren(List<Node> children) {
+			this.children = children;
+		}
+	}
+
+	public static class NodeRepository extends ResourceRepositoryBase<Node, Long> {
+
+		public NodeRepository() {
+			super(Node.class);
+		}
+
+		@Override
+		public ResourceList<Node> findAll(QuerySpec querySpec) {
+			return querySpec.apply(new ArrayList<Node>());
+		}
+	}
+}
@@ -0,0 +1,364 @@
+package io.crnk.core.engine.internal.information.resource;
+
+import java.util.concurrent.TimeUnit;
+
+import io.crnk.core.engine.information.resource.ResourceFieldAccessor;
+import io.crnk.core.engine.information.resource.ResourceFieldAccessorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link ReflectionFieldAccessor} with the accessors of {@link GeneratedFieldAccessorFactory} by reading
+ * and writing all attributes of a resource with 30 attributes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FieldAccessorBenchmark {
+
+	private static final int NUM_ATTRIBUTES = 30;
+
+	@Param({ "reflection", "generated" })
+	public String accessorType;
+
+	private ResourceFieldAccessor[] accessors;
+
+	private WideResource resource;
+
+	@Setup
+	public void setup() {
+		ResourceFieldAccessorFactory factory = "generated".equals(accessorType) ? new GeneratedFieldAccessorFactory() :
+				new ReflectionFieldAccessorFactory();
+		accessors = new ResourceFieldAccessor[NUM_ATTRIBUTES];
+		resource = new WideResource();
+		for (int i = 0; i < NUM_ATTRIBUTES; i++) {
+			String name = String.format("attr%02d", i);
+			accessors[i] = factory.create(WideResource.class, name, String.class);
+			accessors[i].setValue(resource, name);
+		}
+	}
+
+	@Benchmark
+	public void getValues(Blackhole blackhole) {
+		for (ResourceFieldAccessor accessor : accessors) {
+			blackhole.consume(accessor.getValue(resource));
+		}
+	}
+
+	@Benchmark
+	public void setValues() {
+		for (ResourceFieldAccessor accessor : accessors) {
+			accessor.setValue(resource, "value");
+		}
+	}
+
+	public static class WideResource {
+
+		private String attr00;
+
+		private String attr01;
+
+		private String attr02;
+
+		private String attr03;
+
+		private String attr04;
+
+		private String attr05;
+
+		private String attr06;
+
+		private String attr07;
+
+		private String attr08;
+
+		private String attr09;
+
+		private String attr10;
+
+		private String attr11;
+
+		private String attr12;
+
+		private String attr13;
+
+		private String attr14;
+
+		private String attr15;
+
+		private String attr16;
+
+		private String attr17;
+
+		private String attr18;
+
+		private String attr19;
+
+		private String attr20;
+
+		private String attr21;
+
+		private String attr22;
+
+		private String attr23;
+
+		private String attr24;
+
+		private String attr25;
+
+		private String attr26;
+
+		private String attr27;
+
+		private String attr28;
+
+		private String attr29;
+
+		public String getAttr00() {
+			return attr00;
+		}
+
+		public void setAttr00(String attr00) {
+			this.attr00 = attr00;
+		}
+
+		public String getAttr01() {
+			return attr01;
+		}
+
+		public void setAttr01(String attr01) {
+			this.attr01 = attr01;
+		}
+
+		public String getAttr02() {
+			return attr02;
+		}
+
+		public void setAttr02(String attr02) {
+			this.attr02 = attr02;
+		}
+
+		public String getAttr03() {
+			return attr03;
+		}
+
+		public void setAttr03(String attr03) {
+			this.attr03 = attr03;
+		}
+
+		public String getAttr04() {
+			return attr04;
+		}
+
+		public void setAttr04(String attr04) {
+			this.attr04 = attr04;
+		}
+
+		public String getAttr05() {
+			return attr05;
+		}
+
+		public void setAttr05(String attr05) {
+			this.attr05 = attr05;
+		}
+
+		public String getAttr06() {
+			return attr06;
+		}
+
+		public void setAttr06(String attr06) {
+			this.attr06 = attr06;
+		}
+
+		public String getAttr07() {
+			return attr07;
+		}
+
+		public void setAttr07(String attr07) {
+			this.attr07 = attr07;
+		}
+
+		public String getAttr08() {
+			return attr08;
+		}
+
+		public void setAttr08(String attr08) {
+			this.attr08 = attr08;
+		}
+
+		public String getAttr09() {
+			return attr09;
+		}
+
+		public void setAttr09(String attr09) {
+			this.attr09 = attr09;
+		}
+
+		public String getAttr10() {
+			return attr10;
+		}
+
+		public void setAttr10(String attr10) {
+			this.attr10 = attr10;
+		}
+
+		public String getAttr11() {
+			return attr11;
+		}
+
+		public void setAttr11(String attr11) {
+			this.attr11 = attr11;
+		}
+
+		public String getAttr12() {
+			return attr12;
+		}
+
+		public void setAttr12(String attr12) {
+			this.attr12 = attr12;
+		}
+
+		public String getAttr13() {
+			return attr13;
+		}
+
+		public void setAttr13(String attr13) {
+			this.attr13 = attr13;
+		}
+
+		public String getAttr14() {
+			return attr14;
+		}
+
+		public void setAttr14(String attr14) {
+			this.attr14 = attr14;
+		}
+
+		public String getAttr15() {
+			return attr15;
+		}
+
+		public void setAttr15(String attr15) {
+			this.attr15 = attr15;
+		}
+
+		public String getAttr16() {
+			return attr16;
+		}
+
+		public void setAttr16(String attr16) {
+			this.attr16 = attr16;
+		}
+
+		public String getAttr17() {
+			return attr17;
+		}
+
+		public void setAttr17(String attr17) {
+			this.attr17 = attr17;
+		}
+
+		public String getAttr18() {
+			return attr18;
+		}
+
+		public void setAttr18(String attr18) {
+			this.attr18 = attr18;
+		}
+
+		public String getAttr19() {
+			return attr19;
+		}
+
+		public void setAttr19(String attr19) {
+			this.attr19 = attr19;
+		}
+
+		public String getAttr20() {
+			return attr20;
+		}
+
+		public void setAttr20(String attr20) {
+			this.attr20 = attr20;
+		}
+
+		public String getAttr21() {
+			return attr21;
+		}
+
+		public void setAttr21(String attr21) {
+			this.attr21 = attr21;
+		}
+
+		public String getAttr22() {
+			return attr22;
+		}
+
+		public void setAttr22(String attr22) {
+			this.attr22 = attr22;
+		}
+
+		public String getAttr23() {
+			return attr23;
+		}
+
+		public void setAttr23(String attr23) {
+			this.attr23 = attr23;
+		}
+
+		public String getAttr24() {
+			return attr24;
+		}
+
+		public void setAttr24(String attr24) {
+			this.attr24 = attr24;
+		}
+
+		public String getAttr25() {
+			return attr25;
+		}
+
+		public void setAttr25(String attr25) {
+			this.attr25 = attr25;
+		}
+
+		public String getAttr26() {
+			return attr26;
+		}
+
+		public void setAttr26(String attr26) {
+			this.attr26 = attr26;
+		}
+
+		public String getAttr27() {
+			return attr27;
+		}
+
+		public void setAttr27(String attr27) {
+			this.attr27 = attr27;
+		}
+
+		public String getAttr28() {
+			return attr28;
+		}
+
+		public void setAttr28(String attr28) {
+			this.attr28 = attr28;
+		}
+
+		public String getAttr29() {
+			return attr29;
+		}
+
+		public void setAttr29(String attr29) {
+			this.attr29 = attr29;
+		}
+	}
+}
@@ -0,0 +1,160 @@
+package io.crnk.core.queryspec.mapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import io.crnk.core.boot.CrnkBoot;
+import io.crnk.core.engine.information.resource.ResourceInformation;
+import io.crnk.core.engine.url.ConstantServiceUrlProvider;
+import io.crnk.core.module.SimpleModule;
+import io.crnk.core.module.discovery.EmptyServiceDiscovery;
+import io.crnk.core.queryspec.QuerySpec;
+import io.crnk.core.repository.ResourceRepositoryBase;
+import io.crnk.core.resource.annotations.JsonApiId;
+import io.crnk.core.resource.annotations.JsonApiRelation;
+import io.crnk.core.resource.annotations.JsonApiResource;
+import io.crnk.core.resource.annotations.LookupIncludeBehavior;
+import io.crnk.core.resource.list.ResourceList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Parses a query string with 10 filters, 3 sort fields and a nested inclusion with the {@link QuerySpecUrlMapper}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuerySpecUrlMapperBenchmark {
+
+	private QuerySpecUrlMapper urlMapper;
+
+	private ResourceInformation resourceInformation;
+
+	private Map<String, Set<String>> parameters;
+
+	@Setup
+	public void setup() {
+		CrnkBoot boot = new CrnkBoot();
+		boot.setServiceDiscovery(new EmptyServiceDiscovery());
+		boot.setServiceUrlProvider(new ConstantServiceUrlProvider("http://localhost:8080"));
+		SimpleModule module = new SimpleModule("benchmark");
+		module.addRepository(new NodeRepository());
+		boot.addModule(module);
+		boot.boot();
+
+		urlMapper = boot.getUrlMapper();
+		resourceInformation = boot.getResourceRegistry().getEntry(Node.class).getResourceInformation();
+
+		parameters = new HashMap<>();
+		add("filter[name]", "test");
+		add("filter[name][LIKE]", "te%");
+		add("filter[description][NEQ]", "none");
+		add("filter[priority][GT]", "1");
+		add("filter[priority][LT]", "10");
+		add("filter[id][GE]", "3");
+		add("filter[id][LE]", "99");
+		add("filter[parent.name]", "root");
+		add("filter[children.name][LIKE]", "child%");
+		add("filter[nodes][children.priority][EQ]", "5");
+		add("sort", "-priority,name,parent.name");
+		add("include", "children.children,parent");
+	}
+
+	private void add(String name, String value) {
+		parameters.put(name, Collections.singleton(value));
+	}
+
+	@Benchmark
+	public QuerySpec deserialize() {
+		return urlMapper.deserialize(resourceInformation, parameters);
+	}
+
+	@JsonApiResource(type = "nodes")
+	public static class Node {
+
+		@JsonApiId
+		private Long id;
+
+		private String name;
+
+		private String description;
+
+		private Integer priority;
+
+		@JsonApiRelation(lookUp = LookupIncludeBehavior.NONE)
+		private Node parent;
+
+		@JsonApiRelation(lookUp = LookupIncludeBehavior.NONE)
+		private List<Node> children;
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+
+		public void setDescription(String description) {
+			this.description = description;
+		}
+
+		public Integer getPriority() {
+			return priority;
+		}
+
+		public void setPriority(Integer priority) {
+			this.priority = priority;
+		}
+
+		public Node getParent() {
+			return parent;
+		}
+
+		public void setParent(Node parent) {
+			this.parent = parent;
+		}
+
+		public List<Node> getChildren() {
+			return children;
+		}
+
+		public void setChildren(List<Node> children) {
+			this.children = children;
+		}
+	}
+
+	public static class NodeRepository extends ResourceRepositoryBase<Node, Long> {
+
+		public NodeRepository() {
+			super(Node.class);
+		}
+
+		@Override
+		public ResourceList<Node> findAll(QuerySpec querySpec) {
+			return querySpec.apply(new ArrayList<Node>());
+		}
+	}
+}
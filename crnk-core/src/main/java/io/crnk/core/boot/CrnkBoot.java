@@ -6,6 +6,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -26,6 +27,8 @@ import io.crnk.core.engine.internal.dispatcher.controller.RelationshipsResourceD
 import io.crnk.core.engine.internal.dispatcher.controller.RelationshipsResourceGet;
 import io.crnk.core.engine.internal.dispatcher.controller.RelationshipsResourcePatch;
 import io.crnk.core.engine.internal.dispatcher.controller.RelationshipsResourcePost;
+import io.crnk.core.engine.internal.dispatcher.controller.ResourceBulkDelete;
+import io.crnk.core.engine.internal.dispatcher.controller.ResourceBulkPatch;
 import io.crnk.core.engine.internal.dispatcher.controller.ResourceDelete;
 import io.crnk.core.engine.internal.dispatcher.controller.ResourceGet;
 import io.crnk.core.engine.internal.dispatcher.controller.ResourcePatch;
@@ -60,6 +63,7 @@ import io.crnk.core.queryspec.QuerySpecDeserializer;
 import io.crnk.core.queryspec.internal.QuerySpecAdapterBuilder;
 import io.crnk.core.queryspec.internal.UrlMapperAdapter;
 import io.crnk.core.queryspec.mapper.DefaultQuerySpecUrlMapper;
+import io.crnk.core.queryspec.mapper.QuerySpecCache;
 import io.crnk.core.queryspec.mapper.QuerySpecUrlMapper;
 import io.crnk.core.queryspec.mapper.UnkonwnMappingAware;
 import io.crnk.core.queryspec.pagingspec.LimitBoundedPagingBehavior;
@@ -126,6 +130,8 @@ public class CrnkBoot {
 
 	private String webPathPrefix;
 
+	private Executor includeLookupExecutor;
+
 	private static String buildServiceUrl(String resourceDefaultDomain, String webPathPrefix) {
 		return resourceDefaultDomain + (webPathPrefix != null ? webPathPrefix : "");
 	}
@@ -328,8 +334,12 @@ public class CrnkBoot {
 	protected DocumentMapper createDocumentMapper() {
 		ResourceFilterDirectory filterDirectory = moduleRegistry.getContext().getResourceFilterDirectory();
 		ResultFactory resultFactory = moduleRegistry.getContext().getResultFactory();
-		return new DocumentMapper(resourceRegistry, objectMapper, propertiesProvider, filterDirectory, resultFactory,
-				serverInfo);
+		DocumentMapper documentMapper = new DocumentMapper(resourceRegistry, objectMapper, propertiesProvider, filterDirectory,
+				resultFactory, serverInfo);
+		if (includeLookupExecutor != null) {
+			documentMapper.setIncludeLookupExecutor(includeLookupExecutor);
+		}
+		return documentMapper;
 	}
 
 	protected ControllerRegistry createControllerRegistry() {
@@ -345,6 +355,10 @@ public class CrnkBoot {
 		controllers.add(new FieldResourcePost());
 		controllers.add(new ResourcePatch());
 		controllers.add(new ResourcePost());
+		if (Boolean.parseBoolean(propertiesProvider.getProperty(CrnkProperties.BULK_REQUESTS_ENABLED))) {
+			controllers.add(new ResourceBulkDelete());
+			controllers.add(new ResourceBulkPatch());
+		}
 
 		ControllerContext context = new ControllerContext(moduleRegistry, this::getDocumentMapper);
 		for (Controller controller : controllers) {
@@ -641,6 +655,18 @@ public class CrnkBoot {
 				((UnkonwnMappingAware) urlMapper).setAllowUnknownParameters(allowUnknownParameters);
 			}
 		}
+
+		if (urlMapper instanceof DefaultQuerySpecUrlMapper) {
+			QuerySpecCache querySpecCache = ((DefaultQuerySpecUrlMapper) urlMapper).getQuerySpecCache();
+			String strCacheSize = propertiesProvider.getProperty(CrnkProperties.QUERY_SPEC_CACHE_SIZE);
+			if (strCacheSize != null) {
+				querySpecCache.setMaxSize(Integer.parseInt(strCacheSize));
+			}
+			String strCacheExpiration = propertiesProvider.getProperty(CrnkProperties.QUERY_SPEC_CACHE_EXPIRATION);
+			if (strCacheExpiration != null) {
+				querySpecCache.setExpirationMillis(Long.parseLong(strCacheExpiration));
+			}
+		}
 	}
 
 	private void setupPagingBehavior() {
@@ -731,4 +757,15 @@ public class CrnkBoot {
 	public void setWebPathPrefix(String webPathPrefix) {
 		this.webPathPrefix = webPathPrefix;
 	}
+
+	/**
+	 * Sets the executor used to issue independent relationship lookups of inclusions concurrently, like the ones of
+	 * <code>include=a,b,c</code>. By default lookups are issued sequentially on the request thread. The request context
+	 * is propagated to the executor threads, but repositories must not depend on further thread-local state like
+	 * transactions to make use of this.
+	 */
+	public void setIncludeLookupExecutor(Executor includeLookupExecutor) {
+		checkNotConfiguredYet();
+		this.includeLookupExecutor = includeLookupExecutor;
+	}
 }
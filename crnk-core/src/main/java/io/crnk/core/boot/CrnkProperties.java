@@ -178,4 +178,60 @@ public class CrnkProperties {
 	 * @since 2.4
 	 */
 	public static final String REJECT_PLAIN_JSON = "crnk.config.resource.request.rejectPlainJson";
+
+	/**
+	 * <p>
+	 * Set a boolean whether Crnk should serialize attribute values only once. Attribute values are then no longer
+	 * converted to intermediate JSON trees, but serialized into a compact token buffer before the request completes.
+	 * Failures, such as uninitialized lazy associations, are thereby still mapped to error responses before the status
+	 * is committed. The buffer is then written to the output stream of the underlying integration (if supported) rather
+	 * than to an intermediate <code>byte[]</code>. The response is not streamed: the document and the buffer are held
+	 * in memory as a whole, the property saves conversions and copies rather than bounding memory usage.
+	 * Note that in this case attributes of a {@link io.crnk.core.engine.document.Resource} returned by the
+	 * {@link io.crnk.core.engine.internal.document.mapper.DocumentMapper} are available as POJO nodes only.
+	 * Defaults to <code>false</code>.
+	 * </p>
+	 */
+	public static final String SERIALIZE_STREAMING = "crnk.config.serialize.streaming";
+
+	/**
+	 * <p>
+	 * Set a boolean whether the raw request body must remain available with
+	 * {@link io.crnk.core.engine.http.HttpRequestContextBase#getRequestBody()} once the request has been parsed, for
+	 * example, for filters or modules reading it later on. The body is then read into a <code>byte[]</code> and parsed
+	 * from there. By default it is parsed straight from the stream of the underlying integration without keeping a
+	 * copy, and <code>getRequestBody()</code> is no longer available afterwards. Defaults to <code>false</code>.
+	 * </p>
+	 */
+	public static final String RETAIN_REQUEST_BODY = "crnk.config.resource.request.retainBody";
+
+	/**
+	 * <p>
+	 * Set the maximum number of parsed query parameter combinations to cache with the
+	 * {@link io.crnk.core.queryspec.mapper.DefaultQuerySpecUrlMapper}. Requests repeating a combination obtain a copy of
+	 * the cached {@link io.crnk.core.queryspec.QuerySpec} rather than parsing the parameters again. Defaults to
+	 * <code>0</code>, which disables the cache.
+	 * </p>
+	 */
+	public static final String QUERY_SPEC_CACHE_SIZE = "crnk.config.resource.request.querySpecCache.size";
+
+	/**
+	 * <p>
+	 * Set the time in milliseconds after which a cached {@link io.crnk.core.queryspec.QuerySpec} expires. Defaults to
+	 * <code>0</code>, which keeps them until they get evicted due to the size limit or a change of the resource
+	 * registry.
+	 * </p>
+	 */
+	public static final String QUERY_SPEC_CACHE_EXPIRATION = "crnk.config.resource.request.querySpecCache.expiration";
+
+	/**
+	 * <p>
+	 * Set a boolean whether Crnk should accept bulk requests, which are not part of the JSON-API specification:
+	 * a <code>POST</code> or <code>PATCH</code> of multiple resources to a collection path and a <code>DELETE</code>
+	 * of multiple ids like <code>/tasks/1,2</code>. Resources are passed to repositories implementing
+	 * {@link io.crnk.core.repository.BulkResourceRepositoryV2} with a single call. Also lets the operations module send
+	 * consecutive operations as such a request. Defaults to <code>false</code>.
+	 * </p>
+	 */
+	public static final String BULK_REQUESTS_ENABLED = "crnk.config.resource.request.bulk.enabled";
 }
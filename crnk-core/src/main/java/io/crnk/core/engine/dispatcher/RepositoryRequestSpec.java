@@ -59,7 +59,8 @@ public interface RepositoryRequestSpec {
 	ResourceInformation getOwningResourceInformation();
 
 	/**
-	 * @return involved entity for push and patch operations or null otherwise.
+	 * @return involved entity for push and patch operations or null otherwise. A collection of entities in case of
+	 * bulk operations, see {@link io.crnk.core.repository.BulkResourceRepositoryV2}.
 	 */
 	Object getEntity();
 
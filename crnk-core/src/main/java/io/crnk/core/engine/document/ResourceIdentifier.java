@@ -39,7 +39,8 @@ public class ResourceIdentifier implements Comparable<ResourceIdentifier> {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(id, type);
+		// same as Objects.hash(id, type), but without allocating a varargs array
+		return 31 * (31 + Objects.hashCode(id)) + Objects.hashCode(type);
 	}
 
 	@Override
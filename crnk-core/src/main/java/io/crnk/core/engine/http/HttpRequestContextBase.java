@@ -2,7 +2,9 @@ package io.crnk.core.engine.http;
 
 import io.crnk.legacy.internal.RepositoryMethodParameterProvider;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 import java.util.Set;
 
@@ -20,6 +22,19 @@ public interface HttpRequestContextBase {
 
 	byte[] getRequestBody();
 
+	/**
+	 * Gives access to the request body without buffering it as byte array first. Implementations reading from a
+	 * container stream do not keep a copy, the body can then be consumed only once, either with this method or with
+	 * {@link #getRequestBody()}. See {@link io.crnk.core.boot.CrnkProperties#RETAIN_REQUEST_BODY} to keep the body
+	 * available.
+	 *
+	 * @return request body as stream or null if there is none.
+	 */
+	default InputStream getRequestBodyStream() throws IOException {
+		byte[] requestBody = getRequestBody();
+		return requestBody != null ? new ByteArrayInputStream(requestBody) : null;
+	}
+
 	/**
 	 * @deprecated use {@link HttpResponse}
 	 */
@@ -1,5 +1,8 @@
 package io.crnk.core.engine.http;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.util.HashMap;
 import java.util.Map;
@@ -12,6 +15,7 @@ public class HttpResponse {
 
 	private byte[] body;
 
+	private HttpResponseBodyWriter bodyWriter;
 
 	public void setHeader(String name, String value) {
 		headers.put(name, value);
@@ -33,16 +37,60 @@ public class HttpResponse {
 		this.statusCode = statusCode;
 	}
 
+	/**
+	 * @return body of the response. Streaming bodies set with {@link #setBodyWriter(HttpResponseBodyWriter)} are
+	 * materialized upon first access. Make use of {@link #writeBody(OutputStream)} to avoid doing so.
+	 */
 	public byte[] getBody() {
+		if (body == null && bodyWriter != null) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			try {
+				bodyWriter.writeTo(out);
+			}
+			catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+			body = out.toByteArray();
+		}
 		return body;
 	}
 
 	public void setBody(byte[] body) {
 		this.body = body;
+		this.bodyWriter = null;
 	}
 
 	public void setBody(String body) {
-		this.body = body.getBytes(Charset.forName("utf8"));
+		setBody(body.getBytes(Charset.forName("utf8")));
+	}
+
+	public HttpResponseBodyWriter getBodyWriter() {
+		return bodyWriter;
+	}
+
+	/**
+	 * Sets a body that gets written directly to the output stream of the integration with
+	 * {@link #writeBody(OutputStream)}.
+	 */
+	public void setBodyWriter(HttpResponseBodyWriter bodyWriter) {
+		this.bodyWriter = bodyWriter;
+		this.body = null;
+	}
+
+	public boolean hasBody() {
+		return body != null || bodyWriter != null;
+	}
+
+	/**
+	 * Writes the body to the given stream, streaming it if possible.
+	 */
+	public void writeBody(OutputStream outputStream) throws IOException {
+		if (body == null && bodyWriter != null) {
+			bodyWriter.writeTo(outputStream);
+		}
+		else if (body != null) {
+			outputStream.write(body);
+		}
 	}
 
 	public String getHeader(String name) {
@@ -59,6 +107,6 @@ public class HttpResponse {
 
 	@Override
 	public String toString() {
-		return getClass().getSimpleName() + "[status=" + statusCode + ",bodyLength=" + (body != null ? body.length : 0) + ",headers=" + headers + "]";
+		return getClass().getSimpleName() + "[status=" + statusCode + ",bodyLength=" + (body != null ? String.valueOf(body.length) : bodyWriter != null ? "streaming" : "0") + ",headers=" + headers + "]";
 	}
 }
@@ -0,0 +1,16 @@
+package io.crnk.core.engine.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes a response body directly to the output stream of the underlying integration. Allows to serialize
+ * large documents without first materializing them as <code>byte[]</code>.
+ */
+public interface HttpResponseBodyWriter {
+
+	/**
+	 * Writes the body to the given stream. The stream must not be closed by implementations.
+	 */
+	void writeTo(OutputStream outputStream) throws IOException;
+}
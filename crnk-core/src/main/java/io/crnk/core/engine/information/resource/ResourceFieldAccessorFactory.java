@@ -0,0 +1,11 @@
+package io.crnk.core.engine.information.resource;
+
+/**
+ * Creates {@link ResourceFieldAccessor} instances for the fields of a resource class. Invoked once per field while
+ * building the {@link ResourceInformation}.
+ */
+public interface ResourceFieldAccessorFactory {
+
+	ResourceFieldAccessor create(Class<?> resourceClass, String fieldName, Class<?> fieldType);
+
+}
@@ -1,10 +1,14 @@
 package io.crnk.core.engine.internal.dispatcher;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.crnk.core.engine.internal.dispatcher.controller.Controller;
+import io.crnk.core.engine.internal.dispatcher.path.ActionPath;
 import io.crnk.core.engine.internal.dispatcher.path.JsonPath;
 import io.crnk.core.engine.internal.dispatcher.path.PathBuilder;
 import io.crnk.core.engine.internal.http.HttpRequestDispatcherImpl;
@@ -14,6 +18,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Stores a list of controllers which are used to process the incoming requests.
+ * <p>
+ * The resolved controller is cached for every combination of HTTP method, path type, collection flag, resource path
+ * and element name, see {@link Controller#isAcceptable(JsonPath, String)}. Only the first request of such a
+ * combination iterates over the controllers.
  *
  * @see HttpRequestDispatcherImpl
  */
@@ -23,6 +31,8 @@ public class ControllerRegistry {
 
 	private final List<Controller> controllers = new LinkedList<>();
 
+	private final ConcurrentHashMap<RouteKey, Controller> routes = new ConcurrentHashMap<>();
+
 	public ControllerRegistry(Collection<Controller> controllers) {
 		if (controllers != null) {
 			this.controllers.addAll(controllers);
@@ -36,6 +46,15 @@ public class ControllerRegistry {
 	 */
 	public void addController(Controller controller) {
 		controllers.add(controller);
+		routes.clear();
+	}
+
+	/**
+	 * Removes all registered controllers. Should be called at initialization time.
+	 */
+	public void clearControllers() {
+		controllers.clear();
+		routes.clear();
 	}
 
 	/**
@@ -46,6 +65,20 @@ public class ControllerRegistry {
 	 * @return suitable controller
 	 */
 	public Controller getController(JsonPath jsonPath, String method) {
+		if (jsonPath instanceof ActionPath || method == null) {
+			return findController(jsonPath, method);
+		}
+
+		RouteKey key = new RouteKey(jsonPath, method);
+		Controller controller = routes.get(key);
+		if (controller == null) {
+			controller = findController(jsonPath, method);
+			routes.put(key, controller);
+		}
+		return controller;
+	}
+
+	private Controller findController(JsonPath jsonPath, String method) {
 		for (Controller controller : controllers) {
 			if (controller.isAcceptable(jsonPath, method)) {
 				LOGGER.debug("using controller {}", controller);
@@ -55,7 +88,52 @@ public class ControllerRegistry {
 		throw new BadRequestException(PathBuilder.build(jsonPath) + " with method " + method);
 	}
 
+	/**
+	 * @return registered controllers, use {@link #addController(Controller)} to register further ones.
+	 */
 	public List<Controller> getControllers() {
-		return controllers;
+		return Collections.unmodifiableList(controllers);
+	}
+
+	private static final class RouteKey {
+
+		private final String method;
+
+		private final Class<?> pathType;
+
+		private final boolean collection;
+
+		private final String resourcePath;
+
+		private final String elementName;
+
+		RouteKey(JsonPath jsonPath, String method) {
+			this.method = method;
+			this.pathType = jsonPath.getClass();
+			this.collection = jsonPath.isCollection();
+			this.resourcePath = jsonPath.getResourcePath();
+			this.elementName = jsonPath.getElementName();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			RouteKey routeKey = (RouteKey) o;
+			return collection == routeKey.collection
+					&& method.equals(routeKey.method)
+					&& pathType.equals(routeKey.pathType)
+					&& Objects.equals(resourcePath, routeKey.resourcePath)
+					&& Objects.equals(elementName, routeKey.elementName);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(method, pathType, collection, resourcePath, elementName);
+		}
 	}
 }
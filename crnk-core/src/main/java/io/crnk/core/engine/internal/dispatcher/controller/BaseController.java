@@ -1,10 +1,13 @@
 package io.crnk.core.engine.internal.dispatcher.controller;
 
+import java.util.Collection;
+
 import io.crnk.core.engine.dispatcher.Response;
 import io.crnk.core.engine.document.Document;
 import io.crnk.core.engine.http.HttpMethod;
 import io.crnk.core.engine.information.resource.ResourceInformation;
 import io.crnk.core.engine.internal.dispatcher.path.JsonPath;
+import io.crnk.core.engine.internal.dispatcher.path.PathBuilder;
 import io.crnk.core.engine.internal.utils.PreconditionUtil;
 import io.crnk.core.engine.query.QueryAdapter;
 import io.crnk.core.engine.registry.RegistryEntry;
@@ -100,4 +103,22 @@ public abstract class BaseController implements Controller {
 			throw new IllegalStateException("created resource must have an id");
 		}
 	}
+
+	protected void validateCreatedResponses(ResourceInformation resourceInformation, JsonApiResponse response,
+			int expectedSize) {
+		Collection<?> entities = (Collection<?>) response.getEntity();
+		PreconditionUtil.verify(entities != null && entities.size() == expectedSize,
+				"upon POST repository for type=%s must return all created resources", resourceInformation.getResourceType());
+		for (Object entity : entities) {
+			validateCreatedResponse(resourceInformation, new JsonApiResponse().setEntity(entity));
+		}
+	}
+
+	/**
+	 * For controllers accepting some requests of a path only, like bulk requests of collection paths. Fails the same
+	 * way as if no controller accepted the request.
+	 */
+	protected BadRequestException newUnsupportedRequestException(JsonPath jsonPath, String method) {
+		return new BadRequestException(PathBuilder.build(jsonPath) + " with method " + method);
+	}
 }
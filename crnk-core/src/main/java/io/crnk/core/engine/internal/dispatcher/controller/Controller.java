@@ -12,7 +12,10 @@ public interface Controller {
 	void init(ControllerContext context);
 
 	/**
-	 * Checks if requested repository method is acceptable.
+	 * Checks if requested repository method is acceptable. The result is cached by the
+	 * {@link io.crnk.core.engine.internal.dispatcher.ControllerRegistry} for the HTTP method, the type of the path,
+	 * whether it addresses a collection, its resource path and its element name. The decision must not depend on
+	 * anything else like the ids or the parent path.
 	 *
 	 * @param jsonPath    Requested resource path
 	 * @param method HTTP request type
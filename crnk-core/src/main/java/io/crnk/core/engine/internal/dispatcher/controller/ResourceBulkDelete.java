@@ -0,0 +1,70 @@
+package io.crnk.core.engine.internal.dispatcher.controller;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.crnk.core.engine.dispatcher.Response;
+import io.crnk.core.engine.document.Document;
+import io.crnk.core.engine.http.HttpMethod;
+import io.crnk.core.engine.information.resource.ResourceInformation;
+import io.crnk.core.engine.internal.dispatcher.path.JsonPath;
+import io.crnk.core.engine.internal.dispatcher.path.PathIds;
+import io.crnk.core.engine.internal.dispatcher.path.ResourcePath;
+import io.crnk.core.engine.internal.repository.ResourceRepositoryAdapter;
+import io.crnk.core.engine.query.QueryAdapter;
+import io.crnk.core.engine.registry.RegistryEntry;
+import io.crnk.core.engine.result.Result;
+import io.crnk.core.engine.result.ResultFactory;
+import io.crnk.core.repository.response.JsonApiResponse;
+import io.crnk.legacy.internal.RepositoryMethodParameterProvider;
+
+/**
+ * Deletes multiple resources with a single DELETE request listing their ids. Repositories implementing
+ * {@link io.crnk.core.repository.BulkResourceRepositoryV2} delete them all at once, other ones one by one.
+ */
+public class ResourceBulkDelete extends BaseController {
+
+	@Override
+	public boolean isAcceptable(JsonPath jsonPath, String method) {
+		return jsonPath.isCollection()
+				&& jsonPath instanceof ResourcePath
+				&& HttpMethod.DELETE.name().equals(method);
+	}
+
+	@Override
+	public Result<Response> handleAsync(JsonPath jsonPath, QueryAdapter queryAdapter,
+										RepositoryMethodParameterProvider parameterProvider, Document requestBody) {
+		PathIds resourceIds = jsonPath.getIds();
+		if (resourceIds == null) {
+			throw newUnsupportedRequestException(jsonPath, HttpMethod.DELETE.name());
+		}
+		RegistryEntry registryEntry = getRegistryEntryByPath(jsonPath.getElementName());
+		logger.debug("using registry entry {}", registryEntry);
+		logger.debug("deleting ids={}", resourceIds);
+
+		ResourceInformation resourceInformation = registryEntry.getResourceInformation();
+		List<Serializable> castedIds = new ArrayList<>();
+		for (String id : resourceIds.getIds()) {
+			castedIds.add(resourceInformation.parseIdString(id));
+		}
+
+		ResourceRepositoryAdapter resourceRepository = registryEntry.getResourceRepository(parameterProvider);
+		List<Result<JsonApiResponse>> results = new ArrayList<>();
+		if (resourceRepository.isBulk()) {
+			results.add(resourceRepository.deleteAll(castedIds, queryAdapter));
+		}
+		else {
+			for (Serializable castedId : castedIds) {
+				results.add(resourceRepository.delete(castedId, queryAdapter));
+			}
+		}
+
+		ResultFactory resultFactory = context.getResultFactory();
+		Response response = new Response(null, 204);
+		return resultFactory.zip(results).map(it -> {
+			logger.debug("set response {}", it);
+			return response;
+		});
+	}
+}
@@ -0,0 +1,123 @@
+package io.crnk.core.engine.internal.dispatcher.controller;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.crnk.core.engine.dispatcher.Response;
+import io.crnk.core.engine.document.Document;
+import io.crnk.core.engine.document.Resource;
+import io.crnk.core.engine.http.HttpMethod;
+import io.crnk.core.engine.information.resource.ResourceInformation;
+import io.crnk.core.engine.internal.dispatcher.path.JsonPath;
+import io.crnk.core.engine.internal.dispatcher.path.ResourcePath;
+import io.crnk.core.engine.internal.document.mapper.DocumentMapper;
+import io.crnk.core.engine.internal.document.mapper.DocumentMappingConfig;
+import io.crnk.core.engine.internal.repository.ResourceRepositoryAdapter;
+import io.crnk.core.engine.query.QueryAdapter;
+import io.crnk.core.engine.registry.RegistryEntry;
+import io.crnk.core.engine.result.Result;
+import io.crnk.core.engine.result.ResultFactory;
+import io.crnk.core.exception.ResourceNotFoundException;
+import io.crnk.core.utils.Nullable;
+import io.crnk.legacy.internal.RepositoryMethodParameterProvider;
+
+/**
+ * Updates multiple resources with a single PATCH request to the collection path. Only supported by repositories
+ * implementing {@link io.crnk.core.repository.BulkResourceRepositoryV2}.
+ */
+public class ResourceBulkPatch extends ResourcePatch {
+
+	@Override
+	public boolean isAcceptable(JsonPath jsonPath, String method) {
+		return jsonPath.isCollection() &&
+				jsonPath instanceof ResourcePath &&
+				HttpMethod.PATCH.name().equals(method);
+	}
+
+	@Override
+	public Result<Response> handleAsync(JsonPath jsonPath, QueryAdapter queryAdapter,
+			RepositoryMethodParameterProvider parameterProvider, Document requestDocument) {
+		RegistryEntry endpointRegistryEntry = getRegistryEntry(jsonPath);
+		ResourceRepositoryAdapter resourceRepository = endpointRegistryEntry.getResourceRepository(parameterProvider);
+		if (jsonPath.getIds() != null || !isBulkRequest(requestDocument, resourceRepository)) {
+			throw newUnsupportedRequestException(jsonPath, HttpMethod.PATCH.name());
+		}
+		return handleBulk(jsonPath, queryAdapter, parameterProvider, requestDocument, endpointRegistryEntry);
+	}
+
+	/**
+	 * Updates all resources of the request document with a single call to a bulk repository. The resources to update
+	 * are loaded with a single call as well.
+	 */
+	private Result<Response> handleBulk(JsonPath jsonPath, QueryAdapter queryAdapter,
+			RepositoryMethodParameterProvider parameterProvider, Document requestDocument,
+			RegistryEntry endpointRegistryEntry) {
+		List<Resource> requestResources = getRequestBodies(requestDocument, jsonPath, HttpMethod.PATCH);
+
+		List<RegistryEntry> registryEntries = new ArrayList<>();
+		List<Serializable> resourceIds = new ArrayList<>();
+		for (Resource requestResource : requestResources) {
+			RegistryEntry registryEntry = context.getResourceRegistry().getEntry(requestResource.getType());
+			verifyTypes(HttpMethod.PATCH, endpointRegistryEntry, registryEntry);
+			registryEntries.add(registryEntry);
+			resourceIds.add(registryEntry.getResourceInformation().parseIdString(requestResource.getId()));
+		}
+
+		DocumentMappingConfig mappingConfig = DocumentMappingConfig.create().setParameterProvider(parameterProvider);
+		DocumentMapper documentMapper = context.getDocumentMapper();
+		ResultFactory resultFactory = context.getResultFactory();
+
+		ResourceInformation endpointResourceInformation = endpointRegistryEntry.getResourceInformation();
+		ResourceRepositoryAdapter resourceRepository = endpointRegistryEntry.getResourceRepository(parameterProvider);
+		return resourceRepository
+				.findAll(resourceIds, queryAdapter)
+				.merge(existingResponse -> {
+					Map<Object, Object> existingEntities = new HashMap<>();
+					for (Object existingEntity : (Collection<?>) existingResponse.getEntity()) {
+						existingEntities.put(endpointResourceInformation.getId(existingEntity), existingEntity);
+					}
+					return documentMapper.toDocument(existingResponse, queryAdapter, mappingConfig)
+							.merge(existingDocument -> {
+								Map<String, Resource> existingResources = new HashMap<>();
+								for (Resource existingResource : existingDocument.getCollectionData().get()) {
+									existingResources.put(existingResource.getId(), existingResource);
+								}
+
+								List<Result<Object>> entities = new ArrayList<>();
+								for (int i = 0; i < requestResources.size(); i++) {
+									Resource requestResource = requestResources.get(i);
+									Object existingEntity = existingEntities.get(resourceIds.get(i));
+									if (existingEntity == null) {
+										throw new ResourceNotFoundException(
+												requestResource.getType() + "/" + requestResource.getId());
+									}
+									Document resourceDocument = new Document();
+									resourceDocument.setData(Nullable.of((Object) requestResource));
+									registryEntries.get(i).getResourceInformation().verify(existingEntity, resourceDocument);
+									mergeNestedAttribute(existingResources.get(requestResource.getId()), requestResource);
+									entities.add(prepareChanges(registryEntries.get(i), existingEntity, requestResource,
+											queryAdapter, parameterProvider));
+								}
+								return entities.isEmpty() ? resultFactory.just(new ArrayList<>()) : resultFactory.zip(entities);
+							});
+				})
+				.merge(entities -> resourceRepository.updateAll(entities, queryAdapter))
+				.merge(it -> {
+					Set<String> loadedRelationshipNames = new HashSet<>();
+					for (Resource requestResource : requestResources) {
+						loadedRelationshipNames.addAll(getLoadedRelationshipNames(requestResource));
+					}
+					DocumentMappingConfig updatedMappingConfig = DocumentMappingConfig.create()
+							.setParameterProvider(parameterProvider)
+							.setFieldsWithEnforcedIdSerialization(loadedRelationshipNames);
+					return documentMapper.toDocument(it, queryAdapter, updatedMappingConfig);
+				})
+				.map(this::toResponse);
+	}
+}
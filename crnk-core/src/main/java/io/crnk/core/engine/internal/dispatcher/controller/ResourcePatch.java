@@ -77,7 +77,7 @@ public class ResourcePatch extends ResourceUpsert {
 				.map(this::toResponse);
 	}
 
-	private Response toResponse(Document updatedDocument) {
+	protected Response toResponse(Document updatedDocument) {
 		List<ErrorData> errors = updatedDocument.getErrors();
 		if (!updatedDocument.getData().isPresent() && (errors == null || errors.isEmpty())) {
 			return new Response(null, HttpStatus.NO_CONTENT_204);
@@ -87,27 +87,12 @@ public class ResourcePatch extends ResourceUpsert {
 
 	private Result<Document> applyChanges(RegistryEntry registryEntry, Object entity, Resource requestResource,
 			QueryAdapter queryAdapter, RepositoryMethodParameterProvider parameterProvider) {
-		ResourceInformation resourceInformation = registryEntry.getResourceInformation();
 		ResourceRepositoryAdapter resourceRepository = registryEntry.getResourceRepository(parameterProvider);
 
-		Set<String> loadedRelationshipNames;
-		Result<JsonApiResponse> updatedResource;
-		if (resourceInformation.getResourceClass() == Resource.class) {
-			loadedRelationshipNames = getLoadedRelationshipNames(requestResource);
-			updatedResource = resourceRepository.update(requestResource, queryAdapter);
-		}
-		else {
-			QueryContext queryContext = queryAdapter.getQueryContext();
-			setAttributes(requestResource, entity, resourceInformation, queryContext);
-			setMeta(requestResource, entity, resourceInformation);
-			setLinks(requestResource, entity, resourceInformation);
-
-			loadedRelationshipNames = getLoadedRelationshipNames(requestResource);
-
-			Result<List> relationsResult =
-					setRelationsAsync(entity, registryEntry, requestResource, queryAdapter, parameterProvider, false);
-			updatedResource = relationsResult.merge(it -> resourceRepository.update(entity, queryAdapter));
-		}
+		Set<String> loadedRelationshipNames = getLoadedRelationshipNames(requestResource);
+		Result<JsonApiResponse> updatedResource =
+				prepareChanges(registryEntry, entity, requestResource, queryAdapter, parameterProvider)
+						.merge(it -> resourceRepository.update(it, queryAdapter));
 
 		DocumentMappingConfig mappingConfig = DocumentMappingConfig.create()
 				.setParameterProvider(parameterProvider)
@@ -119,7 +104,26 @@ public class ResourcePatch extends ResourceUpsert {
 				.merge(it -> documentMapper.toDocument(it, queryAdapter, mappingConfig));
 	}
 
-	private void mergeNestedAttribute(Resource existingReseource, Resource requestResource) {
+	/**
+	 * @return entity to pass to the repository with the changes of the request applied.
+	 */
+	protected Result<Object> prepareChanges(RegistryEntry registryEntry, Object entity, Resource requestResource,
+			QueryAdapter queryAdapter, RepositoryMethodParameterProvider parameterProvider) {
+		ResourceInformation resourceInformation = registryEntry.getResourceInformation();
+		if (resourceInformation.getResourceClass() == Resource.class) {
+			return context.getResultFactory().just(requestResource);
+		}
+
+		QueryContext queryContext = queryAdapter.getQueryContext();
+		setAttributes(requestResource, entity, resourceInformation, queryContext);
+		setMeta(requestResource, entity, resourceInformation);
+		setLinks(requestResource, entity, resourceInformation);
+
+		return setRelationsAsync(entity, registryEntry, requestResource, queryAdapter, parameterProvider, false)
+				.map(it -> entity);
+	}
+
+	protected void mergeNestedAttribute(Resource existingReseource, Resource requestResource) {
 		// extract current attributes from findOne without any manipulation by query params (such as sparse fieldsets)
 		ExceptionUtil.wrapCatchedExceptions(new Callable<Object>() {
 			@Override
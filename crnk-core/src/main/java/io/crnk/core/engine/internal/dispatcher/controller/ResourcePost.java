@@ -1,5 +1,8 @@
 package io.crnk.core.engine.internal.dispatcher.controller;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import io.crnk.core.engine.dispatcher.Response;
@@ -17,6 +20,7 @@ import io.crnk.core.engine.query.QueryAdapter;
 import io.crnk.core.engine.query.QueryContext;
 import io.crnk.core.engine.registry.RegistryEntry;
 import io.crnk.core.engine.result.Result;
+import io.crnk.core.engine.result.ResultFactory;
 import io.crnk.core.repository.response.JsonApiResponse;
 import io.crnk.legacy.internal.RepositoryMethodParameterProvider;
 
@@ -38,31 +42,21 @@ public class ResourcePost extends ResourceUpsert {
 
 		String resourcePath = jsonPath.getResourcePath();
 		RegistryEntry endpointRegistryEntry = getRegistryEntryByPath(resourcePath);
+		ResourceRepositoryAdapter resourceRepository = endpointRegistryEntry.getResourceRepository(parameterProvider);
+		if (isBulkRequest(requestDocument, resourceRepository)) {
+			return handleBulk(jsonPath, queryAdapter, parameterProvider, requestDocument, endpointRegistryEntry);
+		}
+
 		Resource requestResource = getRequestBody(requestDocument, jsonPath, HttpMethod.POST);
 		RegistryEntry registryEntry = getRegistryEntry(requestResource.getType());
 		logger.debug("using registry entry {}", registryEntry);
 		ResourceInformation resourceInformation = registryEntry.getResourceInformation();
 		verifyTypes(HttpMethod.POST, endpointRegistryEntry, registryEntry);
 
-		ResourceRepositoryAdapter resourceRepository = endpointRegistryEntry.getResourceRepository(parameterProvider);
-
 		Set<String> loadedRelationshipNames = getLoadedRelationshipNames(requestResource);
 
-		QueryContext queryContext = queryAdapter.getQueryContext();
-		Result<JsonApiResponse> response;
-		if (Resource.class.equals(resourceInformation.getResourceClass())) {
-			response = resourceRepository.create(requestResource, queryAdapter);
-		}
-		else {
-			Object entity = newEntity(resourceInformation, requestResource);
-			setId(requestResource, entity, resourceInformation);
-			setAttributes(requestResource, entity, resourceInformation, queryContext);
-			setMeta(requestResource, entity, resourceInformation);
-			setLinks(requestResource, entity, resourceInformation);
-			Result zipped =
-					setRelationsAsync(entity, registryEntry, requestResource, queryAdapter, parameterProvider, false);
-			response = zipped.merge(it -> resourceRepository.create(entity, queryAdapter));
-		}
+		Result<JsonApiResponse> response = toEntity(registryEntry, requestResource, queryAdapter, parameterProvider)
+				.merge(it -> resourceRepository.create(it, queryAdapter));
 
 		DocumentMappingConfig mappingConfig = DocumentMappingConfig.create()
 				.setParameterProvider(parameterProvider)
@@ -74,6 +68,56 @@ public class ResourcePost extends ResourceUpsert {
 				.map(this::toResponse);
 	}
 
+	/**
+	 * Creates all resources of the request document with a single call to a bulk repository.
+	 */
+	private Result<Response> handleBulk(JsonPath jsonPath, QueryAdapter queryAdapter,
+			RepositoryMethodParameterProvider parameterProvider, Document requestDocument,
+			RegistryEntry endpointRegistryEntry) {
+		List<Resource> requestResources = getRequestBodies(requestDocument, jsonPath, HttpMethod.POST);
+
+		Set<String> loadedRelationshipNames = new HashSet<>();
+		List<Result<Object>> entities = new ArrayList<>();
+		for (Resource requestResource : requestResources) {
+			RegistryEntry registryEntry = getRegistryEntry(requestResource.getType());
+			verifyTypes(HttpMethod.POST, endpointRegistryEntry, registryEntry);
+			loadedRelationshipNames.addAll(getLoadedRelationshipNames(requestResource));
+			entities.add(toEntity(registryEntry, requestResource, queryAdapter, parameterProvider));
+		}
+
+		ResultFactory resultFactory = context.getResultFactory();
+		ResourceRepositoryAdapter resourceRepository = endpointRegistryEntry.getResourceRepository(parameterProvider);
+		Result<List<Object>> zipped = entities.isEmpty() ? resultFactory.just(new ArrayList<>()) : resultFactory.zip(entities);
+		Result<JsonApiResponse> response = zipped.merge(it -> resourceRepository.createAll(it, queryAdapter));
+
+		DocumentMappingConfig mappingConfig = DocumentMappingConfig.create()
+				.setParameterProvider(parameterProvider)
+				.setFieldsWithEnforcedIdSerialization(loadedRelationshipNames);
+		DocumentMapper documentMapper = this.context.getDocumentMapper();
+
+		ResourceInformation resourceInformation = endpointRegistryEntry.getResourceInformation();
+		return response.doWork(it -> validateCreatedResponses(resourceInformation, it, requestResources.size()))
+				.merge(it -> documentMapper.toDocument(it, queryAdapter, mappingConfig))
+				.map(this::toResponse);
+	}
+
+	private Result<Object> toEntity(RegistryEntry registryEntry, Resource requestResource, QueryAdapter queryAdapter,
+			RepositoryMethodParameterProvider parameterProvider) {
+		ResourceInformation resourceInformation = registryEntry.getResourceInformation();
+		if (Resource.class.equals(resourceInformation.getResourceClass())) {
+			return context.getResultFactory().just(requestResource);
+		}
+
+		QueryContext queryContext = queryAdapter.getQueryContext();
+		Object entity = newEntity(resourceInformation, requestResource);
+		setId(requestResource, entity, resourceInformation);
+		setAttributes(requestResource, entity, resourceInformation, queryContext);
+		setMeta(requestResource, entity, resourceInformation);
+		setLinks(requestResource, entity, resourceInformation);
+		return setRelationsAsync(entity, registryEntry, requestResource, queryAdapter, parameterProvider, false)
+				.map(it -> entity);
+	}
+
 	private Response toResponse(Document document) {
 		Response response = new Response(document, HttpStatus.CREATED_201);
 		logger.debug("set response {}", response);
@@ -33,6 +33,7 @@ import io.crnk.core.engine.information.resource.ResourceFieldAccess;
 import io.crnk.core.engine.information.resource.ResourceInformation;
 import io.crnk.core.engine.information.resource.ResourceInstanceBuilder;
 import io.crnk.core.engine.internal.dispatcher.path.JsonPath;
+import io.crnk.core.engine.internal.repository.ResourceRepositoryAdapter;
 import io.crnk.core.engine.internal.utils.ClassUtils;
 import io.crnk.core.engine.internal.utils.PreconditionUtil;
 import io.crnk.core.engine.parser.TypeParser;
@@ -73,6 +74,32 @@ public abstract class ResourceUpsert extends ResourceIncludeField {
 		return resourceBody;
 	}
 
+	/**
+	 * @return true if the request document holds multiple resources to be passed to a bulk repository at once. Only
+	 * accepted if enabled with {@link CrnkProperties#BULK_REQUESTS_ENABLED}.
+	 */
+	protected boolean isBulkRequest(Document requestDocument, ResourceRepositoryAdapter resourceRepository) {
+		String bulkRequestsEnabled = context.getPropertiesProvider().getProperty(CrnkProperties.BULK_REQUESTS_ENABLED);
+		return requestDocument != null && requestDocument.getData().isPresent()
+				&& requestDocument.getData().get() instanceof Collection && resourceRepository.isBulk()
+				&& Boolean.parseBoolean(bulkRequestsEnabled);
+	}
+
+	protected List<Resource> getRequestBodies(Document requestDocument, JsonPath path, HttpMethod method) {
+		String resourceType = path.getResourcePath();
+
+		assertRequestDocument(requestDocument, method, resourceType);
+
+		List<Resource> resourceBodies = requestDocument.getCollectionData().get();
+		for (Resource resourceBody : resourceBodies) {
+			RegistryEntry bodyRegistryEntry = context.getResourceRegistry().getEntry(resourceBody.getType());
+			if (bodyRegistryEntry == null) {
+				throw new RepositoryNotFoundException(resourceBody.getType());
+			}
+		}
+		return resourceBodies;
+	}
+
 	protected RegistryEntry getRegistryEntry(JsonPath jsonPath) {
 		String resourcePath = jsonPath.getResourcePath();
 		return getRegistryEntryByPath(resourcePath);
@@ -1,12 +1,14 @@
 package io.crnk.core.engine.internal.dispatcher.path;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import io.crnk.core.engine.information.resource.ResourceField;
 import io.crnk.core.engine.information.resource.ResourceInformation;
+import io.crnk.core.engine.internal.registry.ResourceRegistryImpl;
 import io.crnk.core.engine.internal.utils.StringUtils;
 import io.crnk.core.engine.registry.RegistryEntry;
 import io.crnk.core.engine.registry.ResourceRegistry;
@@ -20,25 +22,87 @@ public class PathBuilder {
 	public static final String SEPARATOR = "/";
 	public static final String RELATIONSHIP_MARK = "relationships";
 
+	static final char SEPARATOR_CHAR = '/';
+
+	private static final String ENCODED_ID_SEPARATOR = "%2C";
+
 	private final ResourceRegistry resourceRegistry;
 
+	private final ResourcePathTrie pathTrie;
+
 	public PathBuilder(ResourceRegistry resourceRegistry) {
 		this.resourceRegistry = resourceRegistry;
+		if (resourceRegistry instanceof ResourceRegistryImpl) {
+			// shared among all builders and kept up-to-date by the registry
+			this.pathTrie = ((ResourceRegistryImpl) resourceRegistry).getPathTrie();
+		} else {
+			this.pathTrie = new ResourcePathTrie(resourceRegistry);
+		}
 	}
 
-	private static PathIds createPathIds(String idsString) {
-		List<String> pathIds = Arrays.asList(idsString.split(PathIds.ID_SEPARATOR_PATTERN));
+	private static PathIds createPathIds(String path, int start, int end) {
+		List<String> pathIds = new ArrayList<>(1);
+		int idStart = start;
+		int i = start;
+		while (i < end) {
+			char c = path.charAt(i);
+			if (c == ',') {
+				pathIds.add(path.substring(idStart, i));
+				idStart = ++i;
+			} else if (c == '%' && path.startsWith(ENCODED_ID_SEPARATOR, i) && i + ENCODED_ID_SEPARATOR.length() <= end) {
+				pathIds.add(path.substring(idStart, i));
+				i += ENCODED_ID_SEPARATOR.length();
+				idStart = i;
+			} else {
+				i++;
+			}
+		}
+		pathIds.add(path.substring(idStart, end));
+
+		// same as String.split, drop trailing empty ids
+		int size = pathIds.size();
+		while (size > 1 && pathIds.get(size - 1).isEmpty()) {
+			pathIds.remove(--size);
+		}
 		return new PathIds(pathIds);
 	}
 
-	private static String[] splitPath(String path) {
-		if (path.startsWith(SEPARATOR)) {
-			path = path.substring(1);
+	/**
+	 * Determines the bounds of the segments of the given path. Same as splitting the path by
+	 * {@link #SEPARATOR} after removing a leading separator.
+	 *
+	 * @return start and end index of every segment
+	 */
+	private static int[] splitPath(String path) {
+		int start = path.startsWith(SEPARATOR) ? 1 : 0;
+		int end = path.length();
+		while (end > start && path.charAt(end - 1) == SEPARATOR_CHAR) {
+			end--;
 		}
-		if (path.endsWith(SEPARATOR)) {
-			path = path.substring(0, path.length());
+		if (start == end) {
+			// same as String.split, a single empty segment
+			return path.length() == start ? new int[]{start, start} : new int[0];
+		}
+
+		int numSegments = 1;
+		for (int i = start; i < end; i++) {
+			if (path.charAt(i) == SEPARATOR_CHAR) {
+				numSegments++;
+			}
 		}
-		return path.split(SEPARATOR);
+		int[] bounds = new int[numSegments * 2];
+		int segmentStart = start;
+		int segmentIndex = 0;
+		for (int i = start; i < end; i++) {
+			if (path.charAt(i) == SEPARATOR_CHAR) {
+				bounds[segmentIndex++] = segmentStart;
+				bounds[segmentIndex++] = i;
+				segmentStart = i + 1;
+			}
+		}
+		bounds[segmentIndex++] = segmentStart;
+		bounds[segmentIndex] = end;
+		return bounds;
 	}
 
 	/**
@@ -84,11 +148,14 @@ public class PathBuilder {
 	 * @return doubly-linked list which represents path given at the input
 	 */
 	public JsonPath build(String path) {
-		String[] strings = splitPath(path);
-		if (strings.length == 0 || (strings.length == 1 && "".equals(strings[0]))) {
+		int[] bounds = splitPath(path);
+		int numSegments = bounds.length / 2;
+		if (numSegments == 0 || (numSegments == 1 && bounds[0] == bounds[1])) {
 			return null;
 		}
 
+		ResourcePathTrie.Node root = pathTrie.getRoot();
+
 		JsonPath previousJsonPath = null, currentJsonPath = null;
 		PathIds pathIds;
 		boolean relationshipMark;
@@ -96,51 +163,46 @@ public class PathBuilder {
 		String actionName;
 
 		int currentElementIdx = 0;
-		while (currentElementIdx < strings.length) {
+		while (currentElementIdx < numSegments) {
 			elementName = null;
 			pathIds = null;
 			actionName = null;
 			relationshipMark = false;
 
-			if (RELATIONSHIP_MARK.equals(strings[currentElementIdx])) {
+			if (isRelationshipMark(path, bounds, currentElementIdx)) {
 				relationshipMark = true;
 				currentElementIdx++;
 			}
 
 			RegistryEntry entry = null;
-			if (currentElementIdx < strings.length && !RELATIONSHIP_MARK.equals(strings[currentElementIdx])) {
-				elementName = strings[currentElementIdx];
-
-				// support "/" in resource type to group repositories
-				StringBuilder potentialResourceType = new StringBuilder();
-				for (int i = 0; currentElementIdx + i < strings.length; i++) {
-					if (potentialResourceType.length() > 0) {
-						potentialResourceType.append("/");
-					}
-					potentialResourceType.append(strings[currentElementIdx + i]);
-					entry = resourceRegistry.getEntryByPath(potentialResourceType.toString());
-					if (entry != null) {
-						currentElementIdx += i;
-						elementName = potentialResourceType.toString();
+			if (currentElementIdx < numSegments && !isRelationshipMark(path, bounds, currentElementIdx)) {
+				// support "/" in resource type to group repositories, shortest match wins
+				ResourcePathTrie.Node node = root;
+				int matchIdx = currentElementIdx;
+				for (int i = currentElementIdx; node != null && i < numSegments; i++) {
+					node = node.getChild(path, bounds[2 * i], bounds[2 * i + 1]);
+					if (node != null && node.getEntry() != null) {
+						entry = node.getEntry();
+						matchIdx = i;
 						break;
 					}
 				}
-
-				currentElementIdx++;
+				elementName = path.substring(bounds[2 * currentElementIdx], bounds[2 * matchIdx + 1]);
+				currentElementIdx = matchIdx + 1;
 			}
 
-			if (currentElementIdx < strings.length && entry != null && entry.getRepositoryInformation().getActions().containsKey(strings[currentElementIdx])) {
+			if (currentElementIdx < numSegments && entry != null && isAction(entry, path, bounds, currentElementIdx)) {
 				// repository action
-				actionName = strings[currentElementIdx];
+				actionName = segment(path, bounds, currentElementIdx);
 				currentElementIdx++;
-			} else if (currentElementIdx < strings.length && !RELATIONSHIP_MARK.equals(strings[currentElementIdx])) {
+			} else if (currentElementIdx < numSegments && !isRelationshipMark(path, bounds, currentElementIdx)) {
 				// ids
-				pathIds = createPathIds(strings[currentElementIdx]);
+				pathIds = createPathIds(path, bounds[2 * currentElementIdx], bounds[2 * currentElementIdx + 1]);
 				currentElementIdx++;
 
-				if (currentElementIdx < strings.length && entry != null && entry.getRepositoryInformation().getActions().containsKey(strings[currentElementIdx])) {
+				if (currentElementIdx < numSegments && entry != null && isAction(entry, path, bounds, currentElementIdx)) {
 					// resource action
-					actionName = strings[currentElementIdx];
+					actionName = segment(path, bounds, currentElementIdx);
 					currentElementIdx++;
 				}
 			}
@@ -173,20 +235,33 @@ public class PathBuilder {
 		return currentJsonPath;
 	}
 
+	private static String segment(String path, int[] bounds, int index) {
+		return path.substring(bounds[2 * index], bounds[2 * index + 1]);
+	}
+
+	private static boolean isRelationshipMark(String path, int[] bounds, int index) {
+		int start = bounds[2 * index];
+		int length = bounds[2 * index + 1] - start;
+		return length == RELATIONSHIP_MARK.length() && path.regionMatches(start, RELATIONSHIP_MARK, 0, length);
+	}
+
+	private static boolean isAction(RegistryEntry entry, String path, int[] bounds, int index) {
+		Map<String, ?> actions = entry.getRepositoryInformation().getActions();
+		return !actions.isEmpty() && actions.containsKey(segment(path, bounds, index));
+	}
+
 	private JsonPath getNonResourcePath(JsonPath previousJsonPath, String elementName, boolean relationshipMark) {
 		String previousElementName = previousJsonPath.getElementName();
 		RegistryEntry previousEntry = resourceRegistry.getEntryByPath(previousElementName);
 
 		ResourceInformation resourceInformation = previousEntry.getResourceInformation();
 
-		List<ResourceField> resourceFields = resourceInformation.getRelationshipFields();
-		for (ResourceField field : resourceFields) {
-			if (field.getJsonName().equals(elementName)) {
-				if (relationshipMark) {
-					return new RelationshipsPath(elementName);
-				} else {
-					return new FieldPath(elementName);
-				}
+		ResourceField field = resourceInformation.findRelationshipFieldByName(elementName);
+		if (field != null) {
+			if (relationshipMark) {
+				return new RelationshipsPath(elementName);
+			} else {
+				return new FieldPath(elementName);
 			}
 		}
 		//TODO: Throw different exception? element name can be null..
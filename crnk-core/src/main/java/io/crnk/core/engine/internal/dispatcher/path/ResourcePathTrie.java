@@ -0,0 +1,155 @@
+package io.crnk.core.engine.internal.dispatcher.path;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.crnk.core.engine.registry.RegistryEntry;
+import io.crnk.core.engine.registry.ResourceRegistry;
+import io.crnk.core.engine.registry.ResourceRegistryPartEvent;
+import io.crnk.core.engine.registry.ResourceRegistryPartListener;
+
+/**
+ * Trie over the segments of all resource paths of a {@link ResourceRegistry}. Allows {@link PathBuilder} to match
+ * resources directly on a region of the request path without splitting it or creating intermediate strings.
+ * The trie is compiled upon first use and compiled again after the registry signals a change with a
+ * {@link ResourceRegistryPartEvent}.
+ */
+public class ResourcePathTrie implements ResourceRegistryPartListener {
+
+	private final ResourceRegistry resourceRegistry;
+
+	private final AtomicInteger modCount = new AtomicInteger();
+
+	private volatile Node root;
+
+	public ResourcePathTrie(ResourceRegistry resourceRegistry) {
+		this.resourceRegistry = resourceRegistry;
+	}
+
+	@Override
+	public void onChanged(ResourceRegistryPartEvent event) {
+		modCount.incrementAndGet();
+		root = null;
+	}
+
+	public Node getRoot() {
+		Node currentRoot = root;
+		if (currentRoot == null) {
+			int expectedModCount = modCount.get();
+			currentRoot = compile();
+			if (expectedModCount == modCount.get()) {
+				// do not publish a trie that may have missed a concurrent change
+				root = currentRoot;
+			}
+		}
+		return currentRoot;
+	}
+
+	private Node compile() {
+		Node newRoot = new Node();
+		for (RegistryEntry entry : resourceRegistry.getResources()) {
+			String resourcePath = entry.getResourceInformation().getResourcePath();
+			if (resourcePath == null) {
+				continue;
+			}
+			Node node = newRoot;
+			int start = 0;
+			int end;
+			do {
+				end = resourcePath.indexOf(PathBuilder.SEPARATOR_CHAR, start);
+				if (end == -1) {
+					end = resourcePath.length();
+				}
+				node = node.addChild(resourcePath.substring(start, end));
+				start = end + 1;
+			}
+			while (end < resourcePath.length());
+			node.entry = entry;
+		}
+		return newRoot;
+	}
+
+	/**
+	 * Single path segment of the trie. Children are kept in an open addressing hash table keyed by segment to allow
+	 * lookups by string region.
+	 */
+	public static final class Node {
+
+		private String[] segments = new String[4];
+
+		private Node[] children = new Node[4];
+
+		private int size;
+
+		private RegistryEntry entry;
+
+		/**
+		 * @return entry of the resource whose path ends at this node or null
+		 */
+		public RegistryEntry getEntry() {
+			return entry;
+		}
+
+		/**
+		 * @return child matching the region [start, end) of the given path or null
+		 */
+		public Node getChild(String path, int start, int end) {
+			int length = end - start;
+			int mask = segments.length - 1;
+			int index = hash(path, start, end) & mask;
+			String segment;
+			while ((segment = segments[index]) != null) {
+				if (segment.length() == length && path.regionMatches(start, segment, 0, length)) {
+					return children[index];
+				}
+				index = (index + 1) & mask;
+			}
+			return null;
+		}
+
+		private Node addChild(String segment) {
+			Node child = getChild(segment, 0, segment.length());
+			if (child == null) {
+				if ((size + 1) * 2 > segments.length) {
+					resize();
+				}
+				child = new Node();
+				insert(segment, child);
+				size++;
+			}
+			return child;
+		}
+
+		private void insert(String segment, Node child) {
+			int mask = segments.length - 1;
+			int index = segment.hashCode() & mask;
+			while (segments[index] != null) {
+				index = (index + 1) & mask;
+			}
+			segments[index] = segment;
+			children[index] = child;
+		}
+
+		private void resize() {
+			String[] oldSegments = segments;
+			Node[] oldChildren = children;
+			segments = new String[oldSegments.length * 2];
+			children = new Node[oldChildren.length * 2];
+			for (int i = 0; i < oldSegments.length; i++) {
+				if (oldSegments[i] != null) {
+					insert(oldSegments[i], oldChildren[i]);
+				}
+			}
+		}
+
+		/**
+		 * Same as {@link String#hashCode()} applied to a region of the string.
+		 */
+		private static int hash(String path, int start, int end) {
+			int hash = 0;
+			for (int i = start; i < end; i++) {
+				hash = 31 * hash + path.charAt(i);
+			}
+			return hash;
+		}
+	}
+}
@@ -4,6 +4,9 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -12,14 +15,20 @@ import io.crnk.core.engine.document.ErrorData;
 import io.crnk.core.engine.document.Relationship;
 import io.crnk.core.engine.document.Resource;
 import io.crnk.core.engine.filter.ResourceFilterDirectory;
+import io.crnk.core.engine.information.resource.ResourceField;
+import io.crnk.core.engine.information.resource.ResourceInformation;
 import io.crnk.core.engine.internal.utils.PreconditionUtil;
 import io.crnk.core.engine.properties.PropertiesProvider;
 import io.crnk.core.engine.query.QueryAdapter;
+import io.crnk.core.engine.registry.RegistryEntry;
 import io.crnk.core.engine.registry.ResourceRegistry;
 import io.crnk.core.engine.result.Result;
 import io.crnk.core.engine.result.ResultFactory;
 import io.crnk.core.repository.response.JsonApiResponse;
+import io.crnk.core.resource.annotations.SerializeType;
+import io.crnk.core.resource.list.StreamingResourceList;
 import io.crnk.core.utils.Nullable;
+import io.crnk.legacy.queryParams.params.IncludedRelationsParams;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,6 +38,12 @@ public class DocumentMapper {
 
 	private final ResourceFilterDirectory resourceFilterDirectory;
 
+	private final ResourceRegistry resourceRegistry;
+
+	private final Map<String, Boolean> streamableTypes = new ConcurrentHashMap<>();
+
+	private volatile boolean streamableTypesListening;
+
 	private ObjectNode jsonapi;
 
 	protected PropertiesProvider propertiesProvider;
@@ -55,6 +70,7 @@ public class DocumentMapper {
 		this.client = client;
 		this.resultFactory = resultFactory;
 		this.resourceFilterDirectory = resourceFilterDirectory;
+		this.resourceRegistry = resourceRegistry;
 
 		PreconditionUtil.verify(client || resourceFilterDirectory != null, "filterBehavior necessary on server-side");
 
@@ -67,6 +83,14 @@ public class DocumentMapper {
 		}
 	}
 
+	/**
+	 * @param executor used to issue independent relationship lookups of inclusions concurrently. Only applies to
+	 *                 synchronous setups, asynchronous ones make use of the {@link ResultFactory}.
+	 */
+	public void setIncludeLookupExecutor(Executor executor) {
+		includeLookupSetter.setLookupExecutor(executor);
+	}
+
 	protected IncludeLookupSetter newIncludeLookupSetter(ResourceRegistry resourceRegistry, ResourceMapper resourceMapper,
 														 PropertiesProvider propertiesProvider) {
 		return new IncludeLookupSetter(resourceRegistry, resourceMapper, propertiesProvider, resultFactory);
@@ -98,6 +122,12 @@ public class DocumentMapper {
 		if (mappingConfig.getResourceMapping().getSerializeLinks()) {
 			util.setLinks(doc, response.getLinksInformation(), queryAdapter);
 		}
+
+		if (isStreamable(response.getEntity(), queryAdapter, mappingConfig)) {
+			addStreamedData(doc, (StreamingResourceList<?>) response.getEntity(), queryAdapter, resourceMapping);
+			return resultFactory.just(doc);
+		}
+
 		addData(doc, response.getEntity(), queryAdapter, resourceMapping);
 
 		Result<Document> result = addRelationDataAndInclusions(doc, response.getEntity(), queryAdapter, mappingConfig);
@@ -167,6 +197,99 @@ public class DocumentMapper {
 		}
 	}
 
+	/**
+	 * Resources of a {@link StreamingResourceList} are mapped one by one while consuming the list, the entities are not
+	 * retained. This is only possible if no inclusions or relationship data has to be looked up afterwards, which
+	 * requires access to all of them. The mapped resources make up the document data as usual.
+	 */
+	private boolean isStreamable(Object entity, QueryAdapter queryAdapter, DocumentMappingConfig mappingConfig) {
+		if (client || !(entity instanceof StreamingResourceList) || ((StreamingResourceList) entity).isConsumed()
+				|| queryAdapter == null || queryAdapter.getResourceInformation() == null || hasInclusions(queryAdapter)) {
+			return false;
+		}
+
+		ResourceInformation resourceInformation = queryAdapter.getResourceInformation();
+		Boolean streamableType = streamableTypes.get(resourceInformation.getResourceType());
+		if (streamableType == null) {
+			checkStreamableTypesListening();
+			streamableType = isStreamableType(resourceInformation);
+			streamableTypes.put(resourceInformation.getResourceType(), streamableType);
+		}
+		if (!streamableType) {
+			return false;
+		}
+
+		Set<String> fieldsWithEnforcedIdSerialization = mappingConfig.getFieldsWithEnforcedIdSerialization();
+		if (!fieldsWithEnforcedIdSerialization.isEmpty()) {
+			for (ResourceField field : resourceInformation.getRelationshipFields()) {
+				if (fieldsWithEnforcedIdSerialization.contains(field.getJsonName())) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return true if neither subtypes nor the relationships of the given resource require relationship data to be
+	 * looked up
+	 */
+	private boolean isStreamableType(ResourceInformation resourceInformation) {
+		for (RegistryEntry entry : resourceRegistry.getResources()) {
+			// subtypes may bring along further relationships
+			if (resourceInformation.getResourceType().equals(entry.getResourceInformation().getSuperResourceType())) {
+				return false;
+			}
+		}
+		for (ResourceField field : resourceInformation.getRelationshipFields()) {
+			if (field.getSerializeType() != SerializeType.LAZY) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void checkStreamableTypesListening() {
+		if (!streamableTypesListening) {
+			synchronized (streamableTypes) {
+				if (!streamableTypesListening) {
+					// subtypes may get registered later on
+					resourceRegistry.addListener(event -> streamableTypes.clear());
+					streamableTypesListening = true;
+				}
+			}
+		}
+	}
+
+	private static boolean hasInclusions(QueryAdapter queryAdapter) {
+		if (queryAdapter.isEmpty() || queryAdapter.getIncludedRelations() == null
+				|| queryAdapter.getIncludedRelations().getParams() == null) {
+			return false;
+		}
+		for (IncludedRelationsParams params : queryAdapter.getIncludedRelations().getParams().values()) {
+			if (params.getParams() != null && !params.getParams().isEmpty()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void addStreamedData(Document doc, StreamingResourceList<?> entities, QueryAdapter queryAdapter,
+								 ResourceMappingConfig resourceMappingConfig) {
+		LOGGER.debug("adding streamed data");
+		ArrayList<Resource> dataList = new ArrayList<>();
+		Iterator<?> iterator = entities.consume();
+		while (iterator.hasNext()) {
+			Resource resource = resourceMapper.toData(iterator.next(), queryAdapter, resourceMappingConfig);
+			if (queryAdapter.getCompactMode()) {
+				compact(resource);
+			}
+			dataList.add(resource);
+		}
+		doc.setData(Nullable.of((Object) dataList));
+		doc.setIncluded(new ArrayList<Resource>());
+	}
+
 	private void addErrors(Document doc, Iterable<ErrorData> errors) {
 		if (errors != null) {
 			List<ErrorData> errorList = new ArrayList<>();
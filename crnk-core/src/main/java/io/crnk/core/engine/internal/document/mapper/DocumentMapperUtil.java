@@ -46,6 +46,8 @@ public class DocumentMapperUtil {
 
 	private static SerializerUtil serializerUtil;
 
+	private boolean streaming;
+
 	public DocumentMapperUtil(ResourceRegistry resourceRegistry, ObjectMapper objectMapper,
 							  PropertiesProvider propertiesProvider) {
 		this.resourceRegistry = resourceRegistry;
@@ -54,6 +56,15 @@ public class DocumentMapperUtil {
 		boolean serializeLinksAsObjects =
 				Boolean.parseBoolean(propertiesProvider.getProperty(CrnkProperties.SERIALIZE_LINKS_AS_OBJECTS));
 		serializerUtil = new SerializerUtil(serializeLinksAsObjects);
+		streaming = Boolean.parseBoolean(propertiesProvider.getProperty(CrnkProperties.SERIALIZE_STREAMING));
+	}
+
+	/**
+	 * @return true if attribute values should not be converted to JSON trees, but be serialized when writing the document.
+	 * See {@link CrnkProperties#SERIALIZE_STREAMING}.
+	 */
+	public boolean isStreaming() {
+		return streaming;
 	}
 
 	protected static List<ResourceField> getRequestedFields(ResourceInformation resourceInformation, QueryAdapter queryAdapter,
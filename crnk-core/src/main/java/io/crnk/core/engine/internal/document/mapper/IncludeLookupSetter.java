@@ -3,9 +3,9 @@ package io.crnk.core.engine.internal.document.mapper;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import io.crnk.core.boot.CrnkProperties;
 import io.crnk.core.engine.document.Document;
@@ -60,6 +60,13 @@ public class IncludeLookupSetter {
 				.INCLUDE_PAGING_ENABLED));
 	}
 
+	/**
+	 * @param executor used to issue independent relationship lookups concurrently with synchronous repositories.
+	 */
+	public void setLookupExecutor(Executor executor) {
+		relationshipLoader.setExecutor(executor);
+	}
+
 	public Result<Document> processInclusions(Document document, Object entity, QueryAdapter queryAdapter, DocumentMappingConfig
 			mappingConfig) {
 
@@ -79,9 +86,9 @@ public class IncludeLookupSetter {
 		IncludeRequest request = new IncludeRequest(entity, document, resourceRegistry, mappingConfig,
 				inclusionQueryAdapter, util, resourceMapper);
 
-		ArrayList<ResourceField> stack = new ArrayList<>();
+		List<PopulationStep> steps = Collections.singletonList(new PopulationStep(request.getDataList(), new ArrayList<>()));
 
-		Result result = populate(request, request.getDataList(), stack);
+		Result result = populate(request, steps);
 		return result.map(it -> {
 			request.removeDataFromIncluded();
 
@@ -92,24 +99,69 @@ public class IncludeLookupSetter {
 		});
 	}
 
-	private Result populate(IncludeRequest request, Collection<Resource> resourceList,
-							List<ResourceField> fieldPath) {
-		Result result = resultFactory.just(request);
-		if (!resourceList.isEmpty()) {
-			checkNoRecursion(fieldPath);
-			Set<ResourceField> relationshipFields = util.getRelationshipFields(resourceList);
-			for (ResourceField resourceField : relationshipFields) {
-				List<ResourceField> nextFieldPath = new ArrayList(fieldPath);
-				nextFieldPath.add(resourceField);
-				result = result.merge(it -> populateField(request, resourceList, resourceField, nextFieldPath));
+	/**
+	 * Populates the relationships of all given steps, all being at the same depth of the inclusion tree. All repository
+	 * lookups of that depth are issued together before moving on to the next depth.
+	 */
+	private Result populate(IncludeRequest request, List<PopulationStep> steps) {
+		List<FieldPopulation> populations = new ArrayList<>();
+		for (PopulationStep step : steps) {
+			if (!step.resources.isEmpty()) {
+				checkNoRecursion(step.fieldPath);
+				Set<ResourceField> relationshipFields = util.getRelationshipFields(step.resources);
+				for (ResourceField resourceField : relationshipFields) {
+					List<ResourceField> nextFieldPath = new ArrayList(step.fieldPath);
+					nextFieldPath.add(resourceField);
+					FieldPopulation population = prepareField(request, step.resources, resourceField, nextFieldPath);
+					if (population != null) {
+						populations.add(population);
+					}
+				}
+			}
+		}
+		if (populations.isEmpty()) {
+			return resultFactory.just(request);
+		}
+
+		List<IncludeRelationshipLoader.RelationshipLookup> lookups = new ArrayList<>();
+		for (FieldPopulation population : populations) {
+			if (population.lookup != null) {
+				lookups.add(population.lookup);
 			}
 		}
-		return result;
+		Result<List<Set<Resource>>> lookupResult = lookups.isEmpty() ? resultFactory.just(Collections.emptyList())
+				: relationshipLoader.lookupRelatedResources(request, lookups);
+
+		return lookupResult.merge(lookedupResources -> {
+			List<PopulationStep> nextSteps = new ArrayList<>();
+			int lookupIndex = 0;
+			for (FieldPopulation population : populations) {
+				Set<Resource> populated = population.extractedResources;
+				if (population.lookup != null) {
+					populated = util.union(lookedupResources.get(lookupIndex++), populated);
+				}
+
+				// add inclusions and do nested population if requested as such
+				if (population.includeRelationship && !populated.isEmpty()) {
+					request.markForInclusion(populated);
+					nextSteps.add(new PopulationStep(populated, population.fieldPath));
+				}
+			}
+			if (nextSteps.isEmpty()) {
+				return resultFactory.just(request);
+			}
+			return populate(request, nextSteps);
+		});
 	}
 
-	private Result populateField(IncludeRequest request, Collection<Resource> resourceList,
-								 ResourceField resourceField,
-								 List<ResourceField> fieldPath) {
+	/**
+	 * Sets up the relationship data available from the entities and determines the necessary repository lookup, if any.
+	 *
+	 * @return population to perform or null if there is nothing to do for the given field
+	 */
+	private FieldPopulation prepareField(IncludeRequest request, Collection<Resource> resourceList,
+										 ResourceField resourceField,
+										 List<ResourceField> fieldPath) {
 		ResourceInformation resourceInformation = resourceField.getParentResourceInformation();
 
 		boolean includeRelationship = request.isInclusionRequest(fieldPath, resourceField);
@@ -119,7 +171,8 @@ public class IncludeLookupSetter {
 
 		if (requiresRelationData) {
 
-			Collection<Resource> unpopulatedResourceList = request.filterProcessed(resourceList, resourceField);
+			Collection<Resource> unpopulatedResourceList = request.filterProcessed(resourceList, resourceField,
+					includeRelationship);
 			if (!unpopulatedResourceList.isEmpty()) {
 
 				// only handle resources from the proper subtype where the
@@ -130,7 +183,7 @@ public class IncludeLookupSetter {
 				// lookup resources by inspecting the POJOs in entityMap
 				LookupIncludeBehavior fieldLookupIncludeBehavior = resourceField.getLookupIncludeAutomatically();
 
-				Result<Set<Resource>> populatedResult;
+				FieldPopulation population = new FieldPopulation(fieldPath, includeRelationship);
 				if (!includeRelationship && resourceField.hasIdField()) {
 					// fill in @JsonApiRelationId into Relationship where possible
 					fetchRelationFromEntity(request, resourcesWithField, resourceField,
@@ -138,29 +191,28 @@ public class IncludeLookupSetter {
 
 					// only ID is required and no lookup must take place
 					// nothing to do
-					populatedResult = resultFactory.just(Collections.emptySet());
 				} else if (fieldLookupIncludeBehavior == LookupIncludeBehavior.AUTOMATICALLY_ALWAYS) {
 					// fill in @JsonApiRelationId into Relationship where possible
 					fetchRelationFromEntity(request, resourcesWithField, resourceField,
 							false, false, includeRelationship);
 
 					// lookup resources by making repository calls
-					populatedResult = relationshipLoader.lookupRelatedResource(request, resourcesWithField, resourceField);
+					population.lookup = new IncludeRelationshipLoader.RelationshipLookup(resourcesWithField, resourceField);
 				} else if (fieldLookupIncludeBehavior == LookupIncludeBehavior.AUTOMATICALLY_WHEN_NULL) {
 					// try to populate from entities
-					Set<Resource> extractedResources =
+					population.extractedResources =
 							fetchRelationFromEntity(request, resourcesWithField, resourceField, true, true, includeRelationship);
 
 					// do lookups where relationship data is null
 					Collection<Resource> resourcesForLookup =
 							util.findResourcesWithoutRelationshipToLoad(resourcesWithField, resourceField, request);
-
-					populatedResult = relationshipLoader.lookupRelatedResource(request, resourcesForLookup, resourceField)
-							.map(lookedupResources -> util.union(lookedupResources, extractedResources));
+					if (!resourcesForLookup.isEmpty()) {
+						population.lookup = new IncludeRelationshipLoader.RelationshipLookup(resourcesForLookup, resourceField);
+					}
 				} else {
 					// do not do any lookups
-					populatedResult = resultFactory.just(fetchRelationFromEntity(request, resourcesWithField, resourceField,
-							false, true, includeRelationship));
+					population.extractedResources = fetchRelationFromEntity(request, resourcesWithField, resourceField,
+							false, true, includeRelationship);
 
 					// set relationship data to null for single-valued relation.
 					// fetchRelationFromEntity cannot differentiate between
@@ -179,18 +231,10 @@ public class IncludeLookupSetter {
 						}
 					}
 				}
-
-				return populatedResult.merge(populated -> {
-					// add inclusions and do nested population if requested as such
-					if (includeRelationship && !populated.isEmpty()) {
-						request.markForInclusion(populated);
-						return populate(request, populated, fieldPath);
-					}
-					return resultFactory.just(request);
-				});
+				return population;
 			}
 		}
-		return resultFactory.just(request);
+		return null;
 	}
 
 	private void checkNoRecursion(List<ResourceField> fieldPath) {
@@ -207,7 +251,7 @@ public class IncludeLookupSetter {
 	 */
 	private Set<Resource> fetchRelationFromEntity(IncludeRequest request, List<Resource> sourceResources, ResourceField
 			relationshipField, boolean allowLookup, boolean fetchRelatedEntity, boolean mustInclude) {
-		Set<Resource> loadedResources = new HashSet<>();
+		Set<Resource> loadedResources = IncludeLookupUtil.newResourceSet();
 		for (Resource sourceResource : sourceResources) {
 			ResourceIdentifier id = sourceResource.toIdentifier();
 
@@ -246,5 +290,38 @@ public class IncludeLookupSetter {
 		return loadedResources;
 	}
 
+	/**
+	 * Resources to populate at a given inclusion path.
+	 */
+	private static class PopulationStep {
+
+		private final Collection<Resource> resources;
+
+		private final List<ResourceField> fieldPath;
+
+		PopulationStep(Collection<Resource> resources, List<ResourceField> fieldPath) {
+			this.resources = resources;
+			this.fieldPath = fieldPath;
+		}
+	}
+
+	/**
+	 * Outcome of preparing a single relationship field: resources already available from the entities and the
+	 * repository lookup still to be performed.
+	 */
+	private static class FieldPopulation {
+
+		private final List<ResourceField> fieldPath;
 
+		private final boolean includeRelationship;
+
+		private Set<Resource> extractedResources = Collections.emptySet();
+
+		private IncludeRelationshipLoader.RelationshipLookup lookup;
+
+		FieldPopulation(List<ResourceField> fieldPath, boolean includeRelationship) {
+			this.fieldPath = fieldPath;
+			this.includeRelationship = includeRelationship;
+		}
+	}
 }
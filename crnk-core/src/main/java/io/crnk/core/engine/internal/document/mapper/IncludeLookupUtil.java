@@ -3,8 +3,10 @@ package io.crnk.core.engine.internal.document.mapper;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -290,7 +292,17 @@ public class IncludeLookupUtil {
 		for (Resource resource : set1) {
 			map.put(resource.toIdentifier(), resource);
 		}
-		return new HashSet<>(map.values());
+		Set<Resource> union = newResourceSet();
+		union.addAll(map.values());
+		return union;
+	}
+
+	/**
+	 * @return set for resources of an {@link IncludeRequest}. Those are unique per identifier, hence an identity-based
+	 * set is sufficient and avoids hashing their attributes and relationships.
+	 */
+	public static Set<Resource> newResourceSet() {
+		return Collections.newSetFromMap(new IdentityHashMap<>());
 	}
 
 	public List<Resource> findResourcesWithoutRelationshipToLoad(List<Resource> resources, ResourceField resourceField,
@@ -2,48 +2,165 @@ package io.crnk.core.engine.internal.document.mapper;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 
 import io.crnk.core.engine.document.Resource;
 import io.crnk.core.engine.information.resource.ResourceField;
 import io.crnk.core.engine.registry.ResourceRegistry;
 
 /**
- * Cache resource/field pairs already populated to avoid loops
+ * Cache resource/field pairs already populated to avoid loops. Keeps a compact set of (base type, id) pairs for each
+ * field. Base types are resolved once per resource type and then compared by identity, so no keys have to be allocated
+ * when accessing the cache.
  */
 class IncludePopulatedCache {
 
 	private final ResourceRegistry resourceRegistry;
 
-	private HashSet<String> processed = new HashSet<>();
+	private final Map<String, String> baseTypes = new HashMap<>();
+
+	private final Map<String, IdentifierSet> processed = new HashMap<>();
+
+	private final Map<String, IdentifierSet> included = new HashMap<>();
 
 	public IncludePopulatedCache(ResourceRegistry resourceRegistry) {
 		this.resourceRegistry = resourceRegistry;
 	}
 
 	public void markProcessed(Resource resource, ResourceField field) {
-		String key = getKey(resource, field);
-		processed.add(key);
+		getProcessed(processed, field).add(getBaseType(resource), resource.getId());
 	}
 
-	public Collection<Resource> filterProcessed(Collection<Resource> resources, ResourceField field) {
+	/**
+	 * @param inclusion whether the related resources of the field get included. Resources populated without
+	 *                  inclusion, e.g. to only serialize relationship ids, are returned once more if later reached by a
+	 *                  path that includes the field.
+	 * @return resources not yet populated for the given field
+	 */
+	public Collection<Resource> filterProcessed(Collection<Resource> resources, ResourceField field, boolean inclusion) {
+		IdentifierSet fieldProcessed = getProcessed(processed, field);
+		IdentifierSet fieldIncluded = inclusion ? getProcessed(included, field) : null;
 		Collection<Resource> result = new ArrayList<>();
 		for (Resource resource : resources) {
-			if (!wasProcessed(resource, field)) {
+			String baseType = getBaseType(resource);
+			boolean unprocessed = fieldProcessed.add(baseType, resource.getId());
+			if (inclusion ? fieldIncluded.add(baseType, resource.getId()) : unprocessed) {
 				result.add(resource);
-				markProcessed(resource, field);
 			}
 		}
 		return result;
 	}
 
 	public boolean wasProcessed(Resource resource, ResourceField field) {
-		String key = getKey(resource, field);
-		return processed.contains(key);
+		IdentifierSet fieldProcessed = processed.get(field.getUnderlyingName());
+		return fieldProcessed != null && fieldProcessed.contains(getBaseType(resource), resource.getId());
+	}
+
+	private static IdentifierSet getProcessed(Map<String, IdentifierSet> sets, ResourceField field) {
+		String fieldName = field.getUnderlyingName();
+		IdentifierSet fieldProcessed = sets.get(fieldName);
+		if (fieldProcessed == null) {
+			fieldProcessed = new IdentifierSet();
+			sets.put(fieldName, fieldProcessed);
+		}
+		return fieldProcessed;
 	}
 
-	private String getKey(Resource resource, ResourceField field) {
-		return resourceRegistry.getBaseResourceInformation(resource.getType()).getResourceType() + "@" + resource.getId()
-				+ "@" + field.getUnderlyingName();
+	private String getBaseType(Resource resource) {
+		String type = resource.getType();
+		String baseType = baseTypes.get(type);
+		if (baseType == null) {
+			baseType = resourceRegistry.getBaseResourceInformation(type).getResourceType();
+			// intern, a base type maps to itself
+			String internedBaseType = baseTypes.get(baseType);
+			if (internedBaseType != null) {
+				baseType = internedBaseType;
+			}
+			else {
+				baseTypes.put(baseType, baseType);
+			}
+			baseTypes.put(type, baseType);
+		}
+		return baseType;
+	}
+
+	/**
+	 * Open-addressing hash set of (type, id) pairs with linear probing. Types are expected to be interned by the caller.
+	 */
+	static final class IdentifierSet {
+
+		private static final int INITIAL_CAPACITY = 16;
+
+		private String[] types = new String[INITIAL_CAPACITY];
+
+		private String[] ids = new String[INITIAL_CAPACITY];
+
+		private int size;
+
+		/**
+		 * @return true if the pair was not yet contained
+		 */
+		boolean add(String type, String id) {
+			int mask = types.length - 1;
+			int index = hash(type, id) & mask;
+			while (types[index] != null) {
+				if (matches(index, type, id)) {
+					return false;
+				}
+				index = (index + 1) & mask;
+			}
+			types[index] = type;
+			ids[index] = id;
+			size++;
+			if (size * 2 > types.length) {
+				resize();
+			}
+			return true;
+		}
+
+		boolean contains(String type, String id) {
+			int mask = types.length - 1;
+			int index = hash(type, id) & mask;
+			while (types[index] != null) {
+				if (matches(index, type, id)) {
+					return true;
+				}
+				index = (index + 1) & mask;
+			}
+			return false;
+		}
+
+		int size() {
+			return size;
+		}
+
+		private boolean matches(int index, String type, String id) {
+			return types[index] == type && (ids[index] == id || Objects.equals(ids[index], id));
+		}
+
+		private void resize() {
+			String[] oldTypes = types;
+			String[] oldIds = ids;
+			types = new String[oldTypes.length * 2];
+			ids = new String[oldTypes.length * 2];
+			int mask = types.length - 1;
+			for (int i = 0; i < oldTypes.length; i++) {
+				if (oldTypes[i] != null) {
+					int index = hash(oldTypes[i], oldIds[i]) & mask;
+					while (types[index] != null) {
+						index = (index + 1) & mask;
+					}
+					types[index] = oldTypes[i];
+					ids[index] = oldIds[i];
+				}
+			}
+		}
+
+		private static int hash(String type, String id) {
+			int hash = 31 * System.identityHashCode(type) + Objects.hashCode(id);
+			return hash ^ (hash >>> 16);
+		}
 	}
-}
\ No newline at end of file
+}
@@ -4,10 +4,17 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import io.crnk.core.engine.document.Relationship;
 import io.crnk.core.engine.document.Resource;
@@ -34,124 +41,181 @@ public class IncludeRelationshipLoader {
 
 	private ResourceRegistry resourceRegistry;
 
+	private Executor executor;
+
 	public IncludeRelationshipLoader(ResourceRegistry resourceRegistry, ResultFactory resultFactory) {
 		this.resourceRegistry = resourceRegistry;
 		this.resultFactory = resultFactory;
 	}
 
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * @param executor used to dispatch independent repository calls concurrently in case of a synchronous
+	 *                 {@link ResultFactory}. If not set, calls are issued one after the other on the calling thread.
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
 	/**
 	 * Loads all related resources for the given resources and relationship
 	 * field. It updates the relationship data of the source resources
 	 * accordingly and returns the loaded resources for potential inclusion in
 	 * the result resource.
 	 */
-	@SuppressWarnings("unchecked")
 	public Result<Set<Resource>> lookupRelatedResource(IncludeRequest request, Collection<Resource> sourceResources,
 			ResourceField relationshipField) {
-		if (sourceResources.isEmpty()) {
-			return resultFactory.just(Collections.emptySet());
-		}
+		RelationshipLookup lookup = new RelationshipLookup(sourceResources, relationshipField);
+		return lookupRelatedResources(request, Collections.singletonList(lookup)).map(it -> it.get(0));
+	}
 
-		// directly load where relationship data is available
-		Collection<Resource> sourceResourcesWithData = new ArrayList<>();
-		Collection<Resource> sourceResourcesWithoutData = new ArrayList<>();
+	/**
+	 * Loads all related resources for the given lookups at once. Lookups by id targeting the same resource type are
+	 * merged into a single findAll call, all other repository calls are dispatched together. The result holds the
+	 * loaded resources of each lookup in the same order.
+	 */
+	public Result<List<Set<Resource>>> lookupRelatedResources(IncludeRequest request, List<RelationshipLookup> lookups) {
+		List<Set<Resource>> relatedResources = new ArrayList<>();
+		Map<String, IdLookupBatch> idBatches = new LinkedHashMap<>();
+		List<Supplier<Result>> calls = new ArrayList<>();
+		List<Consumer<Object>> handlers = new ArrayList<>();
 
-		for (Resource sourceResource : sourceResources) {
-			boolean present = sourceResource.getRelationships().get(relationshipField.getJsonName()).getData().isPresent();
-			if (present) {
-				sourceResourcesWithData.add(sourceResource);
+		for (RelationshipLookup lookup : lookups) {
+			Set<Resource> related = IncludeLookupUtil.newResourceSet();
+			relatedResources.add(related);
+
+			// directly load where relationship data is available
+			Collection<Resource> sourceResourcesWithData = new ArrayList<>();
+			Collection<Resource> sourceResourcesWithoutData = new ArrayList<>();
+			for (Resource sourceResource : lookup.sourceResources) {
+				boolean present = sourceResource.getRelationships().get(lookup.relationshipField.getJsonName()).getData()
+						.isPresent();
+				if (present) {
+					sourceResourcesWithData.add(sourceResource);
+				}
+				else {
+					sourceResourcesWithoutData.add(sourceResource);
+				}
+			}
+
+			if (!sourceResourcesWithData.isEmpty()) {
+				collectRelatedIds(request, sourceResourcesWithData, lookup.relationshipField, related, idBatches);
 			}
-			else {
-				sourceResourcesWithoutData.add(sourceResource);
+			if (!sourceResourcesWithoutData.isEmpty()) {
+				addRelationshipLookup(request, sourceResourcesWithoutData, lookup.relationshipField, related, calls,
+						handlers);
 			}
+		}
 
+		for (IdLookupBatch batch : idBatches.values()) {
+			if (!batch.targets.isEmpty()) {
+				QueryAdapter queryAdapter = request.getQueryAdapter();
+				calls.add(() -> batch.repository.findAll(new HashSet<>(batch.targets.keySet()), queryAdapter));
+				handlers.add(response -> batch.apply(request, (JsonApiResponse) response));
+			}
 		}
 
-		Set<Resource> relatedResources = new HashSet<>();
+		if (calls.isEmpty()) {
+			return resultFactory.just(relatedResources);
+		}
+		return execute(calls).map(responses -> {
+			for (int i = 0; i < responses.size(); i++) {
+				handlers.get(i).accept(responses.get(i));
+			}
+			return relatedResources;
+		});
+	}
 
+	@SuppressWarnings("unchecked")
+	private Result<List<Object>> execute(List<Supplier<Result>> calls) {
+		if (executor == null || resultFactory.isAsync() || calls.size() == 1) {
+			List<Result<Object>> results = new ArrayList<>();
+			for (Supplier<Result> call : calls) {
+				results.add(call.get());
+			}
+			return resultFactory.zip(results);
+		}
 
-		Result<Set<Resource>> result = resultFactory.just(relatedResources);
-		if (!sourceResourcesWithData.isEmpty()) {
-			Result<Set<Resource>> lookupWithId = lookupRelatedResourcesWithId(request, sourceResourcesWithData,
-					relationshipField);
-			result = result.zipWith(lookupWithId, this::mergeList);
+		// synchronous repositories, issue the independent calls concurrently and wait for all of them
+		Object context = resultFactory.hasThreadContext() ? resultFactory.getThreadContext() : null;
+		List<CompletableFuture<Object>> futures = new ArrayList<>();
+		for (Supplier<Result> call : calls) {
+			futures.add(CompletableFuture.supplyAsync(() -> {
+				if (context != null) {
+					resultFactory.setThreadContext(context);
+				}
+				try {
+					return call.get().get();
+				}
+				finally {
+					if (context != null) {
+						resultFactory.clearContext();
+					}
+				}
+			}, executor));
 		}
-		if (!sourceResourcesWithoutData.isEmpty()) {
-			Result<Set<Resource>> lookupWithoutData = lookupRelatedResourceWithRelationship(request, sourceResourcesWithoutData,
-					relationshipField);
-			result = result.zipWith(lookupWithoutData, this::mergeList);
+		List<Object> responses = new ArrayList<>();
+		for (CompletableFuture<Object> future : futures) {
+			try {
+				responses.add(future.join());
+			}
+			catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw e;
+			}
 		}
-		return result;
-	}
-
-	private Set<Resource> mergeList(Set<Resource> set1, Set<Resource> set2) {
-		Set<Resource> set = new HashSet<>();
-		set.addAll(set1);
-		set.addAll(set2);
-		return set;
+		return resultFactory.just(responses);
 	}
 
-	public Result<Set<Resource>> lookupRelatedResourcesWithId(IncludeRequest request, Collection<Resource> sourceResources,
-			ResourceField relationshipField) {
+	private void collectRelatedIds(IncludeRequest request, Collection<Resource> sourceResources,
+			ResourceField relationshipField, Set<Resource> related, Map<String, IdLookupBatch> idBatches) {
 
 		String oppositeResourceType = relationshipField.getOppositeResourceType();
-		RegistryEntry oppositeEntry = resourceRegistry.getEntry(oppositeResourceType);
-		if (oppositeEntry == null) {
-			throw new RepositoryNotFoundException("no resource with type " + oppositeResourceType + " found");
-		}
-		RepositoryMethodParameterProvider parameterProvider = request.getParameterProvider();
-		ResourceInformation oppositeResourceInformation = oppositeEntry.getResourceInformation();
-		ResourceRepositoryAdapter oppositeResourceRepository = oppositeEntry.getResourceRepository(parameterProvider);
-		if (oppositeResourceRepository == null) {
-			throw new RepositoryNotFoundException(
-					"no relationship repository found for " + oppositeResourceInformation.getResourceType());
+		IdLookupBatch batch = idBatches.get(oppositeResourceType);
+		if (batch == null) {
+			RegistryEntry oppositeEntry = resourceRegistry.getEntry(oppositeResourceType);
+			if (oppositeEntry == null) {
+				throw new RepositoryNotFoundException("no resource with type " + oppositeResourceType + " found");
+			}
+			RepositoryMethodParameterProvider parameterProvider = request.getParameterProvider();
+			ResourceInformation oppositeResourceInformation = oppositeEntry.getResourceInformation();
+			ResourceRepositoryAdapter oppositeResourceRepository = oppositeEntry.getResourceRepository(parameterProvider);
+			if (oppositeResourceRepository == null) {
+				throw new RepositoryNotFoundException(
+						"no relationship repository found for " + oppositeResourceInformation.getResourceType());
+			}
+			batch = new IdLookupBatch(oppositeResourceType, oppositeResourceInformation, oppositeResourceRepository);
+			idBatches.put(oppositeResourceType, batch);
 		}
 
-		Set<Resource> related = new HashSet<>();
-
-		Set<Object> relatedIdsToLoad = new HashSet<>();
 		for (Resource sourceResource : sourceResources) {
 			Relationship relationship = sourceResource.getRelationships().get(relationshipField.getJsonName());
 			PreconditionUtil.verify(relationship.getData().isPresent(),"expected relationship data to be loaded for @JsonApiResourceId annotated field, sourceType=%d sourceId=%d, relationshipName=%s", sourceResource.getType(), sourceResource.getId(), relationshipField.getJsonName());
 
 			if (relationship.getData().get() != null) {
 				for (ResourceIdentifier id : relationship.getCollectionData().get()) {
-					if (request.containsResource(id)) {
+					Resource cachedResource = request.findResource(id);
+					if (cachedResource != null) {
 						// load from cache
-						related.add(request.getResource(id));
+						related.add(cachedResource);
 					}
 					else {
-						relatedIdsToLoad.add(oppositeResourceInformation.parseIdString(id.getId()));
+						batch.add(batch.resourceInformation.parseIdString(id.getId()), related);
 					}
 				}
 			}
 		}
-
-		if (!relatedIdsToLoad.isEmpty()) {
-			QueryAdapter queryAdapter = request.getQueryAdapter();
-			Result<JsonApiResponse> responseResult = oppositeResourceRepository.findAll(relatedIdsToLoad, queryAdapter);
-
-			return responseResult.map(response -> {
-				Collection responseList = (Collection) response.getEntity();
-				for (Object responseEntity : responseList) {
-					Resource relatedResource = request.merge(responseEntity);
-					related.add(relatedResource);
-					Object responseEntityId = oppositeResourceInformation.getId(responseEntity);
-					relatedIdsToLoad.remove(responseEntityId);
-				}
-				if (!relatedIdsToLoad.isEmpty()) {
-					throw new ResourceNotFoundException("type=" + relationshipField.getOppositeResourceType() + ", "
-							+ "ids=" + relatedIdsToLoad);
-				}
-				return related;
-			});
-		}
-
-		return resultFactory.just(related);
 	}
 
-	private Result<Set<Resource>> lookupRelatedResourceWithRelationship(IncludeRequest request, Collection<Resource>
-			sourceResources, ResourceField relationshipField) {
+	@SuppressWarnings("unchecked")
+	private void addRelationshipLookup(IncludeRequest request, Collection<Resource> sourceResources,
+			ResourceField relationshipField, Set<Resource> related, List<Supplier<Result>> calls,
+			List<Consumer<Object>> handlers) {
 
 		ResourceInformation resourceInformation = relationshipField.getParentResourceInformation();
 		RegistryEntry registyEntry = resourceRegistry.getEntry(resourceInformation.getResourceType());
@@ -167,15 +231,14 @@ public class IncludeRelationshipLoader {
 					() + "." + relationshipField.getUnderlyingName());
 		}
 
-		Result<Map<Object, JsonApiResponse>> responseMapResult;
 		if (isMany) {
-			responseMapResult = relationshipRepository.findBulkManyTargets(resourceIds, relationshipField, queryAdapter);
+			calls.add(() -> relationshipRepository.findBulkManyTargets(resourceIds, relationshipField, queryAdapter));
 		}
 		else {
-			responseMapResult = relationshipRepository.findBulkOneTargets(resourceIds, relationshipField, queryAdapter);
+			calls.add(() -> relationshipRepository.findBulkOneTargets(resourceIds, relationshipField, queryAdapter));
 		}
-		return responseMapResult.map(responseMap -> {
-			Set<Resource> loadedTargets = new HashSet<>();
+		handlers.add(response -> {
+			Map<Object, JsonApiResponse> responseMap = (Map<Object, JsonApiResponse>) response;
 			for (Resource sourceResource : sourceResources) {
 				Serializable sourceId = resourceInformation.parseIdString(sourceResource.getId());
 				JsonApiResponse targetResponse = responseMap.get(sourceId);
@@ -183,7 +246,7 @@ public class IncludeRelationshipLoader {
 					Object targetEntity = targetResponse.getEntity();
 
 					List<Resource> targets = request.setupRelation(sourceResource, relationshipField, targetEntity);
-					loadedTargets.addAll(targets);
+					related.addAll(targets);
 				}
 				else {
 					Nullable<Object> emptyData = Nullable.of(
@@ -192,7 +255,67 @@ public class IncludeRelationshipLoader {
 					relationship.setData(emptyData);
 				}
 			}
-			return loadedTargets;
 		});
 	}
+
+	/**
+	 * Relationship field to load for a set of source resources.
+	 */
+	public static class RelationshipLookup {
+
+		private final Collection<Resource> sourceResources;
+
+		private final ResourceField relationshipField;
+
+		public RelationshipLookup(Collection<Resource> sourceResources, ResourceField relationshipField) {
+			this.sourceResources = sourceResources;
+			this.relationshipField = relationshipField;
+		}
+	}
+
+	/**
+	 * Collects the ids to load of a single resource type across multiple relationship fields.
+	 */
+	private static class IdLookupBatch {
+
+		private final String resourceType;
+
+		private final ResourceInformation resourceInformation;
+
+		private final ResourceRepositoryAdapter repository;
+
+		private final Map<Object, List<Set<Resource>>> targets = new HashMap<>();
+
+		IdLookupBatch(String resourceType, ResourceInformation resourceInformation, ResourceRepositoryAdapter repository) {
+			this.resourceType = resourceType;
+			this.resourceInformation = resourceInformation;
+			this.repository = repository;
+		}
+
+		void add(Object id, Set<Resource> related) {
+			List<Set<Resource>> relatedSets = targets.get(id);
+			if (relatedSets == null) {
+				relatedSets = new ArrayList<>(1);
+				targets.put(id, relatedSets);
+			}
+			relatedSets.add(related);
+		}
+
+		void apply(IncludeRequest request, JsonApiResponse response) {
+			Collection responseList = (Collection) response.getEntity();
+			for (Object responseEntity : responseList) {
+				Resource relatedResource = request.merge(responseEntity);
+				Object responseEntityId = resourceInformation.getId(responseEntity);
+				List<Set<Resource>> relatedSets = targets.remove(responseEntityId);
+				if (relatedSets != null) {
+					for (Set<Resource> related : relatedSets) {
+						related.add(relatedResource);
+					}
+				}
+			}
+			if (!targets.isEmpty()) {
+				throw new ResourceNotFoundException("type=" + resourceType + ", ids=" + targets.keySet());
+			}
+		}
+	}
 }
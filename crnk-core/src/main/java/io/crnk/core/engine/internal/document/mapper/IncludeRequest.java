@@ -116,8 +116,9 @@ public class IncludeRequest {
 				|| resourceFieldPath.size() == 1 && fieldsWithEnforcedIdSerialization.contains(lastResourceField.getJsonName());
 	}
 
-	public synchronized Collection<Resource> filterProcessed(Collection<Resource> resourceList, ResourceField resourceField) {
-		return populatedCache.filterProcessed(resourceList, resourceField);
+	public synchronized Collection<Resource> filterProcessed(Collection<Resource> resourceList, ResourceField resourceField,
+			boolean inclusion) {
+		return populatedCache.filterProcessed(resourceList, resourceField, inclusion);
 	}
 
 	public synchronized void markForInclusion(Set<Resource> resources) {
@@ -128,11 +129,12 @@ public class IncludeRequest {
 		ResourceMappingConfig resourceMappingConfig = mappingConfig.getResourceMapping();
 		Resource targetResource = resourceMapper.toData(targetEntity, queryAdapter, resourceMappingConfig);
 		ResourceIdentifier targetId = targetResource.toIdentifier();
-		if (!resourceMap.containsKey(targetId)) {
+		Resource existingResource = resourceMap.get(targetId);
+		if (existingResource == null) {
 			resourceMap.put(targetId, targetResource);
 		} else {
 			// TODO consider merging
-			targetResource = resourceMap.get(targetId);
+			targetResource = existingResource;
 		}
 		if (!(targetEntity instanceof Resource)) {
 			entityMap.put(targetId, targetEntity);
@@ -199,6 +201,13 @@ public class IncludeRequest {
 		return Objects.requireNonNull(resourceMap.get(id));
 	}
 
+	/**
+	 * @return resource with the given id or null if not yet available
+	 */
+	public synchronized Resource findResource(ResourceIdentifier id) {
+		return resourceMap.get(id);
+	}
+
 	public synchronized Object getEntity(ResourceIdentifier id) {
 		return entityMap.get(id);
 	}
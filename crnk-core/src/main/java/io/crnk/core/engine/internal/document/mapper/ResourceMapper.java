@@ -118,7 +118,14 @@ public class ResourceMapper {
 
 	protected void setAttribute(Resource resource, ResourceField field, Object entity) {
 		Object value = field.getAccessor().getValue(entity);
-		JsonNode valueNode = objectMapper.valueToTree(value);
+		JsonNode valueNode;
+		if (util.isStreaming()) {
+			// defer serialization until document gets written to avoid materializing a tree for every attribute
+			valueNode = value != null ? objectMapper.getNodeFactory().pojoNode(value) : null;
+		}
+		else {
+			valueNode = objectMapper.valueToTree(value);
+		}
 		resource.getAttributes().put(field.getJsonName(), valueNode);
 	}
 
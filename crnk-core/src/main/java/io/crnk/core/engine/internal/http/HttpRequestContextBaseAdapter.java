@@ -9,6 +9,7 @@ import io.crnk.core.engine.query.QueryContext;
 import io.crnk.legacy.internal.RepositoryMethodParameterProvider;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
@@ -161,6 +162,11 @@ public class HttpRequestContextBaseAdapter implements HttpRequestContext {
 		return base.getRequestBody();
 	}
 
+	@Override
+	public InputStream getRequestBodyStream() throws IOException {
+		return base.getRequestBodyStream();
+	}
+
 	@Override
 	public void setResponseHeader(String name, String value) {
 		base.setResponseHeader(name, value);
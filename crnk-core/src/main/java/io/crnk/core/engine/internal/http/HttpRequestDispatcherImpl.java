@@ -39,6 +39,8 @@ public class HttpRequestDispatcherImpl implements RequestDispatcher {
 
 	private ModuleRegistry moduleRegistry;
 
+	private PathBuilder pathBuilder;
+
 	public HttpRequestDispatcherImpl(ModuleRegistry moduleRegistry, ExceptionMapperRegistry exceptionMapperRegistry) {
 		this.moduleRegistry = moduleRegistry;
 		this.exceptionMapperRegistry = exceptionMapperRegistry;
@@ -106,7 +108,7 @@ public class HttpRequestDispatcherImpl implements RequestDispatcher {
 		JsonApiRequestProcessor processor = (JsonApiRequestProcessor) processors.stream()
 				.filter(it -> it instanceof JsonApiRequestProcessor).findFirst().get();
 
-		JsonPath jsonPath = new PathBuilder(moduleRegistry.getResourceRegistry()).build(path);
+		JsonPath jsonPath = getPathBuilder().build(path);
 
 		HttpRequestContext requestContext = moduleRegistry.getHttpRequestContextProvider().getRequestContext();
 		QueryContext queryContext = requestContext.getQueryContext();
@@ -117,7 +119,7 @@ public class HttpRequestDispatcherImpl implements RequestDispatcher {
 
 	@Override
 	public void dispatchAction(String path, String method, Map<String, Set<String>> parameters) {
-		JsonPath jsonPath = new PathBuilder(moduleRegistry.getResourceRegistry()).build(path);
+		JsonPath jsonPath = getPathBuilder().build(path);
 
 		// preliminary implementation, more to come in the future
 		ActionFilterChain chain = new ActionFilterChain();
@@ -127,6 +129,13 @@ public class HttpRequestDispatcherImpl implements RequestDispatcher {
 	}
 
 
+	private PathBuilder getPathBuilder() {
+		if (pathBuilder == null) {
+			pathBuilder = new PathBuilder(moduleRegistry.getResourceRegistry());
+		}
+		return pathBuilder;
+	}
+
 	class ActionFilterChain implements DocumentFilterChain {
 
 		protected int filterIndex = 0;
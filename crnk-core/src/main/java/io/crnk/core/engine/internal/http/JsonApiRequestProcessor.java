@@ -7,7 +7,6 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import io.crnk.core.engine.dispatcher.RequestDispatcher;
 import io.crnk.core.engine.dispatcher.Response;
 import io.crnk.core.engine.document.Document;
-import io.crnk.core.engine.error.JsonApiExceptionMapper;
 import io.crnk.core.engine.filter.DocumentFilterChain;
 import io.crnk.core.engine.http.HttpHeaders;
 import io.crnk.core.engine.http.HttpMethod;
@@ -19,17 +18,13 @@ import io.crnk.core.engine.internal.dispatcher.ControllerRegistry;
 import io.crnk.core.engine.internal.dispatcher.controller.Controller;
 import io.crnk.core.engine.internal.dispatcher.path.ActionPath;
 import io.crnk.core.engine.internal.dispatcher.path.JsonPath;
-import io.crnk.core.engine.internal.exception.ExceptionMapperRegistry;
-import io.crnk.core.engine.internal.utils.PreconditionUtil;
 import io.crnk.core.engine.query.QueryAdapter;
 import io.crnk.core.engine.query.QueryAdapterBuilder;
 import io.crnk.core.engine.query.QueryContext;
 import io.crnk.core.engine.result.ImmediateResultFactory;
 import io.crnk.core.engine.result.Result;
 import io.crnk.core.engine.result.ResultFactory;
-import io.crnk.core.exception.InternalServerErrorException;
 import io.crnk.core.module.Module;
-import io.crnk.core.utils.Optional;
 import io.crnk.legacy.internal.RepositoryMethodParameterProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -172,22 +167,6 @@ public class JsonApiRequestProcessor extends JsonApiRequestProcessorBase impleme
 		}
 	}
 
-	private Response toErrorResponse(Throwable e) {
-		ExceptionMapperRegistry exceptionMapperRegistry = moduleContext.getExceptionMapperRegistry();
-		Optional<JsonApiExceptionMapper> exceptionMapper = exceptionMapperRegistry.findMapperFor(e.getClass());
-		if (!exceptionMapper.isPresent()) {
-			LOGGER.error("failed to process request, unknown exception thrown", e);
-			e = new InternalServerErrorException(e.getMessage());
-			exceptionMapper = exceptionMapperRegistry.findMapperFor(e.getClass());
-			PreconditionUtil
-					.assertTrue("no exception mapper for InternalServerErrorException found", exceptionMapper.isPresent());
-		}
-		else {
-			LOGGER.debug("dispatching exception to mapper", e);
-		}
-		return exceptionMapper.get().toErrorResponse(e).toResponse();
-	}
-
 	protected DocumentFilterChain getFilterChain(JsonPath jsonPath, String method) {
 		Controller controller = controllerRegistry.getController(jsonPath, method);
 		return new DocumentFilterChainImpl(moduleContext, controller);
@@ -1,14 +1,21 @@
 package io.crnk.core.engine.internal.http;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Arrays;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.crnk.core.boot.CrnkProperties;
 import io.crnk.core.engine.dispatcher.Response;
 import io.crnk.core.engine.document.Document;
 import io.crnk.core.engine.document.ErrorData;
+import io.crnk.core.engine.error.JsonApiExceptionMapper;
 import io.crnk.core.engine.http.HttpHeaders;
 import io.crnk.core.engine.http.HttpRequestContext;
 import io.crnk.core.engine.http.HttpResponse;
@@ -18,13 +25,16 @@ import io.crnk.core.engine.information.resource.ResourceInformation;
 import io.crnk.core.engine.internal.dispatcher.ControllerRegistry;
 import io.crnk.core.engine.internal.dispatcher.path.JsonPath;
 import io.crnk.core.engine.internal.dispatcher.path.PathBuilder;
+import io.crnk.core.engine.internal.exception.ExceptionMapperRegistry;
 import io.crnk.core.engine.internal.utils.PreconditionUtil;
 import io.crnk.core.engine.query.QueryAdapterBuilder;
 import io.crnk.core.engine.registry.RegistryEntry;
 import io.crnk.core.engine.registry.ResourceRegistry;
+import io.crnk.core.exception.InternalServerErrorException;
 import io.crnk.core.exception.MethodNotAllowedException;
 import io.crnk.core.exception.ResourceFieldNotFoundException;
 import io.crnk.core.module.Module;
+import io.crnk.core.utils.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,6 +46,12 @@ public class JsonApiRequestProcessorBase {
 
 	private Boolean acceptingPlainJson;
 
+	private Boolean streaming;
+
+	private Boolean retainingRequestBody;
+
+	private PathBuilder pathBuilder;
+
 	protected QueryAdapterBuilder queryAdapterBuilder;
 
 	protected ControllerRegistry controllerRegistry;
@@ -55,6 +71,20 @@ public class JsonApiRequestProcessorBase {
 		return acceptingPlainJson;
 	}
 
+	protected boolean isStreaming() {
+		if (streaming == null) {
+			streaming = Boolean.parseBoolean(moduleContext.getPropertiesProvider().getProperty(CrnkProperties.SERIALIZE_STREAMING));
+		}
+		return streaming;
+	}
+
+	protected boolean isRetainingRequestBody() {
+		if (retainingRequestBody == null) {
+			retainingRequestBody = Boolean.parseBoolean(moduleContext.getPropertiesProvider().getProperty(CrnkProperties.RETAIN_REQUEST_BODY));
+		}
+		return retainingRequestBody;
+	}
+
 	protected HttpResponse getErrorResponse(JsonProcessingException e) {
 		final String message = "Json Parsing failed";
 		Response response = buildBadRequestResponse(message, e.getMessage());
@@ -76,10 +106,25 @@ public class JsonApiRequestProcessorBase {
 		HttpResponse httpResponse = new HttpResponse();
 		httpResponse.setStatusCode(response.getHttpStatus());
 
-		if (response.getHttpStatus() != HttpStatus.NO_CONTENT_204) {
-			String responseBody;
+		if (response.getHttpStatus() != HttpStatus.NO_CONTENT_204 && isStreaming()) {
+			// entities are accessed and failures mapped before the status is committed, the buffer holds the
+			// entire serialized document and only its tokens are written once the integration writes the body
+			final TokenBuffer buffer;
+			try {
+				buffer = toTokenBuffer(objectMapper, response.getDocument());
+			}
+			catch (IOException | RuntimeException e) {
+				logger.error("failed to serialize response", e);
+				return toHttpResponse(toErrorResponse(e));
+			}
+			httpResponse.setBodyWriter(outputStream -> writeDocument(objectMapper, buffer, outputStream));
+			httpResponse.setContentType(HttpHeaders.JSONAPI_CONTENT_TYPE_AND_CHARSET);
+		}
+		else if (response.getHttpStatus() != HttpStatus.NO_CONTENT_204) {
+			byte[] responseBody;
 			try {
-				responseBody = objectMapper.writeValueAsString(response.getDocument());
+				// serialize straight to UTF-8 bytes rather than going through an intermediate String
+				responseBody = objectMapper.writeValueAsBytes(response.getDocument());
 			} catch (JsonProcessingException e) {
 				throw new IllegalStateException(e);
 			}
@@ -90,19 +135,75 @@ public class JsonApiRequestProcessorBase {
 		return httpResponse;
 	}
 
+	private static TokenBuffer toTokenBuffer(ObjectMapper objectMapper, Document document) throws IOException {
+		TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+		try {
+			objectMapper.writeValue(buffer, document);
+		}
+		finally {
+			buffer.close();
+		}
+		return buffer;
+	}
+
+	private static void writeDocument(ObjectMapper objectMapper, TokenBuffer buffer, OutputStream outputStream)
+			throws IOException {
+		JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+		generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		try {
+			buffer.serialize(generator);
+		}
+		finally {
+			generator.close();
+		}
+	}
+
+	protected Response toErrorResponse(Throwable e) {
+		ExceptionMapperRegistry exceptionMapperRegistry = moduleContext.getExceptionMapperRegistry();
+		Optional<JsonApiExceptionMapper> exceptionMapper = exceptionMapperRegistry.findMapperFor(e.getClass());
+		if (!exceptionMapper.isPresent()) {
+			logger.error("failed to process request, unknown exception thrown", e);
+			e = new InternalServerErrorException(e.getMessage());
+			exceptionMapper = exceptionMapperRegistry.findMapperFor(e.getClass());
+			PreconditionUtil
+					.assertTrue("no exception mapper for InternalServerErrorException found", exceptionMapper.isPresent());
+		}
+		else {
+			logger.debug("dispatching exception to mapper", e);
+		}
+		return exceptionMapper.get().toErrorResponse(e).toResponse();
+	}
+
 	protected Document getRequestDocument(HttpRequestContext requestContext) throws JsonProcessingException {
-		byte[] requestBody = requestContext.getRequestBody();
-		if (requestBody != null && requestBody.length > 0) {
-			ObjectMapper objectMapper = moduleContext.getObjectMapper();
+		ObjectMapper objectMapper = moduleContext.getObjectMapper();
+		try {
+			JsonParser parser;
+			InputStream requestBodyStream = isRetainingRequestBody() ? null : requestContext.getRequestBodyStream();
+			if (requestBodyStream != null) {
+				// parse directly from the stream, no need to buffer the body
+				parser = objectMapper.getFactory().createParser(requestBodyStream);
+				parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+			} else {
+				byte[] requestBody = requestContext.getRequestBody();
+				if (requestBody == null || requestBody.length == 0) {
+					return null;
+				}
+				parser = objectMapper.getFactory().createParser(requestBody);
+			}
 			try {
-				return objectMapper.readerFor(Document.class).readValue(requestBody);
-			} catch (JsonProcessingException e) {
-				throw e;
-			} catch (IOException e) {
-				throw new IllegalStateException(e);
+				if (parser.nextToken() == null) {
+					// empty body
+					return null;
+				}
+				return objectMapper.readerFor(Document.class).readValue(parser);
+			} finally {
+				parser.close();
 			}
+		} catch (JsonProcessingException e) {
+			throw e;
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
 		}
-		return null;
 	}
 
 
@@ -119,8 +220,10 @@ public class JsonApiRequestProcessorBase {
 
 	protected JsonPath getJsonPath(HttpRequestContext requestContext) {
 		String path = requestContext.getPath();
-		ResourceRegistry resourceRegistry = moduleContext.getResourceRegistry();
-		return new PathBuilder(resourceRegistry).build(path);
+		if (pathBuilder == null) {
+			pathBuilder = new PathBuilder(moduleContext.getResourceRegistry());
+		}
+		return pathBuilder.build(path);
 	}
 
 	protected ResourceInformation getRequestedResource(JsonPath jsonPath) {
@@ -0,0 +1,157 @@
+package io.crnk.core.engine.internal.information.resource;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import io.crnk.core.engine.information.resource.ResourceFieldAccessor;
+import io.crnk.core.engine.information.resource.ResourceFieldAccessorFactory;
+import io.crnk.core.engine.internal.utils.ClassUtils;
+import io.crnk.core.engine.internal.utils.PropertyException;
+import io.crnk.core.engine.internal.utils.PropertyUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates accessors with {@link LambdaMetafactory} that invoke getters and setters directly rather than through
+ * {@link Method#invoke(Object, Object...)}. Falls back to {@link ReflectionFieldAccessor} for public fields, non-public
+ * members, classes not visible to the class loader of Crnk and whenever the generation fails.
+ */
+public class GeneratedFieldAccessorFactory implements ResourceFieldAccessorFactory {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(GeneratedFieldAccessorFactory.class);
+
+	private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+	@Override
+	public ResourceFieldAccessor create(Class<?> resourceClass, String fieldName, Class<?> fieldType) {
+		if (isGenerationSupported(resourceClass, fieldName)) {
+			try {
+				return generate(resourceClass, fieldName, fieldType);
+			}
+			catch (Throwable e) { // NOSONAR any failure, including linkage errors, results in the reflection fallback
+				LOGGER.debug("failed to generate accessor for {}.{}, falling back to reflection", resourceClass.getName(),
+						fieldName, e);
+			}
+		}
+		return new ReflectionFieldAccessor(resourceClass, fieldName, fieldType);
+	}
+
+	private boolean isGenerationSupported(Class<?> resourceClass, String fieldName) {
+		Field field = ClassUtils.findClassField(resourceClass, fieldName);
+		if (field != null && Modifier.isPublic(field.getModifiers())) {
+			// field access takes precedence to match ReflectionFieldAccessor
+			return false;
+		}
+		Method getter = ClassUtils.findGetter(resourceClass, fieldName);
+		return getter != null && isAccessible(getter);
+	}
+
+	private boolean isAccessible(Method method) {
+		Class<?> declaringClass = method.getDeclaringClass();
+		if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(declaringClass.getModifiers())) {
+			return false;
+		}
+		// generated classes resolve the target with the class loader of Crnk
+		try {
+			ClassLoader classLoader = GeneratedFieldAccessorFactory.class.getClassLoader();
+			return Class.forName(declaringClass.getName(), false, classLoader) == declaringClass;
+		}
+		catch (ClassNotFoundException e) {
+			return false;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private ResourceFieldAccessor generate(Class<?> resourceClass, String fieldName, Class<?> fieldType) throws Throwable {
+		Method getterMethod = ClassUtils.findGetter(resourceClass, fieldName);
+		MethodHandle getterHandle = lookup.unreflect(getterMethod);
+		Class<?> getterOwner = getterMethod.getDeclaringClass();
+		CallSite getterSite = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+				MethodType.methodType(Object.class, Object.class), getterHandle,
+				MethodType.methodType(wrap(getterMethod.getReturnType()), getterOwner));
+		Function<Object, Object> getter = (Function<Object, Object>) getterSite.getTarget().invoke();
+
+		BiConsumer<Object, Object> setter = null;
+		Method setterMethod = ClassUtils.findSetter(resourceClass, fieldName, fieldType);
+		if (setterMethod != null && isAccessible(setterMethod)) {
+			MethodHandle setterHandle = lookup.unreflect(setterMethod);
+			Class<?> setterOwner = setterMethod.getDeclaringClass();
+			CallSite setterSite = LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+					MethodType.methodType(void.class, Object.class, Object.class), setterHandle,
+					MethodType.methodType(void.class, setterOwner, wrap(setterMethod.getParameterTypes()[0])));
+			setter = (BiConsumer<Object, Object>) setterSite.getTarget().invoke();
+		}
+		else if (setterMethod != null) {
+			// setter only accessible through reflection
+			return new ReflectionFieldAccessor(resourceClass, fieldName, fieldType);
+		}
+		return new GeneratedFieldAccessor(resourceClass, fieldName, fieldType, getter, setter);
+	}
+
+	private static Class<?> wrap(Class<?> type) {
+		return MethodType.methodType(type).wrap().returnType();
+	}
+
+	protected static class GeneratedFieldAccessor implements ResourceFieldAccessor {
+
+		private final Class<?> resourceType;
+
+		private final String fieldName;
+
+		private final Class<?> fieldType;
+
+		private final Function<Object, Object> getter;
+
+		private final BiConsumer<Object, Object> setter;
+
+		protected GeneratedFieldAccessor(Class<?> resourceType, String fieldName, Class<?> fieldType,
+				Function<Object, Object> getter, BiConsumer<Object, Object> setter) {
+			this.resourceType = resourceType;
+			this.fieldName = fieldName;
+			this.fieldType = fieldType;
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public Object getValue(Object resource) {
+			if (resource == null) {
+				String message = String.format("Cannot get value %s.%s for null", resourceType.getCanonicalName(), fieldName);
+				throw new PropertyException(message, resourceType, fieldName);
+			}
+			try {
+				return getter.apply(resource);
+			}
+			catch (Exception e) { // NOSONAR generated accessors also propagate checked exceptions
+				throw new PropertyException(e, resourceType, fieldName);
+			}
+		}
+
+		@Override
+		public void setValue(Object resource, Object fieldValue) {
+			if (resource == null) {
+				String message = String.format("Cannot set value %s.%s for null", resourceType.getCanonicalName(), fieldName);
+				throw new PropertyException(message, resourceType, fieldName);
+			}
+			if (setter == null) {
+				String message = String.format("Cannot find an setter for %s.%s", resourceType.getCanonicalName(), fieldName);
+				throw new PropertyException(message, resourceType, fieldName);
+			}
+			try {
+				Object mappedValue = PropertyUtils.prepareValue(fieldValue, fieldType);
+				setter.accept(resource, mappedValue);
+			}
+			catch (Exception e) { // NOSONAR generated accessors also propagate checked exceptions
+				throw new PropertyException(e, resourceType, fieldName);
+			}
+		}
+	}
+}
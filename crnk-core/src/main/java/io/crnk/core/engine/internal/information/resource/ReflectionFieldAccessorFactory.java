@@ -0,0 +1,12 @@
+package io.crnk.core.engine.internal.information.resource;
+
+import io.crnk.core.engine.information.resource.ResourceFieldAccessor;
+import io.crnk.core.engine.information.resource.ResourceFieldAccessorFactory;
+
+public class ReflectionFieldAccessorFactory implements ResourceFieldAccessorFactory {
+
+	@Override
+	public ResourceFieldAccessor create(Class<?> resourceClass, String fieldName, Class<?> fieldType) {
+		return new ReflectionFieldAccessor(resourceClass, fieldName, fieldType);
+	}
+}
@@ -11,11 +11,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import io.crnk.core.engine.document.ResourceIdentifier;
 import io.crnk.core.engine.information.InformationBuilder;
 import io.crnk.core.engine.information.bean.BeanAttributeInformation;
 import io.crnk.core.engine.information.bean.BeanInformation;
 import io.crnk.core.engine.information.resource.ResourceField;
 import io.crnk.core.engine.information.resource.ResourceFieldAccess;
+import io.crnk.core.engine.information.resource.ResourceFieldAccessorFactory;
 import io.crnk.core.engine.information.resource.ResourceFieldInformationProvider;
 import io.crnk.core.engine.information.resource.ResourceFieldType;
 import io.crnk.core.engine.information.resource.ResourceInformationProvider;
@@ -40,6 +42,8 @@ public abstract class ResourceInformationProviderBase implements ResourceInforma
 
 	private LookupIncludeBehavior globalLookupIncludeBehavior;
 
+	private ResourceFieldAccessorFactory accessorFactory = new GeneratedFieldAccessorFactory();
+
 	public ResourceInformationProviderBase(
 			PropertiesProvider propertiesProvider,
 			List<ResourceFieldInformationProvider> resourceFieldInformationProviders) {
@@ -47,6 +51,18 @@ public abstract class ResourceInformationProviderBase implements ResourceInforma
 		this.globalLookupIncludeBehavior = IncludeLookupUtil.getGlobalLookupIncludeBehavior(propertiesProvider);
 	}
 
+	public ResourceFieldAccessorFactory getAccessorFactory() {
+		return accessorFactory;
+	}
+
+	/**
+	 * @param accessorFactory used to create the accessors of the resource fields. By default
+	 *                        {@link GeneratedFieldAccessorFactory} is used.
+	 */
+	public void setAccessorFactory(ResourceFieldAccessorFactory accessorFactory) {
+		this.accessorFactory = accessorFactory;
+	}
+
 	@Override
 	public void init(ResourceInformationProviderContext context) {
 		this.context = context;
@@ -103,15 +119,20 @@ public abstract class ResourceInformationProviderBase implements ResourceInforma
 		fieldBuilder.relationshipRepositoryBehavior(getRelationshipRepositoryBehavior(attributeDesc));
 
 		Type genericType;
+		Class<?> type;
 		if (useFieldType(attributeDesc)) {
-			fieldBuilder.type(attributeDesc.getField().getType());
+			type = attributeDesc.getField().getType();
 			genericType = attributeDesc.getField().getGenericType();
 		}
 		else {
-			fieldBuilder.type(attributeDesc.getGetter().getReturnType());
+			type = attributeDesc.getGetter().getReturnType();
 			genericType = attributeDesc.getGetter().getGenericReturnType();
 		}
+		fieldBuilder.type(type);
 		fieldBuilder.genericType(genericType);
+
+		Class<?> resourceClass = beanDesc.getImplementationClass();
+		fieldBuilder.accessor(accessorFactory.create(resourceClass, attributeDesc.getName(), type));
 		if (fieldType == ResourceFieldType.RELATIONSHIP) {
 			fieldBuilder.oppositeResourceType(getResourceType(genericType, context));
 			fieldBuilder.oppositeName(getOppositeName(attributeDesc));
@@ -139,8 +160,13 @@ public abstract class ResourceInformationProviderBase implements ResourceInforma
 					}
 				}
 				if (idAttribute != null) {
+					Class idType = idAttribute.getImplementationClass();
 					fieldBuilder.idName(idFieldName);
-					fieldBuilder.idType(idAttribute.getImplementationClass());
+					fieldBuilder.idType(idType);
+					if (idType != ResourceIdentifier.class) {
+						// ResourceIdentifier ids are adapted by ResourceFieldImpl
+						fieldBuilder.idAccessor(accessorFactory.create(resourceClass, idFieldName, idType));
+					}
 				}
 			}
 		}
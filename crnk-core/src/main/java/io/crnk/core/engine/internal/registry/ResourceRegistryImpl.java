@@ -4,6 +4,7 @@ import java.util.Collection;
 import java.util.concurrent.ConcurrentHashMap;
 
 import io.crnk.core.engine.information.resource.ResourceInformation;
+import io.crnk.core.engine.internal.dispatcher.path.ResourcePathTrie;
 import io.crnk.core.engine.internal.utils.PreconditionUtil;
 import io.crnk.core.engine.internal.utils.UrlUtils;
 import io.crnk.core.engine.query.QueryContext;
@@ -27,6 +28,8 @@ public class ResourceRegistryImpl extends ResourceRegistryPartBase implements Re
 
 	private ResourceRegistryPart rootPart;
 
+	private final ResourcePathTrie pathTrie = new ResourcePathTrie(this);
+
 	private ResourceRegistryPartListener rootListener = new ResourceRegistryPartListener() {
 		@Override
 		public void onChanged(ResourceRegistryPartEvent event) {
@@ -40,6 +43,14 @@ public class ResourceRegistryImpl extends ResourceRegistryPartBase implements Re
 		this.moduleRegistry.setResourceRegistry(this);
 
 		setRootPart(rootPart);
+		addListener(pathTrie);
+	}
+
+	/**
+	 * @return trie over all resource paths, used to parse request paths.
+	 */
+	public ResourcePathTrie getPathTrie() {
+		return pathTrie;
 	}
 
 	/**
@@ -229,5 +240,6 @@ public class ResourceRegistryImpl extends ResourceRegistryPartBase implements Re
 			rootPart.addListener(rootListener);
 		}
 		this.rootPart = rootPart;
+		pathTrie.onChanged(ResourceRegistryPartEvent.create(this));
 	}
 }
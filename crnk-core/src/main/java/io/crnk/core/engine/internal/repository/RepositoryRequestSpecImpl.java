@@ -1,7 +1,9 @@
 package io.crnk.core.engine.internal.repository;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -66,6 +68,33 @@ public class RepositoryRequestSpecImpl implements RepositoryRequestSpec {
 		return spec;
 	}
 
+	public static RepositoryRequestSpec forDeleteAll(ModuleRegistry moduleRegistry,
+													 ResourceInformation owningResourceInformation, QueryAdapter queryAdapter,
+													 Collection<?> ids) {
+		RepositoryRequestSpecImpl spec = new RepositoryRequestSpecImpl(moduleRegistry);
+		spec.queryAdapter = queryAdapter;
+		spec.ids = ids;
+		spec.owningResourceInformation = owningResourceInformation;
+		spec.method = HttpMethod.DELETE;
+		return spec;
+	}
+
+	public static RepositoryRequestSpec forSaveAll(ModuleRegistry moduleRegistry, HttpMethod method,
+												   ResourceInformation owningResourceInformation, QueryAdapter queryAdapter,
+												   Collection<?> entities) {
+		List<Object> ids = new ArrayList<>();
+		for (Object entity : entities) {
+			ids.add(owningResourceInformation.getId(entity));
+		}
+		RepositoryRequestSpecImpl spec = new RepositoryRequestSpecImpl(moduleRegistry);
+		spec.queryAdapter = queryAdapter;
+		spec.entity = entities;
+		spec.ids = ids;
+		spec.owningResourceInformation = owningResourceInformation;
+		spec.method = method;
+		return spec;
+	}
+
 	public static RepositoryRequestSpec forFindIds(ModuleRegistry moduleRegistry, ResourceInformation owningResourceInformation,
 												   QueryAdapter queryAdapter, Iterable<?> ids) {
 		RepositoryRequestSpecImpl spec = new RepositoryRequestSpecImpl(moduleRegistry);
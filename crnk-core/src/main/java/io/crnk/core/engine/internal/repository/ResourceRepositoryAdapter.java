@@ -1,5 +1,7 @@
 package io.crnk.core.engine.internal.repository;
 
+import java.util.Collection;
+
 import io.crnk.core.engine.information.repository.ResourceRepositoryInformation;
 import io.crnk.core.engine.query.QueryAdapter;
 import io.crnk.core.engine.result.Result;
@@ -23,6 +25,20 @@ public interface ResourceRepositoryAdapter {
 
 	Result<JsonApiResponse> delete(Object id, QueryAdapter queryAdapter);
 
+	/**
+	 * @return true if the repository implements {@link io.crnk.core.repository.BulkResourceRepositoryV2}. The
+	 * resources of {@link #createAll(Collection, QueryAdapter)}, {@link #updateAll(Collection, QueryAdapter)} and
+	 * {@link #deleteAll(Collection, QueryAdapter)} are then passed to the repository with a single call rather than
+	 * one by one.
+	 */
+	boolean isBulk();
+
+	Result<JsonApiResponse> createAll(Collection<?> entities, QueryAdapter queryAdapter);
+
+	Result<JsonApiResponse> updateAll(Collection<?> entities, QueryAdapter queryAdapter);
+
+	Result<JsonApiResponse> deleteAll(Collection<?> ids, QueryAdapter queryAdapter);
+
 	@Deprecated
 	Object getResourceRepository();
 
@@ -1,6 +1,9 @@
 package io.crnk.core.engine.internal.repository;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import io.crnk.core.boot.CrnkProperties;
 import io.crnk.core.engine.dispatcher.RepositoryRequestSpec;
@@ -14,6 +17,7 @@ import io.crnk.core.engine.result.ImmediateResult;
 import io.crnk.core.exception.ResourceNotFoundException;
 import io.crnk.core.module.ModuleRegistry;
 import io.crnk.core.queryspec.QuerySpec;
+import io.crnk.core.repository.BulkResourceRepositoryV2;
 import io.crnk.core.repository.ResourceRepositoryV2;
 import io.crnk.core.repository.response.JsonApiResponse;
 import io.crnk.legacy.internal.AnnotatedResourceRepositoryAdapter;
@@ -154,20 +158,7 @@ public class ResourceRepositoryAdapterImpl extends ResponseRepositoryAdapter imp
 			@Override
 			protected JsonApiResponse invoke(RepositoryFilterContext context) {
 				RepositoryRequestSpec request = context.getRequest();
-				Object entity = request.getEntity();
-
-				Object resource;
-				if (isAnnotated) {
-					resource = ((AnnotatedResourceRepositoryAdapter) resourceRepository).save(entity);
-				} else if (resourceRepository instanceof ResourceRepositoryV2) {
-					if (method == HttpMethod.POST) {
-						resource = ((ResourceRepositoryV2) resourceRepository).create(entity);
-					} else {
-						resource = ((ResourceRepositoryV2) resourceRepository).save(entity);
-					}
-				} else {
-					resource = ((ResourceRepository) resourceRepository).save(entity);
-				}
+				Object resource = saveResource(request.getEntity(), method);
 				return getResponse(resourceRepository, resource, request);
 			}
 
@@ -185,23 +176,110 @@ public class ResourceRepositoryAdapterImpl extends ResponseRepositoryAdapter imp
 			@Override
 			protected JsonApiResponse invoke(RepositoryFilterContext context) {
 				RepositoryRequestSpec request = context.getRequest();
-				QueryAdapter queryAdapter = request.getQueryAdapter();
-				Serializable id = request.getId();
-				if (isAnnotated) {
-					((AnnotatedResourceRepositoryAdapter) resourceRepository).delete(id, queryAdapter);
-				} else if (resourceRepository instanceof ResourceRepositoryV2) {
-					((ResourceRepositoryV2) resourceRepository).delete(id);
+				deleteResource(request.getId(), request.getQueryAdapter());
+				return new JsonApiResponse();
+			}
+		};
+		RepositoryRequestSpec requestSpec =
+				RepositoryRequestSpecImpl.forDelete(moduleRegistry, resourceInformation, queryAdapter, (Serializable) id);
+		return new ImmediateResult<>(chain.doFilter(newRepositoryFilterContext(requestSpec)));
+	}
+
+	@Override
+	public boolean isBulk() {
+		return resourceRepository instanceof BulkResourceRepositoryV2;
+	}
+
+	@Override
+	public Result<JsonApiResponse> createAll(Collection<?> entities, QueryAdapter queryAdapter) {
+		return saveAll(entities, queryAdapter, HttpMethod.POST);
+	}
+
+	@Override
+	public Result<JsonApiResponse> updateAll(Collection<?> entities, QueryAdapter queryAdapter) {
+		return saveAll(entities, queryAdapter, HttpMethod.PATCH);
+	}
+
+	private Result<JsonApiResponse> saveAll(Collection<?> entities, QueryAdapter queryAdapter, final HttpMethod method) {
+		RepositoryRequestFilterChainImpl chain = new RepositoryRequestFilterChainImpl() {
+
+			@SuppressWarnings("rawtypes")
+			@Override
+			protected JsonApiResponse invoke(RepositoryFilterContext context) {
+				RepositoryRequestSpec request = context.getRequest();
+				Collection entities = (Collection) request.getEntity();
+
+				Object resources;
+				if (isBulk() && method == HttpMethod.POST) {
+					resources = ((BulkResourceRepositoryV2) resourceRepository).createAll(entities);
+				} else if (isBulk()) {
+					resources = ((BulkResourceRepositoryV2) resourceRepository).saveAll(entities);
+				} else {
+					List<Object> savedResources = new ArrayList<>();
+					for (Object entity : entities) {
+						savedResources.add(saveResource(entity, method));
+					}
+					resources = savedResources;
+				}
+				return getResponse(resourceRepository, resources, request);
+			}
+
+		};
+		RepositoryRequestSpec requestSpec =
+				RepositoryRequestSpecImpl.forSaveAll(moduleRegistry, method, resourceInformation, queryAdapter, entities);
+		return new ImmediateResult<>(chain.doFilter(newRepositoryFilterContext(requestSpec)));
+	}
+
+	@Override
+	public Result<JsonApiResponse> deleteAll(Collection<?> ids, QueryAdapter queryAdapter) {
+		RepositoryRequestFilterChainImpl chain = new RepositoryRequestFilterChainImpl() {
+
+			@SuppressWarnings("rawtypes")
+			@Override
+			protected JsonApiResponse invoke(RepositoryFilterContext context) {
+				RepositoryRequestSpec request = context.getRequest();
+				Collection ids = (Collection) request.getIds();
+				if (isBulk()) {
+					((BulkResourceRepositoryV2) resourceRepository).deleteAll(ids);
 				} else {
-					((ResourceRepository) resourceRepository).delete(id);
+					for (Object id : ids) {
+						deleteResource((Serializable) id, request.getQueryAdapter());
+					}
 				}
 				return new JsonApiResponse();
 			}
 		};
 		RepositoryRequestSpec requestSpec =
-				RepositoryRequestSpecImpl.forDelete(moduleRegistry, resourceInformation, queryAdapter, (Serializable) id);
+				RepositoryRequestSpecImpl.forDeleteAll(moduleRegistry, resourceInformation, queryAdapter, ids);
 		return new ImmediateResult<>(chain.doFilter(newRepositoryFilterContext(requestSpec)));
 	}
 
+	@SuppressWarnings("rawtypes")
+	private Object saveResource(Object entity, HttpMethod method) {
+		if (isAnnotated) {
+			return ((AnnotatedResourceRepositoryAdapter) resourceRepository).save(entity);
+		} else if (resourceRepository instanceof ResourceRepositoryV2) {
+			if (method == HttpMethod.POST) {
+				return ((ResourceRepositoryV2) resourceRepository).create(entity);
+			} else {
+				return ((ResourceRepositoryV2) resourceRepository).save(entity);
+			}
+		} else {
+			return ((ResourceRepository) resourceRepository).save(entity);
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	private void deleteResource(Serializable id, QueryAdapter queryAdapter) {
+		if (isAnnotated) {
+			((AnnotatedResourceRepositoryAdapter) resourceRepository).delete(id, queryAdapter);
+		} else if (resourceRepository instanceof ResourceRepositoryV2) {
+			((ResourceRepositoryV2) resourceRepository).delete(id);
+		} else {
+			((ResourceRepository) resourceRepository).delete(id);
+		}
+	}
+
 	public Object getResourceRepository() {
 		return resourceRepository;
 	}
@@ -1,6 +1,7 @@
 package io.crnk.core.queryspec;
 
 import io.crnk.core.engine.internal.utils.CompareUtils;
+import io.crnk.core.queryspec.internal.LikePattern;
 
 import java.util.Collection;
 
@@ -35,27 +36,7 @@ public abstract class FilterOperator {
 			if (value2 == null) {
 				return false;
 			}
-			String text = value1.toString();
-
-			// translate queryterm to a regex pattern
-			char[] queryTerm = value2.toString().toCharArray();
-
-			StringBuilder pattern = new StringBuilder();
-			pattern.append(".*");
-			String escapedCharacters = "[\\^$.|?*+()";
-			for (char c : queryTerm) {
-				if (escapedCharacters.contains(Character.toString(c))) {
-					pattern.append('\\');
-					pattern.append(c);
-				} else if (c == '%') {
-					pattern.append(".*");
-				} else {
-					pattern.append(Character.toLowerCase(c));
-				}
-			}
-			pattern.append(".*");
-
-			return text.toLowerCase().matches(pattern.toString());
+			return new LikePattern(value2.toString()).matches(value1);
 		}
 
 	};
@@ -4,7 +4,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import io.crnk.core.engine.internal.utils.CompareUtils;
 import io.crnk.core.engine.internal.utils.StringUtils;
@@ -21,7 +23,7 @@ public class FilterSpec extends AbstractPathSpec implements Comparable<FilterSpe
 	FilterSpec(FilterSpec spec) {
 		super(spec.getAttributePath());
 		this.operator = spec.operator;
-		this.value = spec.value;
+		this.value = copyValue(spec.value);
 		if (spec.expressions != null) {
 			this.expressions = cloneExpressions(spec.expressions, false);
 		}
@@ -87,6 +89,19 @@ public class FilterSpec extends AbstractPathSpec implements Comparable<FilterSpe
 		return ret;
 	}
 
+	/**
+	 * Collection values are copied so that clones, e.g. handed out from a cached template, can be modified safely.
+	 */
+	private static Object copyValue(Object value) {
+		if (value instanceof Set) {
+			return new LinkedHashSet<>((Set<?>) value);
+		}
+		else if (value instanceof Collection) {
+			return new ArrayList<>((Collection<?>) value);
+		}
+		return value;
+	}
+
 	static List<FilterSpec> cloneExpressions(List<FilterSpec> list, boolean normalize) {
 		List<FilterSpec> result = new ArrayList<>();
 		for (FilterSpec spec : list) {
@@ -2,14 +2,15 @@ package io.crnk.core.queryspec;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import io.crnk.core.engine.internal.utils.PropertyException;
 import io.crnk.core.engine.internal.utils.PropertyUtils;
 import io.crnk.core.exception.BadRequestException;
+import io.crnk.core.queryspec.internal.InMemoryQueryPlan;
 import io.crnk.core.resource.list.ResourceList;
 import io.crnk.core.resource.meta.MetaInformation;
 import io.crnk.core.resource.meta.HasMoreResourcesMetaInformation;
@@ -21,6 +22,70 @@ import io.crnk.core.resource.meta.PagedMetaInformation;
  */
 public class InMemoryEvaluator {
 
+	/**
+	 * Default maximum number of compiled plans kept by an evaluator.
+	 */
+	public static final int DEFAULT_PLAN_CACHE_SIZE = 256;
+
+	/**
+	 * Default minimum number of resources to make use of parallel evaluation.
+	 */
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 10000;
+
+	private boolean parallel = false;
+
+	private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+	private int planCacheSize = DEFAULT_PLAN_CACHE_SIZE;
+
+	private final Map<Object, InMemoryQueryPlan> planCache =
+			new LinkedHashMap<Object, InMemoryQueryPlan>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Object, InMemoryQueryPlan> eldest) {
+					return size() > planCacheSize;
+				}
+			};
+
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	/**
+	 * @param parallel true to filter and sort large collections with the common fork-join pool. Disabled by default.
+	 * Filters and property accessors must be safe to be called concurrently. Pass the evaluator to
+	 * {@link QuerySpec#apply(Iterable, ResourceList, InMemoryEvaluator)} to make use of it.
+	 */
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	/**
+	 * @param parallelThreshold minimum number of resources for parallel evaluation to be used. Smaller collections are
+	 * evaluated sequentially as the fork-join overhead would outweigh the gains.
+	 */
+	public void setParallelThreshold(int parallelThreshold) {
+		this.parallelThreshold = parallelThreshold;
+	}
+
+	public int getPlanCacheSize() {
+		return planCacheSize;
+	}
+
+	/**
+	 * @param planCacheSize maximum number of compiled plans kept by this evaluator, least recently used plans are
+	 * evicted first. Zero disables caching.
+	 */
+	public void setPlanCacheSize(int planCacheSize) {
+		this.planCacheSize = planCacheSize;
+		synchronized (planCache) {
+			planCache.clear();
+		}
+	}
+
 	public static boolean matches(Object object, FilterSpec filterSpec) {
 		List<FilterSpec> expressions = filterSpec.getExpression();
 		if (expressions == null) {
@@ -101,23 +166,19 @@ public class InMemoryEvaluator {
 	}
 
 	public <T> void eval(Iterable<T> resources, QuerySpec querySpec, ResourceList<T> resultList) {
-		Iterator<T> iterator = resources.iterator();
-		while (iterator.hasNext()) {
-			resultList.add(iterator.next());
-		}
+		InMemoryQueryPlan plan = getPlan(querySpec);
 
 		// filter
-		if (!querySpec.getFilters().isEmpty()) {
-			FilterSpec filterSpec = FilterSpec.and(querySpec.getFilters());
-			applyFilter(resultList, filterSpec);
-		}
-		long totalCount = resultList.size();
+		List<T> filtered = filter(plan, resources, querySpec.getFilters());
+		long totalCount = filtered.size();
 
-		// sort
-		applySorting(resultList, querySpec.getSort());
-
-		// offset/limit
-		applyPaging(resultList, querySpec);
+		// sort and offset/limit
+		int offset = (int) Math.min(querySpec.getOffset(), Integer.MAX_VALUE);
+		int limit = (int) Math.min(Integer.MAX_VALUE, querySpec.getLimit() != null ? querySpec.getLimit() : Integer.MAX_VALUE);
+		if (offset > filtered.size()) {
+			throw new BadRequestException("page offset out of range, cannot move beyond data set");
+		}
+		resultList.addAll(plan.sortPage(filtered, offset, limit, useParallel(filtered.size())));
 
 		// set page information
 		if (querySpec.getLimit() != null || querySpec.getOffset() != 0) {
@@ -133,76 +194,51 @@ public class InMemoryEvaluator {
 		}
 	}
 
-	private <T> void applySorting(List<T> results, List<SortSpec> sortSpec) {
-		if (!sortSpec.isEmpty()) {
-			Collections.sort(results, new SortSpecComparator<>(sortSpec));
-		}
-	}
-
-	private <T> void applyPaging(List<T> results, QuerySpec querySpec) {
-		int offset = (int) Math.min(querySpec.getOffset(), Integer.MAX_VALUE);
-		int limit = (int) Math.min(Integer.MAX_VALUE, querySpec.getLimit() != null ? querySpec.getLimit() : Integer.MAX_VALUE);
-		if (offset > results.size()) {
-			throw new BadRequestException("page offset out of range, cannot move beyond data set");
-		}
-		limit = Math.min(results.size() - offset, limit);
-		if (offset > 0 || limit < results.size()) {
-			List<T> subList = new ArrayList<>(results.subList(offset, offset + limit));
-			results.clear();
-			results.addAll(subList);
+	private <T> List<T> filter(InMemoryQueryPlan plan, Iterable<T> resources, List<FilterSpec> filters) {
+		Object[] values = plan.bind(filters);
+		if (resources instanceof Collection && useParallel(((Collection<T>) resources).size())) {
+			Collection<T> collection = (Collection<T>) resources;
+			if (!plan.hasFilter()) {
+				return new ArrayList<>(collection);
+			}
+			return collection.parallelStream()
+					.filter(resource -> plan.matches(resource, values))
+					.collect(Collectors.toCollection(ArrayList::new));
 		}
-	}
 
-	private <T> void applyFilter(List<T> results, FilterSpec filterSpec) {
-		if (filterSpec != null) {
-			Iterator<T> iterator = results.iterator();
-			while (iterator.hasNext()) {
-				T next = iterator.next();
-				if (!matches(next, filterSpec)) {
-					iterator.remove();
-				}
+		List<T> filtered = new ArrayList<>();
+		for (T resource : resources) {
+			if (plan.matches(resource, values)) {
+				filtered.add(resource);
 			}
 		}
+		return filtered;
 	}
 
-	static class SortSpecComparator<T> implements Comparator<T> {
-
-		private List<SortSpec> sortSpecs;
-
-		public SortSpecComparator(List<SortSpec> sortSpecs) {
-			this.sortSpecs = sortSpecs;
-		}
-
-		@Override
-		@SuppressWarnings("unchecked")
-		public int compare(T o1, T o2) {
-			for (SortSpec orderSpec : sortSpecs) {
-				Comparable<Object> value1 = (Comparable<Object>) getProperty(o1, orderSpec.getAttributePath());
-				Comparable<Object> value2 = (Comparable<Object>) getProperty(o2, orderSpec.getAttributePath());
+	private boolean useParallel(int size) {
+		return parallel && size >= parallelThreshold;
+	}
 
-				int d = compare(value1, value2);
-				if (orderSpec.getDirection() == Direction.DESC) {
-					d = -d;
-				}
-				if (d != 0) {
-					return d;
-				}
+	/**
+	 * @return compiled plan for the filters and sorting of the given querySpec. Plans are cached by this evaluator per query
+	 * shape, filter values are bound upon evaluation. Plans do not depend on the resource class and hold their
+	 * per-class accessors with the classes themselves, the cache thereby does not keep classes of redeployed
+	 * applications from being unloaded.
+	 */
+	protected InMemoryQueryPlan getPlan(QuerySpec querySpec) {
+		List<FilterSpec> filters = querySpec.getFilters();
+		List<SortSpec> sort = querySpec.getSort();
+		Object key = InMemoryQueryPlan.getShape(filters, sort);
+		synchronized (planCache) {
+			InMemoryQueryPlan plan = planCache.get(key);
+			if (plan != null) {
+				return plan;
 			}
-			return 0;
 		}
-
-		private int compare(Comparable<Object> value1, Comparable<Object> value2) {
-			if (value1 == null && value2 == null) {
-				return 0;
-			}
-			if (value1 == null) {
-				return -1;
-			}
-			if (value2 == null) {
-				return 1;
-			}
-
-			return value1.compareTo(value2);
+		InMemoryQueryPlan plan = InMemoryQueryPlan.compile(filters, sort);
+		synchronized (planCache) {
+			planCache.put(key, plan);
 		}
+		return plan;
 	}
 }
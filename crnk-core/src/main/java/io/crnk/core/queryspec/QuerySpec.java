@@ -22,6 +22,12 @@ import io.crnk.core.resource.meta.DefaultPagedMetaInformation;
 
 public class QuerySpec {
 
+	/**
+	 * Shared by all query specs to reuse compiled plans. Never reconfigured, hence safe for concurrent use. Its plans
+	 * are cached by query shape only and do not keep resource classes from being unloaded.
+	 */
+	private static final InMemoryEvaluator DEFAULT_EVALUATOR = new InMemoryEvaluator();
+
 	private Class<?> resourceClass;
 
 	private String resourceType;
@@ -98,8 +104,21 @@ public class QuerySpec {
 	 * @param resultList used to return the result (including paging meta information)
 	 */
 	public <T> void apply(Iterable<T> resources, ResourceList<T> resultList) {
-		InMemoryEvaluator eval = new InMemoryEvaluator();
-		eval.eval(resources, this, resultList);
+		DEFAULT_EVALUATOR.eval(resources, this, resultList);
+	}
+
+	/**
+	 * Evaluates this querySpec against the provided list in memory with the given evaluator. The other apply methods
+	 * evaluate sequentially, pass an evaluator with {@link InMemoryEvaluator#setParallel(boolean)} enabled to make use
+	 * of parallel evaluation for large collections.
+	 *
+	 * @param <T> resource type
+	 * @param resources to apply the querySpec to
+	 * @param resultList used to return the result (including paging meta information)
+	 * @param evaluator to evaluate the querySpec with
+	 */
+	public <T> void apply(Iterable<T> resources, ResourceList<T> resultList, InMemoryEvaluator evaluator) {
+		evaluator.eval(resources, this, resultList);
 	}
 
 	@Override
@@ -374,8 +393,12 @@ public class QuerySpec {
 		if (pagingSpec != null) {
 			copy.pagingSpec = pagingSpec.clone();
 		}
-		copy.includedFields.addAll(includedFields);
-		copy.includedRelations.addAll(includedRelations);
+		for (IncludeFieldSpec includedField : includedFields) {
+			copy.includedFields.add(new IncludeFieldSpec(new ArrayList<>(includedField.getAttributePath())));
+		}
+		for (IncludeRelationSpec includedRelation : includedRelations) {
+			copy.includedRelations.add(new IncludeRelationSpec(new ArrayList<>(includedRelation.getAttributePath())));
+		}
 		for (SortSpec sortSpec : sort) {
 			copy.sort.add(sortSpec.clone());
 		}
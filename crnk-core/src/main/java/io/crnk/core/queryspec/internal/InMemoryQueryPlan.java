@@ -0,0 +1,370 @@
+package io.crnk.core.queryspec.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.IntStream;
+
+import io.crnk.core.exception.BadRequestException;
+import io.crnk.core.queryspec.Direction;
+import io.crnk.core.queryspec.FilterOperator;
+import io.crnk.core.queryspec.FilterSpec;
+import io.crnk.core.queryspec.SortSpec;
+
+/**
+ * Compiled form of the filters and sort specs of a {@link io.crnk.core.queryspec.QuerySpec} used for in-memory
+ * evaluation. Attribute paths and operators are resolved once upon compilation, while filter values are bound
+ * separately with {@link #bind(List)}. This allows to share a plan among all query specs of the same shape,
+ * see {@link #getShape(List, List)}.
+ */
+public class InMemoryQueryPlan {
+
+	private final FilterNode filter;
+
+	private final PropertyPathAccessor[] sortAccessors;
+
+	private final boolean[] sortDescending;
+
+	private final int numValues;
+
+	private InMemoryQueryPlan(FilterNode filter, PropertyPathAccessor[] sortAccessors, boolean[] sortDescending,
+			int numValues) {
+		this.filter = filter;
+		this.sortAccessors = sortAccessors;
+		this.sortDescending = sortDescending;
+		this.numValues = numValues;
+	}
+
+	public static InMemoryQueryPlan compile(List<FilterSpec> filters, List<SortSpec> sortSpecs) {
+		int[] valueIndex = new int[1];
+		FilterNode filter = filters.isEmpty() ? null : compileFilter(FilterSpec.and(filters), valueIndex);
+
+		PropertyPathAccessor[] sortAccessors = new PropertyPathAccessor[sortSpecs.size()];
+		boolean[] sortDescending = new boolean[sortSpecs.size()];
+		for (int i = 0; i < sortAccessors.length; i++) {
+			SortSpec sortSpec = sortSpecs.get(i);
+			sortAccessors[i] = new PropertyPathAccessor(sortSpec.getAttributePath());
+			sortDescending[i] = sortSpec.getDirection() == Direction.DESC;
+		}
+		return new InMemoryQueryPlan(filter, sortAccessors, sortDescending, valueIndex[0]);
+	}
+
+	/**
+	 * @return key identifying all query specs that can share a plan. Filter values are not part of the shape.
+	 */
+	public static Object getShape(List<FilterSpec> filters, List<SortSpec> sortSpecs) {
+		List<Object> shape = new ArrayList<>();
+		for (FilterSpec filterSpec : filters) {
+			shape.add(getFilterShape(filterSpec));
+		}
+		for (SortSpec sortSpec : sortSpecs) {
+			shape.add(Arrays.asList(new ArrayList<>(sortSpec.getAttributePath()), sortSpec.getDirection()));
+		}
+		return shape;
+	}
+
+	private static Object getFilterShape(FilterSpec filterSpec) {
+		List<FilterSpec> expressions = filterSpec.getExpression();
+		if (expressions == null) {
+			List<String> attributePath = filterSpec.getAttributePath();
+			return Arrays.asList(filterSpec.getOperator(), attributePath != null ? new ArrayList<>(attributePath) : null);
+		}
+		List<Object> expressionShapes = new ArrayList<>();
+		for (FilterSpec expression : expressions) {
+			expressionShapes.add(getFilterShape(expression));
+		}
+		return Arrays.asList(filterSpec.getOperator(), expressionShapes);
+	}
+
+	private static FilterNode compileFilter(FilterSpec filterSpec, int[] valueIndex) {
+		List<FilterSpec> expressions = filterSpec.getExpression();
+		FilterOperator operator = filterSpec.getOperator();
+		if (expressions == null) {
+			if (filterSpec.getAttributePath() == null) {
+				throw new BadRequestException("no attribute specified for filter parameter");
+			}
+			PropertyPathAccessor accessor = new PropertyPathAccessor(filterSpec.getAttributePath());
+			return new OperatorNode(accessor, operator, valueIndex[0]++);
+		}
+
+		FilterNode[] children = new FilterNode[expressions.size()];
+		for (int i = 0; i < children.length; i++) {
+			children[i] = compileFilter(expressions.get(i), valueIndex);
+		}
+		if (operator == FilterOperator.OR) {
+			return new OrNode(children);
+		}
+		else if (operator == FilterOperator.AND) {
+			return new AndNode(children);
+		}
+		else if (operator == FilterOperator.NOT) {
+			return new NotNode(new AndNode(children));
+		}
+		throw new UnsupportedOperationException("not implemented " + filterSpec);
+	}
+
+	/**
+	 * @return filter values of the given specs in the order expected by this plan. Must have the same shape as the specs
+	 * this plan was compiled from.
+	 */
+	public Object[] bind(List<FilterSpec> filters) {
+		Object[] values = new Object[numValues];
+		if (!filters.isEmpty()) {
+			int[] valueIndex = new int[1];
+			for (FilterSpec filterSpec : filters) {
+				bindFilter(filterSpec, values, valueIndex);
+			}
+		}
+		return values;
+	}
+
+	private static void bindFilter(FilterSpec filterSpec, Object[] values, int[] valueIndex) {
+		List<FilterSpec> expressions = filterSpec.getExpression();
+		if (expressions == null) {
+			Object value = filterSpec.getValue();
+			if (filterSpec.getOperator() == FilterOperator.LIKE && value != null) {
+				value = new LikePattern(value.toString());
+			}
+			values[valueIndex[0]++] = value;
+		}
+		else {
+			for (FilterSpec expression : expressions) {
+				bindFilter(expression, values, valueIndex);
+			}
+		}
+	}
+
+	public boolean hasFilter() {
+		return filter != null;
+	}
+
+	public boolean hasSort() {
+		return sortAccessors.length > 0;
+	}
+
+	public boolean matches(Object object, Object[] values) {
+		return filter == null || filter.matches(object, values);
+	}
+
+	/**
+	 * Sorts the given objects and returns the requested page. Sort keys are obtained once per object. If only a
+	 * small page is requested, a bounded heap rather than a full sort is used.
+	 */
+	public <T> List<T> sortPage(List<T> objects, int offset, int limit) {
+		return sortPage(objects, offset, limit, false);
+	}
+
+	/**
+	 * Sorts the given objects and returns the requested page. With parallel enabled, sort keys are obtained and
+	 * sorted with the common fork-join pool. The objects must provide random access.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> List<T> sortPage(List<T> objects, int offset, int limit, boolean parallel) {
+		int size = objects.size();
+		int end = (int) Math.min(size, (long) offset + limit);
+		if (!hasSort()) {
+			return offset == 0 && end == size ? objects : new ArrayList<>(objects.subList(offset, end));
+		}
+
+		Comparator<SortEntry> comparator = new SortEntryComparator(sortDescending);
+		if (parallel) {
+			SortEntry[] entries = new SortEntry[size];
+			IntStream.range(0, size).parallel().forEach(i -> entries[i] = newSortEntry(objects.get(i), i));
+			Arrays.parallelSort(entries, comparator);
+
+			List<T> page = new ArrayList<>(end - offset);
+			for (int i = offset; i < end; i++) {
+				page.add((T) entries[i].object);
+			}
+			return page;
+		}
+
+		List<SortEntry> sorted;
+		if (end < size / 2) {
+			PriorityQueue<SortEntry> heap = new PriorityQueue<>(Math.max(1, end), Collections.reverseOrder(comparator));
+			for (int i = 0; i < size; i++) {
+				SortEntry entry = newSortEntry(objects.get(i), i);
+				if (heap.size() < end) {
+					heap.add(entry);
+				}
+				else if (end > 0 && comparator.compare(entry, heap.peek()) < 0) {
+					heap.poll();
+					heap.add(entry);
+				}
+			}
+			sorted = new ArrayList<>(heap);
+		}
+		else {
+			sorted = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				sorted.add(newSortEntry(objects.get(i), i));
+			}
+		}
+		Collections.sort(sorted, comparator);
+
+		List<T> page = new ArrayList<>(end - offset);
+		for (int i = offset; i < end; i++) {
+			page.add((T) sorted.get(i).object);
+		}
+		return page;
+	}
+
+	private SortEntry newSortEntry(Object object, int index) {
+		Object[] keys = new Object[sortAccessors.length];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = sortAccessors[i].getValue(object);
+		}
+		return new SortEntry(object, keys, index);
+	}
+
+	private static final class SortEntry {
+
+		private final Object object;
+
+		private final Object[] keys;
+
+		private final int index;
+
+		private SortEntry(Object object, Object[] keys, int index) {
+			this.object = object;
+			this.keys = keys;
+			this.index = index;
+		}
+	}
+
+	private static final class SortEntryComparator implements Comparator<SortEntry> {
+
+		private final boolean[] descending;
+
+		private SortEntryComparator(boolean[] descending) {
+			this.descending = descending;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public int compare(SortEntry o1, SortEntry o2) {
+			for (int i = 0; i < descending.length; i++) {
+				int d = compareKeys((Comparable<Object>) o1.keys[i], (Comparable<Object>) o2.keys[i]);
+				if (descending[i]) {
+					d = -d;
+				}
+				if (d != 0) {
+					return d;
+				}
+			}
+			// keep original order for equal elements, also within the heap
+			return Integer.compare(o1.index, o2.index);
+		}
+
+		private static int compareKeys(Comparable<Object> value1, Comparable<Object> value2) {
+			if (value1 == null && value2 == null) {
+				return 0;
+			}
+			if (value1 == null) {
+				return -1;
+			}
+			if (value2 == null) {
+				return 1;
+			}
+			return value1.compareTo(value2);
+		}
+	}
+
+	private interface FilterNode {
+
+		boolean matches(Object object, Object[] values);
+	}
+
+	private static final class OperatorNode implements FilterNode {
+
+		private final PropertyPathAccessor accessor;
+
+		private final FilterOperator operator;
+
+		private final int valueIndex;
+
+		private OperatorNode(PropertyPathAccessor accessor, FilterOperator operator, int valueIndex) {
+			this.accessor = accessor;
+			this.operator = operator;
+			this.valueIndex = valueIndex;
+		}
+
+		@Override
+		public boolean matches(Object object, Object[] values) {
+			Object value = accessor.getValue(object);
+			Object filterValue = values[valueIndex];
+			if (value instanceof Collection) {
+				for (Object elem : (Collection<?>) value) {
+					if (matchesValue(elem, filterValue)) {
+						return true;
+					}
+				}
+				return false;
+			}
+			return matchesValue(value, filterValue);
+		}
+
+		private boolean matchesValue(Object value, Object filterValue) {
+			if (filterValue instanceof LikePattern) {
+				return ((LikePattern) filterValue).matches(value);
+			}
+			return operator.matches(value, filterValue);
+		}
+	}
+
+	private static final class AndNode implements FilterNode {
+
+		private final FilterNode[] children;
+
+		private AndNode(FilterNode[] children) {
+			this.children = children;
+		}
+
+		@Override
+		public boolean matches(Object object, Object[] values) {
+			for (FilterNode child : children) {
+				if (!child.matches(object, values)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private static final class OrNode implements FilterNode {
+
+		private final FilterNode[] children;
+
+		private OrNode(FilterNode[] children) {
+			this.children = children;
+		}
+
+		@Override
+		public boolean matches(Object object, Object[] values) {
+			for (FilterNode child : children) {
+				if (child.matches(object, values)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private static final class NotNode implements FilterNode {
+
+		private final FilterNode child;
+
+		private NotNode(FilterNode child) {
+			this.child = child;
+		}
+
+		@Override
+		public boolean matches(Object object, Object[] values) {
+			return !child.matches(object, values);
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package io.crnk.core.queryspec.internal;
+
+import java.util.regex.Pattern;
+
+/**
+ * Case-insensitive pattern of a {@link io.crnk.core.queryspec.FilterOperator#LIKE} query term where
+ * <code>%</code> matches any sequence of characters. Compiled once and reusable for any number of values.
+ */
+public class LikePattern {
+
+	private static final String ESCAPED_CHARACTERS = "[\\^$.|?*+()";
+
+	private final Pattern pattern;
+
+	public LikePattern(String queryTerm) {
+		StringBuilder builder = new StringBuilder();
+		builder.append(".*");
+		for (char c : queryTerm.toCharArray()) {
+			if (ESCAPED_CHARACTERS.indexOf(c) != -1) {
+				builder.append('\\');
+				builder.append(c);
+			}
+			else if (c == '%') {
+				builder.append(".*");
+			}
+			else {
+				builder.append(Character.toLowerCase(c));
+			}
+		}
+		builder.append(".*");
+		pattern = Pattern.compile(builder.toString());
+	}
+
+	public boolean matches(Object value) {
+		String text = value.toString();
+		return pattern.matcher(text.toLowerCase()).matches();
+	}
+}
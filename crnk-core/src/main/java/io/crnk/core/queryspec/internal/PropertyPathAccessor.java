@@ -0,0 +1,144 @@
+package io.crnk.core.queryspec.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.crnk.core.engine.information.resource.ResourceFieldAccessor;
+import io.crnk.core.engine.information.resource.ResourceFieldAccessorFactory;
+import io.crnk.core.engine.internal.information.resource.GeneratedFieldAccessorFactory;
+import io.crnk.core.engine.internal.utils.PropertyException;
+import io.crnk.core.engine.internal.utils.PropertyUtils;
+
+/**
+ * Resolves an attribute path like {@link PropertyUtils#getProperty(Object, List)}, but resolves the accessor of every
+ * path element only once per encountered class.
+ */
+public class PropertyPathAccessor {
+
+	private static final ResourceFieldAccessorFactory ACCESSOR_FACTORY = new GeneratedFieldAccessorFactory();
+
+	private final List<String> attributePath;
+
+	private final PathElement[] elements;
+
+	private final PropertyPathAccessor idFallback;
+
+	public PropertyPathAccessor(List<String> attributePath) {
+		this(attributePath, true);
+	}
+
+	private PropertyPathAccessor(List<String> attributePath, boolean withIdFallback) {
+		this.attributePath = new ArrayList<>(attributePath);
+		this.elements = new PathElement[attributePath.size()];
+		for (int i = 0; i < elements.length; i++) {
+			elements[i] = new PathElement(attributePath.get(i));
+		}
+
+		int pathLength = attributePath.size();
+		if (withIdFallback && pathLength >= 2 && attributePath.get(pathLength - 1).equals("id")) {
+			// check ID field as well for relationships
+			List<String> idAttributePath = new ArrayList<>(attributePath.subList(0, pathLength - 2));
+			idAttributePath.add(attributePath.get(pathLength - 2) + "Id");
+			idFallback = new PropertyPathAccessor(idAttributePath, false);
+		}
+		else {
+			idFallback = null;
+		}
+	}
+
+	public List<String> getAttributePath() {
+		return attributePath;
+	}
+
+	public Object getValue(Object object) {
+		Object value = getPathValue(object);
+		if (value == null && idFallback != null) {
+			try {
+				return idFallback.getPathValue(object);
+			}
+			catch (PropertyException e) {
+				return null; // property does not exist
+			}
+		}
+		return value;
+	}
+
+	private Object getPathValue(Object object) {
+		Object current = object;
+		for (PathElement element : elements) {
+			if (current == null) {
+				return null;
+			}
+			if (current instanceof Iterable) {
+				// follow multi-valued property
+				List<Object> result = new ArrayList<>();
+				for (Object currentElem : (Iterable<?>) current) {
+					result.add(element.getValue(currentElem));
+				}
+				current = result;
+			}
+			else {
+				// follow single-valued property
+				current = element.getValue(current);
+			}
+		}
+		return current;
+	}
+
+	private static class PathElement {
+
+		private final String name;
+
+		/**
+		 * Accessors are stored with the class they access rather than in a map keyed by the class, allowing classes
+		 * of redeployed applications to be unloaded while accessors are still in use.
+		 */
+		private final ClassValue<ResourceFieldAccessor> accessors = new ClassValue<ResourceFieldAccessor>() {
+			@Override
+			protected ResourceFieldAccessor computeValue(Class<?> objectClass) {
+				return createAccessor(objectClass);
+			}
+		};
+
+		private PathElement(String name) {
+			this.name = name;
+		}
+
+		public Object getValue(Object object) {
+			if (object == null) {
+				throw new IllegalArgumentException("No bean specified");
+			}
+			return accessors.get(object.getClass()).getValue(object);
+		}
+
+		private ResourceFieldAccessor createAccessor(Class<?> objectClass) {
+			Class<?> propertyClass;
+			try {
+				propertyClass = PropertyUtils.getPropertyClass(objectClass, name);
+			}
+			catch (PropertyException e) {
+				return new MissingPropertyAccessor(e);
+			}
+			return ACCESSOR_FACTORY.create(objectClass, name, propertyClass);
+		}
+	}
+
+	private static class MissingPropertyAccessor implements ResourceFieldAccessor {
+
+		private final PropertyException exception;
+
+		private MissingPropertyAccessor(PropertyException exception) {
+			this.exception = exception;
+		}
+
+		@Override
+		public Object getValue(Object resource) {
+			throw new PropertyException(exception.getMessage(), exception.getResourceClass(), exception.getField());
+		}
+
+		@Override
+		public void setValue(Object resource, Object fieldValue) {
+			throw new PropertyException(exception.getMessage(), exception.getResourceClass(), exception.getField());
+		}
+	}
+}
@@ -55,6 +55,12 @@ public class DefaultQuerySpecUrlMapper
 
 	protected QueryPathResolver pathResolver = new DefaultQueryPathResolver();
 
+	private final QuerySpecCache querySpecCache = new QuerySpecCache();
+
+	private volatile boolean querySpecCacheListening;
+
+	private final QueryParameterTokenizer tokenizer = new QueryParameterTokenizer();
+
 	public DefaultQuerySpecUrlMapper() {
 		supportedOperators.add(FilterOperator.LIKE);
 		supportedOperators.add(FilterOperator.EQ);
@@ -71,6 +77,15 @@ public class DefaultQuerySpecUrlMapper
 		pathResolver.init(context);
 	}
 
+	/**
+	 * @return cache of parsed {@link QuerySpec} templates to configure it and to access its hit and miss counts.
+	 * Disabled by default. Note that the cache assumes that parsing is solely based on the resource type and
+	 * the query parameters, which must hold for subclasses as well.
+	 */
+	public QuerySpecCache getQuerySpecCache() {
+		return querySpecCache;
+	}
+
 	/**
 	 * @return true if attribute paths must be separated with ".". Ealier
 	 * Crnk versions did made use of brackets
@@ -145,6 +160,40 @@ public class DefaultQuerySpecUrlMapper
 
 	@Override
 	public QuerySpec deserialize(ResourceInformation resourceInformation, Map<String, Set<String>> parameterMap) {
+		if (!querySpecCache.isEnabled()) {
+			return parse(resourceInformation, parameterMap);
+		}
+
+		checkQuerySpecCacheListening();
+		QuerySpecCache.Key key = new QuerySpecCache.Key(resourceInformation.getResourceType(), parameterMap);
+		QuerySpec querySpec = querySpecCache.get(key);
+		if (querySpec == null) {
+			querySpec = parse(resourceInformation, parameterMap);
+			querySpecCache.put(key, querySpec);
+		}
+		return querySpec;
+	}
+
+	/**
+	 * Registers the cache with the resource registry upon first use since the registry is not yet available during
+	 * {@link #init(QuerySpecUrlContext)}.
+	 */
+	private void checkQuerySpecCacheListening() {
+		if (!querySpecCacheListening) {
+			synchronized (querySpecCache) {
+				if (!querySpecCacheListening) {
+					ResourceRegistry resourceRegistry = context.getResourceRegistry();
+					if (resourceRegistry != null) {
+						// parsed templates refer to resource information that may have changed
+						resourceRegistry.addListener(event -> querySpecCache.clear());
+					}
+					querySpecCacheListening = true;
+				}
+			}
+		}
+	}
+
+	private QuerySpec parse(ResourceInformation resourceInformation, Map<String, Set<String>> parameterMap) {
 		QuerySpec rootQuerySpec = createQuerySpec(resourceInformation);
 
 		List<QueryParameter> parameters = parseParameters(parameterMap, resourceInformation);
@@ -349,8 +398,8 @@ public class DefaultQuerySpecUrlMapper
 		}
 	}
 
-	private String[] splitValues(String values) {
-		return values.split(",");
+	private List<String> splitValues(String values) {
+		return QueryParameterTokenizer.split(values, QueryParameterTokenizer.VALUE_SEPARATOR);
 	}
 
 	protected void deserializeFields(QuerySpec querySpec, QueryParameter parameter) {
@@ -430,7 +479,7 @@ public class DefaultQuerySpecUrlMapper
 
 	protected List<QueryParameter> parseParameters(Map<String, Set<String>> params,
 			ResourceInformation rootResourceInformation) {
-		List<QueryParameter> list = new ArrayList<>();
+		List<QueryParameter> list = new ArrayList<>(params.size());
 		Set<Map.Entry<String, Set<String>>> entrySet = params.entrySet();
 		for (Map.Entry<String, Set<String>> entry : entrySet) {
 			list.add(parseParameter(entry.getKey(), entry.getValue(), rootResourceInformation));
@@ -441,15 +490,8 @@ public class DefaultQuerySpecUrlMapper
 	protected QueryParameter parseParameter(String parameterName, Set<String> values,
 			ResourceInformation rootResourceInformation) {
 		int typeSep = parameterName.indexOf('[');
-		String strParamType = typeSep != -1 ? parameterName.substring(0, typeSep) : parameterName;
-
-		QueryParameterType paramType;
-		try {
-			paramType = QueryParameterType.valueOf(strParamType.toUpperCase());
-		}
-		catch (IllegalArgumentException e) {
-			paramType = QueryParameterType.UNKNOWN;
-		}
+		QueryParameterType paramType =
+				QueryParameterTokenizer.parseType(parameterName, typeSep != -1 ? typeSep : parameterName.length());
 
 		List<String> elements = parseParameterNameArguments(parameterName, typeSep);
 
@@ -485,16 +527,7 @@ public class DefaultQuerySpecUrlMapper
 	}
 
 	protected List<String> parseParameterNameArguments(String parameterName, int typeSep) {
-		List<String> elements = new ArrayList<>();
-		if (typeSep != -1) {
-			String parameterNameSuffix = parameterName.substring(typeSep);
-			if (!parameterNameSuffix.startsWith("[") || !parameterNameSuffix.endsWith("]")) {
-				throw new ParametersDeserializationException("expected not [ resp. ] in legacy " +
-						parameterName);
-			}
-			elements.addAll(Arrays.asList(parameterNameSuffix.substring(1, parameterNameSuffix.length() - 1).split("\\]\\[")));
-		}
-		return elements;
+		return QueryParameterTokenizer.parseArguments(parameterName, typeSep);
 	}
 
 	protected void parseFilterParameterName(QueryParameter param, List<String> elements,
@@ -512,11 +545,11 @@ public class DefaultQuerySpecUrlMapper
 		}
 		if (enforceDotPathSeparator && elements.size() == 2) {
 			param.setResourceInformation(getResourceInformation(elements.get(0), param.getName()));
-			param.setAttributePath(Arrays.asList(elements.get(1).split("\\.")));
+			param.setAttributePath(new ArrayList<>(tokenizer.parseAttributePath(elements.get(1))));
 		}
 		else if (enforceDotPathSeparator && elements.size() == 1) {
 			param.setResourceInformation(rootResourceInformation);
-			param.setAttributePath(Arrays.asList(elements.get(0).split("\\.")));
+			param.setAttributePath(new ArrayList<>(tokenizer.parseAttributePath(elements.get(0))));
 		}
 		else {
 			legacyParseFilterParameterName(param, elements, rootResourceInformation);
@@ -537,7 +570,7 @@ public class DefaultQuerySpecUrlMapper
 		}
 		ArrayList<String> attributePath = new ArrayList<>();
 		for (String element : elements) {
-			attributePath.addAll(Arrays.asList(element.split("\\.")));
+			attributePath.addAll(tokenizer.parseAttributePath(element));
 		}
 		param.setAttributePath(attributePath);
 	}
@@ -578,8 +611,11 @@ public class DefaultQuerySpecUrlMapper
 		return registryEntry.getResourceInformation();
 	}
 
+	/**
+	 * @return mutable copy of the attribute path, the tokenizer keeps the shared instance to itself.
+	 */
 	protected List<String> splitAttributePath(String pathString, QueryParameter param) {
-		return Arrays.asList(pathString.split("\\."));
+		return new ArrayList<>(tokenizer.parseAttributePath(pathString));
 	}
 
 	public boolean isIgnoreParseExceptions() {
@@ -0,0 +1,123 @@
+package io.crnk.core.queryspec.mapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.crnk.core.exception.ParametersDeserializationException;
+
+/**
+ * Tokenizes JSON:API query parameters like <code>filter[tasks][project.name][EQ]</code> in a single pass over the
+ * name without making use of regular expressions. Splitting follows the semantics of {@link String#split(String)}:
+ * leading empty tokens are kept, trailing empty tokens are dropped. Attribute paths are interned up to a fixed number
+ * of distinct paths, as the same handful of paths tend to be requested over and over again.
+ */
+final class QueryParameterTokenizer {
+
+	static final char PATH_SEPARATOR = '.';
+
+	static final char VALUE_SEPARATOR = ',';
+
+	private static final int MAX_INTERNED_PATHS = 1024;
+
+	private static final QueryParameterType[] TYPES = QueryParameterType.values();
+
+	private final ConcurrentHashMap<String, List<String>> internedPaths = new ConcurrentHashMap<>();
+
+	/**
+	 * @return type matching the parameter name up to the given end index, ignoring case, or
+	 * {@link QueryParameterType#UNKNOWN}.
+	 */
+	static QueryParameterType parseType(String parameterName, int end) {
+		for (QueryParameterType type : TYPES) {
+			String typeName = type.name();
+			if (typeName.length() == end && parameterName.regionMatches(true, 0, typeName, 0, end)) {
+				return type;
+			}
+		}
+		return QueryParameterType.UNKNOWN;
+	}
+
+	/**
+	 * @return mutable list of the arguments enclosed in <code>[</code> and <code>]</code> starting at the given index.
+	 */
+	static List<String> parseArguments(String parameterName, int typeSep) {
+		List<String> elements = new ArrayList<>(3);
+		if (typeSep != -1) {
+			int length = parameterName.length();
+			if (parameterName.charAt(typeSep) != '[' || parameterName.charAt(length - 1) != ']') {
+				throw new ParametersDeserializationException("expected not [ resp. ] in legacy " + parameterName);
+			}
+			split(parameterName, typeSep + 1, length - 1, "][", elements);
+		}
+		return elements;
+	}
+
+	/**
+	 * @return attribute path with an entry for each segment separated by a dot. The returned list is immutable and
+	 * may be shared.
+	 */
+	List<String> parseAttributePath(String path) {
+		List<String> attributePath = internedPaths.get(path);
+		if (attributePath == null) {
+			attributePath = Collections.unmodifiableList(split(path, PATH_SEPARATOR));
+			if (internedPaths.size() < MAX_INTERNED_PATHS) {
+				internedPaths.putIfAbsent(path, attributePath);
+			}
+		}
+		return attributePath;
+	}
+
+	static List<String> split(String value, char separator) {
+		int end = value.length();
+		int next = value.indexOf(separator);
+		if (next == -1) {
+			return Collections.singletonList(value);
+		}
+		List<String> tokens = new ArrayList<>(4);
+		int start = 0;
+		do {
+			tokens.add(value.substring(start, next));
+			start = next + 1;
+			next = value.indexOf(separator, start);
+		}
+		while (next != -1);
+		tokens.add(value.substring(start, end));
+		return removeTrailingEmptyTokens(tokens);
+	}
+
+	private static void split(String value, int start, int end, String separator, List<String> tokens) {
+		int next = indexOf(value, separator, start, end);
+		if (next == -1) {
+			tokens.add(value.substring(start, end));
+			return;
+		}
+		int offset = tokens.size();
+		do {
+			tokens.add(value.substring(start, next));
+			start = next + separator.length();
+			next = indexOf(value, separator, start, end);
+		}
+		while (next != -1);
+		tokens.add(value.substring(start, end));
+
+		int size = tokens.size();
+		while (size > offset && tokens.get(size - 1).isEmpty()) {
+			tokens.remove(--size);
+		}
+	}
+
+	private static int indexOf(String value, String separator, int start, int end) {
+		int index = value.indexOf(separator, start);
+		return index != -1 && index + separator.length() <= end ? index : -1;
+	}
+
+	private static List<String> removeTrailingEmptyTokens(List<String> tokens) {
+		int size = tokens.size();
+		while (size > 0 && tokens.get(size - 1).isEmpty()) {
+			tokens.remove(--size);
+		}
+		return tokens;
+	}
+}
@@ -0,0 +1,189 @@
+package io.crnk.core.queryspec.mapper;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.crnk.core.queryspec.QuerySpec;
+
+/**
+ * Bounded cache of parsed {@link QuerySpec} templates keyed by resource type and query parameters. Templates are
+ * never handed out, callers obtain copies. The least recently used template is evicted once the maximum size is
+ * reached, and templates older than the expiration time are parsed again. Disabled by default.
+ */
+public class QuerySpecCache {
+
+	private volatile int maxSize;
+
+	private long expirationMillis;
+
+	private final AtomicLong hitCount = new AtomicLong();
+
+	private final AtomicLong missCount = new AtomicLong();
+
+	private final AtomicLong evictionCount = new AtomicLong();
+
+	private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+			boolean evict = size() > maxSize;
+			if (evict) {
+				evictionCount.incrementAndGet();
+			}
+			return evict;
+		}
+	};
+
+	public boolean isEnabled() {
+		return maxSize > 0;
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * @param maxSize maximum number of cached templates, 0 disables the cache.
+	 */
+	public void setMaxSize(int maxSize) {
+		synchronized (entries) {
+			if (this.maxSize != maxSize) {
+				this.maxSize = maxSize;
+				entries.clear();
+			}
+		}
+	}
+
+	public long getExpirationMillis() {
+		return expirationMillis;
+	}
+
+	/**
+	 * @param expirationMillis time after which a template gets parsed again, 0 to never expire templates.
+	 */
+	public void setExpirationMillis(long expirationMillis) {
+		this.expirationMillis = expirationMillis;
+	}
+
+	/**
+	 * @return copy of the cached template or null if there is none.
+	 */
+	public QuerySpec get(Key key) {
+		Entry entry;
+		synchronized (entries) {
+			entry = entries.get(key);
+			if (entry != null && expirationMillis > 0 && System.currentTimeMillis() - entry.timestamp > expirationMillis) {
+				entries.remove(key);
+				evictionCount.incrementAndGet();
+				entry = null;
+			}
+		}
+		if (entry == null) {
+			missCount.incrementAndGet();
+			return null;
+		}
+		hitCount.incrementAndGet();
+		return entry.template.clone();
+	}
+
+	/**
+	 * Stores a copy of the given querySpec as template.
+	 */
+	public void put(Key key, QuerySpec querySpec) {
+		Entry entry = new Entry(querySpec.clone(), System.currentTimeMillis());
+		synchronized (entries) {
+			entries.put(key, entry);
+		}
+	}
+
+	/**
+	 * Removes all templates, for example, because the resource registry changed.
+	 */
+	public void clear() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[size=" + size() + ",hits=" + hitCount + ",misses=" + missCount + ",evictions="
+				+ evictionCount + "]";
+	}
+
+	private static class Entry {
+
+		private final QuerySpec template;
+
+		private final long timestamp;
+
+		Entry(QuerySpec template, long timestamp) {
+			this.template = template;
+			this.timestamp = timestamp;
+		}
+	}
+
+	/**
+	 * Resource type and an immutable copy of the query parameters. Equality does not depend on the order of parameters
+	 * and their values.
+	 */
+	public static class Key {
+
+		private final String resourceType;
+
+		private final Map<String, Set<String>> parameters;
+
+		private final int hashCode;
+
+		public Key(String resourceType, Map<String, Set<String>> parameters) {
+			this.resourceType = resourceType;
+			Map<String, Set<String>> copy = new HashMap<>();
+			for (Map.Entry<String, Set<String>> entry : parameters.entrySet()) {
+				copy.put(entry.getKey(), Collections.unmodifiableSet(new HashSet<>(entry.getValue())));
+			}
+			this.parameters = Collections.unmodifiableMap(copy);
+			this.hashCode = 31 * Objects.hashCode(resourceType) + this.parameters.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return hashCode == other.hashCode && Objects.equals(resourceType, other.resourceType)
+					&& parameters.equals(other.parameters);
+		}
+	}
+}
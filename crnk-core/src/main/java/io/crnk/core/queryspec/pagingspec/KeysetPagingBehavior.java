@@ -0,0 +1,209 @@
+package io.crnk.core.queryspec.pagingspec;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.crnk.core.engine.information.resource.ResourceInformation;
+import io.crnk.core.engine.internal.utils.PropertyUtils;
+import io.crnk.core.engine.query.QueryAdapter;
+import io.crnk.core.exception.BadRequestException;
+import io.crnk.core.exception.ParametersDeserializationException;
+import io.crnk.core.module.Module;
+import io.crnk.core.module.SimpleModule;
+import io.crnk.core.queryspec.SortSpec;
+import io.crnk.core.resource.links.PagedLinksInformation;
+import io.crnk.core.resource.list.ResourceList;
+
+/**
+ * Keyset paging with <code>page[limit]</code> and <code>page[after]</code>. The latter holds a JSON array with the
+ * values of the sort attributes followed by the id of the last resource of the previous page, e.g.
+ * <code>page[after]=["Doe",12]</code>. The id is omitted if the resources are already sorted by it. Only first and
+ * next links are provided, as there is no efficient way to determine the others. Requires a repository that supports
+ * {@link KeysetPagingSpec}, like the ones of crnk-jpa.
+ */
+public class KeysetPagingBehavior extends PagingBehaviorBase<KeysetPagingSpec> {
+
+	private final static String LIMIT_PARAMETER = "limit";
+
+	private final static String AFTER_PARAMETER = "after";
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	public KeysetPagingBehavior() {
+	}
+
+	@Override
+	public boolean supports(Class<? extends PagingSpec> pagingSpecType) {
+		return pagingSpecType.isAssignableFrom(KeysetPagingSpec.class);
+	}
+
+	@Override
+	public Map<String, Set<String>> serialize(final KeysetPagingSpec pagingSpec, final String resourceType) {
+		Map<String, Set<String>> values = new HashMap<>();
+		if (pagingSpec.getLimit() != null) {
+			values.put(String.format("page[%s]", LIMIT_PARAMETER),
+					new HashSet<>(Arrays.asList(Long.toString(pagingSpec.getLimit()))));
+		}
+		if (pagingSpec.getAfter() != null) {
+			values.put(String.format("page[%s]", AFTER_PARAMETER),
+					new HashSet<>(Arrays.asList(serializeKey(pagingSpec.getAfter()))));
+		}
+		return values;
+	}
+
+	private static String serializeKey(List<Object> key) {
+		List<Object> jsonKey = new ArrayList<>();
+		for (Object value : key) {
+			jsonKey.add(toJsonValue(value));
+		}
+		try {
+			return OBJECT_MAPPER.writeValueAsString(jsonKey);
+		}
+		catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Key values must be parseable again by the {@link io.crnk.core.engine.parser.TypeParser} of the backend. Scalar
+	 * JSON representations like the timestamp of a date are used as is, other values fall back to toString().
+	 */
+	private static Object toJsonValue(Object value) {
+		if (value == null || value instanceof Number || value instanceof Boolean || value instanceof String) {
+			return value;
+		}
+		try {
+			JsonNode node = OBJECT_MAPPER.valueToTree(value);
+			if (node.isValueNode()) {
+				return node;
+			}
+		}
+		catch (IllegalArgumentException e) {
+			// not serializable, fall back to toString
+		}
+		return value.toString();
+	}
+
+	@Override
+	public KeysetPagingSpec deserialize(final Map<String, Set<String>> parameters) {
+		KeysetPagingSpec result = createDefaultPagingSpec();
+
+		for (Map.Entry<String, Set<String>> param : parameters.entrySet()) {
+			if (LIMIT_PARAMETER.equalsIgnoreCase(param.getKey())) {
+				Long limit = getValue(param.getKey(), param.getValue());
+				if (maxPageLimit != null && limit != null && limit > maxPageLimit) {
+					throw new BadRequestException(
+							String.format("%s value %d is larger than the maximum allowed of %d", LIMIT_PARAMETER, limit,
+									maxPageLimit)
+					);
+				}
+				result.setLimit(limit);
+			}
+			else if (AFTER_PARAMETER.equalsIgnoreCase(param.getKey())) {
+				result.setAfter(deserializeKey(param.getKey(), param.getValue()));
+			}
+			else {
+				throw new ParametersDeserializationException(param.getKey());
+			}
+		}
+
+		return result;
+	}
+
+	private static List<Object> deserializeKey(String name, Set<String> values) {
+		if (values.size() != 1) {
+			throw new ParametersDeserializationException(name);
+		}
+		try {
+			Object key = OBJECT_MAPPER.readValue(values.iterator().next(), Object.class);
+			if (!(key instanceof List)) {
+				throw new ParametersDeserializationException(name + ": expected JSON array with key values");
+			}
+			return (List<Object>) key;
+		}
+		catch (IOException e) {
+			throw new ParametersDeserializationException(name + ": expected JSON array with key values");
+		}
+	}
+
+	@Override
+	public KeysetPagingSpec createEmptyPagingSpec() {
+		return new KeysetPagingSpec();
+	}
+
+	@Override
+	public KeysetPagingSpec createDefaultPagingSpec() {
+		return new KeysetPagingSpec(defaultLimit, null);
+	}
+
+	@Override
+	public void build(final PagedLinksInformation linksInformation,
+			final ResourceList<?> resources,
+			final QueryAdapter queryAdapter,
+			final PagingSpecUrlBuilder urlBuilder) {
+		KeysetPagingSpec pagingSpec = (KeysetPagingSpec) queryAdapter.getPagingSpec();
+		Long limit = pagingSpec.getLimit();
+		if (limit == null || hasPageLinks(linksInformation)) {
+			// only enrich if not already set
+			return;
+		}
+
+		Object last = null;
+		int size = 0;
+		for (Iterator<?> iterator = resources.iterator(); iterator.hasNext(); size++) {
+			last = iterator.next();
+		}
+
+		QueryAdapter pageSpec = queryAdapter.duplicate();
+		pageSpec.setPagingSpec(new KeysetPagingSpec(limit, null));
+		linksInformation.setFirst(urlBuilder.build(pageSpec));
+
+		Boolean isNextPageAvailable = isNextPageAvailable(resources);
+		if (isNextPageAvailable == null) {
+			isNextPageAvailable = size == limit;
+		}
+		if (isNextPageAvailable && last != null) {
+			pageSpec.setPagingSpec(new KeysetPagingSpec(limit, getKey(last, queryAdapter)));
+			linksInformation.setNext(urlBuilder.build(pageSpec));
+		}
+	}
+
+	private static List<Object> getKey(Object resource, QueryAdapter queryAdapter) {
+		ResourceInformation resourceInformation = queryAdapter.getResourceInformation();
+		List<String> idPath = Arrays.asList(resourceInformation.getIdField().getUnderlyingName());
+		List<Object> key = new ArrayList<>();
+		boolean sortedById = false;
+		for (SortSpec sortSpec : queryAdapter.toQuerySpec().getSort()) {
+			key.add(PropertyUtils.getProperty(resource, sortSpec.getAttributePath()));
+			sortedById |= sortSpec.getAttributePath().equals(idPath);
+		}
+		if (!sortedById) {
+			key.add(resourceInformation.getId(resource));
+		}
+		return key;
+	}
+
+	@Override
+	public boolean isRequired(final KeysetPagingSpec pagingSpec) {
+		return pagingSpec.getLimit() != null || pagingSpec.getAfter() != null;
+	}
+
+	/**
+	 * @return module registering this paging behavior
+	 */
+	public static Module createModule() {
+		SimpleModule module = new SimpleModule("keysetPaging");
+		module.addPagingBehavior(new KeysetPagingBehavior());
+		return module;
+	}
+}
@@ -0,0 +1,101 @@
+package io.crnk.core.queryspec.pagingspec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.crnk.core.engine.internal.utils.CompareUtils;
+
+/**
+ * Keyset (also known as cursor or seek) paging. Rather than skipping a number of resources, the next page starts right
+ * after the resource identified by <code>after</code>. It holds the values of the sort attributes of that resource,
+ * followed by its id. This allows the backend to make use of an index rather than scanning and discarding all the
+ * preceding resources. Values can either be strings, as obtained from a request, or already typed.
+ */
+public class KeysetPagingSpec implements PagingSpec {
+
+	private Long limit = null;
+
+	private List<Object> after = null;
+
+	public KeysetPagingSpec() {
+	}
+
+	public KeysetPagingSpec(final Long limit, final List<Object> after) {
+		this.limit = limit;
+		this.after = after;
+	}
+
+	public Long getLimit() {
+		return limit;
+	}
+
+	public KeysetPagingSpec setLimit(final Long limit) {
+		this.limit = limit;
+		return this;
+	}
+
+	/**
+	 * @return values of the sort attributes followed by the id of the last resource of the previous page, or null for
+	 * the first page.
+	 */
+	public List<Object> getAfter() {
+		return after;
+	}
+
+	public KeysetPagingSpec setAfter(final List<Object> after) {
+		this.after = after;
+		return this;
+	}
+
+	@Override
+	public KeysetPagingSpec clone() {
+		return new KeysetPagingSpec(limit, after != null ? new ArrayList<>(after) : null);
+	}
+
+	/**
+	 * Converts the first page to an {@link OffsetLimitPagingSpec} without offset. Subsequent pages cannot be
+	 * converted, as the keyset predicate derived from {@link #getAfter()} would get lost and the first page be
+	 * returned again. Repositories must then support keyset paging themselves.
+	 */
+	@Override
+	public <T extends PagingSpec> T convert(Class<T> pagingSpecType) {
+		if (pagingSpecType.equals(OffsetLimitPagingSpec.class)) {
+			if (after != null) {
+				throw new UnsupportedOperationException("keyset page with after=" + after + " cannot be converted to "
+						+ pagingSpecType + ", repository must support KeysetPagingSpec");
+			}
+			return (T) new OffsetLimitPagingSpec(0L, limit);
+		}
+		throw new UnsupportedOperationException("cannot converted to " + pagingSpecType);
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((limit == null) ? 0 : limit.hashCode());
+		result = prime * result + ((after == null) ? 0 : after.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		KeysetPagingSpec other = (KeysetPagingSpec) obj;
+		return CompareUtils.isEquals(limit, other.limit)
+				&& CompareUtils.isEquals(after, other.after);
+	}
+
+	@Override
+	public String toString() {
+		return "KeysetPagingSpec[" +
+				(limit != null ? "limit=" + limit : "") +
+				(after != null ? ", after=" + after : "") +
+				']';
+	}
+}
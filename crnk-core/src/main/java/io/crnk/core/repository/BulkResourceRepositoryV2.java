@@ -0,0 +1,38 @@
+package io.crnk.core.repository;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@code ResourceRepositoryV2} implementation that provides additional support to create, save and delete multiple
+ * resources at once. Either all or none of the resources must be applied. Multiple resources can be posted and
+ * patched as collection to the resource path, multiple resources deleted by listing their ids in the path.
+ */
+public interface BulkResourceRepositoryV2<T, I extends Serializable> extends ResourceRepositoryV2<T, I> {
+
+	/**
+	 * Creates multiple resources at once.
+	 *
+	 * @param resources to create
+	 * @param <S>       type of the resources
+	 * @return created resources in the order of the given resources. Must include set identifiers.
+	 */
+	<S extends T> List<S> createAll(Collection<S> resources);
+
+	/**
+	 * Saves multiple resources at once.
+	 *
+	 * @param resources to save
+	 * @param <S>       type of the resources
+	 * @return saved resources in the order of the given resources.
+	 */
+	<S extends T> List<S> saveAll(Collection<S> resources);
+
+	/**
+	 * Removes the resources identified by the given ids.
+	 *
+	 * @param ids identifiers of the resources to remove
+	 */
+	void deleteAll(Collection<I> ids);
+}
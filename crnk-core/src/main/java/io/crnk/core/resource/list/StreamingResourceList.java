@@ -0,0 +1,158 @@
+package io.crnk.core.resource.list;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import io.crnk.core.engine.internal.utils.PreconditionUtil;
+import io.crnk.core.resource.links.LinksInformation;
+import io.crnk.core.resource.meta.MetaInformation;
+
+/**
+ * {@link ResourceList} backed by an iterator that obtains the resources on demand, e.g. chunk by chunk from a
+ * database. {@link #consume()} allows to process the resources a single time without retaining them. The document
+ * mapper makes use of it to map the resources one by one, allowing a repository to release each of them once mapped,
+ * e.g. to keep a persistence context small. Any other access loads the remaining resources and from there on behaves
+ * like a regular list.
+ *
+ * @param <T> resource type
+ */
+public class StreamingResourceList<T> extends DefaultResourceList<T> {
+
+	private final BufferedList<T> buffer;
+
+	public StreamingResourceList(Iterator<T> source) {
+		this(source, null, null);
+	}
+
+	public StreamingResourceList(Iterator<T> source, MetaInformation meta, LinksInformation links) {
+		this(new BufferedList<>(source), meta, links);
+	}
+
+	private StreamingResourceList(BufferedList<T> buffer, MetaInformation meta, LinksInformation links) {
+		super(buffer, meta, links);
+		this.buffer = buffer;
+	}
+
+	/**
+	 * @return true if the resources have already been obtained with {@link #consume()}, in which case the list can
+	 * no longer be accessed.
+	 */
+	public boolean isConsumed() {
+		return buffer.consumed;
+	}
+
+	/**
+	 * Returns an iterator over the resources that does not retain them once returned. Can only be called once and
+	 * prevents any further access to this list.
+	 *
+	 * @return iterator over all resources
+	 */
+	public Iterator<T> consume() {
+		return buffer.consume();
+	}
+
+	private static class BufferedList<T> extends AbstractList<T> {
+
+		private final Iterator<T> source;
+
+		private ArrayList<T> elements = new ArrayList<>();
+
+		private boolean consumed = false;
+
+		BufferedList(Iterator<T> source) {
+			this.source = source;
+		}
+
+		private boolean fill(int size) {
+			PreconditionUtil.verify(!consumed, "list has already been consumed");
+			while (elements.size() < size && source.hasNext()) {
+				elements.add(source.next());
+			}
+			return elements.size() >= size;
+		}
+
+		private void fillAll() {
+			fill(Integer.MAX_VALUE);
+		}
+
+		@Override
+		public T get(int index) {
+			fill(index + 1);
+			return elements.get(index);
+		}
+
+		@Override
+		public int size() {
+			fillAll();
+			return elements.size();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return !fill(1);
+		}
+
+		@Override
+		public T set(int index, T element) {
+			fillAll();
+			return elements.set(index, element);
+		}
+
+		@Override
+		public void add(int index, T element) {
+			fillAll();
+			elements.add(index, element);
+			modCount++;
+		}
+
+		@Override
+		public T remove(int index) {
+			fillAll();
+			modCount++;
+			return elements.remove(index);
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			return new Iterator<T>() {
+
+				private int index = 0;
+
+				@Override
+				public boolean hasNext() {
+					return fill(index + 1);
+				}
+
+				@Override
+				public T next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					return elements.get(index++);
+				}
+			};
+		}
+
+		Iterator<T> consume() {
+			PreconditionUtil.verify(!consumed, "list has already been consumed");
+			consumed = true;
+
+			final Iterator<T> bufferedIterator = elements.iterator();
+			elements = new ArrayList<>();
+			return new Iterator<T>() {
+
+				@Override
+				public boolean hasNext() {
+					return bufferedIterator.hasNext() || source.hasNext();
+				}
+
+				@Override
+				public T next() {
+					return bufferedIterator.hasNext() ? bufferedIterator.next() : source.next();
+				}
+			};
+		}
+	}
+}
@@ -97,6 +97,12 @@ public class HttpRequestContextBaseAdapterTest {
 		Mockito.verify(base, Mockito.times(1)).getRequestBody();
 	}
 
+	@Test
+	public void getRequestBodyStream() throws IOException {
+		adapter.getRequestBodyStream();
+		Mockito.verify(base, Mockito.times(1)).getRequestBodyStream();
+	}
+
 	@Test
 	public void getMethod() throws IOException {
 		adapter.getMethod();
@@ -163,7 +163,7 @@ public class HttpRequestDispatcherImplTest {
 				any(Document.class))).thenReturn(new ImmediateResult<>(expectedResponse));
 
 		ControllerRegistry controllerRegistry = container.getBoot().getControllerRegistry();
-		controllerRegistry.getControllers().clear();
+		controllerRegistry.clearControllers();
 		controllerRegistry.addController(controller);
 
 		RequestDispatcher sut = new HttpRequestDispatcherImpl(container.getModuleRegistry(), null);
@@ -182,7 +182,7 @@ public class HttpRequestDispatcherImplTest {
 
 		CollectionGet controller = mock(CollectionGet.class);
 		ControllerRegistry controllerRegistry = container.getBoot().getControllerRegistry();
-		controllerRegistry.getControllers().clear();
+		controllerRegistry.clearControllers();
 		controllerRegistry.addController(controller);
 
 		RequestDispatcher sut = new HttpRequestDispatcherImpl(container.getModuleRegistry(), null);
@@ -209,7 +209,7 @@ public class HttpRequestDispatcherImplTest {
 
 		RelationshipsResourceGet controller = mock(RelationshipsResourceGet.class);
 		ControllerRegistry controllerRegistry = container.getBoot().getControllerRegistry();
-		controllerRegistry.getControllers().clear();
+		controllerRegistry.clearControllers();
 		controllerRegistry.addController(controller);
 
 		RequestDispatcher sut = new HttpRequestDispatcherImpl(container.getModuleRegistry(), null);
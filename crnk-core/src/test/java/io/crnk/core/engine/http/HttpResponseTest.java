@@ -5,6 +5,8 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.HashMap;
 import java.util.Map;
@@ -36,4 +38,25 @@ public class HttpResponseTest {
 		Assert.assertNotEquals(4, response.getBody().length);
 		Assert.assertEquals("aäöü", new String(response.getBody(), "UTF8"));
 	}
+
+	@Test
+	public void checkStreamingBody() throws IOException {
+		response.setBodyWriter(outputStream -> outputStream.write("aäöü".getBytes("UTF8")));
+		Assert.assertTrue(response.hasBody());
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		response.writeBody(out);
+		Assert.assertEquals("aäöü", new String(out.toByteArray(), "UTF8"));
+
+		// materialized upon access for backward compatibility
+		Assert.assertEquals("aäöü", new String(response.getBody(), "UTF8"));
+	}
+
+	@Test
+	public void checkSetBodyReplacesBodyWriter() {
+		response.setBodyWriter(outputStream -> outputStream.write(1));
+		response.setBody("test");
+		Assert.assertNull(response.getBodyWriter());
+		Assert.assertEquals(4, response.getBody().length);
+	}
 }
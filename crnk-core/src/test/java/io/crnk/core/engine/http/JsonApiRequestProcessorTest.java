@@ -1,16 +1,24 @@
 package io.crnk.core.engine.http;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.POJONode;
 import io.crnk.core.CoreTestContainer;
+import io.crnk.core.boot.CrnkProperties;
+import io.crnk.core.engine.dispatcher.Response;
 import io.crnk.core.engine.document.Document;
 import io.crnk.core.engine.document.ErrorData;
 import io.crnk.core.engine.document.Resource;
 import io.crnk.core.engine.internal.document.mapper.DocumentMappingConfig;
 import io.crnk.core.engine.internal.http.HttpRequestContextBaseAdapter;
 import io.crnk.core.engine.internal.http.JsonApiRequestProcessor;
+import io.crnk.core.engine.internal.http.JsonApiRequestProcessorBase;
+import io.crnk.core.engine.properties.PropertiesProvider;
 import io.crnk.core.engine.result.Result;
 import io.crnk.core.mock.models.Task;
 import io.crnk.core.mock.models.TaskLinks;
@@ -18,6 +26,7 @@ import io.crnk.core.mock.repository.TaskRepository;
 import io.crnk.core.module.Module;
 import io.crnk.core.queryspec.QuerySpec;
 import io.crnk.core.repository.response.JsonApiResponse;
+import io.crnk.core.utils.Nullable;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -232,6 +241,52 @@ public class JsonApiRequestProcessorTest {
 	}
 
 
+	@Test
+	public void postTasksFromStream() throws IOException {
+		String requestBody = createRequestBody("test");
+		Mockito.when(requestContextBase.getMethod()).thenReturn("POST");
+		Mockito.when(requestContextBase.getPath()).thenReturn("/tasks/");
+		Mockito.when(requestContextBase.getRequestBodyStream())
+				.thenReturn(new ByteArrayInputStream(requestBody.getBytes(StandardCharsets.UTF_8)));
+		Mockito.when(requestContextBase.getRequestHeader(HttpHeaders.HTTP_CONTENT_TYPE))
+				.thenReturn(HttpHeaders.JSONAPI_CONTENT_TYPE);
+		Mockito.when(requestContextBase.getRequestHeader("Accept")).thenReturn(HttpHeaders.JSONAPI_CONTENT_TYPE);
+
+		processor.process(requestContext);
+
+		ArgumentCaptor<HttpResponse> contentCaptor = ArgumentCaptor.forClass(HttpResponse.class);
+		Mockito.verify(requestContextBase, Mockito.times(1)).setResponse(contentCaptor.capture());
+		Mockito.verify(requestContextBase, Mockito.never()).getRequestBody();
+		Assert.assertEquals(HttpStatus.CREATED_201, contentCaptor.getValue().getStatusCode());
+	}
+
+	@Test
+	public void postTasksWithRetainedBody() throws IOException {
+		container.getModuleRegistry().setPropertiesProvider(new PropertiesProvider() {
+			@Override
+			public String getProperty(String key) {
+				return CrnkProperties.RETAIN_REQUEST_BODY.equals(key) ? "true" : null;
+			}
+		});
+		processor = new JsonApiRequestProcessor(moduleContext, container.getBoot().getControllerRegistry(),
+				container.getBoot().getQueryAdapterBuilder());
+
+		String requestBody = createRequestBody("test");
+		Mockito.when(requestContextBase.getMethod()).thenReturn("POST");
+		Mockito.when(requestContextBase.getPath()).thenReturn("/tasks/");
+		Mockito.when(requestContextBase.getRequestBody()).thenReturn(requestBody.getBytes(StandardCharsets.UTF_8));
+		Mockito.when(requestContextBase.getRequestHeader(HttpHeaders.HTTP_CONTENT_TYPE))
+				.thenReturn(HttpHeaders.JSONAPI_CONTENT_TYPE);
+		Mockito.when(requestContextBase.getRequestHeader("Accept")).thenReturn(HttpHeaders.JSONAPI_CONTENT_TYPE);
+
+		processor.process(requestContext);
+
+		ArgumentCaptor<HttpResponse> contentCaptor = ArgumentCaptor.forClass(HttpResponse.class);
+		Mockito.verify(requestContextBase, Mockito.times(1)).setResponse(contentCaptor.capture());
+		Mockito.verify(requestContextBase, Mockito.never()).getRequestBodyStream();
+		Assert.assertEquals(HttpStatus.CREATED_201, contentCaptor.getValue().getStatusCode());
+	}
+
 	@Test
 	public void postTasksWithBadRequestException() throws IOException {
 		String requestBody = createRequestBody("badName"); // badName triggers an error in repository
@@ -287,4 +342,53 @@ public class JsonApiRequestProcessorTest {
 		Assert.assertEquals("Json Parsing failed", errorData.getTitle());
 		Assert.assertNotNull(errorData.getDetail());
 	}
+
+	@Test
+	public void checkStreamedSerializationFailureMappedToErrorResponse() throws IOException {
+		Module.ModuleContext streamingContext = Mockito.mock(Module.ModuleContext.class);
+		Mockito.when(streamingContext.getObjectMapper()).thenReturn(container.getObjectMapper());
+		Mockito.when(streamingContext.getExceptionMapperRegistry()).thenReturn(moduleContext.getExceptionMapperRegistry());
+		Mockito.when(streamingContext.getPropertiesProvider()).thenReturn(new PropertiesProvider() {
+			@Override
+			public String getProperty(String key) {
+				return CrnkProperties.SERIALIZE_STREAMING.equals(key) ? "true" : null;
+			}
+		});
+		StreamingProcessor streamingProcessor = new StreamingProcessor(streamingContext);
+
+		Resource resource = new Resource();
+		resource.setType("tasks");
+		resource.setId("1");
+		resource.getAttributes().put("name", new POJONode(new FailingBean()));
+		Document document = new Document();
+		document.setData(Nullable.of((Object) resource));
+
+		// failures show up as mapped error response rather than within the already committed body
+		HttpResponse response = streamingProcessor.toHttpResponse(new Response(document, HttpStatus.OK_200));
+		Assert.assertEquals(HttpStatus.INTERNAL_SERVER_ERROR_500, response.getStatusCode());
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		response.writeBody(out);
+		Document errorDocument = container.getObjectMapper().readerFor(Document.class).readValue(out.toByteArray());
+		Assert.assertEquals("500", errorDocument.getErrors().get(0).getStatus());
+	}
+
+	public static class FailingBean {
+
+		public String getValue() {
+			throw new IllegalStateException("could not initialize proxy - no Session");
+		}
+	}
+
+	private static class StreamingProcessor extends JsonApiRequestProcessorBase {
+
+		StreamingProcessor(Module.ModuleContext moduleContext) {
+			super(moduleContext, null, null);
+		}
+
+		@Override
+		protected HttpResponse toHttpResponse(Response response) {
+			return super.toHttpResponse(response);
+		}
+	}
 }
@@ -0,0 +1,235 @@
+package io.crnk.core.engine.internal.dispatcher.controller.resource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.crnk.core.CoreTestContainer;
+import io.crnk.core.boot.CrnkProperties;
+import io.crnk.core.engine.dispatcher.Response;
+import io.crnk.core.engine.document.Document;
+import io.crnk.core.engine.document.Resource;
+import io.crnk.core.engine.http.HttpStatus;
+import io.crnk.core.engine.internal.http.HttpRequestDispatcherImpl;
+import io.crnk.core.module.SimpleModule;
+import io.crnk.core.module.discovery.TestServiceDiscovery;
+import io.crnk.core.queryspec.QuerySpec;
+import io.crnk.core.repository.BulkResourceRepositoryV2;
+import io.crnk.core.repository.ResourceRepositoryBase;
+import io.crnk.core.resource.annotations.JsonApiId;
+import io.crnk.core.resource.annotations.JsonApiResource;
+import io.crnk.core.resource.list.ResourceList;
+import io.crnk.core.utils.Nullable;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ResourceBulkTest {
+
+	private BulkTaskRepository repository;
+
+	private HttpRequestDispatcherImpl requestDispatcher;
+
+	private CoreTestContainer container;
+
+	@Before
+	public void setup() {
+		setup(true);
+	}
+
+	private void setup(boolean bulkRequestsEnabled) {
+		repository = new BulkTaskRepository();
+
+		SimpleModule testModule = new SimpleModule("test");
+		testModule.addRepository(repository);
+
+		container = new CoreTestContainer();
+		container.getBoot().setServiceDiscovery(new TestServiceDiscovery());
+		container.getBoot().setPropertiesProvider(key -> CrnkProperties.BULK_REQUESTS_ENABLED.equals(key)
+				? Boolean.toString(bulkRequestsEnabled) : null);
+		container.addModule(testModule);
+		container.boot();
+
+		requestDispatcher = container.getBoot().getRequestDispatcher();
+	}
+
+	@Test
+	public void checkBulkRequestsRejectedByDefault() {
+		setup(false);
+		repository.save(newTask(1L, "a"));
+		repository.save(newTask(2L, "b"));
+
+		Response response = requestDispatcher.dispatchRequest("bulkTasks", "POST", new HashMap<>(), null,
+				toDocument(createTask("3", "c"), createTask("4", "d")));
+		Assert.assertEquals(HttpStatus.BAD_REQUEST_400, response.getHttpStatus().intValue());
+		response = requestDispatcher.dispatchRequest("bulkTasks", "PATCH", new HashMap<>(), null,
+				toDocument(createTask("1", "updatedA"), createTask("2", "updatedB")));
+		Assert.assertEquals(HttpStatus.BAD_REQUEST_400, response.getHttpStatus().intValue());
+		response = requestDispatcher.dispatchRequest("bulkTasks/1,2", "DELETE", new HashMap<>(), null, null);
+		Assert.assertEquals(HttpStatus.BAD_REQUEST_400, response.getHttpStatus().intValue());
+
+		Assert.assertEquals(0, repository.numBulkCalls);
+		Assert.assertEquals(2, repository.tasks.size());
+		Assert.assertEquals("a", repository.tasks.get(1L).getName());
+	}
+
+	@Test
+	public void checkPostCreatesAllResourcesAtOnce() {
+		Response response = requestDispatcher.dispatchRequest("bulkTasks", "POST", new HashMap<>(), null,
+				toDocument(createTask("1", "a"), createTask("2", "b")));
+		Assert.assertEquals(HttpStatus.CREATED_201, response.getHttpStatus().intValue());
+
+		List<Resource> resources = response.getDocument().getCollectionData().get();
+		Assert.assertEquals(2, resources.size());
+		Assert.assertEquals("1", resources.get(0).getId());
+		Assert.assertEquals("b", resources.get(1).getAttributes().get("name").asText());
+		Assert.assertEquals(1, repository.numBulkCalls);
+		Assert.assertEquals(2, repository.tasks.size());
+	}
+
+	@Test
+	public void checkPatchUpdatesAllResourcesAtOnce() {
+		repository.save(newTask(1L, "a"));
+		repository.save(newTask(2L, "b"));
+
+		Response response = requestDispatcher.dispatchRequest("bulkTasks", "PATCH", new HashMap<>(), null,
+				toDocument(createTask("2", "updatedB"), createTask("1", "updatedA")));
+		Assert.assertEquals(HttpStatus.OK_200, response.getHttpStatus().intValue());
+
+		List<Resource> resources = response.getDocument().getCollectionData().get();
+		Assert.assertEquals("2", resources.get(0).getId());
+		Assert.assertEquals("updatedB", resources.get(0).getAttributes().get("name").asText());
+		Assert.assertEquals("updatedA", repository.tasks.get(1L).getName());
+		Assert.assertEquals(1, repository.numBulkCalls);
+	}
+
+	@Test
+	public void checkPatchOfMissingResourceFails() {
+		repository.save(newTask(1L, "a"));
+
+		Response response = requestDispatcher.dispatchRequest("bulkTasks", "PATCH", new HashMap<>(), null,
+				toDocument(createTask("1", "updatedA"), createTask("2", "updatedB")));
+		Assert.assertEquals(HttpStatus.NOT_FOUND_404, response.getHttpStatus().intValue());
+		Assert.assertEquals(0, repository.numBulkCalls);
+	}
+
+	@Test
+	public void checkPatchOfCollectionRequiresMultipleResources() {
+		Document document = new Document();
+		document.setData(Nullable.of((Object) createTask("1", "a")));
+		Response response = requestDispatcher.dispatchRequest("bulkTasks", "PATCH", new HashMap<>(), null, document);
+		Assert.assertEquals(HttpStatus.BAD_REQUEST_400, response.getHttpStatus().intValue());
+	}
+
+	@Test
+	public void checkDeleteRemovesAllResourcesAtOnce() {
+		repository.save(newTask(1L, "a"));
+		repository.save(newTask(2L, "b"));
+		repository.save(newTask(3L, "c"));
+
+		Response response = requestDispatcher.dispatchRequest("bulkTasks/1,3", "DELETE", new HashMap<>(), null, null);
+		Assert.assertEquals(HttpStatus.NO_CONTENT_204, response.getHttpStatus().intValue());
+		Assert.assertEquals(Arrays.asList(2L), new ArrayList<>(repository.tasks.keySet()));
+		Assert.assertEquals(1, repository.numBulkCalls);
+	}
+
+	private BulkTask newTask(Long id, String name) {
+		BulkTask task = new BulkTask();
+		task.setId(id);
+		task.setName(name);
+		return task;
+	}
+
+	private Resource createTask(String id, String name) {
+		Resource resource = new Resource();
+		resource.setType("bulkTasks");
+		resource.setId(id);
+		resource.setAttribute("name", container.getObjectMapper().valueToTree(name));
+		return resource;
+	}
+
+	private Document toDocument(Resource... resources) {
+		Document document = new Document();
+		document.setData(Nullable.of((Object) Arrays.asList(resources)));
+		return document;
+	}
+
+	public static class BulkTaskRepository extends ResourceRepositoryBase<BulkTask, Long>
+			implements BulkResourceRepositoryV2<BulkTask, Long> {
+
+		private Map<Long, BulkTask> tasks = new HashMap<>();
+
+		private int numBulkCalls = 0;
+
+		public BulkTaskRepository() {
+			super(BulkTask.class);
+		}
+
+		@Override
+		public ResourceList<BulkTask> findAll(QuerySpec querySpec) {
+			return querySpec.apply(tasks.values());
+		}
+
+		@Override
+		public <S extends BulkTask> S save(S entity) {
+			tasks.put(entity.getId(), entity);
+			return entity;
+		}
+
+		@Override
+		public void delete(Long id) {
+			tasks.remove(id);
+		}
+
+		@Override
+		public <S extends BulkTask> List<S> createAll(Collection<S> resources) {
+			return saveAll(resources);
+		}
+
+		@Override
+		public <S extends BulkTask> List<S> saveAll(Collection<S> resources) {
+			numBulkCalls++;
+			List<S> result = new ArrayList<>();
+			for (S resource : resources) {
+				result.add(save(resource));
+			}
+			return result;
+		}
+
+		@Override
+		public void deleteAll(Collection<Long> ids) {
+			numBulkCalls++;
+			for (Long id : ids) {
+				delete(id);
+			}
+		}
+	}
+
+	@JsonApiResource(type = "bulkTasks")
+	public static class BulkTask {
+
+		@JsonApiId
+		private Long id;
+
+		private String name;
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -67,7 +67,7 @@ public class FilterTest {
 
 		collectionGet = mock(CollectionGet.class);
 		ControllerRegistry controllerRegistry = container.getBoot().getControllerRegistry();
-		controllerRegistry.getControllers().clear();
+		controllerRegistry.clearControllers();
 		controllerRegistry.addController(collectionGet);
 
 		dispatcher = new HttpRequestDispatcherImpl(container.getModuleRegistry(), null);
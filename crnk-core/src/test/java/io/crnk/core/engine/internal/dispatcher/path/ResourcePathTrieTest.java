@@ -0,0 +1,87 @@
+package io.crnk.core.engine.internal.dispatcher.path;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.crnk.core.engine.information.resource.ResourceInformation;
+import io.crnk.core.engine.registry.RegistryEntry;
+import io.crnk.core.engine.registry.ResourceRegistry;
+import io.crnk.core.engine.registry.ResourceRegistryPartEvent;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class ResourcePathTrieTest {
+
+	private List<RegistryEntry> entries;
+
+	private ResourcePathTrie trie;
+
+	@Before
+	public void setup() {
+		entries = new ArrayList<>();
+		ResourceRegistry resourceRegistry = Mockito.mock(ResourceRegistry.class);
+		Mockito.when(resourceRegistry.getResources()).thenReturn(entries);
+		trie = new ResourcePathTrie(resourceRegistry);
+	}
+
+	@Test
+	public void matchRegionOfPath() {
+		RegistryEntry tasks = addEntry("tasks");
+		String path = "/tasks/1";
+
+		ResourcePathTrie.Node node = trie.getRoot().getChild(path, 1, 6);
+		Assert.assertSame(tasks, node.getEntry());
+		Assert.assertNull(trie.getRoot().getChild(path, 1, 5));
+		Assert.assertNull(trie.getRoot().getChild(path, 7, 8));
+	}
+
+	@Test
+	public void matchNestedPaths() {
+		RegistryEntry projects = addEntry("a/projects");
+		RegistryEntry tasks = addEntry("a/tasks");
+		String path = "a/tasks";
+
+		ResourcePathTrie.Node parent = trie.getRoot().getChild(path, 0, 1);
+		Assert.assertNull(parent.getEntry());
+		Assert.assertSame(tasks, parent.getChild(path, 2, 7).getEntry());
+		Assert.assertSame(projects, parent.getChild("projects", 0, 8).getEntry());
+	}
+
+	@Test
+	public void manyChildren() {
+		List<RegistryEntry> created = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			created.add(addEntry("resource" + i));
+		}
+		for (int i = 0; i < 100; i++) {
+			String path = "resource" + i;
+			Assert.assertSame(created.get(i), trie.getRoot().getChild(path, 0, path.length()).getEntry());
+		}
+	}
+
+	@Test
+	public void recompileUponRegistryChange() {
+		addEntry("tasks");
+		ResourcePathTrie.Node root = trie.getRoot();
+		Assert.assertSame(root, trie.getRoot());
+		Assert.assertNull(root.getChild("projects", 0, 8));
+
+		RegistryEntry projects = addEntry("projects");
+		Assert.assertNull(trie.getRoot().getChild("projects", 0, 8));
+
+		trie.onChanged(ResourceRegistryPartEvent.create(null));
+		Assert.assertNotSame(root, trie.getRoot());
+		Assert.assertSame(projects, trie.getRoot().getChild("projects", 0, 8).getEntry());
+	}
+
+	private RegistryEntry addEntry(String resourcePath) {
+		ResourceInformation information = Mockito.mock(ResourceInformation.class);
+		Mockito.when(information.getResourcePath()).thenReturn(resourcePath);
+		RegistryEntry entry = Mockito.mock(RegistryEntry.class);
+		Mockito.when(entry.getResourceInformation()).thenReturn(information);
+		entries.add(entry);
+		return entry;
+	}
+}
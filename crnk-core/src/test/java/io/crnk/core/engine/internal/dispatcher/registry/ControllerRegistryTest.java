@@ -1,15 +1,21 @@
 package io.crnk.core.engine.internal.dispatcher.registry;
 
+import java.util.Arrays;
+
 import io.crnk.core.CoreTestContainer;
 import io.crnk.core.engine.internal.dispatcher.ControllerRegistry;
+import io.crnk.core.engine.internal.dispatcher.controller.CollectionGet;
+import io.crnk.core.engine.internal.dispatcher.controller.Controller;
 import io.crnk.core.engine.internal.dispatcher.path.JsonPath;
 import io.crnk.core.engine.internal.dispatcher.path.PathBuilder;
 import io.crnk.core.engine.registry.ResourceRegistry;
 import io.crnk.core.exception.BadRequestException;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.Mockito;
 
 public class ControllerRegistryTest {
 
@@ -39,4 +45,27 @@ public class ControllerRegistryTest {
 		// WHEN
 		sut.getController(jsonPath, requestType);
 	}
+
+	@Test
+	public void checkControllerResolvedPerResourcePath() {
+		PathBuilder pathBuilder = new PathBuilder(resourceRegistry);
+		Controller tasksController = Mockito.mock(Controller.class);
+		Mockito.when(tasksController.isAcceptable(Mockito.any(JsonPath.class), Mockito.eq("GET"))).thenAnswer(
+				invocation -> "tasks".equals(((JsonPath) invocation.getArguments()[0]).getResourcePath()));
+		Controller defaultController = Mockito.mock(CollectionGet.class);
+		Mockito.when(defaultController.isAcceptable(Mockito.any(JsonPath.class), Mockito.eq("GET"))).thenReturn(true);
+		ControllerRegistry sut = new ControllerRegistry(Arrays.asList(tasksController, defaultController));
+
+		Assert.assertSame(tasksController, sut.getController(pathBuilder.build("/tasks/"), "GET"));
+		Assert.assertSame(defaultController, sut.getController(pathBuilder.build("/projects/"), "GET"));
+		Assert.assertSame(tasksController, sut.getController(pathBuilder.build("/tasks/"), "GET"));
+
+		// resolved once per resource path
+		Mockito.verify(tasksController, Mockito.times(2)).isAcceptable(Mockito.any(JsonPath.class), Mockito.eq("GET"));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void checkControllersNotModifiable() {
+		new ControllerRegistry(null).getControllers().clear();
+	}
 }
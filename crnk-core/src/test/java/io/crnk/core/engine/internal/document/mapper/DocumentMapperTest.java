@@ -9,6 +9,7 @@ import io.crnk.core.engine.document.ErrorData;
 import io.crnk.core.engine.document.Relationship;
 import io.crnk.core.engine.document.Resource;
 import io.crnk.core.engine.document.ResourceIdentifier;
+import io.crnk.core.mock.models.ComplexPojo;
 import io.crnk.core.mock.models.LazyTask;
 import io.crnk.core.mock.models.Project;
 import io.crnk.core.mock.models.Task;
@@ -16,6 +17,7 @@ import io.crnk.core.queryspec.QuerySpec;
 import io.crnk.core.queryspec.internal.QuerySpecAdapter;
 import io.crnk.core.repository.response.JsonApiResponse;
 import io.crnk.core.resource.links.LinksInformation;
+import io.crnk.core.resource.list.StreamingResourceList;
 import io.crnk.core.resource.meta.MetaInformation;
 import io.crnk.core.utils.Nullable;
 import org.hamcrest.CoreMatchers;
@@ -150,6 +152,36 @@ public class DocumentMapperTest extends AbstractDocumentMapperTest {
 		Assert.assertEquals("metaValue", resource.getMeta().get("value").asText());
 	}
 
+	@Test
+	public void testStreamingResourceList() {
+		ComplexPojo pojo1 = new ComplexPojo();
+		pojo1.setId(1L);
+		ComplexPojo pojo2 = new ComplexPojo();
+		pojo2.setId(2L);
+		StreamingResourceList<ComplexPojo> list = new StreamingResourceList<>(Arrays.asList(pojo1, pojo2).iterator());
+
+		Document document = mapper.toDocument(toResponse(list), toAdapter(new QuerySpec(ComplexPojo.class)),
+				mappingConfig).get();
+		Assert.assertTrue(list.isConsumed());
+		List<Resource> resources = document.getCollectionData().get();
+		Assert.assertEquals(2, resources.size());
+		Assert.assertEquals("2", resources.get(1).getId());
+		Assert.assertTrue(document.getIncluded().isEmpty());
+	}
+
+	@Test
+	public void testStreamingResourceListWithRelationshipData() {
+		LazyTask task = createLazyTask(2);
+		task.setProject(createProject(3, "sample project"));
+		StreamingResourceList<LazyTask> list = new StreamingResourceList<>(Arrays.asList(task).iterator());
+
+		Document document = mapper.toDocument(toResponse(list), toAdapter(new QuerySpec(LazyTask.class)),
+				mappingConfig).get();
+		Assert.assertFalse(list.isConsumed());
+		Resource resource = document.getCollectionData().get().get(0);
+		Assert.assertEquals("3", resource.getRelationships().get("project").getSingleData().get().getId());
+	}
+
 	@Test
 	public void testErrors() {
 		JsonApiResponse response = new JsonApiResponse();
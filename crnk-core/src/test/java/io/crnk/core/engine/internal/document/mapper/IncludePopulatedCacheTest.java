@@ -0,0 +1,61 @@
+package io.crnk.core.engine.internal.document.mapper;
+
+import java.util.Collections;
+import java.util.List;
+
+import io.crnk.core.engine.document.Resource;
+import io.crnk.core.engine.information.resource.ResourceField;
+import io.crnk.core.engine.information.resource.ResourceInformation;
+import io.crnk.core.engine.registry.ResourceRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class IncludePopulatedCacheTest {
+
+	@Test
+	public void checkIdentifierSet() {
+		String tasks = "tasks";
+		String projects = "projects";
+
+		IncludePopulatedCache.IdentifierSet set = new IncludePopulatedCache.IdentifierSet();
+		for (int i = 0; i < 1000; i++) {
+			Assert.assertTrue(set.add(tasks, Integer.toString(i)));
+			Assert.assertFalse(set.add(tasks, Integer.toString(i)));
+		}
+		Assert.assertTrue(set.add(projects, "1"));
+		Assert.assertTrue(set.add(projects, null));
+		Assert.assertFalse(set.add(projects, null));
+		Assert.assertEquals(1002, set.size());
+
+		for (int i = 0; i < 1000; i++) {
+			Assert.assertTrue(set.contains(tasks, Integer.toString(i)));
+		}
+		Assert.assertTrue(set.contains(projects, "1"));
+		Assert.assertFalse(set.contains(projects, "2"));
+		Assert.assertFalse(set.contains(tasks, "1000"));
+	}
+
+	@Test
+	public void checkInclusionAfterPopulationWithoutInclusion() {
+		ResourceInformation resourceInformation = Mockito.mock(ResourceInformation.class);
+		Mockito.when(resourceInformation.getResourceType()).thenReturn("projects");
+		ResourceRegistry resourceRegistry = Mockito.mock(ResourceRegistry.class);
+		Mockito.when(resourceRegistry.getBaseResourceInformation("projects")).thenReturn(resourceInformation);
+		ResourceField field = Mockito.mock(ResourceField.class);
+		Mockito.when(field.getUnderlyingName()).thenReturn("tasks");
+
+		Resource resource = new Resource();
+		resource.setType("projects");
+		resource.setId("1");
+		List<Resource> resources = Collections.singletonList(resource);
+
+		IncludePopulatedCache cache = new IncludePopulatedCache(resourceRegistry);
+		Assert.assertEquals(resources, cache.filterProcessed(resources, field, false));
+		Assert.assertTrue(cache.filterProcessed(resources, field, false).isEmpty());
+		Assert.assertEquals(resources, cache.filterProcessed(resources, field, true));
+		Assert.assertTrue(cache.filterProcessed(resources, field, true).isEmpty());
+		Assert.assertTrue(cache.filterProcessed(resources, field, false).isEmpty());
+		Assert.assertTrue(cache.wasProcessed(resource, field));
+	}
+}
@@ -0,0 +1,69 @@
+package io.crnk.core.engine.internal.document.mapper;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.POJONode;
+import io.crnk.core.boot.CrnkProperties;
+import io.crnk.core.engine.document.Document;
+import io.crnk.core.engine.document.Resource;
+import io.crnk.core.engine.properties.PropertiesProvider;
+import io.crnk.core.mock.models.Project;
+import io.crnk.core.mock.models.Task;
+import io.crnk.core.queryspec.QuerySpec;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StreamingDocumentMapperTest extends AbstractDocumentMapperTest {
+
+	@Override
+	protected PropertiesProvider getPropertiesProvider() {
+		return new PropertiesProvider() {
+			@Override
+			public String getProperty(String key) {
+				if (key.equals(CrnkProperties.SERIALIZE_STREAMING)) {
+					return "true";
+				}
+				return null;
+			}
+		};
+	}
+
+	@Test
+	public void checkAttributesNotConvertedToTree() {
+		Task task = createTask(2, "sample task");
+
+		Document document = mapper.toDocument(toResponse(task), createAdapter(Task.class), mappingConfig).get();
+		Resource resource = document.getSingleData().get();
+		JsonNode nameNode = resource.getAttributes().get("name");
+		Assert.assertTrue(nameNode instanceof POJONode);
+		Assert.assertEquals("sample task", ((POJONode) nameNode).getPojo());
+	}
+
+	@Test
+	public void checkSerializationWithInclusion() throws IOException {
+		Project project = new Project();
+		project.setName("someProject");
+		project.setId(3L);
+		Task task = createTask(2, "sample task");
+		task.setProject(project);
+
+		QuerySpec querySpec = new QuerySpec(Task.class);
+		querySpec.includeRelation(Arrays.asList("project"));
+
+		Document document = mapper.toDocument(toResponse(task), toAdapter(querySpec), mappingConfig).get();
+		String json = objectMapper.writeValueAsString(document);
+
+		JsonNode node = objectMapper.readTree(json);
+		Assert.assertEquals("sample task", node.get("data").get("attributes").get("name").asText());
+		Assert.assertEquals("someProject", node.get("included").get(0).get("attributes").get("name").asText());
+	}
+
+	private Task createTask(long id, String name) {
+		Task task = new Task();
+		task.setId(id);
+		task.setName(name);
+		return task;
+	}
+}
@@ -7,6 +7,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import io.crnk.core.boot.CrnkProperties;
 import io.crnk.core.engine.document.Document;
@@ -353,4 +355,38 @@ public class IncludeLookupSetterBaseTest extends AbstractDocumentMapperTest {
 		assertEquals("2", resources.get(1).getId());
 
 	}
+
+	@Test
+	public void includeMultipleRelationsWithExecutor() throws Exception {
+		QuerySpec querySpec = new QuerySpec(Task.class);
+		querySpec.includeRelation(Arrays.asList("includedProject"));
+		querySpec.includeRelation(Arrays.asList("includedProjects"));
+		querySpec.includeRelation(Arrays.asList("includedProject", "includedTask"));
+
+		Task task = new Task();
+		task.setId(1L);
+
+		Document sequentialDocument = mapper.toDocument(toResponse(task), toAdapter(querySpec), mappingConfig).get();
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			mapper.setIncludeLookupExecutor(executor);
+			Document document = mapper.toDocument(toResponse(task), toAdapter(querySpec), mappingConfig).get();
+
+			Resource taskResource = document.getSingleData().get();
+			assertEquals("2", taskResource.getRelationships().get("includedProject").getSingleData().get().getId());
+			assertEquals(1, taskResource.getRelationships().get("includedProjects").getCollectionData().get().size());
+
+			List<Resource> included = document.getIncluded();
+			assertEquals(2, included.size());
+			assertEquals("projects", included.get(0).getType());
+			assertEquals("2", included.get(0).getId());
+			assertEquals("tasks", included.get(1).getType());
+			assertEquals("3", included.get(1).getId());
+			assertEquals(sequentialDocument.getIncluded(), included);
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
 }
@@ -7,9 +7,11 @@ import java.util.List;
 import io.crnk.core.exception.BadRequestException;
 import io.crnk.core.mock.models.Project;
 import io.crnk.core.mock.models.Task;
+import io.crnk.core.queryspec.internal.InMemoryQueryPlan;
 import io.crnk.core.resource.list.DefaultResourceList;
 import io.crnk.core.resource.list.ResourceList;
 import io.crnk.core.resource.meta.DefaultHasMoreResourcesMetaInformation;
+import io.crnk.core.resource.meta.DefaultPagedMetaInformation;
 import io.crnk.core.resource.meta.HasMoreResourcesMetaInformation;
 import io.crnk.core.resource.meta.PagedMetaInformation;
 import org.junit.Assert;
@@ -317,4 +319,79 @@ public class InMemoryEvaluatorTest {
 		List<Task> results = spec.apply(tasks);
 		Assert.assertEquals(3, results.size());
 	}
+
+	@Test
+	public void testParallelMatchesSequential() {
+		List<Task> largeTasks = new ArrayList<>();
+		for (long i = 0; i < 1000; i++) {
+			Task task = new Task();
+			task.setId(i);
+			task.setName("test" + (i % 7));
+			largeTasks.add(task);
+		}
+
+		QuerySpec spec = new QuerySpec(Task.class);
+		spec.addFilter(new FilterSpec(Arrays.asList("id"), FilterOperator.GE, 100L));
+		spec.addSort(new SortSpec(Arrays.asList("name"), Direction.DESC));
+		spec.setOffset(10L);
+		spec.setLimit(50L);
+
+		DefaultResourceList<Task> sequential = new DefaultResourceList<>();
+		sequential.setMeta(new DefaultPagedMetaInformation());
+		new InMemoryEvaluator().eval(largeTasks, spec, sequential);
+
+		InMemoryEvaluator evaluator = new InMemoryEvaluator();
+		evaluator.setParallel(true);
+		evaluator.setParallelThreshold(100);
+		DefaultResourceList<Task> parallel = new DefaultResourceList<>();
+		parallel.setMeta(new DefaultPagedMetaInformation());
+		spec.apply(largeTasks, parallel, evaluator);
+
+		Assert.assertEquals(50, parallel.size());
+		Assert.assertEquals(sequential, parallel);
+		Assert.assertEquals(900L, ((PagedMetaInformation) parallel.getMeta()).getTotalResourceCount().longValue());
+	}
+
+	@Test
+	public void testPlanCacheBoundedPerEvaluator() {
+		InMemoryEvaluator evaluator = new InMemoryEvaluator();
+		evaluator.setPlanCacheSize(1);
+
+		QuerySpec nameSpec = new QuerySpec(Task.class);
+		nameSpec.addFilter(new FilterSpec(Arrays.asList("name"), FilterOperator.EQ, "test1"));
+		QuerySpec otherNameSpec = new QuerySpec(Task.class);
+		otherNameSpec.addFilter(new FilterSpec(Arrays.asList("name"), FilterOperator.EQ, "test2"));
+		QuerySpec idSpec = new QuerySpec(Task.class);
+		idSpec.addFilter(new FilterSpec(Arrays.asList("id"), FilterOperator.EQ, 1L));
+
+		InMemoryQueryPlan plan = evaluator.getPlan(nameSpec);
+		Assert.assertSame(plan, evaluator.getPlan(otherNameSpec));
+		Assert.assertNotSame(plan, new InMemoryEvaluator().getPlan(nameSpec));
+
+		// evicts the least recently used plan
+		evaluator.getPlan(idSpec);
+		Assert.assertNotSame(plan, evaluator.getPlan(nameSpec));
+	}
+
+	@Test
+	public void testPlanSharedAcrossResourceClasses() {
+		InMemoryEvaluator evaluator = new InMemoryEvaluator();
+
+		QuerySpec taskSpec = new QuerySpec(Task.class);
+		taskSpec.addFilter(new FilterSpec(Arrays.asList("id"), FilterOperator.EQ, 1L));
+		QuerySpec projectSpec = new QuerySpec(Project.class);
+		projectSpec.addFilter(new FilterSpec(Arrays.asList("id"), FilterOperator.EQ, 13L));
+		Assert.assertSame(evaluator.getPlan(taskSpec), evaluator.getPlan(projectSpec));
+
+		// accessors are resolved per class of the evaluated resources
+		Project project = new Project();
+		project.setId(13L);
+		ResourceList<Task> taskResult = new DefaultResourceList<>();
+		taskSpec.apply(tasks, taskResult, evaluator);
+		Assert.assertEquals(1, taskResult.size());
+		Assert.assertEquals(1L, taskResult.get(0).getId().longValue());
+		ResourceList<Project> projectResult = new DefaultResourceList<>();
+		projectSpec.apply(Arrays.asList(project), projectResult, evaluator);
+		Assert.assertEquals(1, projectResult.size());
+	}
 }
@@ -5,6 +5,8 @@ import static org.junit.Assert.assertNull;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
 
 import io.crnk.core.engine.document.Resource;
 import io.crnk.core.exception.BadRequestException;
@@ -169,6 +171,23 @@ public class QuerySpecTest {
 		Assert.assertEquals(spec, duplicate);
 	}
 
+	@Test
+	public void testCloneDoesNotShareMutableState() {
+		QuerySpec spec = new QuerySpec(Project.class);
+		spec.addFilter(new FilterSpec(Arrays.asList("id"), FilterOperator.EQ, new HashSet<>(Arrays.asList(1L, 2L))));
+		spec.includeField(new ArrayList<>(Arrays.asList("name")));
+		spec.includeRelation(new ArrayList<>(Arrays.asList("tasks")));
+
+		QuerySpec copy = spec.clone();
+		((Set<Long>) copy.getFilters().get(0).getValue()).add(3L);
+		copy.getIncludedFields().get(0).getAttributePath().add("other");
+		copy.getIncludedRelations().get(0).getAttributePath().add("other");
+
+		Assert.assertEquals(new HashSet<>(Arrays.asList(1L, 2L)), spec.getFilters().get(0).getValue());
+		Assert.assertEquals(Arrays.asList("name"), spec.getIncludedFields().get(0).getAttributePath());
+		Assert.assertEquals(Arrays.asList("tasks"), spec.getIncludedRelations().get(0).getAttributePath());
+	}
+
 	@Test
 	public void testDuplicateWithRelations() {
 		QuerySpec spec = new QuerySpec(Project.class);
@@ -0,0 +1,75 @@
+package io.crnk.core.queryspec.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import io.crnk.core.mock.models.Task;
+import io.crnk.core.queryspec.Direction;
+import io.crnk.core.queryspec.FilterOperator;
+import io.crnk.core.queryspec.FilterSpec;
+import io.crnk.core.queryspec.SortSpec;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class InMemoryQueryPlanTest {
+
+	private List<Task> tasks;
+
+	@Before
+	public void setup() {
+		Random random = new Random(0);
+		tasks = new ArrayList<>();
+		for (long i = 0; i < 100; i++) {
+			Task task = new Task();
+			task.setId(i);
+			task.setName("task" + random.nextInt(10));
+			tasks.add(task);
+		}
+	}
+
+	@Test
+	public void checkTopNMatchesFullSort() {
+		List<SortSpec> sort = Arrays.asList(new SortSpec(Arrays.asList("name"), Direction.DESC));
+		InMemoryQueryPlan plan = InMemoryQueryPlan.compile(Collections.<FilterSpec>emptyList(), sort);
+
+		List<Task> fullSort = plan.sortPage(tasks, 0, Integer.MAX_VALUE);
+		Assert.assertEquals(100, fullSort.size());
+
+		// small pages make use of a bounded heap, must match the stable full sort
+		List<Task> page = plan.sortPage(tasks, 10, 5);
+		Assert.assertEquals(fullSort.subList(10, 15), page);
+
+		Assert.assertEquals(0, plan.sortPage(tasks, 0, 0).size());
+	}
+
+	@Test
+	public void checkPlanSharedAmongSameShape() {
+		List<FilterSpec> filters1 = Arrays.asList(new FilterSpec(Arrays.asList("name"), FilterOperator.EQ, "task1"));
+		List<FilterSpec> filters2 = Arrays.asList(new FilterSpec(Arrays.asList("name"), FilterOperator.EQ, "task2"));
+		List<FilterSpec> filters3 = Arrays.asList(new FilterSpec(Arrays.asList("name"), FilterOperator.NEQ, "task2"));
+		List<SortSpec> sort = Collections.emptyList();
+		Assert.assertEquals(InMemoryQueryPlan.getShape(filters1, sort), InMemoryQueryPlan.getShape(filters2, sort));
+		Assert.assertNotEquals(InMemoryQueryPlan.getShape(filters1, sort), InMemoryQueryPlan.getShape(filters3, sort));
+
+		InMemoryQueryPlan plan = InMemoryQueryPlan.compile(filters1, sort);
+		Task task = tasks.get(0);
+		task.setName("task2");
+		Assert.assertFalse(plan.matches(task, plan.bind(filters1)));
+		Assert.assertTrue(plan.matches(task, plan.bind(filters2)));
+	}
+
+	@Test
+	public void checkLike() {
+		List<FilterSpec> filters = Arrays.asList(new FilterSpec(Arrays.asList("name"), FilterOperator.LIKE, "TA%(1)"));
+		InMemoryQueryPlan plan = InMemoryQueryPlan.compile(filters, Collections.<SortSpec>emptyList());
+		Task task = new Task();
+		task.setName("my task(1)");
+		Assert.assertTrue(plan.matches(task, plan.bind(filters)));
+		task.setName("my task1");
+		Assert.assertFalse(plan.matches(task, plan.bind(filters)));
+	}
+}
@@ -12,6 +12,8 @@ import io.crnk.core.engine.information.resource.ResourceInformation;
 import io.crnk.core.engine.parser.TypeParser;
 import io.crnk.core.engine.registry.RegistryEntry;
 import io.crnk.core.engine.registry.ResourceRegistry;
+import io.crnk.core.engine.registry.ResourceRegistryPartEvent;
+import io.crnk.core.engine.registry.ResourceRegistryPartListener;
 import io.crnk.core.exception.BadRequestException;
 import io.crnk.core.exception.ParametersDeserializationException;
 import io.crnk.core.mock.models.Project;
@@ -39,6 +41,8 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
 
 public abstract class DefaultQuerySpecUrlMapperDeserializerTestBase extends AbstractQuerySpecTest {
 
@@ -149,6 +153,21 @@ public abstract class DefaultQuerySpecUrlMapperDeserializerTestBase extends Abst
 		Assert.assertEquals(expectedSpec, actualSpec);
 	}
 
+	@Test
+	public void deserializedPathsNotShared() {
+		Map<String, Set<String>> params = new HashMap<>();
+		add(params, "sort", "name");
+		add(params, "filter[name]", "test");
+
+		QuerySpec spec1 = urlMapper.deserialize(taskInformation, params);
+		spec1.getSort().get(0).getAttributePath().add("other");
+		spec1.getFilters().get(0).getAttributePath().add("other");
+
+		QuerySpec spec2 = urlMapper.deserialize(taskInformation, params);
+		Assert.assertEquals(Arrays.asList("name"), spec2.getSort().get(0).getAttributePath());
+		Assert.assertEquals(Arrays.asList("name"), spec2.getFilters().get(0).getAttributePath());
+	}
+
 	@Test
 	public void defaultPaginationOnRoot() {
 		Map<String, Set<String>> params = new HashMap<>();
@@ -629,6 +648,70 @@ public abstract class DefaultQuerySpecUrlMapperDeserializerTestBase extends Abst
 		urlMapper.deserialize(taskInformation, params);
 	}
 
+	@Test
+	public void testQuerySpecCache() throws InterruptedException {
+		QuerySpecCache cache = urlMapper.getQuerySpecCache();
+		Assert.assertFalse(cache.isEnabled());
+		cache.setMaxSize(1);
+
+		Map<String, Set<String>> params = new HashMap<>();
+		add(params, "filter[name]", "test");
+		add(params, "sort", "-id");
+		QuerySpec actualSpec = urlMapper.deserialize(taskInformation, params);
+		QuerySpec cachedSpec = urlMapper.deserialize(taskInformation, new HashMap<>(params));
+		Assert.assertEquals(actualSpec, cachedSpec);
+		Assert.assertNotSame(actualSpec, cachedSpec);
+		Assert.assertEquals(1, cache.getMissCount());
+		Assert.assertEquals(1, cache.getHitCount());
+
+		// copies are handed out, modifications do not affect the cache
+		cachedSpec.addFilter(new FilterSpec(Arrays.asList("id"), FilterOperator.EQ, 13L));
+		Assert.assertEquals(actualSpec, urlMapper.deserialize(taskInformation, params));
+		Assert.assertEquals(2, cache.getHitCount());
+
+		Map<String, Set<String>> otherParams = new HashMap<>();
+		add(otherParams, "filter[id]", "12");
+		urlMapper.deserialize(taskInformation, otherParams);
+		Assert.assertEquals(2, cache.getMissCount());
+		Assert.assertEquals(1, cache.getEvictionCount());
+		Assert.assertEquals(1, cache.size());
+
+		cache.setExpirationMillis(1);
+		Thread.sleep(10);
+		urlMapper.deserialize(taskInformation, otherParams);
+		Assert.assertEquals(3, cache.getMissCount());
+		Assert.assertEquals(2, cache.getEvictionCount());
+	}
+
+	@Test
+	public void testQuerySpecCacheClearedUponRegistryChange() {
+		ResourceRegistry mockRegistry = Mockito.mock(ResourceRegistry.class);
+		RegistryEntry taskEntry = resourceRegistry.getEntry(Task.class);
+		Mockito.when(mockRegistry.getEntry(Mockito.eq(taskEntry.getResourceInformation().getResourceType()))).thenReturn(taskEntry);
+		DefaultQuerySpecUrlMapper mapper = new DefaultQuerySpecUrlMapper();
+		mapper.init(new QuerySpecUrlContext() {
+			@Override
+			public ResourceRegistry getResourceRegistry() {
+				return mockRegistry;
+			}
+
+			@Override
+			public TypeParser getTypeParser() {
+				return moduleRegistry.getTypeParser();
+			}
+		});
+		QuerySpecCache cache = mapper.getQuerySpecCache();
+		cache.setMaxSize(10);
+		mapper.deserialize(taskInformation, new HashMap<>());
+		mapper.deserialize(taskInformation, new HashMap<>());
+		Assert.assertEquals(1, cache.size());
+
+		ArgumentCaptor<ResourceRegistryPartListener> listenerCaptor = ArgumentCaptor.forClass(ResourceRegistryPartListener.class);
+		Mockito.verify(mockRegistry, Mockito.times(1)).addListener(listenerCaptor.capture());
+		listenerCaptor.getValue().onChanged(ResourceRegistryPartEvent.create(mockRegistry));
+		Assert.assertEquals(0, cache.size());
+	}
+
 	protected void add(Map<String, Set<String>> params, String key, String value) {
 		params.put(key, new HashSet<>(Arrays.asList(value)));
 	}
@@ -0,0 +1,57 @@
+package io.crnk.core.queryspec.mapper;
+
+import java.util.Arrays;
+import java.util.List;
+
+import io.crnk.core.exception.ParametersDeserializationException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class QueryParameterTokenizerTest {
+
+	@Test
+	public void testSplitMatchesStringSplit() {
+		String[] values = {"", ".", "..", "a", "a.b", ".a", "a.", "a..b", "a.b.", "...a.."};
+		for (String value : values) {
+			Assert.assertEquals(value, Arrays.asList(value.split("\\.")), QueryParameterTokenizer.split(value, '.'));
+		}
+	}
+
+	@Test
+	public void testParseType() {
+		Assert.assertEquals(QueryParameterType.FILTER, QueryParameterTokenizer.parseType("filter[name]", 6));
+		Assert.assertEquals(QueryParameterType.SORT, QueryParameterTokenizer.parseType("Sort", 4));
+		Assert.assertEquals(QueryParameterType.PAGE, QueryParameterTokenizer.parseType("PAGE[limit]", 4));
+		Assert.assertEquals(QueryParameterType.UNKNOWN, QueryParameterTokenizer.parseType("filters[name]", 7));
+		Assert.assertEquals(QueryParameterType.UNKNOWN, QueryParameterTokenizer.parseType("[name]", 0));
+	}
+
+	@Test
+	public void testParseArguments() {
+		Assert.assertEquals(Arrays.asList("tasks", "name", "EQ"),
+				QueryParameterTokenizer.parseArguments("filter[tasks][name][EQ]", 6));
+		Assert.assertEquals(Arrays.asList("project.name"), QueryParameterTokenizer.parseArguments("filter[project.name]", 6));
+		Assert.assertEquals(Arrays.asList(""), QueryParameterTokenizer.parseArguments("filter[]", 6));
+		Assert.assertEquals(Arrays.asList("", "name"), QueryParameterTokenizer.parseArguments("filter[][name]", 6));
+		Assert.assertEquals(Arrays.asList("name"), QueryParameterTokenizer.parseArguments("filter[name][]", 6));
+		Assert.assertTrue(QueryParameterTokenizer.parseArguments("sort", -1).isEmpty());
+	}
+
+	@Test(expected = ParametersDeserializationException.class)
+	public void testParseArgumentsWithoutClosingBracket() {
+		QueryParameterTokenizer.parseArguments("filter[name", 6);
+	}
+
+	@Test
+	public void testAttributePathsAreInterned() {
+		QueryParameterTokenizer tokenizer = new QueryParameterTokenizer();
+		List<String> path = tokenizer.parseAttributePath("project.name");
+		Assert.assertEquals(Arrays.asList("project", "name"), path);
+		Assert.assertSame(path, tokenizer.parseAttributePath(new String("project.name")));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testInternedAttributePathsCannotBeModified() {
+		new QueryParameterTokenizer().parseAttributePath("project.name").add("id");
+	}
+}
@@ -0,0 +1,115 @@
+package io.crnk.core.queryspec.pagingspec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import io.crnk.core.engine.parser.TypeParser;
+import io.crnk.core.exception.BadRequestException;
+import io.crnk.core.exception.ParametersDeserializationException;
+import org.junit.Test;
+
+public class KeysetPagingBehaviorTest {
+
+	@Test
+	public void testSerialize() {
+		KeysetPagingBehavior pagingBehavior = new KeysetPagingBehavior();
+		Map<String, Set<String>> result =
+				pagingBehavior.serialize(new KeysetPagingSpec(10L, Arrays.<Object>asList("Doe", 12L, null)), "tasks");
+
+		assertEquals(ImmutableSet.of("10"), result.get("page[limit]"));
+		assertEquals(ImmutableSet.of("[\"Doe\",12,null]"), result.get("page[after]"));
+		assertEquals(2, result.size());
+	}
+
+	@Test
+	public void testSerializeFirstPage() {
+		KeysetPagingBehavior pagingBehavior = new KeysetPagingBehavior();
+		Map<String, Set<String>> result = pagingBehavior.serialize(new KeysetPagingSpec(10L, null), "tasks");
+
+		assertEquals(ImmutableSet.of("10"), result.get("page[limit]"));
+		assertFalse(result.containsKey("page[after]"));
+	}
+
+	@Test
+	public void testDeserialize() {
+		KeysetPagingBehavior pagingBehavior = new KeysetPagingBehavior();
+		KeysetPagingSpec result = pagingBehavior.deserialize(ImmutableMap.<String, Set<String>>of(
+				"limit", ImmutableSet.of("10"),
+				"after", ImmutableSet.of("[\"Doe\",12]")));
+
+		assertEquals(Long.valueOf(10L), result.getLimit());
+		assertEquals(Arrays.<Object>asList("Doe", 12), result.getAfter());
+	}
+
+	@Test
+	public void testDeserializeDefault() {
+		KeysetPagingBehavior pagingBehavior = new KeysetPagingBehavior();
+		pagingBehavior.setDefaultLimit(20L);
+		KeysetPagingSpec result = pagingBehavior.deserialize(Collections.<String, Set<String>>emptyMap());
+
+		assertEquals(Long.valueOf(20L), result.getLimit());
+		assertNull(result.getAfter());
+		assertTrue(pagingBehavior.isRequired(result));
+		assertFalse(pagingBehavior.isRequired(new KeysetPagingSpec()));
+	}
+
+	@Test(expected = ParametersDeserializationException.class)
+	public void testDeserializeInvalidKey() {
+		new KeysetPagingBehavior().deserialize(ImmutableMap.<String, Set<String>>of("after", ImmutableSet.of("12")));
+	}
+
+	@Test(expected = ParametersDeserializationException.class)
+	public void testDeserializeUnknownParameter() {
+		new KeysetPagingBehavior().deserialize(ImmutableMap.<String, Set<String>>of("offset", ImmutableSet.of("12")));
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testDeserializeLimitExceedingMaximum() {
+		KeysetPagingBehavior pagingBehavior = new KeysetPagingBehavior();
+		pagingBehavior.setMaxPageLimit(5L);
+		pagingBehavior.deserialize(ImmutableMap.<String, Set<String>>of("limit", ImmutableSet.of("10")));
+	}
+
+	@Test
+	public void testConvertFirstPageToOffsetLimit() {
+		OffsetLimitPagingSpec converted = new KeysetPagingSpec(10L, null).convert(OffsetLimitPagingSpec.class);
+		assertEquals(0L, converted.getOffset());
+		assertEquals(Long.valueOf(10L), converted.getLimit());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testConvertSubsequentPageNotSupported() {
+		new KeysetPagingSpec(10L, Arrays.<Object>asList(3L)).convert(OffsetLimitPagingSpec.class);
+	}
+
+	@Test
+	public void testSupportsKeysetOnly() {
+		KeysetPagingBehavior pagingBehavior = new KeysetPagingBehavior();
+		assertTrue(pagingBehavior.supports(KeysetPagingSpec.class));
+		assertFalse(pagingBehavior.supports(OffsetLimitPagingSpec.class));
+	}
+
+	@Test
+	public void testSerializeDateKey() {
+		Date date = new Date(1514764800000L);
+		Map<String, Set<String>> result =
+				new KeysetPagingBehavior().serialize(new KeysetPagingSpec(10L, Arrays.<Object>asList(date, 12L)), "tasks");
+		assertEquals(ImmutableSet.of("[1514764800000,12]"), result.get("page[after]"));
+
+		// must be parseable again by the backend
+		TypeParser typeParser = new TypeParser();
+		typeParser.setObjectMapper(new ObjectMapper());
+		assertEquals(date, typeParser.parse("1514764800000", Date.class));
+	}
+}
@@ -0,0 +1,80 @@
+package io.crnk.core.resource;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import io.crnk.core.resource.list.StreamingResourceList;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StreamingResourceListTest {
+
+	@Test
+	public void testListAccessLoadsResources() {
+		CountingIterator source = new CountingIterator("a", "b", "c");
+		StreamingResourceList<String> list = new StreamingResourceList<>(source);
+		Assert.assertFalse(list.isEmpty());
+		Assert.assertEquals(1, source.numFetched);
+		Assert.assertEquals("b", list.get(1));
+		Assert.assertEquals(2, source.numFetched);
+		Assert.assertEquals(3, list.size());
+
+		list.add("d");
+		Assert.assertEquals(Arrays.asList("a", "b", "c", "d"), list);
+	}
+
+	@Test
+	public void testIteratorRetainsResources() {
+		StreamingResourceList<String> list = new StreamingResourceList<>(new CountingIterator("a", "b"));
+		Assert.assertTrue(list.iterator().hasNext());
+		for (String value : list) {
+			Assert.assertNotNull(value);
+		}
+		Assert.assertEquals(Arrays.asList("a", "b"), list);
+	}
+
+	@Test
+	public void testConsume() {
+		CountingIterator source = new CountingIterator("a", "b", "c");
+		StreamingResourceList<String> list = new StreamingResourceList<>(source);
+		Assert.assertFalse(list.isEmpty());
+		Assert.assertFalse(list.isConsumed());
+
+		Iterator<String> iterator = list.consume();
+		Assert.assertTrue(list.isConsumed());
+		Assert.assertEquals("a", iterator.next());
+		Assert.assertEquals(1, source.numFetched);
+		Assert.assertEquals("b", iterator.next());
+		Assert.assertEquals("c", iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testAccessAfterConsumeNotAllowed() {
+		StreamingResourceList<String> list = new StreamingResourceList<>(new CountingIterator("a"));
+		list.consume();
+		list.size();
+	}
+
+	private static class CountingIterator implements Iterator<String> {
+
+		private final Iterator<String> iterator;
+
+		private int numFetched = 0;
+
+		CountingIterator(String... values) {
+			this.iterator = Arrays.asList(values).iterator();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return iterator.hasNext();
+		}
+
+		@Override
+		public String next() {
+			numFetched++;
+			return iterator.next();
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package io.crnk.core.resource.field;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import io.crnk.core.engine.information.resource.ResourceFieldAccessor;
+import io.crnk.core.engine.internal.information.resource.GeneratedFieldAccessorFactory;
+import io.crnk.core.engine.internal.information.resource.ReflectionFieldAccessor;
+import io.crnk.core.engine.internal.utils.PropertyException;
+import io.crnk.core.resource.field.ReflectionFieldAccessorTest.Bean;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GeneratedFieldAccessorFactoryTest {
+
+	private GeneratedFieldAccessorFactory factory = new GeneratedFieldAccessorFactory();
+
+	@Test
+	public void checkGeneratedForGetterAndSetter() {
+		ResourceFieldAccessor accessor = factory.create(Bean.class, "privatePropertyWithMutators", String.class);
+		Assert.assertFalse(accessor instanceof ReflectionFieldAccessor);
+
+		Bean bean = new Bean();
+		accessor.setValue(bean, "value");
+		assertThat(bean.getPrivatePropertyWithMutators()).isEqualTo("value");
+		assertThat(accessor.getValue(bean)).isEqualTo("value");
+	}
+
+	@Test
+	public void checkPrimitiveValues() {
+		ResourceFieldAccessor accessor = factory.create(Bean.class, "booleanPrimitivePropertyWithMutators", boolean.class);
+		Assert.assertFalse(accessor instanceof ReflectionFieldAccessor);
+
+		Bean bean = new Bean();
+		accessor.setValue(bean, true);
+		assertThat(bean.isBooleanPrimitivePropertyWithMutators()).isTrue();
+		assertThat(accessor.getValue(bean)).isEqualTo(true);
+	}
+
+	@Test
+	public void checkValueConversion() {
+		ResourceFieldAccessor accessor = factory.create(Bean.class, "setProperty", Set.class);
+
+		Bean bean = new Bean();
+		accessor.setValue(bean, Arrays.asList("4", "1", "3", "2"));
+		assertThat(bean.getSetProperty()).isEqualTo(new LinkedHashSet(Arrays.asList("4", "1", "3", "2")));
+	}
+
+	@Test
+	public void checkPublicFieldFallsBackToReflection() {
+		ResourceFieldAccessor accessor = factory.create(Bean.class, "publicProperty", String.class);
+		Assert.assertTrue(accessor instanceof ReflectionFieldAccessor);
+	}
+
+	@Test
+	public void checkNonPublicClassFallsBackToReflection() {
+		ResourceFieldAccessor accessor = factory.create(PrivateBean.class, "value", String.class);
+		Assert.assertTrue(accessor instanceof ReflectionFieldAccessor);
+	}
+
+	@Test
+	public void checkReadOnlyProperty() {
+		ResourceFieldAccessor accessor = factory.create(Bean.class, "methodProperty", String.class);
+		assertThat(accessor.getValue(new Bean())).isEqualTo("noFieldsHere");
+		try {
+			accessor.setValue(new Bean(), "value");
+			Assert.fail();
+		}
+		catch (PropertyException e) {
+			// ok
+		}
+	}
+
+	@Test(expected = PropertyException.class)
+	public void checkNullBeanThrowsException() {
+		ResourceFieldAccessor accessor = factory.create(Bean.class, "privatePropertyWithMutators", String.class);
+		accessor.getValue(null);
+	}
+
+	@Test(expected = PropertyException.class)
+	public void checkUncheckedExceptionGetsWrapped() {
+		ResourceFieldAccessor accessor = factory.create(Bean.class, "uncheckedExceptionalField", String.class);
+		accessor.getValue(new Bean());
+	}
+
+	@Test(expected = PropertyException.class)
+	public void checkCheckedExceptionGetsWrapped() {
+		ResourceFieldAccessor accessor = factory.create(Bean.class, "checkedExceptionalField", String.class);
+		accessor.setValue(new Bean(), "value");
+	}
+
+	static class PrivateBean {
+
+		public String getValue() {
+			return "test";
+		}
+	}
+}
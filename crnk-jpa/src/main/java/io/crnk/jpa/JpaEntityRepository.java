@@ -1,102 +1,277 @@
 package io.crnk.jpa;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.crnk.core.engine.internal.utils.PreconditionUtil;
+import io.crnk.core.queryspec.Direction;
 import io.crnk.core.queryspec.FilterOperator;
 import io.crnk.core.queryspec.FilterSpec;
+import io.crnk.core.queryspec.IncludeFieldSpec;
 import io.crnk.core.queryspec.QuerySpec;
-import io.crnk.core.repository.ResourceRepositoryV2;
+import io.crnk.core.queryspec.SortSpec;
+import io.crnk.core.queryspec.pagingspec.KeysetPagingSpec;
+import io.crnk.core.queryspec.pagingspec.OffsetLimitPagingSpec;
+import io.crnk.core.queryspec.pagingspec.PagingSpec;
+import io.crnk.core.repository.BulkResourceRepositoryV2;
+import io.crnk.core.resource.list.DefaultResourceList;
 import io.crnk.core.resource.list.ResourceList;
+import io.crnk.core.resource.list.StreamingResourceList;
 import io.crnk.core.resource.meta.HasMoreResourcesMetaInformation;
 import io.crnk.core.resource.meta.MetaInformation;
 import io.crnk.core.resource.meta.PagedMetaInformation;
+import io.crnk.jpa.cache.JpaResultCache;
+import io.crnk.jpa.internal.EntityProjection;
 import io.crnk.jpa.internal.JpaRepositoryBase;
 import io.crnk.jpa.internal.JpaRepositoryUtils;
 import io.crnk.jpa.internal.JpaRequestContext;
+import io.crnk.jpa.internal.ResourceSnapshotMapper;
+import io.crnk.jpa.internal.TotalResourceCountCache;
+import io.crnk.jpa.internal.query.ChunkedResultIterator;
+import io.crnk.jpa.mapping.IdentityMapper;
 import io.crnk.jpa.mapping.JpaMapper;
 import io.crnk.jpa.meta.MetaEntity;
 import io.crnk.jpa.query.*;
 import io.crnk.meta.model.MetaAttribute;
 
 import javax.persistence.EntityManager;
+import javax.persistence.PersistenceUnitUtil;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * Exposes a JPA entity as ResourceRepository.
  */
-public class JpaEntityRepository<T, I extends Serializable> extends JpaRepositoryBase<T> implements ResourceRepositoryV2<T, I> {
+public class JpaEntityRepository<T, I extends Serializable> extends JpaRepositoryBase<T>
+		implements BulkResourceRepositoryV2<T, I> {
 
 	private MetaEntity meta;
 
 	private MetaAttribute primaryKeyAttr;
 
+	private TotalResourceCountCache totalResourceCountCache;
+
 	public JpaEntityRepository(JpaModule module, JpaRepositoryConfig<T> config) {
 		super(module, config);
 		this.meta = module.getJpaMetaProvider().getMeta(config.getEntityClass());
 		this.primaryKeyAttr = JpaRepositoryUtils.getPrimaryKeyAttr(meta);
+
+		long totalResourceCountMaxAge = module.getConfig().getTotalResourceCountMaxAge();
+		if (totalResourceCountMaxAge > 0) {
+			totalResourceCountCache = new TotalResourceCountCache(totalResourceCountMaxAge);
+		}
 	}
 
 	@Override
 	public final T findOne(I id, QuerySpec querySpec) {
+		// further filters may hide the resource, only plain lookups by id are cached
+		JpaResultCache resultCache = getResultCache();
+		if (resultCache == null || !querySpec.getFilters().isEmpty()) {
+			List<T> results = findAll(newFindOneQuerySpec(id, querySpec));
+			return getUnique(results, id);
+		}
+		Class<?> entityClass = repositoryConfig.getEntityClass();
+		Class<T> resourceClass = repositoryConfig.getResourceClass();
+		ResourceSnapshotMapper snapshotMapper = module.getResourceSnapshotMapper();
+		JsonNode snapshot = (JsonNode) resultCache.getResource(entityClass, resourceClass, id, querySpec);
+		T resource = snapshot != null ? snapshotMapper.fromSnapshot(snapshot, resourceClass) : null;
+		if (resource == null) {
+			long generation = resultCache.getGeneration(entityClass);
+			resource = getUnique(loadAll(newFindOneQuerySpec(id, querySpec)), id);
+			snapshot = snapshotMapper.toSnapshot(resource);
+			if (snapshot != null) {
+				resultCache.putResource(entityClass, resourceClass, id, querySpec, snapshot, generation);
+			}
+		}
+		return resource;
+	}
+
+	private QuerySpec newFindOneQuerySpec(I id, QuerySpec querySpec) {
 		QuerySpec idQuerySpec = querySpec.duplicate();
 		idQuerySpec.addFilter(new FilterSpec(Arrays.asList(primaryKeyAttr.getName()), FilterOperator.EQ, id));
-		List<T> results = findAll(idQuerySpec);
-		return getUnique(results, id);
+		if (module.getConfig().isSparseFieldsProjected()) {
+			// single resources are read for updates as well, they must never be partial
+			idQuerySpec.getIncludedFields().clear();
+		}
+		return idQuerySpec;
 	}
 
 	@Override
 	public final ResourceList<T> findAll(Iterable<I> ids, QuerySpec querySpec) {
+		int chunkSize = module.getConfig().getBulkFetchChunkSize();
+		if (chunkSize > 0) {
+			List<List<I>> chunks = JpaRepositoryUtils.chunkIds(sortIds(ids), chunkSize);
+			if (chunks.size() == 1 || chunks.size() > 1 && isChunkable(querySpec)) {
+				ResourceList<T> resources = null;
+				for (List<I> chunk : chunks) {
+					ResourceList<T> chunkResources = findAll(newIdQuerySpec(chunk, querySpec));
+					if (resources == null) {
+						resources = chunkResources;
+					}
+					else {
+						resources.addAll(chunkResources);
+					}
+				}
+				return resources;
+			}
+		}
+		return findAll(newIdQuerySpec(ids, querySpec));
+	}
+
+	private QuerySpec newIdQuerySpec(Iterable<I> ids, QuerySpec querySpec) {
 		QuerySpec idQuerySpec = querySpec.duplicate();
 		idQuerySpec.addFilter(new FilterSpec(Arrays.asList(primaryKeyAttr.getName()), FilterOperator.EQ, ids));
-		return findAll(idQuerySpec);
+		return idQuerySpec;
+	}
+
+	/**
+	 * Results of multiple chunks can only be concatenated if neither sorted nor paged. Identifiers get sorted
+	 * beforehand to preserve the default order by primary key.
+	 */
+	private static boolean isChunkable(QuerySpec querySpec) {
+		PagingSpec pagingSpec = querySpec.getPaging();
+		boolean paged = pagingSpec != null && (!(pagingSpec instanceof OffsetLimitPagingSpec)
+				|| querySpec.getLimit() != null || querySpec.getOffset() != 0);
+		return querySpec.getSort().isEmpty() && !paged;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static <I> List<I> sortIds(Iterable<I> ids) {
+		List<I> list = new ArrayList<>();
+		boolean comparable = true;
+		for (I id : ids) {
+			list.add(id);
+			comparable &= id instanceof Comparable;
+		}
+		if (comparable) {
+			Collections.sort((List) list);
+		}
+		return list;
 	}
 
 	@Override
 	public ResourceList<T> findAll(QuerySpec querySpec) {
+		JpaResultCache resultCache = getResultCache();
+		if (resultCache == null) {
+			return loadAll(querySpec);
+		}
 		Class<?> entityClass = repositoryConfig.getEntityClass();
-		QuerySpec filteredQuerySpec = filterQuerySpec(querySpec);
-		JpaQueryFactory queryFactory = module.getQueryFactory();
-		JpaQuery<?> query = queryFactory.query(entityClass);
-		query.setPrivateData(new JpaRequestContext(this, querySpec));
+		Class<T> resourceClass = repositoryConfig.getResourceClass();
+		ResourcesSnapshot snapshot =
+				(ResourcesSnapshot) resultCache.getResources(entityClass, resourceClass, querySpec);
+		ResourceList<T> resources = snapshot != null ? fromSnapshot(snapshot) : null;
+		if (resources == null) {
+			long generation = resultCache.getGeneration(entityClass);
+			resources = loadAll(querySpec);
+			snapshot = resources instanceof StreamingResourceList ? null : toSnapshot(resources);
+			if (snapshot != null) {
+				resultCache.putResources(entityClass, resourceClass, querySpec, snapshot, generation);
+			}
+		}
+		return resources;
+	}
 
-		ComputedAttributeRegistry computedAttributesRegistry = queryFactory.getComputedAttributes();
-		Set<String> computedAttrs = computedAttributesRegistry.getForType(entityClass);
+	/**
+	 * @return cache of the module if applicable to this repository. Entities are bound to the entity manager of a
+	 * request and resources customized by filters may depend on the request, neither can be cached. Transactions that
+	 * modified entities neither use the cache, since it does not reflect their modifications, nor populate it, since
+	 * they may still be rolled back.
+	 */
+	private JpaResultCache getResultCache() {
+		JpaResultCache resultCache = module.getConfig().getResultCache();
+		if (resultCache == null || repositoryConfig.getMapper() instanceof IdentityMapper || isFiltered()
+				|| module.isModifyingTransaction()) {
+			return null;
+		}
+		return resultCache;
+	}
 
-		JpaRepositoryUtils.prepareQuery(query, filteredQuerySpec, computedAttrs);
-		query = filterQuery(filteredQuerySpec, query);
-		JpaQueryExecutor<?> executor = query.buildExecutor();
+	/**
+	 * @return snapshot of the resources and their meta information or null if any of them cannot be copied.
+	 */
+	private ResourcesSnapshot toSnapshot(ResourceList<T> resources) {
+		ResourceSnapshotMapper snapshotMapper = module.getResourceSnapshotMapper();
+		ResourcesSnapshot snapshot = new ResourcesSnapshot();
+		for (T resource : resources) {
+			JsonNode resourceSnapshot = snapshotMapper.toSnapshot(resource);
+			if (resourceSnapshot == null) {
+				return null;
+			}
+			snapshot.add(resourceSnapshot);
+		}
+		MetaInformation metaInfo = resources.getMeta();
+		if (metaInfo instanceof PagedMetaInformation) {
+			snapshot.totalResourceCount = ((PagedMetaInformation) metaInfo).getTotalResourceCount();
+		}
+		if (metaInfo instanceof HasMoreResourcesMetaInformation) {
+			snapshot.hasMoreResources = ((HasMoreResourcesMetaInformation) metaInfo).getHasMoreResources();
+		}
+		return snapshot;
+	}
+
+	/**
+	 * @return new resources restored from the given snapshot or null if any of them cannot be restored.
+	 */
+	private ResourceList<T> fromSnapshot(ResourcesSnapshot snapshot) {
+		ResourceSnapshotMapper snapshotMapper = module.getResourceSnapshotMapper();
+		DefaultResourceList<T> resources = repositoryConfig.newResultList();
+		for (JsonNode resourceSnapshot : snapshot) {
+			T resource = snapshotMapper.fromSnapshot(resourceSnapshot, repositoryConfig.getResourceClass());
+			if (resource == null) {
+				return null;
+			}
+			resources.add(resource);
+		}
+		MetaInformation metaInfo = resources.getMeta();
+		if (metaInfo instanceof PagedMetaInformation) {
+			((PagedMetaInformation) metaInfo).setTotalResourceCount(snapshot.totalResourceCount);
+		}
+		if (metaInfo instanceof HasMoreResourcesMetaInformation) {
+			((HasMoreResourcesMetaInformation) metaInfo).setHasMoreResources(snapshot.hasMoreResources);
+		}
+		return resources;
+	}
 
-		boolean fetchNext = isNextFetched(filteredQuerySpec);
-		boolean fetchTotal = isTotalFetched(filteredQuerySpec);
+	private ResourceList<T> loadAll(QuerySpec querySpec) {
+		QuerySpec filteredQuerySpec = filterQuerySpec(querySpec);
+		boolean keysetPaging = filteredQuerySpec.getPaging() instanceof KeysetPagingSpec;
+		QuerySpec windowQuerySpec = keysetPaging ? toWindowQuerySpec(filteredQuerySpec) : filteredQuerySpec;
 
-		JpaRepositoryUtils.prepareExecutor(executor, filteredQuerySpec, fetchRelations(null));
+		boolean fetchNext = isNextFetched(windowQuerySpec);
+		// the count query would be restricted by the keyset as well, the total is not computed for keyset paging
+		boolean fetchTotal = isTotalFetched(windowQuerySpec) && !keysetPaging;
 
-		if (fetchNext) {
-			executor.setLimit(executor.getLimit() + 1);
+		int streamingChunkSize = module.getConfig().getStreamingChunkSize();
+		if (streamingChunkSize > 0 && !keysetPaging && !fetchNext && !fetchTotal && isStreamable(filteredQuerySpec)) {
+			return streamResults(querySpec, filteredQuerySpec, streamingChunkSize);
 		}
 
-		executor = filterExecutor(filteredQuerySpec, executor);
-
+		JpaQueryExecutor<?> executor = buildExecutor(querySpec, filteredQuerySpec, windowQuerySpec, fetchNext);
 		List<Tuple> tuples = executor.getResultTuples();
 
 		Boolean hasNext = null;
 		if (fetchNext) {
-			hasNext = tuples.size() == querySpec.getLimit() + 1;
+			hasNext = tuples.size() == windowQuerySpec.getLimit() + 1;
 			if (hasNext) {
-				tuples = tuples.subList(0, querySpec.getLimit().intValue());
+				tuples = tuples.subList(0, windowQuerySpec.getLimit().intValue());
 			}
 		}
 
-		tuples = filterTuples(filteredQuerySpec, tuples);
+		tuples = toEntityTuples(filteredQuerySpec, tuples);
+		tuples = filterTuples(windowQuerySpec, tuples);
 
 		ResourceList<T> resources = repositoryConfig.newResultList();
 		MetaInformation metaInfo = resources.getMeta();
 		fillResourceList(tuples, resources);
-		resources = filterResults(filteredQuerySpec, resources);
+		resources = filterResults(windowQuerySpec, resources);
 		if (fetchTotal) {
-			long totalRowCount = executor.getTotalRowCount();
+			long totalRowCount = getTotalRowCount(windowQuerySpec, executor);
 			((PagedMetaInformation) metaInfo).setTotalResourceCount(totalRowCount);
 		}
 		if (fetchNext) {
@@ -106,6 +281,229 @@ public class JpaEntityRepository<T, I extends Serializable> extends JpaRepositor
 		return resources;
 	}
 
+	/**
+	 * The keyset of a {@link KeysetPagingSpec} is applied as filter, the remaining window is given by its limit.
+	 */
+	private static QuerySpec toWindowQuerySpec(QuerySpec querySpec) {
+		Long limit = ((KeysetPagingSpec) querySpec.getPaging()).getLimit();
+		QuerySpec windowQuerySpec = querySpec.duplicate();
+		windowQuerySpec.setPaging(new OffsetLimitPagingSpec(0L, limit));
+		return windowQuerySpec;
+	}
+
+	/**
+	 * @param filteredQuerySpec querySpec as modified by the repository filters
+	 * @param windowQuerySpec   filteredQuerySpec with keyset paging replaced by the window to fetch
+	 * @param fetchNext         whether one more resource should be fetched to determine whether there is a next page
+	 */
+	private JpaQueryExecutor<?> buildExecutor(QuerySpec querySpec, QuerySpec filteredQuerySpec,
+			QuerySpec windowQuerySpec, boolean fetchNext) {
+		JpaQuery<?> query = module.getQueryFactory().query(repositoryConfig.getEntityClass());
+		query.setPrivateData(new JpaRequestContext(this, querySpec));
+
+		JpaModuleConfig config = module.getConfig();
+		EntityProjection projection = getProjection(filteredQuerySpec);
+		QuerySpec preparedQuerySpec = filteredQuerySpec;
+		if (config.isSparseFieldsProjected() && !filteredQuerySpec.getIncludedFields().isEmpty()) {
+			// fields not projected are ignored and entire entities returned
+			preparedQuerySpec = filteredQuerySpec.duplicate();
+			preparedQuerySpec.getIncludedFields().clear();
+		}
+		if (projection != null) {
+			projection.apply(query);
+		}
+
+		JpaRepositoryUtils.prepareQuery(query, preparedQuerySpec, getComputedAttributes());
+		if (filteredQuerySpec.getPaging() instanceof KeysetPagingSpec) {
+			JpaRepositoryUtils.prepareKeysetPaging(query, filteredQuerySpec, meta, module.getTypeParser(),
+					config.isNullsSortedLow());
+		}
+		query = filterQuery(windowQuerySpec, query);
+		JpaQueryExecutor<?> executor = query.buildExecutor();
+
+		JpaRepositoryUtils.prepareExecutor(executor, windowQuerySpec, fetchRelations(null));
+		if (config.getIncludeFetchDepth() > 0 && projection == null) {
+			boolean windowed = executor.getLimit() > 0 || config.getStreamingChunkSize() > 0;
+			int maxCollections = windowed ? 0 : config.getIncludeFetchMaxCollections();
+			JpaRepositoryUtils.prepareIncludeFetches(executor, meta, windowQuerySpec, config.getIncludeFetchDepth(),
+					maxCollections);
+		}
+
+		if (fetchNext) {
+			executor.setLimit(executor.getLimit() + 1);
+		}
+
+		return filterExecutor(windowQuerySpec, executor);
+	}
+
+	private Set<String> getComputedAttributes() {
+		ComputedAttributeRegistry computedAttributesRegistry = module.getQueryFactory().getComputedAttributes();
+		return computedAttributesRegistry.getForType(repositoryConfig.getEntityClass());
+	}
+
+	/**
+	 * @return projection of the sparse field set of the querySpec if enabled and applicable.
+	 */
+	private EntityProjection getProjection(QuerySpec querySpec) {
+		if (module.getConfig().isSparseFieldsProjected() && !querySpec.getIncludedFields().isEmpty()
+				&& isProjectable(getComputedAttributes())) {
+			return EntityProjection.create(meta, querySpec);
+		}
+		return null;
+	}
+
+	private List<Tuple> toEntityTuples(QuerySpec querySpec, List<Tuple> tuples) {
+		EntityProjection projection = getProjection(querySpec);
+		return projection != null ? projection.toEntityTuples(tuples, module.getEntityManager()) : tuples;
+	}
+
+	/**
+	 * Projected tuples are populated into entities, which requires entities to be returned as is. Fetching
+	 * relations is not possible with scalar selections.
+	 */
+	private boolean isProjectable(Set<String> computedAttrs) {
+		return repositoryConfig.getMapper() instanceof IdentityMapper && computedAttrs.isEmpty()
+				&& !fetchRelations(null);
+	}
+
+	/**
+	 * Streamed chunks continue after the sort key of the last entity of the previous chunk, which must be available
+	 * from that entity.
+	 */
+	private boolean isStreamable(QuerySpec querySpec) {
+		if (!DefaultResourceList.class.equals(repositoryConfig.getListClass()) || isFiltered()) {
+			return false;
+		}
+		Set<String> computedAttrs = getComputedAttributes();
+		EntityProjection projection = getProjection(querySpec);
+		for (SortSpec sortSpec : querySpec.getSort()) {
+			List<String> path = sortSpec.getAttributePath();
+			if (computedAttrs.contains(path.get(0))
+					|| projection != null && !path.equals(getPrimaryKeyPath()) && !isFieldIncluded(querySpec, path)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isFieldIncluded(QuerySpec querySpec, List<String> path) {
+		for (IncludeFieldSpec includedField : querySpec.getIncludedFields()) {
+			if (includedField.getAttributePath().equals(path)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isFiltered() {
+		for (JpaRepositoryFilter filter : module.getFilters()) {
+			if (filter.accept(repositoryConfig.getResourceClass())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private List<String> getPrimaryKeyPath() {
+		return Arrays.asList(primaryKeyAttr.getName());
+	}
+
+	/**
+	 * Fetches the results chunk by chunk ordered by the requested sort and the primary key. The first chunk starts at
+	 * the requested offset, every further chunk is fetched with a keyset filter following the last entity of the
+	 * previous chunk. This keeps the cost of a chunk independent of its position and neither skips nor repeats
+	 * resources if rows preceding the current chunk are inserted or deleted in the meantime.
+	 */
+	private ResourceList<T> streamResults(final QuerySpec querySpec, QuerySpec filteredQuerySpec, int chunkSize) {
+		final QuerySpec streamedQuerySpec = filteredQuerySpec.duplicate();
+		boolean sortedByPrimaryKey = false;
+		for (SortSpec sortSpec : streamedQuerySpec.getSort()) {
+			sortedByPrimaryKey |= sortSpec.getAttributePath().equals(getPrimaryKeyPath());
+		}
+		if (!sortedByPrimaryKey) {
+			streamedQuerySpec.addSort(new SortSpec(getPrimaryKeyPath(), Direction.ASC));
+		}
+		final long offset = filteredQuerySpec.getOffset();
+		Long limit = filteredQuerySpec.getLimit();
+
+		final ChunkedResultIterator<Tuple> tupleIterator = new ChunkedResultIterator<>(module.getEntityManager(),
+				repositoryConfig.getEntityClass(), limit != null ? limit.intValue() : -1, chunkSize,
+				new ChunkedResultIterator.ChunkLoader<Tuple>() {
+
+					@Override
+					public List<Tuple> load(Tuple last, int chunkLimit) {
+						QuerySpec chunkQuerySpec = streamedQuerySpec.duplicate();
+						QuerySpec windowQuerySpec;
+						if (last == null) {
+							chunkQuerySpec.setPaging(new OffsetLimitPagingSpec(offset, (long) chunkLimit));
+							windowQuerySpec = chunkQuerySpec;
+						}
+						else {
+							List<Object> key = getSortKey(streamedQuerySpec, last.get(0, Object.class));
+							chunkQuerySpec.setPaging(new KeysetPagingSpec((long) chunkLimit, key));
+							windowQuerySpec = toWindowQuerySpec(chunkQuerySpec);
+						}
+						JpaQueryExecutor<?> executor = buildExecutor(querySpec, chunkQuerySpec, windowQuerySpec, false);
+						return toEntityTuples(chunkQuerySpec, executor.<Tuple>getResultTuples());
+					}
+				});
+		final JpaMapper<Object, T> mapper = repositoryConfig.getMapper();
+		Iterator<T> resourceIterator = new Iterator<T>() {
+
+			@Override
+			public boolean hasNext() {
+				return tupleIterator.hasNext();
+			}
+
+			@Override
+			public T next() {
+				return mapper.map(tupleIterator.next());
+			}
+		};
+
+		DefaultResourceList<T> emptyList = repositoryConfig.newResultList();
+		return new StreamingResourceList<T>(resourceIterator, emptyList.getMeta(), emptyList.getLinks()) {
+
+			@Override
+			public Iterator<T> consume() {
+				// consumed resources are no longer accessed, no need to keep them in the persistence context
+				tupleIterator.setDetach(true);
+				return super.consume();
+			}
+		};
+	}
+
+	private List<Object> getSortKey(QuerySpec querySpec, Object entity) {
+		List<Object> key = new ArrayList<>();
+		for (SortSpec sortSpec : querySpec.getSort()) {
+			Object value = entity;
+			for (MetaAttribute attr : meta.resolvePath(sortSpec.getAttributePath())) {
+				if (value == null) {
+					break;
+				}
+				value = attr.getValue(value);
+			}
+			key.add(value);
+		}
+		return key;
+	}
+
+	/**
+	 * Counts are cached by the requested filters only. Restrictions of {@link JpaRepositoryFilter}s may depend on the
+	 * request, the same as for {@link #getResultCache()} filtered repositories always count.
+	 */
+	private long getTotalRowCount(QuerySpec querySpec, JpaQueryExecutor<?> executor) {
+		if (totalResourceCountCache == null || isFiltered()) {
+			return executor.getTotalRowCount();
+		}
+		Long totalRowCount = totalResourceCountCache.get(querySpec.getFilters());
+		if (totalRowCount == null) {
+			totalRowCount = executor.getTotalRowCount();
+			totalResourceCountCache.put(querySpec.getFilters(), totalRowCount);
+		}
+		return totalRowCount;
+	}
+
 
 	@Override
 	public <S extends T> S create(S resource) {
@@ -120,18 +518,29 @@ public class JpaEntityRepository<T, I extends Serializable> extends JpaRepositor
 	@SuppressWarnings("unchecked")
 	private <S extends T> S saveInternal(S resource) {
 		JpaMapper<Object, T> mapper = repositoryConfig.getMapper();
-		Object entity = mapper.unmap(resource);
-
-		// PATCH reads, updates and saves entities, needs reattachment during
-		// save since reads do a detach
 		EntityManager em = module.getEntityManager();
-		em.persist(entity);
+		Object entity;
+		try {
+			entity = mapper.unmap(resource);
+
+			// PATCH reads, updates and saves entities, needs reattachment during
+			// save since reads do a detach
+			em.persist(entity);
+		}
+		catch (RuntimeException e) {
+			// entities may have been modified partially
+			invalidateResultCache();
+			throw e;
+		}
+		clearTotalResourceCounts();
 		I id = (I) em.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(entity);
+		invalidateResultCache(id);
 
-		// fetch again since we may have to fetch tuple data and do DTO mapping
+		// fetch again since we may have to fetch tuple data and do DTO mapping. Not cached, since the transaction
+		// may still be rolled back.
 		QuerySpec querySpec = new QuerySpec(repositoryConfig.getResourceClass());
 		PreconditionUtil.verify(id != null, "id not available for entity %s", resource);
-		return (S) findOne(id, querySpec);
+		return (S) getUnique(loadAll(newFindOneQuerySpec(id, querySpec)), id);
 	}
 
 	@Override
@@ -141,6 +550,158 @@ public class JpaEntityRepository<T, I extends Serializable> extends JpaRepositor
 		Object object = em.find(repositoryConfig.getEntityClass(), id);
 		if (object != null) {
 			em.remove(object);
+			clearTotalResourceCounts();
+			invalidateResultCache(id);
+		}
+	}
+
+	@Override
+	public <S extends T> List<S> createAll(Collection<S> resources) {
+		return saveAllInternal(resources);
+	}
+
+	@Override
+	public <S extends T> List<S> saveAll(Collection<S> resources) {
+		return saveAllInternal(resources);
+	}
+
+	/**
+	 * Persists the resources batch by batch and fetches every batch again with a single query. Once fetched, the
+	 * entities of all but the last batch are detached to keep the persistence context from growing with the number
+	 * of resources. Other entities, like the ones of later batches, remain managed.
+	 */
+	private <S extends T> List<S> saveAllInternal(Collection<S> resources) {
+		JpaMapper<Object, T> mapper = repositoryConfig.getMapper();
+		EntityManager em = module.getEntityManager();
+		PersistenceUnitUtil persistenceUnitUtil = em.getEntityManagerFactory().getPersistenceUnitUtil();
+
+		List<S> results = new ArrayList<>(resources.size());
+		try {
+			List<List<S>> batches = toBatches(resources);
+			for (int i = 0; i < batches.size(); i++) {
+				List<S> batch = batches.get(i);
+				List<Object> entities = new ArrayList<>(batch.size());
+				List<I> ids = new ArrayList<>(batch.size());
+				for (S resource : batch) {
+					Object entity = mapper.unmap(resource);
+					em.persist(entity);
+					@SuppressWarnings("unchecked")
+					I id = (I) persistenceUnitUtil.getIdentifier(entity);
+					PreconditionUtil.verify(id != null, "id not available for entity %s", resource);
+					entities.add(entity);
+					ids.add(id);
+				}
+				boolean lastBatch = i == batches.size() - 1;
+				if (!lastBatch) {
+					em.flush();
+				}
+				results.addAll(this.<S>findAllByIds(ids));
+				if (!lastBatch) {
+					for (Object entity : entities) {
+						em.detach(entity);
+					}
+				}
+			}
+		}
+		finally {
+			clearTotalResourceCounts();
+			invalidateResultCache();
+		}
+		return results;
+	}
+
+	/**
+	 * @return resources of the given ids in the order of the ids. Same as a re-read by {@link #findOne(Serializable,
+	 * QuerySpec)}, but with a single query.
+	 */
+	@SuppressWarnings("unchecked")
+	private <S extends T> List<S> findAllByIds(List<I> ids) {
+		QuerySpec querySpec = newIdQuerySpec(ids, new QuerySpec(repositoryConfig.getResourceClass()));
+		QuerySpec filteredQuerySpec = filterQuerySpec(querySpec);
+		JpaQueryExecutor<?> executor = buildExecutor(querySpec, filteredQuerySpec, filteredQuerySpec, false);
+		List<Tuple> tuples = toEntityTuples(filteredQuerySpec, executor.getResultTuples());
+		tuples = filterTuples(filteredQuerySpec, tuples);
+
+		PersistenceUnitUtil persistenceUnitUtil = module.getEntityManager().getEntityManagerFactory()
+				.getPersistenceUnitUtil();
+		Map<Object, Tuple> tupleMap = new HashMap<>();
+		for (Tuple tuple : tuples) {
+			Object entity = tuple.get(0, Object.class);
+			tupleMap.put(persistenceUnitUtil.getIdentifier(entity), tuple);
+		}
+		List<Tuple> orderedTuples = new ArrayList<>(ids.size());
+		for (I id : ids) {
+			Tuple tuple = tupleMap.get(id);
+			PreconditionUtil.verify(tuple != null, "resource not found after saving: id=%s", id);
+			orderedTuples.add(tuple);
+		}
+
+		ResourceList<T> resources = fillResourceList(orderedTuples, repositoryConfig.newResultList());
+		return (List<S>) filterResults(filteredQuerySpec, resources);
+	}
+
+	@Override
+	public void deleteAll(Collection<I> ids) {
+		EntityManager em = module.getEntityManager();
+		Class<?> entityClass = repositoryConfig.getEntityClass();
+		try {
+			for (List<I> batch : toBatches(ids)) {
+				JpaQuery<?> query = module.getQueryFactory().query(entityClass);
+				query.addFilter(new FilterSpec(Arrays.asList(primaryKeyAttr.getName()), FilterOperator.EQ, batch));
+				for (Object entity : query.buildExecutor().getResultList()) {
+					em.remove(entity);
+				}
+				if (batch.size() < ids.size()) {
+					// removed entities leave the persistence context once flushed, others remain managed
+					em.flush();
+				}
+			}
+		}
+		finally {
+			clearTotalResourceCounts();
+			invalidateResultCache();
+		}
+	}
+
+	private <E> List<List<E>> toBatches(Collection<E> elements) {
+		List<E> list = new ArrayList<>(elements);
+		int batchSize = module.getConfig().getBulkWriteBatchSize();
+		if (list.isEmpty()) {
+			return Collections.emptyList();
+		}
+		if (batchSize <= 0 || list.size() <= batchSize) {
+			return Collections.singletonList(list);
+		}
+		List<List<E>> batches = new ArrayList<>();
+		for (int i = 0; i < list.size(); i += batchSize) {
+			batches.add(list.subList(i, Math.min(list.size(), i + batchSize)));
+		}
+		return batches;
+	}
+
+	/**
+	 * Invalidates all resources mapped from the entity, regardless of the repository they are cached for. The
+	 * module invalidates them once more when the transaction completes.
+	 */
+	private void invalidateResultCache() {
+		JpaResultCache resultCache = module.getConfig().getResultCache();
+		if (resultCache != null) {
+			module.markModifyingTransaction(repositoryConfig.getEntityClass());
+			resultCache.invalidate(repositoryConfig.getEntityClass());
+		}
+	}
+
+	private void invalidateResultCache(I id) {
+		JpaResultCache resultCache = module.getConfig().getResultCache();
+		if (resultCache != null) {
+			module.markModifyingTransaction(repositoryConfig.getEntityClass());
+			resultCache.invalidate(repositoryConfig.getEntityClass(), id);
+		}
+	}
+
+	private void clearTotalResourceCounts() {
+		if (totalResourceCountCache != null) {
+			totalResourceCountCache.clear();
 		}
 	}
 
@@ -153,4 +714,13 @@ public class JpaEntityRepository<T, I extends Serializable> extends JpaRepositor
 		return repositoryConfig.getEntityClass();
 	}
 
+	/**
+	 * Cached resources of {@link #findAll(QuerySpec)}.
+	 */
+	private static class ResourcesSnapshot extends ArrayList<JsonNode> {
+
+		private Long totalResourceCount;
+
+		private Boolean hasMoreResources;
+	}
 }
@@ -2,9 +2,12 @@ package io.crnk.jpa;
 
 import java.io.Serializable;
 import java.lang.reflect.Constructor;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.Callable;
 import javax.persistence.Entity;
 import javax.persistence.EntityManager;
@@ -22,6 +25,7 @@ import io.crnk.core.engine.information.resource.ResourceInformationProvider;
 import io.crnk.core.engine.internal.utils.ClassUtils;
 import io.crnk.core.engine.internal.utils.ExceptionUtil;
 import io.crnk.core.engine.internal.utils.PreconditionUtil;
+import io.crnk.core.engine.parser.TypeParser;
 import io.crnk.core.engine.properties.PropertiesProvider;
 import io.crnk.core.engine.transaction.TransactionRunner;
 import io.crnk.core.module.InitializingModule;
@@ -33,12 +37,14 @@ import io.crnk.core.repository.decorate.RepositoryDecoratorFactory;
 import io.crnk.core.repository.decorate.ResourceRepositoryDecorator;
 import io.crnk.core.resource.meta.DefaultHasMoreResourcesMetaInformation;
 import io.crnk.core.resource.meta.DefaultPagedMetaInformation;
+import io.crnk.jpa.cache.JpaResultCache;
 import io.crnk.jpa.internal.JpaRepositoryBase;
 import io.crnk.jpa.internal.JpaRequestContext;
 import io.crnk.jpa.internal.JpaResourceInformationProvider;
 import io.crnk.jpa.internal.OptimisticLockExceptionMapper;
 import io.crnk.jpa.internal.PersistenceExceptionMapper;
 import io.crnk.jpa.internal.PersistenceRollbackExceptionMapper;
+import io.crnk.jpa.internal.ResourceSnapshotMapper;
 import io.crnk.jpa.internal.query.backend.querydsl.QuerydslQueryImpl;
 import io.crnk.jpa.meta.JpaMetaProvider;
 import io.crnk.jpa.meta.MetaEntity;
@@ -109,6 +115,22 @@ public class JpaModule implements InitializingModule {
 
 	private JpaMetaProvider jpaMetaProvider;
 
+	private ResourceSnapshotMapper resourceSnapshotMapper;
+
+	/**
+	 * Persistence contexts of transactions that modified entities through the repositories of this module, identified
+	 * by {@link EntityManager#getDelegate()}. Their results are neither cached nor taken from the cache.
+	 */
+	private final Set<Object> modifyingPersistenceContexts =
+			Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<Object, Boolean>()));
+
+	/**
+	 * Entity classes modified within a persistence context, to be invalidated in the result cache once more after
+	 * its transaction completed.
+	 */
+	private final Map<Object, Set<Class<?>>> modifiedEntityClasses =
+			Collections.synchronizedMap(new WeakHashMap<Object, Set<Class<?>>>());
+
 	/**
 	 * Constructor used on client side.
 	 */
@@ -378,13 +400,20 @@ public class JpaModule implements InitializingModule {
 
 			@Override
 			public Response filter(final DocumentFilterContext context, final DocumentFilterChain chain) {
-				return transactionRunner.doInTransaction(new Callable<Response>() {
-
-					@Override
-					public Response call() throws Exception {
-						return chain.doFilter(context);
-					}
-				});
+				final Object[] persistenceContext = new Object[1];
+				try {
+					return transactionRunner.doInTransaction(new Callable<Response>() {
+
+						@Override
+						public Response call() throws Exception {
+							persistenceContext[0] = em.getDelegate();
+							return chain.doFilter(context);
+						}
+					});
+				}
+				finally {
+					invalidateModifiedEntityClasses(persistenceContext[0]);
+				}
 			}
 		});
 	}
@@ -614,6 +643,60 @@ public class JpaModule implements InitializingModule {
 		return jpaMetaProvider;
 	}
 
+	/**
+	 * @return config of this module
+	 */
+	public JpaModuleConfig getConfig() {
+		return config;
+	}
+
+	TypeParser getTypeParser() {
+		return context.getTypeParser();
+	}
+
+	synchronized ResourceSnapshotMapper getResourceSnapshotMapper() {
+		if (resourceSnapshotMapper == null) {
+			// created upon first use to pick up all modules registered with the object mapper
+			resourceSnapshotMapper = new ResourceSnapshotMapper(context.getObjectMapper());
+		}
+		return resourceSnapshotMapper;
+	}
+
+	void markModifyingTransaction(Class<?> entityClass) {
+		Object persistenceContext = em.getDelegate();
+		modifyingPersistenceContexts.add(persistenceContext);
+		synchronized (modifiedEntityClasses) {
+			Set<Class<?>> entityClasses = modifiedEntityClasses.get(persistenceContext);
+			if (entityClasses == null) {
+				entityClasses = new HashSet<>();
+				modifiedEntityClasses.put(persistenceContext, entityClasses);
+			}
+			entityClasses.add(entityClass);
+		}
+	}
+
+	/**
+	 * Concurrent requests may have loaded and cached results before the modifications got committed, those
+	 * get invalidated once the transaction completed.
+	 */
+	private void invalidateModifiedEntityClasses(Object persistenceContext) {
+		Set<Class<?>> entityClasses = persistenceContext != null ? modifiedEntityClasses.remove(persistenceContext) : null;
+		JpaResultCache resultCache = config.getResultCache();
+		if (entityClasses != null && resultCache != null) {
+			for (Class<?> entityClass : entityClasses) {
+				resultCache.invalidate(entityClass);
+			}
+		}
+	}
+
+	/**
+	 * @return true if the current transaction modified entities through the repositories of this module. Entity
+	 * managers spanning multiple transactions are considered modifying from their first modification on.
+	 */
+	boolean isModifyingTransaction() {
+		return modifyingPersistenceContexts.contains(em.getDelegate());
+	}
+
 	private final class JpaQuerydslTranslationInterceptor implements QuerydslTranslationInterceptor {
 
 		@Override
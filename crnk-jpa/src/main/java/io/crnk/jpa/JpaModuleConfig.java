@@ -11,6 +11,7 @@ import javax.persistence.Entity;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.metamodel.ManagedType;
 
+import io.crnk.jpa.cache.JpaResultCache;
 import io.crnk.jpa.internal.QueryFactoryDiscovery;
 import io.crnk.jpa.query.JpaQueryFactory;
 
@@ -22,6 +23,24 @@ public class JpaModuleConfig {
 
 	private boolean totalResourceCountUsed = true;
 
+	private long totalResourceCountMaxAge = 0;
+
+	private boolean nullsSortedLow = true;
+
+	private int streamingChunkSize = 0;
+
+	private int bulkFetchChunkSize = 0;
+
+	private int bulkWriteBatchSize = 0;
+
+	private int includeFetchDepth = 0;
+
+	private int includeFetchMaxCollections = 1;
+
+	private boolean sparseFieldsProjected = false;
+
+	private JpaResultCache resultCache;
+
 	private JpaRepositoryFactory repositoryFactory = new DefaultJpaRepositoryFactory();
 
 	public JpaModuleConfig() {
@@ -83,6 +102,147 @@ public class JpaModuleConfig {
 		this.totalResourceCountUsed = totalResourceCountUsed;
 	}
 
+	public long getTotalResourceCountMaxAge() {
+		return totalResourceCountMaxAge;
+	}
+
+	/**
+	 * Computing the totalResourceCount requires a second query for every page. This setting allows to reuse a
+	 * previously computed count for the same filters for the given number of milliseconds, trading accuracy for
+	 * fewer count queries. Counts are also discarded when resources get created, saved or deleted through the
+	 * repository. Disabled by default. Repositories with a {@link JpaRepositoryFilter} accepting their resource type
+	 * always count, since their restrictions may depend on the current request.
+	 */
+	public void setTotalResourceCountMaxAge(long totalResourceCountMaxAge) {
+		this.totalResourceCountMaxAge = totalResourceCountMaxAge;
+	}
+
+	public boolean isNullsSortedLow() {
+		return nullsSortedLow;
+	}
+
+	/**
+	 * JPA does not allow to specify where null values are sorted, it is up to the database. Keyset paging needs to
+	 * know to continue after null sort values. Set to true (default) if the database sorts null values lower than
+	 * any other value, like H2, MySQL and SQL Server do, and to false if it sorts them higher, like PostgreSQL and
+	 * Oracle do.
+	 */
+	public void setNullsSortedLow(boolean nullsSortedLow) {
+		this.nullsSortedLow = nullsSortedLow;
+	}
+
+	public int getStreamingChunkSize() {
+		return streamingChunkSize;
+	}
+
+	/**
+	 * Entities of large collection requests can be fetched chunk by chunk rather than being loaded as a whole to keep
+	 * the persistence context small. Results are then fetched in chunks of the given size and returned as
+	 * {@link io.crnk.core.resource.list.StreamingResourceList}; the response document still holds all resources. Chunks are
+	 * ordered by the requested sort followed by the primary key, every chunk continues after the key of the last
+	 * entity of the previous one. If the response does not need to look up any relationship data, the entities of a
+	 * chunk are mapped and detached from the entity manager before the next chunk is fetched. Applies neither to
+	 * paged requests that compute a total count or next page, to keyset paging, to sorting by computed attributes nor
+	 * to repositories with a custom list class or with {@link JpaRepositoryFilter}s. Disabled by default.
+	 */
+	public void setStreamingChunkSize(int streamingChunkSize) {
+		this.streamingChunkSize = streamingChunkSize;
+	}
+
+	public int getBulkFetchChunkSize() {
+		return bulkFetchChunkSize;
+	}
+
+	/**
+	 * Resources fetched by a list of identifiers, such as by {@link JpaEntityRepository#findAll(Iterable,
+	 * io.crnk.core.queryspec.QuerySpec)} or bulk inclusions with {@link JpaRelationshipRepository#findTargets(Iterable,
+	 * String, io.crnk.core.queryspec.QuerySpec)}, are then fetched with one query for every chunk of at most the
+	 * given number of identifiers. The identifiers of a chunk are padded to the next power of two, so only a few
+	 * distinct statements get issued and can be reused from the statement cache of the database. Disabled by default,
+	 * in which case a single query is issued.
+	 */
+	public void setBulkFetchChunkSize(int bulkFetchChunkSize) {
+		this.bulkFetchChunkSize = bulkFetchChunkSize;
+	}
+
+	public int getBulkWriteBatchSize() {
+		return bulkWriteBatchSize;
+	}
+
+	/**
+	 * Resources created, saved or deleted with {@link JpaEntityRepository#createAll(java.util.Collection)},
+	 * {@link JpaEntityRepository#saveAll(java.util.Collection)} and {@link JpaEntityRepository#deleteAll(
+	 * java.util.Collection)} are then processed in batches of the given size. The entity manager is flushed after
+	 * every batch and the entities of the batch detached, which bounds its size while leaving other entities
+	 * managed. Match it with the JDBC batch size of the JPA provider, such as <code>hibernate.jdbc.batch_size</code>,
+	 * to send the statements of a batch together. Disabled by default, in which case all resources are processed in a single batch.
+	 */
+	public void setBulkWriteBatchSize(int bulkWriteBatchSize) {
+		this.bulkWriteBatchSize = bulkWriteBatchSize;
+	}
+
+	public int getIncludeFetchDepth() {
+		return includeFetchDepth;
+	}
+
+	/**
+	 * Relations included by a request, like <code>include=author,comments.author</code>, are then fetched together
+	 * with the requested entities by {@link JpaEntityRepository} with an entity graph up to the given depth. This
+	 * avoids lazy loading them one by one while the response is written. Relations omitted by sparse field sets are
+	 * not fetched. Disabled by default.
+	 */
+	public void setIncludeFetchDepth(int includeFetchDepth) {
+		this.includeFetchDepth = includeFetchDepth;
+	}
+
+	public int getIncludeFetchMaxCollections() {
+		return includeFetchMaxCollections;
+	}
+
+	/**
+	 * Limits the number of collection-valued relations fetched by {@link #setIncludeFetchDepth(int)}. Every fetched
+	 * collection multiplies the number of rows returned by the database. Collections are never fetched for paged
+	 * or streamed requests, since the page would have to be applied in memory. By default a single collection is
+	 * fetched.
+	 */
+	public void setIncludeFetchMaxCollections(int includeFetchMaxCollections) {
+		this.includeFetchMaxCollections = includeFetchMaxCollections;
+	}
+
+	public boolean isSparseFieldsProjected() {
+		return sparseFieldsProjected;
+	}
+
+	/**
+	 * Sparse field sets, like <code>fields[tasks]=name,project</code>, are then queried by {@link JpaEntityRepository}
+	 * by selecting only the primary key, the requested attributes and the foreign keys of the requested single-valued
+	 * relationships. The returned entities are new, unmanaged instances holding just those values. Requests that
+	 * cannot be projected, for example due to a collection in the field set or a custom {@link
+	 * io.crnk.jpa.mapping.JpaMapper}, fall back to fetching the entire entities. Disabled by default.
+	 */
+	public void setSparseFieldsProjected(boolean sparseFieldsProjected) {
+		this.sparseFieldsProjected = sparseFieldsProjected;
+	}
+
+	public JpaResultCache getResultCache() {
+		return resultCache;
+	}
+
+	/**
+	 * Sets a cache to keep the results of {@link JpaEntityRepository#findOne(java.io.Serializable,
+	 * io.crnk.core.queryspec.QuerySpec)} and {@link JpaEntityRepository#findAll(io.crnk.core.queryspec.QuerySpec)}
+	 * across requests, for example, a {@link io.crnk.jpa.cache.LocalJpaResultCache}. Applies to repositories
+	 * mapping entities to other resources with a {@link io.crnk.jpa.mapping.JpaMapper}, since entities are bound to
+	 * the entity manager of a request, and not affected by a {@link JpaRepositoryFilter}. The cache holds snapshots,
+	 * requests obtain copies of the cached resources. Entries of an entity class are invalidated when resources are
+	 * created, saved, deleted or their relationships changed through the repositories of this module, but not by
+	 * other modifications of the database. Transactions modifying resources bypass the cache and their entity classes
+	 * are invalidated once more after the transaction of the request completed. Disabled by default.
+	 */
+	public void setResultCache(JpaResultCache resultCache) {
+		this.resultCache = resultCache;
+	}
+
 	/**
 	 * @return true if a resource for the given resourceClass is managed by
 	 * this module.
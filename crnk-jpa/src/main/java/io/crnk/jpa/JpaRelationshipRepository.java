@@ -20,6 +20,7 @@ import io.crnk.core.resource.list.ResourceList;
 import io.crnk.core.resource.meta.HasMoreResourcesMetaInformation;
 import io.crnk.core.resource.meta.MetaInformation;
 import io.crnk.core.resource.meta.PagedMetaInformation;
+import io.crnk.jpa.cache.JpaResultCache;
 import io.crnk.jpa.internal.JpaRepositoryBase;
 import io.crnk.jpa.internal.JpaRepositoryUtils;
 import io.crnk.jpa.internal.JpaRequestContext;
@@ -91,6 +92,7 @@ public class JpaRelationshipRepository<S, I extends Serializable, T, J extends S
 			}
 			em.persist(target);
 		}
+		invalidateResultCache();
 	}
 
 	@Override
@@ -138,6 +140,7 @@ public class JpaRelationshipRepository<S, I extends Serializable, T, J extends S
 			}
 		}
 		attrMeta.setValue(sourceEntity, targets);
+		invalidateResultCache();
 	}
 
 	private Class<?> getElementType(MetaAttribute attrMeta) {
@@ -174,6 +177,7 @@ public class JpaRelationshipRepository<S, I extends Serializable, T, J extends S
 			}
 		}
 		em.persist(sourceEntity);
+		invalidateResultCache();
 	}
 
 	@Override
@@ -198,6 +202,20 @@ public class JpaRelationshipRepository<S, I extends Serializable, T, J extends S
 				}
 			}
 		}
+		invalidateResultCache();
+	}
+
+	/**
+	 * Both sides of the relationship may have changed, including previously related resources.
+	 */
+	private void invalidateResultCache() {
+		JpaResultCache resultCache = module.getConfig().getResultCache();
+		if (resultCache != null) {
+			module.markModifyingTransaction(sourceEntityClass);
+			module.markModifyingTransaction(getTargetEntityClass());
+			resultCache.invalidate(sourceEntityClass);
+			resultCache.invalidate(getTargetEntityClass());
+		}
 	}
 
 	@Override
@@ -210,8 +228,24 @@ public class JpaRelationshipRepository<S, I extends Serializable, T, J extends S
 		if (querySpec.getLimit() != null && sourceIdLists.size() > 1) {
 			throw new UnsupportedOperationException("page limit not supported for bulk inclusions");
 		}
+
+		MultivaluedMap<I, T> map = newResultMap();
+		int chunkSize = module.getConfig().getBulkFetchChunkSize();
+		if (chunkSize > 0 && sourceIdLists.size() > 1) {
+			// every source is part of a single chunk, so the order of its targets is preserved
+			for (List<I> chunk : JpaRepositoryUtils.chunkIds(sourceIdLists, chunkSize)) {
+				findTargets(chunk, false, fieldName, querySpec, map);
+			}
+		}
+		else {
+			findTargets(sourceIdLists, sourceIdLists.size() == 1, fieldName, querySpec, map);
+		}
+		return map;
+	}
+
+	private void findTargets(List<I> sourceIds, boolean singleRequest, String fieldName, QuerySpec querySpec,
+			MultivaluedMap<I, T> map) {
 		// support paging for non-bulk requests
-		boolean singleRequest = sourceIdLists.size() == 1;
 		boolean pagedSingleRequest = singleRequest && querySpec.getLimit() != null;
 		boolean fetchNext = pagedSingleRequest && isNextFetched(querySpec);
 
@@ -220,7 +254,7 @@ public class JpaRelationshipRepository<S, I extends Serializable, T, J extends S
 		QuerySpec filteredQuerySpec = filterQuerySpec(bulkQuerySpec);
 
 		JpaQueryFactory queryFactory = module.getQueryFactory();
-		JpaQuery<?> query = queryFactory.query(sourceEntityClass, fieldName, sourceIdLists);
+		JpaQuery<?> query = queryFactory.query(sourceEntityClass, fieldName, sourceIds);
 		query.setPrivateData(new JpaRequestContext(this, querySpec));
 		query.addParentIdSelection();
 		query = filterQuery(filteredQuerySpec, query);
@@ -250,10 +284,10 @@ public class JpaRelationshipRepository<S, I extends Serializable, T, J extends S
 
 		tuples = filterTuples(bulkQuerySpec, tuples);
 
-		MultivaluedMap<I, T> map = mapTuples(tuples);
+		mapTuples(tuples, map);
 
 		if (singleRequest) {
-			I sourceId = sourceIdLists.get(0);
+			I sourceId = sourceIds.get(0);
 
 			ResourceList<T> iterable;
 			if (map.containsKey(sourceId)) {
@@ -276,26 +310,26 @@ public class JpaRelationshipRepository<S, I extends Serializable, T, J extends S
 				}
 			}
 		}
-
-		return map;
 	}
 
-	@SuppressWarnings("unchecked")
-	private MultivaluedMap<I, T> mapTuples(List<Tuple> tuples) {
-		MultivaluedMap<I, T> map = new MultivaluedMap<I, T>() {
+	private MultivaluedMap<I, T> newResultMap() {
+		return new MultivaluedMap<I, T>() {
 
 			@Override
 			protected List<T> newList() {
 				return repositoryConfig.newResultList();
 			}
 		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private void mapTuples(List<Tuple> tuples, MultivaluedMap<I, T> map) {
 		for (Tuple tuple : tuples) {
 			I sourceId = (I) tuple.get(0, Object.class);
 			tuple.reduce(1);
 			JpaMapper<Object, T> mapper = repositoryConfig.getMapper();
 			map.add(sourceId, mapper.map(tuple));
 		}
-		return map;
 	}
 
 	@Override
@@ -0,0 +1,59 @@
+package io.crnk.jpa.cache;
+
+import io.crnk.core.queryspec.QuerySpec;
+
+/**
+ * Keeps results of JPA repositories across requests. Entries are held per entity class, since several resources may
+ * be mapped from the same entity. Single resources are kept by their identifier and the {@link QuerySpec} they were
+ * requested with, collections by their {@link QuerySpec}. Repositories invalidate the affected entries whenever they
+ * modify entities. Since a concurrent request may still load the previous state while a modification is being
+ * committed, every invalidation starts a new generation of the entity class and results are only put if no
+ * invalidation happened while loading them. Values are snapshots owned by the cache, repositories copy them when
+ * putting and getting entries. Implementations must be thread-safe and decide on their own which entries to evict.
+ */
+public interface JpaResultCache {
+
+	/**
+	 * @return cached resource or null if there is none.
+	 */
+	Object getResource(Class<?> entityClass, Class<?> resourceClass, Object id, QuerySpec querySpec);
+
+	/**
+	 * Puts the resource unless the entity class has been invalidated since the given generation has been obtained.
+	 *
+	 * @param generation obtained with {@link #getGeneration(Class)} before loading the resource
+	 */
+	void putResource(Class<?> entityClass, Class<?> resourceClass, Object id, QuerySpec querySpec, Object resource,
+			long generation);
+
+	/**
+	 * @return cached resources or null if there are none.
+	 */
+	Object getResources(Class<?> entityClass, Class<?> resourceClass, QuerySpec querySpec);
+
+	/**
+	 * Puts the resources unless the entity class has been invalidated since the given generation has been obtained.
+	 *
+	 * @param generation obtained with {@link #getGeneration(Class)} before loading the resources
+	 */
+	void putResources(Class<?> entityClass, Class<?> resourceClass, QuerySpec querySpec, Object resources,
+			long generation);
+
+	/**
+	 * @return current generation of the given entity class, advanced by every invalidation of it.
+	 */
+	long getGeneration(Class<?> entityClass);
+
+	/**
+	 * Removes the resources of the entity with the given id, whatever they have been mapped to, as well as all cached
+	 * collections of the given entity class, since any of them may hold the entity.
+	 */
+	void invalidate(Class<?> entityClass, Object id);
+
+	/**
+	 * Removes all resources and collections of the given entity class.
+	 */
+	void invalidate(Class<?> entityClass);
+
+	void clear();
+}
@@ -0,0 +1,283 @@
+package io.crnk.jpa.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.crnk.core.engine.internal.utils.CompareUtils;
+import io.crnk.core.queryspec.QuerySpec;
+
+/**
+ * In-process {@link JpaResultCache} evicting the least recently used entries once more than the configured number
+ * of entries or the configured weight is held. Entries older than the configured maximum age are no longer returned.
+ */
+public class LocalJpaResultCache implements JpaResultCache {
+
+	/**
+	 * Determines the weight of a cached value for {@link #setMaxWeight(long)}.
+	 */
+	public interface Weigher {
+
+		long weigh(Object value);
+	}
+
+	/**
+	 * Weighs collections by their number of elements and everything else by one.
+	 */
+	public static final Weigher DEFAULT_WEIGHER = new Weigher() {
+
+		@Override
+		public long weigh(Object value) {
+			return value instanceof Collection ? Math.max(1, ((Collection<?>) value).size()) : 1;
+		}
+	};
+
+	private int maxEntries = 1024;
+
+	private long maxAge = 0;
+
+	private long maxWeight = 0;
+
+	private Weigher weigher = DEFAULT_WEIGHER;
+
+	private long weight = 0;
+
+	private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * Generations by entity class, guarded by {@link #entries}.
+	 */
+	private final HashMap<Class<?>, Long> generations = new HashMap<>();
+
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	/**
+	 * @param maxEntries number of entries to keep at most, 1024 by default.
+	 */
+	public void setMaxEntries(int maxEntries) {
+		this.maxEntries = maxEntries;
+	}
+
+	public long getMaxAge() {
+		return maxAge;
+	}
+
+	/**
+	 * @param maxAge in milliseconds after which entries are no longer used, unlimited if zero (default).
+	 */
+	public void setMaxAge(long maxAge) {
+		this.maxAge = maxAge;
+	}
+
+	public long getMaxWeight() {
+		return maxWeight;
+	}
+
+	/**
+	 * @param maxWeight total weight of all entries to keep at most as determined by {@link #setWeigher(Weigher)},
+	 *                  unlimited if zero (default).
+	 */
+	public void setMaxWeight(long maxWeight) {
+		this.maxWeight = maxWeight;
+	}
+
+	public Weigher getWeigher() {
+		return weigher;
+	}
+
+	public void setWeigher(Weigher weigher) {
+		this.weigher = weigher;
+	}
+
+	/**
+	 * @return number of entries currently held, including expired ones not yet evicted.
+	 */
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * @return total weight of the entries currently held.
+	 */
+	public long getWeight() {
+		synchronized (entries) {
+			return weight;
+		}
+	}
+
+	@Override
+	public Object getResource(Class<?> entityClass, Class<?> resourceClass, Object id, QuerySpec querySpec) {
+		return get(new Key(entityClass, resourceClass, id, querySpec));
+	}
+
+	@Override
+	public void putResource(Class<?> entityClass, Class<?> resourceClass, Object id, QuerySpec querySpec,
+			Object resource, long generation) {
+		// specs are mutable, keep a copy of our own
+		put(new Key(entityClass, resourceClass, id, querySpec.duplicate()), resource, generation);
+	}
+
+	@Override
+	public Object getResources(Class<?> entityClass, Class<?> resourceClass, QuerySpec querySpec) {
+		return get(new Key(entityClass, resourceClass, null, querySpec));
+	}
+
+	@Override
+	public void putResources(Class<?> entityClass, Class<?> resourceClass, QuerySpec querySpec, Object resources,
+			long generation) {
+		put(new Key(entityClass, resourceClass, null, querySpec.duplicate()), resources, generation);
+	}
+
+	@Override
+	public long getGeneration(Class<?> entityClass) {
+		synchronized (entries) {
+			Long generation = generations.get(entityClass);
+			return generation != null ? generation : 0L;
+		}
+	}
+
+	@Override
+	public void invalidate(Class<?> entityClass, Object id) {
+		synchronized (entries) {
+			nextGeneration(entityClass);
+			Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<Key, Entry> mapEntry = iterator.next();
+				Key key = mapEntry.getKey();
+				if (key.entityClass.equals(entityClass) && (key.id == null || key.id.equals(id))) {
+					weight -= mapEntry.getValue().weight;
+					iterator.remove();
+				}
+			}
+		}
+	}
+
+	@Override
+	public void invalidate(Class<?> entityClass) {
+		synchronized (entries) {
+			nextGeneration(entityClass);
+			Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<Key, Entry> mapEntry = iterator.next();
+				if (mapEntry.getKey().entityClass.equals(entityClass)) {
+					weight -= mapEntry.getValue().weight;
+					iterator.remove();
+				}
+			}
+		}
+	}
+
+	@Override
+	public void clear() {
+		synchronized (entries) {
+			entries.clear();
+			weight = 0;
+		}
+	}
+
+	private Object get(Key key) {
+		synchronized (entries) {
+			Entry entry = entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+			if (maxAge > 0 && System.currentTimeMillis() - entry.timestamp > maxAge) {
+				remove(key);
+				return null;
+			}
+			return entry.value;
+		}
+	}
+
+	private void nextGeneration(Class<?> entityClass) {
+		generations.put(entityClass, getGeneration(entityClass) + 1);
+	}
+
+	private void put(Key key, Object value, long generation) {
+		Entry entry = new Entry(value, weigher.weigh(value), System.currentTimeMillis());
+		synchronized (entries) {
+			if (generation != getGeneration(key.entityClass)) {
+				// loaded before the last invalidation, may not reflect the modification
+				return;
+			}
+			remove(key);
+			entries.put(key, entry);
+			weight += entry.weight;
+
+			// least recently used entries come first
+			Iterator<Entry> iterator = entries.values().iterator();
+			while (iterator.hasNext() && (entries.size() > maxEntries || maxWeight > 0 && weight > maxWeight)) {
+				weight -= iterator.next().weight;
+				iterator.remove();
+			}
+		}
+	}
+
+	private void remove(Key key) {
+		Entry entry = entries.remove(key);
+		if (entry != null) {
+			weight -= entry.weight;
+		}
+	}
+
+	private static class Key {
+
+		private final Class<?> entityClass;
+
+		private final Class<?> resourceClass;
+
+		/**
+		 * Identifier of a single resource, null for collections.
+		 */
+		private final Object id;
+
+		private final QuerySpec querySpec;
+
+		Key(Class<?> entityClass, Class<?> resourceClass, Object id, QuerySpec querySpec) {
+			this.entityClass = entityClass;
+			this.resourceClass = resourceClass;
+			this.id = id;
+			this.querySpec = querySpec;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = entityClass.hashCode();
+			result = 31 * result + resourceClass.hashCode();
+			result = 31 * result + (id != null ? id.hashCode() : 0);
+			result = 31 * result + (querySpec != null ? querySpec.hashCode() : 0);
+			return result;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == null || obj.getClass() != getClass()) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return entityClass.equals(other.entityClass) && resourceClass.equals(other.resourceClass)
+					&& CompareUtils.isEquals(id, other.id) && CompareUtils.isEquals(querySpec, other.querySpec);
+		}
+	}
+
+	private static class Entry {
+
+		private final Object value;
+
+		private final long weight;
+
+		private final long timestamp;
+
+		Entry(Object value, long weight, long timestamp) {
+			this.value = value;
+			this.weight = weight;
+			this.timestamp = timestamp;
+		}
+	}
+}
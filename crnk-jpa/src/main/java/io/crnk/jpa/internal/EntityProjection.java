@@ -0,0 +1,151 @@
+package io.crnk.jpa.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.JoinType;
+
+import io.crnk.core.engine.internal.utils.ClassUtils;
+import io.crnk.core.engine.internal.utils.StringUtils;
+import io.crnk.core.queryspec.IncludeFieldSpec;
+import io.crnk.core.queryspec.QuerySpec;
+import io.crnk.jpa.query.JpaQuery;
+import io.crnk.jpa.query.Tuple;
+import io.crnk.meta.model.MetaAttribute;
+import io.crnk.meta.model.MetaDataObject;
+import io.crnk.meta.model.MetaType;
+
+/**
+ * Selects the primary key and the fields requested by a sparse field set rather than entire entities. Single-valued
+ * relationships are selected by their foreign key and set as entity references. The selected values are then
+ * populated into new entity instances.
+ */
+public class EntityProjection {
+
+	private final MetaDataObject meta;
+
+	private final MetaAttribute primaryKeyAttr;
+
+	private final List<MetaAttribute> attributes = new ArrayList<>();
+
+	private final List<MetaAttribute> references = new ArrayList<>();
+
+	private EntityProjection(MetaDataObject meta) {
+		this.meta = meta;
+		this.primaryKeyAttr = JpaRepositoryUtils.getPrimaryKeyAttr(meta);
+	}
+
+	/**
+	 * @return projection of the sparse field set of the querySpec or null if it cannot be projected, for example, if
+	 * a collection is requested.
+	 */
+	public static EntityProjection create(MetaDataObject meta, QuerySpec querySpec) {
+		if (querySpec.getIncludedFields().isEmpty() || meta.isAbstract() || !meta.getSubTypes().isEmpty()) {
+			return null;
+		}
+		EntityProjection projection = new EntityProjection(meta);
+		for (IncludeFieldSpec includedField : querySpec.getIncludedFields()) {
+			List<String> path = includedField.getAttributePath();
+			if (path.size() != 1 || !meta.hasAttribute(path.get(0))) {
+				return null;
+			}
+			MetaAttribute attr = meta.getAttribute(path.get(0));
+			MetaType type = attr.getType();
+			if (attr.isDerived() || type.isCollection() || type.isMap()) {
+				return null;
+			}
+			if (attr.isAssociation()) {
+				if (!(type instanceof MetaDataObject) || ((MetaDataObject) type).getPrimaryKey() == null) {
+					return null;
+				}
+				projection.references.add(attr);
+			}
+			else if (!attr.isPrimaryKeyAttribute()) {
+				projection.attributes.add(attr);
+			}
+		}
+		return projection;
+	}
+
+	/**
+	 * Selects the projected attributes with the given query. Relationships are joined with a left join to also obtain
+	 * entities without related entity.
+	 */
+	public void apply(JpaQuery<?> query) {
+		query.setProjection(true);
+		query.addSelection(Arrays.asList(primaryKeyAttr.getName()));
+		for (MetaAttribute attr : attributes) {
+			query.addSelection(Arrays.asList(attr.getName()));
+		}
+		for (MetaAttribute reference : references) {
+			query.setJoinType(Arrays.asList(reference.getName()), JoinType.LEFT);
+			query.addSelection(getReferenceIdPath(reference));
+		}
+	}
+
+	/**
+	 * @return tuples holding the entity populated from the given projected tuple as first element.
+	 */
+	public List<Tuple> toEntityTuples(List<Tuple> tuples, EntityManager em) {
+		List<Tuple> entityTuples = new ArrayList<>(tuples.size());
+		for (Tuple tuple : tuples) {
+			entityTuples.add(toEntityTuple(tuple, em));
+		}
+		return entityTuples;
+	}
+
+	public Tuple toEntityTuple(Tuple tuple, EntityManager em) {
+		Object entity = ClassUtils.newInstance(meta.getImplementationClass());
+		primaryKeyAttr.setValue(entity, tuple.get(primaryKeyAttr.getName(), Object.class));
+		for (MetaAttribute attr : attributes) {
+			attr.setValue(entity, tuple.get(attr.getName(), Object.class));
+		}
+		for (MetaAttribute reference : references) {
+			Object referenceId = tuple.get(StringUtils.join(".", getReferenceIdPath(reference)), Object.class);
+			Class<?> referenceClass = reference.getType().getImplementationClass();
+			reference.setValue(entity, referenceId != null ? em.getReference(referenceClass, referenceId) : null);
+		}
+		return new EntityTuple(entity, tuple);
+	}
+
+	private static List<String> getReferenceIdPath(MetaAttribute reference) {
+		MetaDataObject referenceMeta = (MetaDataObject) reference.getType();
+		MetaAttribute referenceIdAttr = JpaRepositoryUtils.getPrimaryKeyAttr(referenceMeta);
+		return Arrays.asList(reference.getName(), referenceIdAttr.getName());
+	}
+
+	/**
+	 * Provides the populated entity as first element, named selections are taken from the projected tuple.
+	 */
+	private static class EntityTuple implements Tuple {
+
+		private final Object entity;
+
+		private final Tuple tuple;
+
+		EntityTuple(Object entity, Tuple tuple) {
+			this.entity = entity;
+			this.tuple = tuple;
+		}
+
+		@Override
+		public <T> T get(String name, Class<T> clazz) {
+			return tuple.get(name, clazz);
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public <T> T get(int index, Class<T> clazz) {
+			if (index != 0) {
+				throw new IndexOutOfBoundsException("projected tuples only provide the entity by index, got " + index);
+			}
+			return (T) entity;
+		}
+
+		@Override
+		public void reduce(int numEntriesToIgnore) {
+			throw new UnsupportedOperationException("projected tuples cannot be reduced");
+		}
+	}
+}
@@ -2,15 +2,24 @@ package io.crnk.jpa.internal;
 
 import io.crnk.core.engine.internal.utils.PreconditionUtil;
 import io.crnk.core.engine.internal.utils.PropertyUtils;
+import io.crnk.core.engine.parser.ParserException;
+import io.crnk.core.engine.parser.TypeParser;
+import io.crnk.core.exception.BadRequestException;
+import io.crnk.core.queryspec.Direction;
+import io.crnk.core.queryspec.FilterOperator;
 import io.crnk.core.queryspec.FilterSpec;
+import io.crnk.core.queryspec.IncludeFieldSpec;
+import io.crnk.core.queryspec.IncludeRelationSpec;
 import io.crnk.core.queryspec.IncludeSpec;
 import io.crnk.core.queryspec.QuerySpec;
 import io.crnk.core.queryspec.SortSpec;
+import io.crnk.core.queryspec.pagingspec.KeysetPagingSpec;
 import io.crnk.jpa.query.JpaQuery;
 import io.crnk.jpa.query.JpaQueryExecutor;
 import io.crnk.meta.model.MetaAttribute;
 import io.crnk.meta.model.MetaDataObject;
 import io.crnk.meta.model.MetaKey;
+import io.crnk.meta.model.MetaType;
 
 import java.util.*;
 
@@ -50,6 +59,93 @@ public class JpaRepositoryUtils {
 
 	}
 
+	/**
+	 * Applies {@link KeysetPagingSpec} to the query. The primary key is added as last sort attribute to obtain a total
+	 * order. If a key to start after is given, the query is restricted to resources following that key with the
+	 * lexicographic expansion of <code>(sortKey, id) &gt; (?, ?)</code>, since row value comparisons are not supported
+	 * by JPQL. The expansion still allows the database to seek within an index on the sort attributes. Null key values
+	 * are compared according to <code>nullsSortedLow</code>, see {@link io.crnk.jpa.JpaModuleConfig#setNullsSortedLow(boolean)}.
+	 */
+	public static void prepareKeysetPaging(JpaQuery<?> query, QuerySpec querySpec, MetaDataObject meta,
+			TypeParser typeParser, boolean nullsSortedLow) {
+		KeysetPagingSpec pagingSpec = (KeysetPagingSpec) querySpec.getPaging();
+
+		List<SortSpec> keySpecs = new ArrayList<>(querySpec.getSort());
+		List<String> primaryKeyPath = Arrays.asList(getPrimaryKeyAttr(meta).getName());
+		boolean sortedByPrimaryKey = false;
+		for (SortSpec sortSpec : keySpecs) {
+			sortedByPrimaryKey |= sortSpec.getAttributePath().equals(primaryKeyPath);
+		}
+		if (!sortedByPrimaryKey) {
+			SortSpec primaryKeySort = new SortSpec(primaryKeyPath, Direction.ASC);
+			query.addSortBy(primaryKeySort);
+			keySpecs.add(primaryKeySort);
+		}
+
+		List<Object> after = pagingSpec.getAfter();
+		if (after != null) {
+			if (after.size() != keySpecs.size()) {
+				throw new BadRequestException("page[after] must provide " + keySpecs.size()
+						+ " values, one for each sort attribute followed by the id");
+			}
+			List<FilterSpec> disjunction = new ArrayList<>();
+			for (int i = 0; i < keySpecs.size(); i++) {
+				SortSpec keySpec = keySpecs.get(i);
+				List<String> path = keySpec.getAttributePath();
+				FilterSpec following = getFollowingFilter(keySpec, toKeyValue(meta, path, after.get(i), typeParser),
+						nullsSortedLow);
+				if (following == null) {
+					// nothing follows a null value sorted last
+					continue;
+				}
+				List<FilterSpec> conjunction = new ArrayList<>();
+				for (int j = 0; j < i; j++) {
+					List<String> equalPath = keySpecs.get(j).getAttributePath();
+					Object equalValue = toKeyValue(meta, equalPath, after.get(j), typeParser);
+					// EQ with null is translated to IS NULL
+					conjunction.add(new FilterSpec(equalPath, FilterOperator.EQ, equalValue));
+				}
+				conjunction.add(following);
+				disjunction.add(conjunction.size() == 1 ? conjunction.get(0) : FilterSpec.and(conjunction));
+			}
+			if (disjunction.isEmpty()) {
+				throw new BadRequestException("page[after] must provide a non-null id");
+			}
+			query.addFilter(disjunction.size() == 1 ? disjunction.get(0) : FilterSpec.or(disjunction));
+		}
+	}
+
+	/**
+	 * @return filter matching all values following the given one in sort order, or null if there are none.
+	 */
+	private static FilterSpec getFollowingFilter(SortSpec keySpec, Object value, boolean nullsSortedLow) {
+		List<String> path = keySpec.getAttributePath();
+		boolean desc = keySpec.getDirection() == Direction.DESC;
+		boolean nullsLast = desc == nullsSortedLow;
+		if (value == null) {
+			return nullsLast ? null : new FilterSpec(path, FilterOperator.NEQ, null);
+		}
+		FilterSpec following = new FilterSpec(path, desc ? FilterOperator.LT : FilterOperator.GT, value);
+		if (nullsLast) {
+			return FilterSpec.or(following, new FilterSpec(path, FilterOperator.EQ, null));
+		}
+		return following;
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private static Object toKeyValue(MetaDataObject meta, List<String> path, Object value, TypeParser typeParser) {
+		Class type = meta.resolvePath(path).getLast().getType().getImplementationClass();
+		if (value == null || type.isInstance(value)) {
+			return value;
+		}
+		try {
+			return typeParser.parse(value.toString(), type);
+		}
+		catch (ParserException e) {
+			throw new BadRequestException("page[after] has an invalid value for " + path + ": " + value);
+		}
+	}
+
 	public static void prepareExecutor(JpaQueryExecutor<?> executor, QuerySpec querySpec, boolean includeRelations) {
 		if (includeRelations) {
 			for (IncludeSpec included : querySpec.getIncludedRelations()) {
@@ -67,4 +163,80 @@ public class JpaRepositoryUtils {
 			executor.setLimit((int) querySpec.getLimit().longValue());
 		}
 	}
+
+	/**
+	 * Fetches the relations included by the querySpec with an entity graph. Included paths are cut at the given depth,
+	 * at relations omitted by sparse field sets and at further collections once maxCollections collections are fetched.
+	 */
+	public static void prepareIncludeFetches(JpaQueryExecutor<?> executor, MetaDataObject meta, QuerySpec querySpec,
+			int maxDepth, int maxCollections) {
+		Set<List<String>> collectionPaths = new HashSet<>();
+		for (IncludeRelationSpec includedRelation : querySpec.getIncludedRelations()) {
+			List<String> fetchPath = new ArrayList<>();
+			MetaDataObject currentMeta = meta;
+			QuerySpec currentSpec = querySpec;
+			for (String attrName : includedRelation.getAttributePath()) {
+				if (fetchPath.size() == maxDepth || currentMeta == null || !currentMeta.hasAttribute(attrName)
+						|| !isFieldIncluded(currentSpec, attrName)) {
+					break;
+				}
+				MetaAttribute attr = currentMeta.getAttribute(attrName);
+				if (!attr.isAssociation()) {
+					break;
+				}
+				MetaType type = attr.getType();
+				fetchPath.add(attrName);
+				if (type.isCollection()) {
+					if (!collectionPaths.contains(fetchPath) && collectionPaths.size() >= maxCollections) {
+						fetchPath.remove(fetchPath.size() - 1);
+						break;
+					}
+					collectionPaths.add(new ArrayList<>(fetchPath));
+					type = type.asCollection().getElementType();
+				}
+				currentMeta = type instanceof MetaDataObject ? (MetaDataObject) type : null;
+				currentSpec = querySpec.getQuerySpec(type.getImplementationClass());
+			}
+			if (!fetchPath.isEmpty()) {
+				executor.fetch(fetchPath);
+			}
+		}
+	}
+
+	private static boolean isFieldIncluded(QuerySpec querySpec, String attrName) {
+		if (querySpec == null || querySpec.getIncludedFields().isEmpty()) {
+			return true;
+		}
+		for (IncludeFieldSpec includedField : querySpec.getIncludedFields()) {
+			if (includedField.getAttributePath().equals(Collections.singletonList(attrName))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Splits the given identifiers into chunks of at most chunkSize distinct identifiers. Chunks are padded to the
+	 * next power of two (or chunkSize) by repeating their last identifier, which does not affect the result of an IN
+	 * predicate but lets any number of identifiers share a few distinct statements.
+	 */
+	public static <I> List<List<I>> chunkIds(Iterable<I> ids, int chunkSize) {
+		PreconditionUtil.verify(chunkSize > 0, "chunkSize must be positive, got %s", chunkSize);
+		Set<I> idSet = new LinkedHashSet<>();
+		for (I id : ids) {
+			idSet.add(id);
+		}
+		List<I> distinctIds = new ArrayList<>(idSet);
+		List<List<I>> chunks = new ArrayList<>();
+		for (int i = 0; i < distinctIds.size(); i += chunkSize) {
+			List<I> chunk = new ArrayList<>(distinctIds.subList(i, Math.min(distinctIds.size(), i + chunkSize)));
+			int paddedSize = Math.min(Integer.highestOneBit(chunk.size() * 2 - 1), chunkSize);
+			I lastId = chunk.get(chunk.size() - 1);
+			while (chunk.size() < paddedSize) {
+				chunk.add(lastId);
+			}
+			chunks.add(chunk);
+		}
+		return chunks;
+	}
 }
@@ -0,0 +1,64 @@
+package io.crnk.jpa.internal;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Copies resources into snapshots held by a {@link io.crnk.jpa.cache.JpaResultCache} and back, so that resources
+ * handed out can be modified without affecting the cache. Snapshots are JSON trees of all non-transient fields of a
+ * resource. Annotations are ignored, since they shape the JSON API representation rather than the state of a
+ * resource, for example, by marking fields as read-only.
+ */
+public class ResourceSnapshotMapper {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ResourceSnapshotMapper.class);
+
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * @param objectMapper to copy the registered modules from
+	 */
+	public ResourceSnapshotMapper(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper.copy();
+		this.objectMapper.configure(MapperFeature.USE_ANNOTATIONS, false);
+		this.objectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+		this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+		this.objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE);
+		this.objectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+	}
+
+	/**
+	 * @return snapshot of the given resource or null if it cannot be taken, for example, due to cyclic references.
+	 */
+	public JsonNode toSnapshot(Object resource) {
+		try {
+			return objectMapper.valueToTree(resource);
+		}
+		catch (IllegalArgumentException e) {
+			LOGGER.debug("cannot take snapshot of {}", resource, e);
+			return null;
+		}
+	}
+
+	/**
+	 * @return new resource with the state of the given snapshot or null if it cannot be restored, for example, due to
+	 * a missing default constructor.
+	 */
+	public <T> T fromSnapshot(JsonNode snapshot, Class<T> resourceClass) {
+		try {
+			return objectMapper.treeToValue(snapshot, resourceClass);
+		}
+		catch (JsonProcessingException | IllegalArgumentException e) {
+			LOGGER.debug("cannot restore {} from snapshot", resourceClass, e);
+			return null;
+		}
+	}
+}
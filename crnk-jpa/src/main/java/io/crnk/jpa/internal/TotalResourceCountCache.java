@@ -0,0 +1,77 @@
+package io.crnk.jpa.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.crnk.core.queryspec.FilterSpec;
+
+/**
+ * Keeps recently computed total resource counts of a repository keyed by the applied filters. Counts older than the
+ * configured maximum age are computed anew.
+ */
+public class TotalResourceCountCache {
+
+	private static final int MAX_SIZE = 256;
+
+	private final long maxAge;
+
+	private final LinkedHashMap<List<FilterSpec>, Entry> entries = new LinkedHashMap<List<FilterSpec>, Entry>(16, 0.75f,
+			true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<List<FilterSpec>, Entry> eldest) {
+			return size() > MAX_SIZE;
+		}
+	};
+
+	public TotalResourceCountCache(long maxAge) {
+		this.maxAge = maxAge;
+	}
+
+	/**
+	 * @return count for the given filters or null if there is none or it is too old.
+	 */
+	public Long get(List<FilterSpec> filters) {
+		synchronized (entries) {
+			Entry entry = entries.get(filters);
+			if (entry == null) {
+				return null;
+			}
+			if (System.currentTimeMillis() - entry.timestamp > maxAge) {
+				entries.remove(filters);
+				return null;
+			}
+			return entry.count;
+		}
+	}
+
+	public void put(List<FilterSpec> filters, long count) {
+		List<FilterSpec> key = new ArrayList<>();
+		for (FilterSpec filter : filters) {
+			key.add(filter.clone());
+		}
+		Entry entry = new Entry(count, System.currentTimeMillis());
+		synchronized (entries) {
+			entries.put(key, entry);
+		}
+	}
+
+	public void clear() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	private static class Entry {
+
+		private final long count;
+
+		private final long timestamp;
+
+		Entry(long count, long timestamp) {
+			this.count = count;
+			this.timestamp = timestamp;
+		}
+	}
+}
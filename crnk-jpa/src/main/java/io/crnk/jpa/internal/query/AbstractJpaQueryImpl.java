@@ -35,6 +35,8 @@ public abstract class AbstractJpaQueryImpl<T, B extends JpaQueryBackend<?, ?, ?,
 
 	protected boolean ensureTotalOrder = true;
 
+	protected boolean projection = false;
+
 	protected MetaDataObject parentMeta;
 
 	protected List<?> parentIds;
@@ -92,6 +94,16 @@ public abstract class AbstractJpaQueryImpl<T, B extends JpaQueryBackend<?, ?, ?,
 		includedFields.add(new IncludeFieldSpec(path));
 	}
 
+	@Override
+	public JpaQuery<T> setProjection(boolean projection) {
+		this.projection = projection;
+		return this;
+	}
+
+	public boolean isProjection() {
+		return projection;
+	}
+
 	@Override
 	public JpaQuery<T> setEnsureTotalOrder(boolean ensureTotalOrder) {
 		this.ensureTotalOrder = ensureTotalOrder;
@@ -220,4 +232,77 @@ public abstract class AbstractJpaQueryImpl<T, B extends JpaQueryBackend<?, ?, ?,
 		return parentMeta;
 	}
 
+	/**
+	 * @return key identifying the structure of this query independent of its filter values, or null if the structure
+	 * depends on the values themselves. Queries with the same shape translate to the same JPQL.
+	 */
+	protected List<Object> getQueryShape() {
+		if (parentMeta != null) {
+			return null;
+		}
+		List<Object> shape = new ArrayList<>();
+		shape.add(clazz);
+		shape.add(defaultJoinType);
+		shape.add(new HashMap<>(joinTypes));
+		shape.add(autoDistinct);
+		shape.add(autoGroupBy);
+		shape.add(distinct);
+		shape.add(ensureTotalOrder);
+		shape.add(projection);
+		for (SortSpec sortSpec : sortSpecs) {
+			shape.add(sortSpec.clone());
+		}
+		for (IncludeFieldSpec includedField : includedFields) {
+			shape.add(new ArrayList<>(includedField.getAttributePath()));
+		}
+		for (FilterSpec filterSpec : filterSpecs) {
+			if (!addFilterShape(shape, filterSpec)) {
+				return null;
+			}
+		}
+		return shape;
+	}
+
+	private static boolean addFilterShape(List<Object> shape, FilterSpec filterSpec) {
+		if (filterSpec.hasExpressions()) {
+			shape.add(filterSpec.getOperator());
+			shape.add(filterSpec.getExpression().size());
+			for (FilterSpec expression : filterSpec.getExpression()) {
+				if (!addFilterShape(shape, expression)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		FilterOperator operator = filterSpec.getOperator();
+		Object value = filterSpec.getValue();
+		boolean equals = operator == FilterOperator.EQ || operator == FilterOperator.NEQ;
+		shape.add(filterSpec.getAttributePath());
+		shape.add(operator);
+		if (value instanceof List || value instanceof Set) {
+			Collection<?> values = (Collection<?>) value;
+			if (!equals || values.size() > QueryFilterBuilder.PARAM_LIMIT_FOR_ORACLE) {
+				return false;
+			}
+			List<Class<?>> elementTypes = new ArrayList<>();
+			for (Object element : values) {
+				if (element == null) {
+					return false;
+				}
+				elementTypes.add(element.getClass());
+			}
+			shape.add(elementTypes);
+			return true;
+		}
+		else if (value == null) {
+			shape.add(null);
+			return equals;
+		}
+		else {
+			shape.add(value.getClass());
+			return !(value instanceof Collection);
+		}
+	}
+
 }
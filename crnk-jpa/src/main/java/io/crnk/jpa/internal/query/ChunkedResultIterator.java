@@ -0,0 +1,114 @@
+package io.crnk.jpa.internal.query;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import javax.persistence.EntityManager;
+
+import io.crnk.jpa.query.Tuple;
+
+/**
+ * Fetches the results of a query chunk by chunk with the given chunk size and up to the given limit. Every chunk
+ * after the first one is loaded with the last result of the previous chunk, allowing the loader to continue after
+ * its key rather than skipping an ever growing offset.
+ */
+public class ChunkedResultIterator<T> implements Iterator<T> {
+
+	public interface ChunkLoader<T> {
+
+		/**
+		 * @param last  result of the previous chunk or null when loading the first chunk
+		 * @param limit maximum number of results to load
+		 * @return results following the last one
+		 */
+		List<T> load(T last, int limit);
+	}
+
+	private final EntityManager em;
+
+	private final Class<?> entityClass;
+
+	private final ChunkLoader<T> loader;
+
+	private final int limit;
+
+	private final int chunkSize;
+
+	private List<T> chunk = Collections.emptyList();
+
+	private int index = 0;
+
+	private int numFetched = 0;
+
+	private boolean last = false;
+
+	private boolean detach = false;
+
+	/**
+	 * @param limit     maximum number of results or -1 if there is none.
+	 * @param chunkSize number of results to fetch at once.
+	 */
+	public ChunkedResultIterator(EntityManager em, Class<?> entityClass, int limit, int chunkSize,
+								 ChunkLoader<T> loader) {
+		this.em = em;
+		this.entityClass = entityClass;
+		this.limit = limit;
+		this.chunkSize = chunkSize;
+		this.loader = loader;
+	}
+
+	/**
+	 * @param detach whether the entities of a chunk should be detached from the entity manager once the next chunk
+	 *               is fetched. Keeps the persistence context from growing with the number of results, but requires
+	 *               that no lazy state of the previously returned entities is accessed anymore.
+	 */
+	public void setDetach(boolean detach) {
+		this.detach = detach;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (index == chunk.size() && !last) {
+			fetchChunk();
+		}
+		return index < chunk.size();
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return chunk.get(index++);
+	}
+
+	private void fetchChunk() {
+		int chunkLimit = limit >= 0 ? Math.min(chunkSize, limit - numFetched) : chunkSize;
+		List<T> nextChunk;
+		if (chunkLimit == 0) {
+			nextChunk = Collections.emptyList();
+		}
+		else {
+			T lastResult = chunk.isEmpty() ? null : chunk.get(chunk.size() - 1);
+			nextChunk = loader.load(lastResult, chunkLimit);
+		}
+		// detached only now, the loader may still access the last result
+		if (detach) {
+			detachChunk();
+		}
+		chunk = nextChunk;
+		numFetched += chunk.size();
+		last = chunk.size() < chunkLimit || chunkLimit == 0;
+		index = 0;
+	}
+
+	private void detachChunk() {
+		for (T result : chunk) {
+			Object entity = result instanceof Tuple ? ((Tuple) result).get(0, Object.class) : result;
+			if (entityClass.isInstance(entity)) {
+				em.detach(entity);
+			}
+		}
+	}
+}
@@ -6,6 +6,8 @@ import javax.persistence.EntityGraph;
 import javax.persistence.EntityManager;
 import javax.persistence.Query;
 import javax.persistence.Subgraph;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 public class EntityGraphBuilderImpl implements EntityGraphBuilder {
@@ -14,20 +16,29 @@ public class EntityGraphBuilderImpl implements EntityGraphBuilder {
 	public <T> void build(EntityManager em, Query criteriaQuery, Class<T> entityClass,
 						  Set<MetaAttributePath> fetchPaths) {
 		EntityGraph<T> graph = em.createEntityGraph(entityClass);
+		Map<MetaAttributePath, Subgraph<Object>> subgraphs = new HashMap<>();
 		for (MetaAttributePath fetchPath : fetchPaths) {
-			applyFetchPaths(graph, fetchPath);
+			applyFetchPaths(graph, fetchPath, subgraphs);
 		}
 		criteriaQuery.setHint("javax.persistence.fetchgraph", graph);
 	}
 
-	private <T> Subgraph<Object> applyFetchPaths(EntityGraph<T> graph, MetaAttributePath fetchPath) {
-		if (fetchPath.length() >= 2) {
-			// ensure parent is fetched
-			MetaAttributePath parentPath = fetchPath.subPath(0, fetchPath.length() - 1);
-			Subgraph<Object> parentGraph = applyFetchPaths(graph, parentPath);
-			return parentGraph.addSubgraph(fetchPath.toString());
-		} else {
-			return graph.addSubgraph(fetchPath.toString());
+	private <T> Subgraph<Object> applyFetchPaths(EntityGraph<T> graph, MetaAttributePath fetchPath,
+			Map<MetaAttributePath, Subgraph<Object>> subgraphs) {
+		// subgraphs are shared among paths, adding one anew would replace the existing one
+		Subgraph<Object> subgraph = subgraphs.get(fetchPath);
+		if (subgraph == null) {
+			String attrName = fetchPath.getLast().getName();
+			if (fetchPath.length() >= 2) {
+				// ensure parent is fetched
+				MetaAttributePath parentPath = fetchPath.subPath(0, fetchPath.length() - 1);
+				Subgraph<Object> parentGraph = applyFetchPaths(graph, parentPath, subgraphs);
+				subgraph = parentGraph.addSubgraph(attrName);
+			} else {
+				subgraph = graph.addSubgraph(attrName);
+			}
+			subgraphs.put(fetchPath, subgraph);
 		}
+		return subgraph;
 	}
 }
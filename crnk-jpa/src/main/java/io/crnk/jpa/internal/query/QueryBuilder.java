@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import io.crnk.core.engine.internal.utils.PreconditionUtil;
 import io.crnk.core.queryspec.FilterSpec;
 import io.crnk.core.queryspec.IncludeFieldSpec;
 import io.crnk.jpa.internal.query.backend.JpaQueryBackend;
@@ -76,16 +77,27 @@ public class QueryBuilder<T, F, O, P, E> {
 
 		Map<String, Integer> selectionBindings = new HashMap<>();
 
-		int index = 1;
+		// the entity itself is selected first unless projected
+		int index = query.isProjection() ? 0 : 1;
+		List<E> projection = new ArrayList<>();
 
 		List<IncludeFieldSpec> includedFields = query.getIncludedFields();
 		for (IncludeFieldSpec includedField : includedFields) {
 			MetaAttributePath path = meta.resolvePath(includedField.getAttributePath(), attributeFinder);
 			E attr = backend.getAttribute(path);
 
-			backend.addSelection(attr, path.toString());
+			if (query.isProjection()) {
+				projection.add(attr);
+			}
+			else {
+				backend.addSelection(attr, path.toString());
+			}
 			selectionBindings.put(path.toString(), index++);
 		}
+		if (query.isProjection()) {
+			PreconditionUtil.verify(!projection.isEmpty(), "projection of %s requires a selection", meta);
+			backend.setSelection(projection);
+		}
 		return selectionBindings;
 	}
 
@@ -19,7 +19,7 @@ import io.crnk.meta.model.MetaType;
 
 public final class QueryFilterBuilder<P, F> {
 
-	private static final int PARAM_LIMIT_FOR_ORACLE = 900;
+	static final int PARAM_LIMIT_FOR_ORACLE = 900;
 
 	private MetaAttributeFinder attributeFinder;
 
@@ -30,6 +30,11 @@ public interface JpaQueryBackend<F, O, P, E> {
 
 	void addSelection(E expression, String name);
 
+	/**
+	 * Replaces the current selection, including the selection of the root entity.
+	 */
+	void setSelection(List<E> expressions);
+
 	E getExpression(O order);
 
 	boolean containsRelation(E expression);
@@ -0,0 +1,43 @@
+package io.crnk.jpa.internal.query.backend.criteria;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.ParameterExpression;
+
+import io.crnk.meta.model.MetaDataObject;
+
+/**
+ * Criteria query built for a particular query shape with its filter values bound to parameters. Shared among all
+ * requests with that shape, only the parameter values differ.
+ */
+public class CriteriaQueryPlan<T> {
+
+	private final CriteriaQuery<T> query;
+
+	private final List<ParameterExpression<?>> parameters;
+
+	private final int numAutoSelections;
+
+	private final Map<String, Integer> selectionBindings;
+
+	public CriteriaQueryPlan(CriteriaQuery<T> query, List<ParameterExpression<?>> parameters, int numAutoSelections,
+							 Map<String, Integer> selectionBindings) {
+		this.query = query;
+		this.parameters = parameters;
+		this.numAutoSelections = numAutoSelections;
+		this.selectionBindings = selectionBindings;
+	}
+
+	public List<ParameterExpression<?>> getParameters() {
+		return parameters;
+	}
+
+	public JpaCriteriaQueryExecutorImpl<T> newExecutor(EntityManager em, MetaDataObject meta, List<Object> parameterValues) {
+		JpaCriteriaQueryExecutorImpl<T> executor =
+				new JpaCriteriaQueryExecutorImpl<>(em, meta, query, numAutoSelections, selectionBindings);
+		executor.setParameterValues(parameters, parameterValues);
+		return executor;
+	}
+}
@@ -0,0 +1,74 @@
+package io.crnk.jpa.internal.query.backend.criteria;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the most recently used {@link CriteriaQueryPlan}s by query shape. Saves building the criteria query for every
+ * request and lets the JPA provider reuse its own translation of it, since the rendered query is identical.
+ */
+public class CriteriaQueryPlanCache {
+
+	private final int maxSize;
+
+	private final LinkedHashMap<List<Object>, CriteriaQueryPlan<?>> plans;
+
+	private long hitCount;
+
+	private long missCount;
+
+	public CriteriaQueryPlanCache(final int maxSize) {
+		this.maxSize = maxSize;
+		this.plans = new LinkedHashMap<List<Object>, CriteriaQueryPlan<?>>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<List<Object>, CriteriaQueryPlan<?>> eldest) {
+				return size() > CriteriaQueryPlanCache.this.maxSize;
+			}
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> CriteriaQueryPlan<T> get(List<Object> shape) {
+		synchronized (plans) {
+			CriteriaQueryPlan<T> plan = (CriteriaQueryPlan<T>) plans.get(shape);
+			if (plan != null) {
+				hitCount++;
+			}
+			else {
+				missCount++;
+			}
+			return plan;
+		}
+	}
+
+	public void put(List<Object> shape, CriteriaQueryPlan<?> plan) {
+		synchronized (plans) {
+			plans.put(shape, plan);
+		}
+	}
+
+	public int size() {
+		synchronized (plans) {
+			return plans.size();
+		}
+	}
+
+	public long getHitCount() {
+		synchronized (plans) {
+			return hitCount;
+		}
+	}
+
+	public long getMissCount() {
+		synchronized (plans) {
+			return missCount;
+		}
+	}
+
+	public void clear() {
+		synchronized (plans) {
+			plans.clear();
+		}
+	}
+}
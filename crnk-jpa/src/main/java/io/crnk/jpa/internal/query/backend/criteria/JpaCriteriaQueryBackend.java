@@ -1,9 +1,15 @@
 package io.crnk.jpa.internal.query.backend.criteria;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import javax.persistence.EntityManager;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -12,14 +18,17 @@ import javax.persistence.criteria.From;
 import javax.persistence.criteria.JoinType;
 import javax.persistence.criteria.MapJoin;
 import javax.persistence.criteria.Order;
+import javax.persistence.criteria.ParameterExpression;
 import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 import javax.persistence.criteria.Selection;
 
 import io.crnk.core.engine.internal.utils.PreconditionUtil;
+import io.crnk.core.exception.BadRequestException;
 import io.crnk.core.queryspec.Direction;
 import io.crnk.core.queryspec.FilterOperator;
+import io.crnk.core.queryspec.FilterSpec;
 import io.crnk.jpa.internal.query.JoinRegistry;
 import io.crnk.jpa.internal.query.MetaComputedAttribute;
 import io.crnk.jpa.internal.query.QueryUtil;
@@ -32,6 +41,22 @@ import io.crnk.meta.model.MetaKey;
 
 public class JpaCriteriaQueryBackend<T> implements JpaQueryBackend<From<?, ?>, Order, Predicate, Expression<?>> {
 
+	private static final Map<Class<?>, Class<?>> PRIMITIVE_WRAPPERS = new HashMap<>();
+
+	private static final Set<Class<?>> NUMBER_TYPES = new HashSet<>(Arrays.<Class<?>>asList(Long.class, Integer.class,
+			Short.class, Byte.class, Double.class, Float.class, BigInteger.class, BigDecimal.class));
+
+	static {
+		PRIMITIVE_WRAPPERS.put(long.class, Long.class);
+		PRIMITIVE_WRAPPERS.put(int.class, Integer.class);
+		PRIMITIVE_WRAPPERS.put(short.class, Short.class);
+		PRIMITIVE_WRAPPERS.put(byte.class, Byte.class);
+		PRIMITIVE_WRAPPERS.put(double.class, Double.class);
+		PRIMITIVE_WRAPPERS.put(float.class, Float.class);
+		PRIMITIVE_WRAPPERS.put(boolean.class, Boolean.class);
+		PRIMITIVE_WRAPPERS.put(char.class, Character.class);
+	}
+
 	protected CriteriaBuilder cb;
 
 	private CriteriaQuery<T> criteriaQuery;
@@ -44,6 +69,12 @@ public class JpaCriteriaQueryBackend<T> implements JpaQueryBackend<From<?, ?>, O
 
 	private JpaCriteriaQueryImpl<T> queryImpl;
 
+	private List<ParameterExpression<?>> parameters;
+
+	private List<Object> parameterValues;
+
+	private boolean cacheable = true;
+
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public JpaCriteriaQueryBackend(JpaCriteriaQueryImpl<T> query, EntityManager em, Class<T> clazz, MetaDataObject parentMeta,
 			MetaAttribute parentAttr, boolean parentIdSelection) {
@@ -135,6 +166,127 @@ public class JpaCriteriaQueryBackend<T> implements JpaQueryBackend<From<?, ?>, O
 		return criteriaQuery;
 	}
 
+	/**
+	 * Binds filter values with parameters rather than literals. The resulting query can then be reused for other
+	 * values, see {@link #getParameterValues(List)}.
+	 */
+	public void parameterize() {
+		parameters = new ArrayList<>();
+		parameterValues = new ArrayList<>();
+	}
+
+	public List<ParameterExpression<?>> getParameters() {
+		return parameters;
+	}
+
+	/**
+	 * @return values bound to {@link #getParameters()} while building the query.
+	 */
+	public List<Object> getParameterValues() {
+		return parameterValues;
+	}
+
+	/**
+	 * @return true if the query does not depend on any filter value other than the ones bound to parameters.
+	 */
+	public boolean isCacheable() {
+		return cacheable;
+	}
+
+	/**
+	 * @return values of the parameters created by a parameterized backend for the given filters, in the same order.
+	 */
+	public static List<Object> getParameterValues(List<FilterSpec> filterSpecs) {
+		List<Object> values = new ArrayList<>();
+		for (FilterSpec filterSpec : filterSpecs) {
+			addParameterValues(values, filterSpec);
+		}
+		return values;
+	}
+
+	private static void addParameterValues(List<Object> values, FilterSpec filterSpec) {
+		if (filterSpec.hasExpressions()) {
+			for (FilterSpec expression : filterSpec.getExpression()) {
+				addParameterValues(values, expression);
+			}
+		}
+		else if (filterSpec.getValue() instanceof Collection) {
+			values.addAll((Collection<?>) filterSpec.getValue());
+		}
+		else if (filterSpec.getOperator() == FilterOperator.LIKE) {
+			values.add(filterSpec.getValue().toString().toLowerCase());
+		}
+		else if (filterSpec.getValue() != null) {
+			values.add(filterSpec.getValue());
+		}
+	}
+
+	private ParameterExpression<?> toParameter(Expression<?> expression, Object value) {
+		ParameterExpression<?> parameter = cb.parameter(getParameterType(expression.getJavaType(), value));
+		parameters.add(parameter);
+		parameterValues.add(value);
+		return parameter;
+	}
+
+	private static Class<?> getParameterType(Class<?> javaType, Object value) {
+		Class<?> type = javaType.isPrimitive() ? PRIMITIVE_WRAPPERS.get(javaType) : javaType;
+		if (type != null && type.isInstance(value)) {
+			return type;
+		}
+		if (NUMBER_TYPES.contains(type) && (value instanceof Number || value instanceof String)) {
+			return type;
+		}
+		return value.getClass();
+	}
+
+	/**
+	 * Converts numbers to the type of the attribute they are compared with, similar to what the JPA provider does for
+	 * literals.
+	 *
+	 * @return value matching the type of the given parameter
+	 */
+	public static Object toParameterValue(ParameterExpression<?> parameter, Object value) {
+		Class<?> type = parameter.getJavaType();
+		if (type.isInstance(value)) {
+			return value;
+		}
+		if (!Number.class.isAssignableFrom(type)) {
+			throw new BadRequestException("cannot convert " + value + " to " + type.getSimpleName());
+		}
+		BigDecimal number;
+		try {
+			number = new BigDecimal(value.toString());
+		}
+		catch (NumberFormatException e) {
+			throw new BadRequestException("cannot convert " + value + " to " + type.getSimpleName());
+		}
+		if (type == Long.class) {
+			return number.longValue();
+		}
+		else if (type == Integer.class) {
+			return number.intValue();
+		}
+		else if (type == Short.class) {
+			return number.shortValue();
+		}
+		else if (type == Byte.class) {
+			return number.byteValue();
+		}
+		else if (type == Double.class) {
+			return number.doubleValue();
+		}
+		else if (type == Float.class) {
+			return number.floatValue();
+		}
+		else if (type == BigInteger.class) {
+			return number.toBigInteger();
+		}
+		else {
+			PreconditionUtil.verify(type == BigDecimal.class, "cannot convert %s to %s", value, type);
+			return number;
+		}
+	}
+
 	@Override
 	public void addParentPredicate(MetaAttribute primaryKeyAttr) {
 		List<?> parentIds = queryImpl.getParentIds();
@@ -164,6 +316,11 @@ public class JpaCriteriaQueryBackend<T> implements JpaQueryBackend<From<?, ?>, O
 		criteriaQuery.multiselect(newSelection);
 	}
 
+	@Override
+	public void setSelection(List<Expression<?>> expressions) {
+		criteriaQuery.multiselect(new ArrayList<Selection<?>>(expressions));
+	}
+
 	@Override
 	public Expression<?> getExpression(Order order) {
 		return order.getExpression();
@@ -174,7 +331,12 @@ public class JpaCriteriaQueryBackend<T> implements JpaQueryBackend<From<?, ?>, O
 		return QueryUtil.containsRelation(expression);
 	}
 
+	@SuppressWarnings("unchecked")
 	public Predicate ilike(Expression<String> expr, String val) {
+		if (parameters != null) {
+			Expression<String> lowerExpr = cb.lower(expr);
+			return cb.like(lowerExpr, (Expression<String>) toParameter(lowerExpr, val.toLowerCase()));
+		}
 		return cb.like(cb.lower(expr), val.toLowerCase());
 	}
 
@@ -209,6 +371,9 @@ public class JpaCriteriaQueryBackend<T> implements JpaQueryBackend<From<?, ?>, O
 		else if (operator == FilterOperator.LIKE) {
 			return ilike(expression, value.toString());
 		}
+		else if (parameters != null) {
+			return handleComparison(expression, operator, toParameter(expression, value));
+		}
 		else if (operator == FilterOperator.GT) {
 			return cb.greaterThan(expression, (Comparable) value);
 		}
@@ -224,23 +389,53 @@ public class JpaCriteriaQueryBackend<T> implements JpaQueryBackend<From<?, ?>, O
 		}
 	}
 
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private Predicate handleComparison(Expression expression, FilterOperator operator, Expression value) {
+		if (operator == FilterOperator.GT) {
+			return cb.greaterThan(expression, value);
+		}
+		else if (operator == FilterOperator.LT) {
+			return cb.lessThan(expression, value);
+		}
+		else if (operator == FilterOperator.GE) {
+			return cb.greaterThanOrEqualTo(expression, value);
+		}
+		else {
+			PreconditionUtil.verify(operator == FilterOperator.LE, "unexpected operator %s", operator);
+			return cb.lessThanOrEqualTo(expression, value);
+		}
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private Predicate handleEquals(Expression<?> expression, FilterOperator operator, Object value) {
-		if (value instanceof List) {
+		if (value instanceof List && parameters != null) {
+			List<Expression<?>> values = new ArrayList<>();
+			for (Object element : (List<?>) value) {
+				values.add(toParameter(expression, element));
+			}
+			Predicate p = expression.in(values.toArray(new Expression[values.size()]));
+			return negateIfNeeded(p, operator);
+		}
+		else if (value instanceof List) {
 			Predicate p = expression.in(((List<?>) value).toArray());
 			return negateIfNeeded(p, operator);
 		}
 		else if (Collection.class.isAssignableFrom(expression.getJavaType())) {
+			cacheable = false;
 			Predicate p = cb.literal(value).in(expression);
 			return negateIfNeeded(p, operator);
 		}
 		else if (expression instanceof MapJoin) {
+			cacheable = false;
 			Predicate p = cb.literal(value).in(((MapJoin) expression).value());
 			return negateIfNeeded(p, operator);
 		}
 		else if (value == null) {
 			return negateIfNeeded(cb.isNull(expression), operator);
 		}
+		else if (parameters != null) {
+			return negateIfNeeded(cb.equal(expression, toParameter(expression, value)), operator);
+		}
 		return negateIfNeeded(cb.equal(expression, value), operator);
 	}
 
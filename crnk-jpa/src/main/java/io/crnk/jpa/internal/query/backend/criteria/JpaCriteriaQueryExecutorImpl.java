@@ -1,5 +1,6 @@
 package io.crnk.jpa.internal.query.backend.criteria;
 
+import io.crnk.core.engine.internal.utils.PreconditionUtil;
 import io.crnk.jpa.internal.query.AbstractQueryExecutorImpl;
 import io.crnk.jpa.internal.query.QueryUtil;
 import io.crnk.jpa.internal.query.backend.querydsl.ObjectArrayTupleImpl;
@@ -11,6 +12,7 @@ import javax.persistence.Tuple;
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.*;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -19,6 +21,10 @@ public class JpaCriteriaQueryExecutorImpl<T> extends AbstractQueryExecutorImpl<T
 
 	private CriteriaQuery<T> query;
 
+	private List<ParameterExpression<?>> parameters = Collections.emptyList();
+
+	private List<Object> parameterValues = Collections.emptyList();
+
 	public JpaCriteriaQueryExecutorImpl(EntityManager em, MetaDataObject meta, CriteriaQuery<T> criteriaQuery,
 										int numAutoSelections, Map<String, Integer> selectionBindings) {
 		super(em, meta, numAutoSelections, selectionBindings);
@@ -26,6 +32,24 @@ public class JpaCriteriaQueryExecutorImpl<T> extends AbstractQueryExecutorImpl<T
 		this.query = criteriaQuery;
 	}
 
+	/**
+	 * Sets the values of the parameters of a query obtained from a {@link CriteriaQueryPlan}.
+	 */
+	public void setParameterValues(List<ParameterExpression<?>> parameters, List<Object> parameterValues) {
+		PreconditionUtil.verifyEquals(parameters.size(), parameterValues.size(), "parameter values do not match");
+		this.parameters = parameters;
+		this.parameterValues = parameterValues;
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private void bindParameters(TypedQuery<?> typedQuery) {
+		for (int i = 0; i < parameters.size(); i++) {
+			ParameterExpression parameter = parameters.get(i);
+			Object value = JpaCriteriaQueryBackend.toParameterValue(parameter, parameterValues.get(i));
+			typedQuery.setParameter(parameter, value);
+		}
+	}
+
 	public CriteriaQuery<T> getQuery() {
 		return query;
 	}
@@ -33,7 +57,13 @@ public class JpaCriteriaQueryExecutorImpl<T> extends AbstractQueryExecutorImpl<T
 	@SuppressWarnings("unchecked")
 	@Override
 	public TypedQuery<T> getTypedQuery() {
-		return (TypedQuery<T>) setupQuery(em.createQuery(query));
+		TypedQuery<T> typedQuery;
+		// cached queries are shared, no rendering while a count query is derived
+		synchronized (query) {
+			typedQuery = em.createQuery(query);
+		}
+		bindParameters(typedQuery);
+		return (TypedQuery<T>) setupQuery(typedQuery);
 	}
 
 	@Override
@@ -54,33 +84,36 @@ public class JpaCriteriaQueryExecutorImpl<T> extends AbstractQueryExecutorImpl<T
 	@Override
 	@SuppressWarnings({"rawtypes"})
 	public long getTotalRowCount() {
-		Selection<T> selection = query.getSelection();
-		List<Order> orderList = query.getOrderList();
-		try {
-			CriteriaBuilder builder = em.getCriteriaBuilder();
-			Expression<Long> countExpr;
-
-			Set<Root<?>> roots = query.getRoots();
-			if (roots.size() != 1) {
-				throw new IllegalStateException("cannot compute totalRowCount in case of multiple query roots");
+		TypedQuery countQuery;
+		synchronized (query) {
+			Selection<T> selection = query.getSelection();
+			List<Order> orderList = query.getOrderList();
+			try {
+				CriteriaBuilder builder = em.getCriteriaBuilder();
+				Expression<Long> countExpr;
+
+				Set<Root<?>> roots = query.getRoots();
+				if (roots.size() != 1) {
+					throw new IllegalStateException("cannot compute totalRowCount in case of multiple query roots");
+				}
+				if (!query.getGroupList().isEmpty()) {
+					throw new IllegalStateException("cannot compute totalRowCount for grouped queries");
+				}
+
+				// transform query to a count query
+				Root root = roots.iterator().next();
+				countExpr = builder.count(root);
+				query.multiselect(countExpr);
+				query.orderBy(new ArrayList<Order>());
+				countQuery = em.createQuery(query);
+			} finally {
+				// transform count query back to regular query
+				query.multiselect(selection);
+				query.orderBy(orderList);
 			}
-			if (!query.getGroupList().isEmpty()) {
-				throw new IllegalStateException("cannot compute totalRowCount for grouped queries");
-			}
-
-			// transform query to a count query
-			Root root = roots.iterator().next();
-			countExpr = builder.count(root);
-			query.multiselect(countExpr);
-			query.orderBy(new ArrayList<Order>());
-			TypedQuery countQuery = em.createQuery(query);
-
-			return (Long) countQuery.getSingleResult();
-		} finally {
-			// transform count query back to regular query
-			query.multiselect(selection);
-			query.orderBy(orderList);
 		}
+		bindParameters(countQuery);
+		return (Long) countQuery.getSingleResult();
 	}
 
 	@Override
@@ -13,6 +13,10 @@ import java.util.Map;
 public class JpaCriteriaQueryImpl<T> extends AbstractJpaQueryImpl<T, JpaCriteriaQueryBackend<T>>
 		implements JpaCriteriaQuery<T> {
 
+	private CriteriaQueryPlanCache planCache;
+
+	private List<Object> planShape;
+
 	public JpaCriteriaQueryImpl(MetaPartition metaPartition, EntityManager em, Class<T> clazz,
 								ComputedAttributeRegistryImpl virtualAttrs) {
 		super(metaPartition, em, clazz, virtualAttrs);
@@ -27,18 +31,52 @@ public class JpaCriteriaQueryImpl<T> extends AbstractJpaQueryImpl<T, JpaCriteria
 		return buildExecutor().getQuery();
 	}
 
+	/**
+	 * @param planCache to reuse the criteria query built for previous queries with the same shape.
+	 */
+	public void setPlanCache(CriteriaQueryPlanCache planCache) {
+		this.planCache = planCache;
+	}
+
 	@Override
 	public JpaCriteriaQueryExecutorImpl<T> buildExecutor() {
-		return (JpaCriteriaQueryExecutorImpl<T>) super.buildExecutor();
+		List<Object> shape = planCache != null ? getQueryShape() : null;
+		if (shape != null) {
+			CriteriaQueryPlan<T> plan = planCache.get(shape);
+			if (plan != null) {
+				return plan.newExecutor(em, meta, JpaCriteriaQueryBackend.getParameterValues(filterSpecs));
+			}
+		}
+		planShape = shape;
+		try {
+			return (JpaCriteriaQueryExecutorImpl<T>) super.buildExecutor();
+		}
+		finally {
+			planShape = null;
+		}
 	}
 
 	@Override
 	protected JpaCriteriaQueryBackend<T> newBackend() {
-		return new JpaCriteriaQueryBackend<>(this, em, clazz, parentMeta, parentAttr, parentIdSelection);
+		JpaCriteriaQueryBackend<T> backend = new JpaCriteriaQueryBackend<>(this, em, clazz, parentMeta, parentAttr,
+				parentIdSelection);
+		if (planShape != null) {
+			backend.parameterize();
+		}
+		return backend;
 	}
 
 	@Override
 	protected JpaCriteriaQueryExecutorImpl<T> newExecutor(JpaCriteriaQueryBackend<T> ctx, int numAutoSelections, Map<String, Integer> selectionBindings) {
-		return new JpaCriteriaQueryExecutorImpl<>(em, meta, ctx.getCriteriaQuery(), numAutoSelections, selectionBindings);
+		if (planShape == null) {
+			return new JpaCriteriaQueryExecutorImpl<>(em, meta, ctx.getCriteriaQuery(), numAutoSelections, selectionBindings);
+		}
+		CriteriaQueryPlan<T> plan = new CriteriaQueryPlan<>(ctx.getCriteriaQuery(), ctx.getParameters(), numAutoSelections,
+				selectionBindings);
+		// values are obtained from the filters for subsequent requests, make sure they line up
+		if (ctx.isCacheable() && ctx.getParameterValues().equals(JpaCriteriaQueryBackend.getParameterValues(filterSpecs))) {
+			planCache.put(planShape, plan);
+		}
+		return plan.newExecutor(em, meta, ctx.getParameterValues());
 	}
 }
@@ -36,6 +36,12 @@ public interface JpaQuery<T> {
 
 	void addSelection(List<String> path);
 
+	/**
+	 * @param projection to only select the attributes added with {@link #addSelection(List)} rather than the entity
+	 *                   itself. Results must then be obtained as tuples.
+	 */
+	JpaQuery<T> setProjection(boolean projection);
+
 	void addParentIdSelection();
 
 	/**
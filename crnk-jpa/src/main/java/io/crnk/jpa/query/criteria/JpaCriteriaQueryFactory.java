@@ -1,6 +1,7 @@
 package io.crnk.jpa.query.criteria;
 
 import io.crnk.jpa.internal.JpaQueryFactoryBase;
+import io.crnk.jpa.internal.query.backend.criteria.CriteriaQueryPlanCache;
 import io.crnk.jpa.internal.query.backend.criteria.JpaCriteriaQueryImpl;
 import io.crnk.jpa.query.JpaQueryFactory;
 
@@ -9,6 +10,8 @@ import java.util.List;
 
 public class JpaCriteriaQueryFactory extends JpaQueryFactoryBase implements JpaQueryFactory {
 
+	private CriteriaQueryPlanCache planCache;
+
 	private JpaCriteriaQueryFactory() {
 	}
 
@@ -16,9 +19,33 @@ public class JpaCriteriaQueryFactory extends JpaQueryFactoryBase implements JpaQ
 		return new JpaCriteriaQueryFactory();
 	}
 
+	/**
+	 * Enables caching of the criteria queries built for the most recent query shapes. A shape is made up of the
+	 * entity, the filtered attributes and operators, sorting, selection and joins, but not the filter values. Those
+	 * are bound as parameters for every request, skipping the translation of the query spec as well as the
+	 * re-compilation of the query by the JPA provider. Disabled by default.
+	 * <p>
+	 * Cached criteria queries are shared among requests and must not be modified, for example by a
+	 * {@link io.crnk.jpa.JpaRepositoryFilter} accessing {@link JpaCriteriaQueryExecutor}.
+	 *
+	 * @param maxSize number of shapes to keep, 0 to disable
+	 */
+	public void setQueryPlanCacheSize(int maxSize) {
+		planCache = maxSize > 0 ? new CriteriaQueryPlanCache(maxSize) : null;
+	}
+
+	/**
+	 * @return cache holding the criteria queries of recent query shapes or null if disabled
+	 */
+	public CriteriaQueryPlanCache getQueryPlanCache() {
+		return planCache;
+	}
+
 	@Override
 	public <T> JpaCriteriaQuery<T> query(Class<T> entityClass) {
-		return new JpaCriteriaQueryImpl<>(context.getMetaPartition(), em, entityClass, computedAttrs);
+		JpaCriteriaQueryImpl<T> query = new JpaCriteriaQueryImpl<>(context.getMetaPartition(), em, entityClass, computedAttrs);
+		query.setPlanCache(planCache);
+		return query;
 	}
 
 	@Override
@@ -1,9 +1,16 @@
 package io.crnk.jpa;
 
+import java.util.concurrent.Callable;
 import javax.persistence.EntityManager;
 
 import io.crnk.core.boot.CrnkBoot;
+import io.crnk.core.engine.dispatcher.Response;
+import io.crnk.core.engine.filter.DocumentFilter;
+import io.crnk.core.engine.filter.DocumentFilterChain;
+import io.crnk.core.engine.filter.DocumentFilterContext;
 import io.crnk.core.engine.transaction.TransactionRunner;
+import io.crnk.core.queryspec.QuerySpec;
+import io.crnk.jpa.cache.LocalJpaResultCache;
 import io.crnk.jpa.model.TestEntity;
 import org.junit.Assert;
 import org.junit.Test;
@@ -40,4 +47,51 @@ public class JpaModuleTest {
 							+ "JPA annotations");
 		}
 	}
+
+	@Test
+	public void checkModifiedEntityClassesInvalidatedAfterTransaction() {
+		final LocalJpaResultCache resultCache = new LocalJpaResultCache();
+		JpaModuleConfig config = new JpaModuleConfig();
+		config.setResultCache(resultCache);
+		EntityManager em = Mockito.mock(EntityManager.class);
+		Mockito.when(em.getDelegate()).thenReturn(new Object());
+		TransactionRunner transactionRunner = new TransactionRunner() {
+
+			@Override
+			public <T> T doInTransaction(Callable<T> callable) {
+				try {
+					return callable.call();
+				}
+				catch (Exception e) {
+					throw new IllegalStateException(e);
+				}
+			}
+		};
+		final JpaModule module = JpaModule.createServerModule(config, em, transactionRunner);
+		CrnkBoot boot = new CrnkBoot();
+		boot.addModule(module);
+		boot.boot();
+
+		final QuerySpec querySpec = new QuerySpec(TestEntity.class);
+		DocumentFilterChain chain = new DocumentFilterChain() {
+
+			@Override
+			public Response doFilter(DocumentFilterContext context) {
+				module.markModifyingTransaction(TestEntity.class);
+				resultCache.invalidate(TestEntity.class);
+
+				// concurrent request loading the previous state before the commit
+				long generation = resultCache.getGeneration(TestEntity.class);
+				resultCache.putResource(TestEntity.class, TestEntity.class, 1L, querySpec, "previous", generation);
+				Assert.assertEquals(1, resultCache.size());
+				return null;
+			}
+		};
+		for (DocumentFilter filter : boot.getModuleRegistry().getFilters()) {
+			if (filter.getClass().getEnclosingClass() == JpaModule.class) {
+				filter.filter(Mockito.mock(DocumentFilterContext.class), chain);
+			}
+		}
+		Assert.assertEquals(0, resultCache.size());
+	}
 }
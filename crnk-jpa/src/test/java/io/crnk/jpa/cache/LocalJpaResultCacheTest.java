@@ -0,0 +1,149 @@
+package io.crnk.jpa.cache;
+
+import java.util.Arrays;
+
+import io.crnk.core.queryspec.FilterOperator;
+import io.crnk.core.queryspec.FilterSpec;
+import io.crnk.core.queryspec.QuerySpec;
+import io.crnk.jpa.model.RelatedEntity;
+import io.crnk.jpa.model.TestEntity;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LocalJpaResultCacheTest {
+
+	private QuerySpec querySpec = new QuerySpec(TestEntity.class);
+
+	@Test
+	public void checkResourcesKeyedByQuerySpec() {
+		LocalJpaResultCache cache = new LocalJpaResultCache();
+		QuerySpec querySpec = new QuerySpec(TestEntity.class);
+		querySpec.addFilter(new FilterSpec(Arrays.asList("stringValue"), FilterOperator.EQ, "test"));
+		cache.putResources(TestEntity.class, TestEntity.class, querySpec, Arrays.asList("a", "b"), 0L);
+
+		// modifications of the spec must not affect the cached entry
+		QuerySpec cachedQuerySpec = querySpec.duplicate();
+		querySpec.setLimit(10L);
+		Assert.assertNull(cache.getResources(TestEntity.class, TestEntity.class, querySpec));
+		Assert.assertNull(cache.getResources(TestEntity.class, RelatedEntity.class, cachedQuerySpec));
+		Assert.assertEquals(Arrays.asList("a", "b"),
+				cache.getResources(TestEntity.class, TestEntity.class, cachedQuerySpec));
+		Assert.assertEquals(2, cache.getWeight());
+	}
+
+	@Test
+	public void checkResourceKeyedByIdAndQuerySpec() {
+		LocalJpaResultCache cache = new LocalJpaResultCache();
+		QuerySpec includeQuerySpec = new QuerySpec(TestEntity.class);
+		includeQuerySpec.includeRelation(Arrays.asList("oneRelatedValue"));
+		cache.putResource(TestEntity.class, TestEntity.class, 1L, querySpec, "1", 0L);
+		cache.putResource(TestEntity.class, TestEntity.class, 1L, includeQuerySpec, "1+related", 0L);
+
+		Assert.assertEquals("1", cache.getResource(TestEntity.class, TestEntity.class, 1L, querySpec));
+		Assert.assertEquals("1+related", cache.getResource(TestEntity.class, TestEntity.class, 1L, includeQuerySpec));
+		Assert.assertNull(cache.getResource(TestEntity.class, TestEntity.class, 2L, querySpec));
+	}
+
+	@Test
+	public void checkInvalidateById() {
+		LocalJpaResultCache cache = new LocalJpaResultCache();
+		cache.putResource(TestEntity.class, TestEntity.class, 1L, querySpec, "1", 0L);
+		cache.putResource(TestEntity.class, String.class, 1L, querySpec, "1 as other resource", 0L);
+		cache.putResource(TestEntity.class, TestEntity.class, 2L, querySpec, "2", 0L);
+		cache.putResources(TestEntity.class, TestEntity.class, querySpec, Arrays.asList("1", "2"), 0L);
+		cache.putResource(RelatedEntity.class, RelatedEntity.class, 1L, querySpec, "related", 0L);
+
+		cache.invalidate(TestEntity.class, 1L);
+		Assert.assertNull(cache.getResource(TestEntity.class, TestEntity.class, 1L, querySpec));
+		Assert.assertNull(cache.getResource(TestEntity.class, String.class, 1L, querySpec));
+		Assert.assertNull(cache.getResources(TestEntity.class, TestEntity.class, querySpec));
+		Assert.assertEquals("2", cache.getResource(TestEntity.class, TestEntity.class, 2L, querySpec));
+		Assert.assertEquals("related", cache.getResource(RelatedEntity.class, RelatedEntity.class, 1L, querySpec));
+		Assert.assertEquals(2, cache.getWeight());
+
+		cache.invalidate(TestEntity.class);
+		Assert.assertNull(cache.getResource(TestEntity.class, TestEntity.class, 2L, querySpec));
+		Assert.assertEquals(1, cache.size());
+
+		cache.clear();
+		Assert.assertEquals(0, cache.size());
+		Assert.assertEquals(0, cache.getWeight());
+	}
+
+	@Test
+	public void checkResultsLoadedBeforeInvalidationNotPut() {
+		LocalJpaResultCache cache = new LocalJpaResultCache();
+		long generation = cache.getGeneration(TestEntity.class);
+
+		// concurrent modification while the results are loaded
+		cache.invalidate(TestEntity.class, 1L);
+		Assert.assertNotEquals(generation, cache.getGeneration(TestEntity.class));
+		Assert.assertEquals(0L, cache.getGeneration(RelatedEntity.class));
+
+		cache.putResource(TestEntity.class, TestEntity.class, 1L, querySpec, "1", generation);
+		cache.putResources(TestEntity.class, TestEntity.class, querySpec, Arrays.asList("1"), generation);
+		Assert.assertEquals(0, cache.size());
+
+		put(cache, 1L, "1");
+		Assert.assertEquals("1", get(cache, 1L));
+	}
+
+	@Test
+	public void checkLeastRecentlyUsedEvicted() {
+		LocalJpaResultCache cache = new LocalJpaResultCache();
+		cache.setMaxEntries(2);
+		put(cache, 1L, "1");
+		put(cache, 2L, "2");
+		get(cache, 1L);
+		put(cache, 3L, "3");
+
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals("1", get(cache, 1L));
+		Assert.assertNull(get(cache, 2L));
+		Assert.assertEquals("3", get(cache, 3L));
+	}
+
+	@Test
+	public void checkMaxWeight() {
+		LocalJpaResultCache cache = new LocalJpaResultCache();
+		cache.setMaxWeight(3);
+		put(cache, 1L, "1");
+		cache.putResources(TestEntity.class, TestEntity.class, querySpec, Arrays.asList("1", "2"), 0L);
+		Assert.assertEquals(3, cache.getWeight());
+
+		put(cache, 2L, "2");
+		Assert.assertNull(get(cache, 1L));
+		Assert.assertEquals(3, cache.getWeight());
+
+		cache.setWeigher(new LocalJpaResultCache.Weigher() {
+
+			@Override
+			public long weigh(Object value) {
+				return 5;
+			}
+		});
+		put(cache, 3L, "3");
+		Assert.assertEquals(0, cache.size());
+		Assert.assertEquals(0, cache.getWeight());
+	}
+
+	@Test
+	public void checkMaxAge() throws InterruptedException {
+		LocalJpaResultCache cache = new LocalJpaResultCache();
+		cache.setMaxAge(10);
+		put(cache, 1L, "1");
+		Assert.assertEquals("1", get(cache, 1L));
+		Thread.sleep(50);
+		Assert.assertNull(get(cache, 1L));
+		Assert.assertEquals(0, cache.size());
+	}
+
+	private void put(LocalJpaResultCache cache, Long id, String resource) {
+		long generation = cache.getGeneration(TestEntity.class);
+		cache.putResource(TestEntity.class, TestEntity.class, id, querySpec, resource, generation);
+	}
+
+	private Object get(LocalJpaResultCache cache, Long id) {
+		return cache.getResource(TestEntity.class, TestEntity.class, id, querySpec);
+	}
+}
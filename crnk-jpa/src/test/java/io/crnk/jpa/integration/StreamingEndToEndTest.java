@@ -0,0 +1,89 @@
+package io.crnk.jpa.integration;
+
+import java.util.Arrays;
+
+import io.crnk.core.queryspec.QuerySpec;
+import io.crnk.core.repository.ResourceRepositoryV2;
+import io.crnk.core.resource.list.ResourceList;
+import io.crnk.jpa.AbstractJpaJerseyTest;
+import io.crnk.jpa.JpaModule;
+import io.crnk.jpa.model.RelatedEntity;
+import io.crnk.jpa.model.TestEntity;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StreamingEndToEndTest extends AbstractJpaJerseyTest {
+
+	private ResourceRepositoryV2<TestEntity, Long> testRepo;
+
+	@Override
+	@Before
+	public void setup() {
+		super.setup();
+		testRepo = client.getRepositoryForType(TestEntity.class);
+	}
+
+	@Override
+	protected void setupModule(JpaModule module, boolean server) {
+		super.setupModule(module, server);
+		if (server) {
+			module.getConfig().setStreamingChunkSize(2);
+		}
+	}
+
+	@Test
+	public void testFindAll() {
+		createTestEntities();
+
+		ResourceList<TestEntity> list = testRepo.findAll(new QuerySpec(TestEntity.class));
+		Assert.assertEquals(5, list.size());
+		for (int i = 0; i < 5; i++) {
+			Assert.assertEquals(i, list.get(i).getId().intValue());
+			Assert.assertEquals("test" + i, list.get(i).getStringValue());
+		}
+	}
+
+	@Test
+	public void testFindAllWithInclusion() {
+		RelatedEntity related = new RelatedEntity();
+		related.setId(100L);
+		related.setStringValue("related");
+		ResourceRepositoryV2<RelatedEntity, Long> relatedRepo = client.getRepositoryForType(RelatedEntity.class);
+		relatedRepo.create(related);
+
+		TestEntity test = new TestEntity();
+		test.setId(1L);
+		test.setStringValue("test");
+		test.setOneRelatedValue(related);
+		testRepo.create(test);
+
+		QuerySpec querySpec = new QuerySpec(TestEntity.class);
+		querySpec.includeRelation(Arrays.asList(TestEntity.ATTR_oneRelatedValue));
+		ResourceList<TestEntity> list = testRepo.findAll(querySpec);
+		Assert.assertEquals(1, list.size());
+		Assert.assertEquals("related", list.get(0).getOneRelatedValue().getStringValue());
+	}
+
+	@Test
+	public void testPaging() {
+		createTestEntities();
+
+		QuerySpec querySpec = new QuerySpec(TestEntity.class);
+		querySpec.setOffset(1L);
+		querySpec.setLimit(3L);
+		ResourceList<TestEntity> list = testRepo.findAll(querySpec);
+		Assert.assertEquals(3, list.size());
+		Assert.assertEquals(1, list.get(0).getId().intValue());
+		Assert.assertEquals(3, list.get(2).getId().intValue());
+	}
+
+	private void createTestEntities() {
+		for (long i = 0; i < 5; i++) {
+			TestEntity test = new TestEntity();
+			test.setId(i);
+			test.setStringValue("test" + i);
+			testRepo.create(test);
+		}
+	}
+}
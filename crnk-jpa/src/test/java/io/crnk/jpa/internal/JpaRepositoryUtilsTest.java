@@ -1,6 +1,11 @@
 package io.crnk.jpa.internal;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import io.crnk.test.mock.ClassTestUtils;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class JpaRepositoryUtilsTest {
@@ -9,4 +14,22 @@ public class JpaRepositoryUtilsTest {
 	public void hasPrivateConstructor() {
 		ClassTestUtils.assertPrivateConstructor(JpaRepositoryUtils.class);
 	}
+
+	@Test
+	public void chunkIdsPadsToPowerOfTwo() {
+		List<List<Integer>> chunks = JpaRepositoryUtils.chunkIds(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11), 8);
+		Assert.assertEquals(2, chunks.size());
+		Assert.assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8), chunks.get(0));
+		Assert.assertEquals(Arrays.asList(9, 10, 11, 11), chunks.get(1));
+
+		Assert.assertEquals(Arrays.asList(Arrays.asList(1)), JpaRepositoryUtils.chunkIds(Arrays.asList(1), 8));
+		Assert.assertEquals(Arrays.asList(Arrays.asList(1, 2, 3, 3)), JpaRepositoryUtils.chunkIds(Arrays.asList(1, 2, 3), 8));
+		Assert.assertTrue(JpaRepositoryUtils.chunkIds(Collections.<Integer>emptyList(), 8).isEmpty());
+	}
+
+	@Test
+	public void chunkIdsLimitsPaddingToChunkSize() {
+		List<List<Integer>> chunks = JpaRepositoryUtils.chunkIds(Arrays.asList(1, 2, 3, 4, 5, 5, 6), 3);
+		Assert.assertEquals(Arrays.asList(Arrays.asList(1, 2, 3), Arrays.asList(4, 5, 6)), chunks);
+	}
 }
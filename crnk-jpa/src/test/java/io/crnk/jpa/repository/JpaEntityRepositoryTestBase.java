@@ -1,20 +1,29 @@
 package io.crnk.jpa.repository;
 
+import io.crnk.core.exception.BadRequestException;
 import io.crnk.core.queryspec.Direction;
 import io.crnk.core.queryspec.FilterOperator;
 import io.crnk.core.queryspec.FilterSpec;
 import io.crnk.core.queryspec.QuerySpec;
 import io.crnk.core.queryspec.SortSpec;
+import io.crnk.core.queryspec.pagingspec.KeysetPagingSpec;
 import io.crnk.core.resource.list.ResourceList;
+import io.crnk.core.resource.list.StreamingResourceList;
 import io.crnk.core.resource.meta.PagedMetaInformation;
 import io.crnk.jpa.JpaEntityRepository;
 import io.crnk.jpa.JpaRepositoryConfig;
+import io.crnk.jpa.JpaRepositoryFilter;
+import io.crnk.jpa.JpaRepositoryFilterBase;
+import io.crnk.jpa.cache.LocalJpaResultCache;
+import io.crnk.jpa.mapping.RelatedDTOMapper;
 import io.crnk.jpa.model.FieldOnlyEntity;
 import io.crnk.jpa.model.JpaTransientTestEntity;
 import io.crnk.jpa.model.RelatedEntity;
 import io.crnk.jpa.model.SequenceEntity;
 import io.crnk.jpa.model.TestEntity;
+import io.crnk.jpa.model.dto.RelatedDTO;
 import io.crnk.jpa.query.AbstractJpaTest;
+import io.crnk.jpa.query.JpaQuery;
 import org.hibernate.Hibernate;
 import org.junit.Assert;
 import org.junit.Before;
@@ -23,7 +32,9 @@ import org.junit.Test;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 
 @Transactional
@@ -74,6 +85,30 @@ public abstract class JpaEntityRepositoryTestBase extends AbstractJpaTest {
 		Assert.assertEquals("test2", entities.get(1).getStringValue());
 	}
 
+	@Test
+	public void testFindAllByIdInChunks() {
+		module.getConfig().setBulkFetchChunkSize(2);
+		QuerySpec querySpec = new QuerySpec(TestEntity.class);
+
+		ResourceList<TestEntity> entities = repo.findAll(Arrays.asList(4L, 1L, 2L, 1L, 3L, 99L), querySpec);
+		Assert.assertEquals(4, entities.size());
+		for (int i = 0; i < 4; i++) {
+			Assert.assertEquals(i + 1, entities.get(i).getId().intValue());
+		}
+	}
+
+	@Test
+	public void testFindAllByIdInChunksWithSorting() {
+		module.getConfig().setBulkFetchChunkSize(2);
+		QuerySpec querySpec = new QuerySpec(TestEntity.class);
+		querySpec.addSort(new SortSpec(Arrays.asList(TestEntity.ATTR_id), Direction.DESC));
+
+		ResourceList<TestEntity> entities = repo.findAll(Arrays.asList(1L, 2L, 3L), querySpec);
+		Assert.assertEquals(3, entities.size());
+		Assert.assertEquals(3, entities.get(0).getId().intValue());
+		Assert.assertEquals(1, entities.get(2).getId().intValue());
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void testInvalidLimit() {
 		QuerySpec querySpec = new QuerySpec(TestEntity.class);
@@ -308,6 +343,209 @@ public abstract class JpaEntityRepositoryTestBase extends AbstractJpaTest {
 		Assert.assertEquals(5, metaInformation.getTotalResourceCount().longValue());
 	}
 
+	@Test
+	public void testKeysetPaging() {
+		QuerySpec querySpec = new QuerySpec(TestEntity.class);
+		querySpec.setPagingSpec(new KeysetPagingSpec(2L, null));
+
+		ResourceList<TestEntity> list = repo.findAll(querySpec);
+		Assert.assertEquals(2, list.size());
+		Assert.assertEquals(0, list.get(0).getId().intValue());
+		Assert.assertEquals(1, list.get(1).getId().intValue());
+
+		querySpec.setPagingSpec(new KeysetPagingSpec(2L, Arrays.<Object>asList("1")));
+		list = repo.findAll(querySpec);
+		Assert.assertEquals(2, list.size());
+		Assert.assertEquals(2, list.get(0).getId().intValue());
+		Assert.assertEquals(3, list.get(1).getId().intValue());
+
+		PagedMetaInformation metaInformation = list.getMeta(PagedMetaInformation.class);
+		Assert.assertNull(metaInformation.getTotalResourceCount());
+	}
+
+	@Test
+	public void testKeysetPagingWithSort() {
+		QuerySpec querySpec = new QuerySpec(TestEntity.class);
+		querySpec.addSort(new SortSpec(Arrays.asList("longValue"), Direction.DESC));
+		querySpec.setPagingSpec(new KeysetPagingSpec(2L, Arrays.<Object>asList(3L, 3L)));
+
+		ResourceList<TestEntity> list = repo.findAll(querySpec);
+		Assert.assertEquals(2, list.size());
+		Assert.assertEquals(2, list.get(0).getId().intValue());
+		Assert.assertEquals(1, list.get(1).getId().intValue());
+	}
+
+	@Test
+	public void testKeysetPagingWithNullSortValues() {
+		em.find(TestEntity.class, 1L).setStringValue(null);
+		em.find(TestEntity.class, 3L).setStringValue(null);
+		em.flush();
+
+		// nulls are sorted low by H2
+		QuerySpec querySpec = new QuerySpec(TestEntity.class);
+		querySpec.addSort(new SortSpec(Arrays.asList(TestEntity.ATTR_stringValue), Direction.ASC));
+		querySpec.setPagingSpec(new KeysetPagingSpec(2L, null));
+		assertIds(repo.findAll(querySpec), 1L, 3L);
+		querySpec.setPagingSpec(new KeysetPagingSpec(2L, Arrays.<Object>asList(null, 3L)));
+		assertIds(repo.findAll(querySpec), 0L, 2L);
+		querySpec.setPagingSpec(new KeysetPagingSpec(2L, Arrays.<Object>asList("test2", 2L)));
+		assertIds(repo.findAll(querySpec), 4L);
+
+		querySpec = new QuerySpec(TestEntity.class);
+		querySpec.addSort(new SortSpec(Arrays.asList(TestEntity.ATTR_stringValue), Direction.DESC));
+		querySpec.setPagingSpec(new KeysetPagingSpec(2L, Arrays.<Object>asList("test0", 0L)));
+		assertIds(repo.findAll(querySpec), 1L, 3L);
+		querySpec.setPagingSpec(new KeysetPagingSpec(2L, Arrays.<Object>asList(null, 1L)));
+		assertIds(repo.findAll(querySpec), 3L);
+	}
+
+	private static void assertIds(List<TestEntity> list, Long... ids) {
+		List<Long> actualIds = new ArrayList<>();
+		for (TestEntity entity : list) {
+			actualIds.add(entity.getId());
+		}
+		Assert.assertEquals(Arrays.asList(ids), actualIds);
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testKeysetPagingWithInvalidKey() {
+		QuerySpec querySpec = new QuerySpec(TestEntity.class);
+		querySpec.setPagingSpec(new KeysetPagingSpec(2L, Arrays.<Object>asList(1L, 2L)));
+		repo.findAll(querySpec);
+	}
+
+	@Test
+	public void testCachedTotalResourceCount() {
+		module.getConfig().setTotalResourceCountMaxAge(60000);
+		repo = new JpaEntityRepository<>(module, JpaRepositoryConfig.create(TestEntity.class));
+
+		QuerySpec querySpec = new QuerySpec(TestEntity.class);
+		querySpec.setLimit(2L);
+		ResourceList<TestEntity> list = repo.findAll(querySpec);
+		Assert.assertEquals(5, list.getMeta(PagedMetaInformation.class).getTotalResourceCount().longValue());
+
+		// changes bypassing the repository are not noticed, the cached count is used
+		TestEntity unnoticed = new TestEntity();
+		unnoticed.setId(100L);
+		em.persist(unnoticed);
+		em.flush();
+		list = repo.findAll(querySpec);
+		Assert.assertEquals(5, list.getMeta(PagedMetaInformation.class).getTotalResourceCount().longValue());
+
+		repo.delete(4L);
+		em.flush();
+		list = repo.findAll(querySpec);
+		Assert.assertEquals(5, list.getMeta(PagedMetaInformation.class).getTotalResourceCount().longValue());
+
+		TestEntity created = new TestEntity();
+		created.setId(101L);
+		repo.create(created);
+		em.flush();
+		list = repo.findAll(querySpec);
+		Assert.assertEquals(6, list.getMeta(PagedMetaInformation.class).getTotalResourceCount().longValue());
+	}
+
+	@Test
+	public void testTotalResourceCountNotCachedForFilteredRepository() {
+		module.getConfig().setTotalResourceCountMaxAge(60000);
+		final long[] maxId = new long[] { 2L };
+		JpaRepositoryFilter filter = new JpaRepositoryFilterBase() {
+
+			@Override
+			public <T> JpaQuery<T> filterQuery(Object repository, QuerySpec querySpec, JpaQuery<T> query) {
+				// restriction depending on the request, e.g. the current user
+				return query.addFilter(TestEntity.ATTR_id, FilterOperator.LE, maxId[0]);
+			}
+		};
+		module.addFilter(filter);
+		try {
+			repo = new JpaEntityRepository<>(module, JpaRepositoryConfig.create(TestEntity.class));
+
+			QuerySpec querySpec = new QuerySpec(TestEntity.class);
+			querySpec.setLimit(2L);
+			ResourceList<TestEntity> list = repo.findAll(querySpec);
+			Assert.assertEquals(3, list.getMeta(PagedMetaInformation.class).getTotalResourceCount().longValue());
+
+			maxId[0] = 3L;
+			list = repo.findAll(querySpec);
+			Assert.assertEquals(4, list.getMeta(PagedMetaInformation.class).getTotalResourceCount().longValue());
+		}
+		finally {
+			module.removeFilter(filter);
+		}
+	}
+
+	@Test
+	public void testStreaming() {
+		module.getConfig().setStreamingChunkSize(2);
+		em.clear();
+
+		ResourceList<TestEntity> list = repo.findAll(new QuerySpec(TestEntity.class));
+		Assert.assertTrue(list instanceof StreamingResourceList);
+		Iterator<TestEntity> iterator = ((StreamingResourceList<TestEntity>) list).consume();
+		List<TestEntity> entities = new ArrayList<>();
+		while (iterator.hasNext()) {
+			entities.add(iterator.next());
+		}
+		Assert.assertEquals(numTestEntities, entities.size());
+		for (int i = 0; i < numTestEntities; i++) {
+			Assert.assertEquals(i, entities.get(i).getId().intValue());
+		}
+		// only the last chunk is still attached
+		Assert.assertFalse(em.contains(entities.get(0)));
+		Assert.assertTrue(em.contains(entities.get(numTestEntities - 1)));
+	}
+
+	@Test
+	public void testStreamingWithWindow() {
+		module.getConfig().setStreamingChunkSize(2);
+		module.getConfig().setTotalResourceCountUsed(false);
+		repo = new JpaEntityRepository<>(module, JpaRepositoryConfig.builder(TestEntity.class)
+				.setListMetaClass(null).build());
+
+		QuerySpec querySpec = new QuerySpec(TestEntity.class);
+		querySpec.setOffset(1L);
+		querySpec.setLimit(3L);
+		ResourceList<TestEntity> list = repo.findAll(querySpec);
+		Assert.assertTrue(list instanceof StreamingResourceList);
+		Assert.assertEquals(3, list.size());
+		Assert.assertEquals(1L, list.get(0).getId().longValue());
+		Assert.assertEquals(3L, list.get(2).getId().longValue());
+		Assert.assertTrue(em.contains(list.get(0)));
+	}
+
+	@Test
+	public void testStreamingContinuesAfterLastKey() {
+		module.getConfig().setStreamingChunkSize(2);
+
+		QuerySpec querySpec = new QuerySpec(TestEntity.class);
+		querySpec.addSort(new SortSpec(Arrays.asList(TestEntity.ATTR_stringValue), Direction.DESC));
+		ResourceList<TestEntity> list = repo.findAll(querySpec);
+		Iterator<TestEntity> iterator = ((StreamingResourceList<TestEntity>) list).consume();
+		Assert.assertEquals(4L, iterator.next().getId().longValue());
+		Assert.assertEquals(3L, iterator.next().getId().longValue());
+
+		// an offset window would now skip the resource with id 2
+		em.createQuery("DELETE FROM TestEntity WHERE id = 4").executeUpdate();
+
+		List<Long> ids = new ArrayList<>();
+		while (iterator.hasNext()) {
+			ids.add(iterator.next().getId());
+		}
+		Assert.assertEquals(Arrays.asList(2L, 1L, 0L), ids);
+	}
+
+	@Test
+	public void testStreamingNotUsedForPagedMeta() {
+		module.getConfig().setStreamingChunkSize(2);
+
+		QuerySpec querySpec = new QuerySpec(TestEntity.class);
+		querySpec.setLimit(3L);
+		ResourceList<TestEntity> list = repo.findAll(querySpec);
+		Assert.assertFalse(list instanceof StreamingResourceList);
+		Assert.assertEquals(3, list.size());
+	}
+
 	@Test
 	public void testIncludeNoRelations() {
 		em.clear();
@@ -320,6 +558,130 @@ public abstract class JpaEntityRepositoryTestBase extends AbstractJpaTest {
 		}
 	}
 
+	@Test
+	public void testIncludeFetch() {
+		module.getConfig().setIncludeFetchDepth(2);
+		em.clear();
+
+		QuerySpec querySpec = new QuerySpec(TestEntity.class);
+		querySpec.includeRelation(Arrays.asList(TestEntity.ATTR_oneRelatedValue, RelatedEntity.ATTR_testEntity));
+		List<TestEntity> list = repo.findAll(querySpec);
+		Assert.assertEquals(numTestEntities, list.size());
+		for (TestEntity entity : list) {
+			RelatedEntity relatedValue = entity.getOneRelatedValue();
+			if (relatedValue != null) {
+				Assert.assertTrue(Hibernate.isInitialized(relatedValue));
+			}
+		}
+	}
+
+	@Test
+	public void testIncludeFetchCollection() {
+		setupManyRelation();
+		module.getConfig().setIncludeFetchDepth(1);
+
+		QuerySpec querySpec = new QuerySpec(TestEntity.class);
+		querySpec.includeRelation(Arrays.asList(TestEntity.ATTR_manyRelatedValues));
+		List<TestEntity> list = repo.findAll(querySpec);
+		Assert.assertEquals(numTestEntities, list.size());
+		for (TestEntity entity : list) {
+			Assert.assertTrue(Hibernate.isInitialized(entity.getManyRelatedValues()));
+		}
+		Assert.assertEquals(2, list.get(1).getManyRelatedValues().size());
+	}
+
+	@Test
+	public void testIncludeFetchCollectionNotUsedForPaging() {
+		setupManyRelation();
+		module.getConfig().setIncludeFetchDepth(1);
+
+		QuerySpec querySpec = new QuerySpec(TestEntity.class);
+		querySpec.setLimit(2L);
+		querySpec.includeRelation(Arrays.asList(TestEntity.ATTR_manyRelatedValues));
+		List<TestEntity> list = repo.findAll(querySpec);
+		Assert.assertEquals(2, list.size());
+		Assert.assertFalse(Hibernate.isInitialized(list.get(1).getManyRelatedValues()));
+	}
+
+	private void setupManyRelation() {
+		TestEntity test = em.find(TestEntity.class, 1L);
+		for (long id = 101; id <= 102; id++) {
+			em.find(RelatedEntity.class, id).setTestEntity(test);
+		}
+		em.flush();
+		em.clear();
+	}
+
+	@Test
+	public void testResultCache() {
+		LocalJpaResultCache resultCache = new LocalJpaResultCache();
+		module.getConfig().setResultCache(resultCache);
+		JpaEntityRepository<RelatedDTO, Long> dtoRepo = new JpaEntityRepository<>(module,
+				JpaRepositoryConfig.builder(RelatedEntity.class, RelatedDTO.class, new RelatedDTOMapper(em)).build());
+
+		QuerySpec querySpec = new QuerySpec(RelatedDTO.class);
+		querySpec.addSort(new SortSpec(Arrays.asList(RelatedEntity.ATTR_id), Direction.ASC));
+		List<RelatedDTO> list = dtoRepo.findAll(querySpec);
+		Assert.assertEquals(numTestEntities, list.size());
+		RelatedDTO dto = dtoRepo.findOne(101L, new QuerySpec(RelatedDTO.class));
+		Assert.assertEquals(2, resultCache.size());
+
+		// modifications bypassing the repository are not noticed
+		em.find(RelatedEntity.class, 101L).setStringValue("updated");
+		em.flush();
+		RelatedDTO cachedDto = dtoRepo.findOne(101L, new QuerySpec(RelatedDTO.class));
+		Assert.assertEquals("related1", cachedDto.getStringValue());
+		List<RelatedDTO> cachedList = dtoRepo.findAll(querySpec);
+		Assert.assertNotSame(list, cachedList);
+		Assert.assertEquals("related1", cachedList.get(1).getStringValue());
+
+		// resources are copied from and to the cache
+		Assert.assertNotSame(dto, cachedDto);
+		dto.setStringValue("modified");
+		cachedDto.setStringValue("modified");
+		cachedList.get(1).setStringValue("modified");
+		Assert.assertEquals("related1", dtoRepo.findOne(101L, new QuerySpec(RelatedDTO.class)).getStringValue());
+		Assert.assertEquals("related1", dtoRepo.findAll(querySpec).get(1).getStringValue());
+
+		// single resources are keyed by their query spec as well
+		QuerySpec sortedQuerySpec = new QuerySpec(RelatedDTO.class);
+		sortedQuerySpec.addSort(new SortSpec(Arrays.asList(RelatedEntity.ATTR_stringValue), Direction.ASC));
+		Assert.assertEquals("updated", dtoRepo.findOne(101L, sortedQuerySpec).getStringValue());
+		Assert.assertEquals(3, resultCache.size());
+
+		// entities are not cached
+		repo.findAll(new QuerySpec(TestEntity.class));
+		Assert.assertEquals(3, resultCache.size());
+
+		RelatedDTO updatedDto = new RelatedDTO();
+		updatedDto.setId(101L);
+		updatedDto.setStringValue("saved");
+		dtoRepo.save(updatedDto);
+		Assert.assertEquals(0, resultCache.size());
+
+		// the modifying transaction neither reads from nor writes to the cache
+		Assert.assertEquals("saved", dtoRepo.findOne(101L, new QuerySpec(RelatedDTO.class)).getStringValue());
+		Assert.assertEquals("saved", dtoRepo.findAll(querySpec).get(1).getStringValue());
+		Assert.assertEquals(0, resultCache.size());
+	}
+
+	@Test
+	public void testResultCacheInvalidatedByEntityClass() {
+		LocalJpaResultCache resultCache = new LocalJpaResultCache();
+		module.getConfig().setResultCache(resultCache);
+		JpaEntityRepository<RelatedDTO, Long> dtoRepo = new JpaEntityRepository<>(module,
+				JpaRepositoryConfig.builder(RelatedEntity.class, RelatedDTO.class, new RelatedDTOMapper(em)).build());
+		dtoRepo.findAll(new QuerySpec(RelatedDTO.class));
+		dtoRepo.findOne(101L, new QuerySpec(RelatedDTO.class));
+		Assert.assertEquals(2, resultCache.size());
+
+		// modifications of the entity through another repository invalidate the mapped resources as well
+		JpaEntityRepository<RelatedEntity, Long> entityRepo = new JpaEntityRepository<>(module,
+				JpaRepositoryConfig.builder(RelatedEntity.class).build());
+		entityRepo.delete(101L);
+		Assert.assertEquals(0, resultCache.size());
+	}
+
 	@Test(expected = Exception.class)
 	public void testFilterUnknownAttr() {
 		QuerySpec querySpec = new QuerySpec(TestEntity.class);
@@ -334,6 +696,57 @@ public abstract class JpaEntityRepositoryTestBase extends AbstractJpaTest {
 		repo.findAll(querySpec);
 	}
 
+	@Test
+	public void testSparseFieldSetProjection() {
+		module.getConfig().setSparseFieldsProjected(true);
+		em.clear();
+
+		QuerySpec querySpec = new QuerySpec(TestEntity.class);
+		querySpec.addSort(new SortSpec(Arrays.asList(TestEntity.ATTR_id), Direction.ASC));
+		querySpec.includeField(Arrays.asList(TestEntity.ATTR_stringValue));
+		querySpec.includeField(Arrays.asList(TestEntity.ATTR_oneRelatedValue));
+		List<TestEntity> list = repo.findAll(querySpec);
+		Assert.assertEquals(numTestEntities, list.size());
+		for (int i = 0; i < numTestEntities; i++) {
+			TestEntity entity = list.get(i);
+			Assert.assertFalse(em.contains(entity));
+			Assert.assertEquals(i, entity.getId().longValue());
+			Assert.assertEquals("test" + i, entity.getStringValue());
+			Assert.assertEquals(0L, entity.getLongValue());
+			if (i == numTestEntities - 1) {
+				Assert.assertNull(entity.getOneRelatedValue());
+			}
+			else {
+				Assert.assertEquals(100L + i, entity.getOneRelatedValue().getId().longValue());
+			}
+		}
+	}
+
+	@Test
+	public void testSparseFieldSetWithCollectionNotProjected() {
+		module.getConfig().setSparseFieldsProjected(true);
+
+		QuerySpec querySpec = new QuerySpec(TestEntity.class);
+		querySpec.includeField(Arrays.asList(TestEntity.ATTR_manyRelatedValues));
+		List<TestEntity> list = repo.findAll(querySpec);
+		Assert.assertEquals(numTestEntities, list.size());
+		for (TestEntity entity : list) {
+			Assert.assertTrue(em.contains(entity));
+			Assert.assertNotNull(entity.getStringValue());
+		}
+	}
+
+	@Test
+	public void testSparseFieldSetNotProjectedForFindOne() {
+		module.getConfig().setSparseFieldsProjected(true);
+
+		QuerySpec querySpec = new QuerySpec(TestEntity.class);
+		querySpec.includeField(Arrays.asList(TestEntity.ATTR_stringValue));
+		TestEntity entity = repo.findOne(1L, querySpec);
+		Assert.assertTrue(em.contains(entity));
+		Assert.assertEquals(1L, entity.getLongValue());
+	}
+
 	@Test(expected = Exception.class)
 	public void testSortUnknownAttr() {
 		QuerySpec querySpec = new QuerySpec(TestEntity.class);
@@ -341,6 +754,80 @@ public abstract class JpaEntityRepositoryTestBase extends AbstractJpaTest {
 		repo.findAll(querySpec);
 	}
 
+	@Test
+	public void testCreateAllInBatches() {
+		module.getConfig().setBulkWriteBatchSize(2);
+
+		List<TestEntity> entities = new ArrayList<>();
+		for (long id = 10; id < 15; id++) {
+			TestEntity entity = new TestEntity();
+			entity.setId(20 - id);
+			entity.setStringValue("bulk" + id);
+			entities.add(entity);
+		}
+		List<TestEntity> created = repo.createAll(entities);
+		Assert.assertEquals(5, created.size());
+		for (int i = 0; i < 5; i++) {
+			Assert.assertEquals(entities.get(i).getId(), created.get(i).getId());
+			Assert.assertEquals("bulk" + (10 + i), created.get(i).getStringValue());
+		}
+		// entities of previous batches got detached
+		Assert.assertFalse(em.contains(created.get(0)));
+		Assert.assertTrue(em.contains(created.get(4)));
+		Assert.assertEquals(numTestEntities + 5, repo.findAll(new QuerySpec(TestEntity.class)).size());
+	}
+
+	@Test
+	public void testSaveAll() {
+		List<TestEntity> entities = repo.findAll(Arrays.asList(3L, 1L), new QuerySpec(TestEntity.class));
+		for (TestEntity entity : entities) {
+			entity.setStringValue("updated" + entity.getId());
+		}
+		List<TestEntity> saved = repo.saveAll(entities);
+		Assert.assertEquals(2, saved.size());
+		em.clear();
+		Assert.assertEquals("updated1", repo.findOne(1L, new QuerySpec(TestEntity.class)).getStringValue());
+		Assert.assertEquals("updated3", repo.findOne(3L, new QuerySpec(TestEntity.class)).getStringValue());
+		Assert.assertTrue(repo.saveAll(new ArrayList<TestEntity>()).isEmpty());
+	}
+
+	@Test
+	public void testSaveAllInBatches() {
+		module.getConfig().setBulkWriteBatchSize(2);
+		TestEntity otherEntity = em.find(TestEntity.class, 0L);
+
+		List<TestEntity> entities = repo.findAll(Arrays.asList(1L, 2L, 3L, 4L), new QuerySpec(TestEntity.class));
+		Assert.assertEquals(4, entities.size());
+		for (TestEntity entity : entities) {
+			entity.setStringValue("updated" + entity.getId());
+		}
+		// managed entities of later batches must not get detached by previous batches
+		List<TestEntity> saved = repo.saveAll(entities);
+		Assert.assertEquals(4, saved.size());
+		for (int i = 0; i < 4; i++) {
+			Assert.assertEquals(entities.get(i).getId(), saved.get(i).getId());
+		}
+		Assert.assertFalse(em.contains(saved.get(0)));
+		Assert.assertTrue(em.contains(saved.get(3)));
+		Assert.assertTrue(em.contains(otherEntity));
+
+		em.clear();
+		for (long id = 1; id < 5; id++) {
+			Assert.assertEquals("updated" + id, repo.findOne(id, new QuerySpec(TestEntity.class)).getStringValue());
+		}
+	}
+
+	@Test
+	public void testDeleteAll() {
+		module.getConfig().setBulkWriteBatchSize(1);
+		repo.deleteAll(Arrays.asList(1L, 3L, 999L));
+		em.clear();
+		List<TestEntity> list = repo.findAll(new QuerySpec(TestEntity.class));
+		Assert.assertEquals(numTestEntities - 2, list.size());
+		Assert.assertNull(em.find(TestEntity.class, 1L));
+		Assert.assertNull(em.find(TestEntity.class, 3L));
+	}
+
 	@Test
 	public void testSequencePrimaryKey() {
 		JpaEntityRepository<SequenceEntity, Long> sequenceRepo = new JpaEntityRepository<>(module,
@@ -6,6 +6,7 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
+import io.crnk.core.engine.internal.utils.MultivaluedMap;
 import io.crnk.core.queryspec.FilterOperator;
 import io.crnk.core.queryspec.FilterSpec;
 import io.crnk.core.queryspec.QuerySpec;
@@ -55,6 +56,18 @@ public abstract class JpaRelationshipRepositoryTestBase extends AbstractJpaTest
 	}
 
 
+	@Test
+	public void testFindTargetsInChunks() {
+		module.getConfig().setBulkFetchChunkSize(2);
+		List<Long> sourceIds = Arrays.asList(0L, 1L, 2L, 3L, 4L);
+		MultivaluedMap<Long, RelatedEntity> targets = repo.findTargets(sourceIds, TestEntity.ATTR_oneRelatedValue,
+				new QuerySpec(RelatedEntity.class));
+		for (long i = 0; i < numTestEntities - 1; i++) {
+			Assert.assertEquals(100L + i, targets.getUnique(i).getId().longValue());
+		}
+		Assert.assertFalse(targets.containsKey(numTestEntities - 1L));
+	}
+
 	@Test
 	public void testFindNulledOneTarget() throws InstantiationException, IllegalAccessException {
 		long nulledEntityId = numTestEntities - 1;
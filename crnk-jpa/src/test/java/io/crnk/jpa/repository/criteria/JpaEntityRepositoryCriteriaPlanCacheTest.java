@@ -0,0 +1,17 @@
+package io.crnk.jpa.repository.criteria;
+
+import javax.persistence.EntityManager;
+
+import io.crnk.jpa.query.JpaQueryFactory;
+import io.crnk.jpa.query.criteria.JpaCriteriaQueryFactory;
+import io.crnk.jpa.repository.JpaEntityRepositoryTestBase;
+
+public class JpaEntityRepositoryCriteriaPlanCacheTest extends JpaEntityRepositoryTestBase {
+
+	@Override
+	protected JpaQueryFactory createQueryFactory(EntityManager em) {
+		JpaCriteriaQueryFactory factory = JpaCriteriaQueryFactory.newInstance();
+		factory.setQueryPlanCacheSize(16);
+		return factory;
+	}
+}
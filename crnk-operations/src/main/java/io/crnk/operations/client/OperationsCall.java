@@ -36,10 +36,25 @@ public class OperationsCall {
 
 	private List<OperationResponse> responses;
 
+	private boolean refresh = true;
+
 	protected OperationsCall(OperationsClient client) {
 		this.client = client;
 	}
 
+	public boolean isRefresh() {
+		return refresh;
+	}
+
+	/**
+	 * @param refresh whether the server fetches the up-to-date state of the created and updated resources once all
+	 *                operations have been applied, true by default. Can be disabled if the returned resources are not
+	 *                of interest to save the additional requests on the server.
+	 */
+	public void setRefresh(boolean refresh) {
+		this.refresh = refresh;
+	}
+
 	public void add(HttpMethod method, Object object) {
 		Operation operation = new Operation();
 
@@ -101,6 +116,9 @@ public class OperationsCall {
 			HttpAdapterRequest request = adapter.newRequest(url, HttpMethod.PATCH, operationsJson);
 			request.header(HttpHeaders.HTTP_CONTENT_TYPE, OperationsRequestProcessor.JSONPATCH_CONTENT_TYPE);
 			request.header(HttpHeaders.HTTP_HEADER_ACCEPT, OperationsRequestProcessor.JSONPATCH_CONTENT_TYPE);
+			if (!refresh) {
+				request.header(OperationsRequestProcessor.HTTP_HEADER_CRNK_OPERATIONS_REFRESH, Boolean.FALSE.toString());
+			}
 			HttpAdapterResponse response = request.execute();
 
 			int status = response.code();
@@ -37,6 +37,7 @@ public class GraphUtils {
 				Node m = e.to;
 				it.remove();//Remove edge from n
 				m.inEdges.remove(e);//Remove edge from m
+				m.level = Math.max(m.level, n.level + 1);
 
 				//if m has no other incoming edges then insert m into S
 				if (m.inEdges.isEmpty()) {
@@ -68,6 +69,8 @@ public class GraphUtils {
 
 		private final HashSet<Edge> outEdges;
 
+		private int level = 0;
+
 		public Node(String name, Object value) {
 			this.name = name;
 			this.value = value;
@@ -79,6 +82,14 @@ public class GraphUtils {
 			return value;
 		}
 
+		/**
+		 * @return length of the longest path leading to this node as determined by {@link GraphUtils#sort(Collection)}.
+		 * Nodes of the same level do not depend on each other.
+		 */
+		public int getLevel() {
+			return level;
+		}
+
 		public Node addEdge(Node node) {
 			Edge e = new Edge(this, node);
 			outEdges.add(e);
@@ -1,23 +1,38 @@
 package io.crnk.operations.server;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+import io.crnk.core.boot.CrnkProperties;
 import io.crnk.core.engine.dispatcher.RequestDispatcher;
 import io.crnk.core.engine.dispatcher.Response;
 import io.crnk.core.engine.document.Document;
+import io.crnk.core.engine.document.ErrorData;
 import io.crnk.core.engine.document.Relationship;
 import io.crnk.core.engine.document.Resource;
 import io.crnk.core.engine.http.HttpMethod;
 import io.crnk.core.engine.http.HttpStatus;
 import io.crnk.core.engine.internal.dispatcher.path.JsonPath;
 import io.crnk.core.engine.internal.dispatcher.path.PathBuilder;
-import io.crnk.core.engine.registry.ResourceRegistry;
+import io.crnk.core.engine.internal.dispatcher.path.PathIds;
+import io.crnk.core.engine.internal.utils.StringUtils;
+import io.crnk.core.engine.properties.PropertiesProvider;
+import io.crnk.core.engine.registry.RegistryEntry;
+import io.crnk.core.engine.result.ResultFactory;
 import io.crnk.core.module.Module;
 import io.crnk.core.module.discovery.ServiceDiscovery;
 import io.crnk.core.utils.Nullable;
@@ -31,12 +46,22 @@ import io.crnk.operations.server.order.OrderedOperation;
 
 public class OperationsModule implements Module {
 
+	private static final String DATA_POINTER = "/data";
+
+	private static final String ENCODED_ID_SEPARATOR = "%2C";
+
 	private OperationOrderStrategy orderStrategy = new DependencyOrderStrategy();
 
 	private List<io.crnk.operations.server.OperationFilter> filters = new CopyOnWriteArrayList<>();
 
 	private ModuleContext moduleContext;
 
+	private PathBuilder pathBuilder;
+
+	private Executor executor;
+
+	private int streamingWindowSize = 0;
+
 	public static OperationsModule create() {
 		return new OperationsModule();
 	}
@@ -65,6 +90,47 @@ public class OperationsModule implements Module {
 		return filters;
 	}
 
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Sets the executor used to run operations of the same dependency level concurrently, as determined by the
+	 * {@link OperationOrderStrategy}. Only applies to setups without a {@link TransactionOperationFilter}: transactions
+	 * are bound to the requesting thread and do not span the executor threads, so operations keep being executed
+	 * sequentially within the transaction of such a filter and the executor remains unused.
+	 * <p>
+	 * Levels are executed one after the other and no further level is started once an operation failed. Repositories
+	 * must be thread-safe. The request context is propagated to the executor threads. Consecutive operations of a
+	 * level sent as a single bulk request run as one task, see {@link CrnkProperties#BULK_REQUESTS_ENABLED}. By
+	 * default operations are executed sequentially.
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	public int getStreamingWindowSize() {
+		return streamingWindowSize;
+	}
+
+	/**
+	 * Enables streaming of operation requests. Operations are then read incrementally from the request, applied in
+	 * windows of the given number of operations and their responses are written as soon as a window completes. This
+	 * allows to process large numbers of operations with constant memory. Operations are ordered within their window
+	 * and may only depend on operations of the same or a previous window. Once an operation failed, all further
+	 * operations are ignored.
+	 * <p>
+	 * The response status is decided by the first window, which is applied before the status is sent. Failures of
+	 * later windows show up in the responses only and windows applied before remain applied. Requests are therefore
+	 * not streamed if a {@link TransactionOperationFilter} is registered, all operations are then applied at once
+	 * within its transaction. The request body is parsed from the stream of the integration, unless
+	 * {@link CrnkProperties#RETAIN_REQUEST_BODY} is set. Vert.x receives the entire request body before processing it.
+	 * Disabled if zero (default).
+	 */
+	public void setStreamingWindowSize(int streamingWindowSize) {
+		this.streamingWindowSize = streamingWindowSize;
+	}
+
 	@Override
 	public String getModuleName() {
 		return "operations";
@@ -77,20 +143,59 @@ public class OperationsModule implements Module {
 	}
 
 	public List<OperationResponse> apply(List<Operation> operations) {
+		return apply(operations, true);
+	}
+
+	/**
+	 * @param refresh whether the resources of successful POST and PATCH operations are fetched once more after all
+	 *                operations have been applied to return their up-to-date state. Clients not making use of the
+	 *                returned resources can skip this.
+	 */
+	public List<OperationResponse> apply(List<Operation> operations, boolean refresh) {
 		enrichTypeIdInformation(operations);
 
 		List<OrderedOperation> orderedOperations = orderStrategy.order(operations);
 
-		DefaultOperationFilterChain chain = new DefaultOperationFilterChain();
+		DefaultOperationFilterChain chain = new DefaultOperationFilterChain(refresh);
 		return chain.doFilter(new DefaultOperationFilterContext(orderedOperations));
 	}
 
+	/**
+	 * Applies the given operations in windows of {@link #getStreamingWindowSize()} operations, all of them at once if
+	 * zero. Responses are passed to the given consumer in the order of the operations as soon as their window
+	 * completed.
+	 */
+	public void apply(Iterator<Operation> operations, boolean refresh, Consumer<OperationResponse> responseConsumer) {
+		boolean successful = true;
+		while (operations.hasNext()) {
+			List<Operation> window = new ArrayList<>();
+			while (operations.hasNext() && (streamingWindowSize <= 0 || window.size() < streamingWindowSize)) {
+				window.add(operations.next());
+			}
+
+			List<OperationResponse> responses;
+			if (successful) {
+				responses = apply(window, refresh);
+				for (OperationResponse response : responses) {
+					successful &= response.getStatus() < 400;
+				}
+			}
+			else {
+				OperationResponse[] ignoredResponses = new OperationResponse[window.size()];
+				fillinIgnoredOperations(ignoredResponses);
+				responses = Arrays.asList(ignoredResponses);
+			}
+			for (OperationResponse response : responses) {
+				responseConsumer.accept(response);
+			}
+		}
+	}
+
 	private void enrichTypeIdInformation(List<Operation> operations) {
-		ResourceRegistry resourceRegistry = moduleContext.getResourceRegistry();
 		for (Operation operation : operations) {
 			if (operation.getOp().equalsIgnoreCase(HttpMethod.DELETE.toString())) {
 				String path = OperationParameterUtils.parsePath(operation.getPath());
-				JsonPath jsonPath = (new PathBuilder(resourceRegistry)).build(path);
+				JsonPath jsonPath = getPathBuilder().build(path);
 
 				Resource resource = new Resource();
 				resource.setType(jsonPath.getResourcePath());
@@ -111,20 +216,20 @@ public class OperationsModule implements Module {
 	}
 
 	protected List<OperationResponse> executeOperations(List<OrderedOperation> orderedOperations) {
-		OperationResponse[] responses = new OperationResponse[orderedOperations.size()];
-		boolean successful = true;
-		for (OrderedOperation orderedOperation : orderedOperations) {
-			OperationResponse operationResponse = executeOperation(orderedOperation.getOperation());
-			responses[orderedOperation.getOrdinal()] = operationResponse;
+		return executeOperations(orderedOperations, true);
+	}
 
-			int status = operationResponse.getStatus();
-			if (status >= 400) {
-				successful = false;
-				break;
-			}
+	protected List<OperationResponse> executeOperations(List<OrderedOperation> orderedOperations, boolean refresh) {
+		OperationResponse[] responses = new OperationResponse[orderedOperations.size()];
+		boolean successful;
+		if (isExecutedByLevel(orderedOperations)) {
+			successful = executeLevels(orderedOperations, responses);
+		}
+		else {
+			successful = executeSequentially(orderedOperations, responses);
 		}
 
-		if (orderedOperations.size() > 1 && successful) {
+		if (refresh && orderedOperations.size() > 1 && successful) {
 			fetchUpToDateResponses(orderedOperations, responses);
 		}
 
@@ -132,10 +237,352 @@ public class OperationsModule implements Module {
 		return Arrays.asList(responses);
 	}
 
-	protected void fetchUpToDateResponses(List<OrderedOperation> orderedOperations, OperationResponse[] responses) {
+	private boolean executeSequentially(List<OrderedOperation> orderedOperations, OperationResponse[] responses) {
+		for (List<OrderedOperation> run : getRuns(orderedOperations)) {
+			if (!executeRun(run, responses)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the given operations split into runs of {@link #getBulkRun(List, int)}.
+	 */
+	private List<List<OrderedOperation>> getRuns(List<OrderedOperation> orderedOperations) {
+		List<List<OrderedOperation>> runs = new ArrayList<>();
+		int index = 0;
+		while (index < orderedOperations.size()) {
+			List<OrderedOperation> run = getBulkRun(orderedOperations, index);
+			runs.add(run);
+			index += run.size();
+		}
+		return runs;
+	}
+
+	/**
+	 * @return true if all operations of the run were successful.
+	 */
+	private boolean executeRun(List<OrderedOperation> run, OperationResponse[] responses) {
+		if (run.size() > 1) {
+			return executeBulk(run, responses);
+		}
+		OrderedOperation orderedOperation = run.get(0);
+		OperationResponse operationResponse = executeOperation(orderedOperation.getOperation());
+		responses[orderedOperation.getOrdinal()] = operationResponse;
+		return operationResponse.getStatus() < 400;
+	}
+
+	/**
+	 * @return consecutive operations starting at the given index that can be sent as a single request to a
+	 * {@link io.crnk.core.repository.BulkResourceRepositoryV2}, consists of the operation at the given index only
+	 * if there are none.
+	 */
+	private List<OrderedOperation> getBulkRun(List<OrderedOperation> orderedOperations, int index) {
+		List<OrderedOperation> run = new ArrayList<>();
+		OrderedOperation first = orderedOperations.get(index);
+		run.add(first);
+		if (!isBulkRequestsEnabled() || !isBulkCandidate(first.getOperation())
+				|| !isBulkRepository(first.getOperation().getValue().getType())) {
+			return run;
+		}
+		for (int i = index + 1; i < orderedOperations.size(); i++) {
+			Operation operation = orderedOperations.get(i).getOperation();
+			if (!isBulkCandidate(operation) || !operation.getOp().equalsIgnoreCase(first.getOperation().getOp())
+					|| !operation.getValue().getType().equals(first.getOperation().getValue().getType())) {
+				break;
+			}
+			run.add(orderedOperations.get(i));
+		}
+		return run;
+	}
+
+	private boolean isBulkCandidate(Operation operation) {
+		Resource resource = operation.getValue();
+		if (resource == null || resource.getType() == null || operation.getPath().contains("?")) {
+			return false;
+		}
+		String id = resource.getId();
+		if (id != null && !isBulkPathId(id)) {
+			return false;
+		}
+		// only plain resource paths, no relationships or fields
+		String path = OperationParameterUtils.parsePath(operation.getPath());
+		String method = operation.getOp();
+		if (method.equalsIgnoreCase(HttpMethod.POST.toString())) {
+			return path.equals(resource.getType());
+		}
+		else if (method.equalsIgnoreCase(HttpMethod.PATCH.toString())
+				|| method.equalsIgnoreCase(HttpMethod.DELETE.toString())) {
+			return id != null && path.equals(resource.getType() + "/" + id);
+		}
+		return false;
+	}
+
+	/**
+	 * Ids of a bulk delete are joined into a single path. The dispatcher obtains decoded paths and does not decode
+	 * ids, hence ids cannot be escaped. Instead ids are kept out of bulk requests if they would be split into
+	 * several path segments or ids.
+	 */
+	private static boolean isBulkPathId(String id) {
+		return !id.isEmpty() && !id.contains("/") && !id.contains(PathIds.ID_SEPARATOR)
+				&& !id.toUpperCase().contains(ENCODED_ID_SEPARATOR);
+	}
+
+	private boolean isBulkRequestsEnabled() {
+		PropertiesProvider propertiesProvider = moduleContext.getPropertiesProvider();
+		return propertiesProvider != null
+				&& Boolean.parseBoolean(propertiesProvider.getProperty(CrnkProperties.BULK_REQUESTS_ENABLED));
+	}
+
+	private boolean isBulkRepository(String type) {
+		RegistryEntry entry = moduleContext.getResourceRegistry().getEntry(type);
+		return entry != null && entry.getResourceRepository().isBulk();
+	}
+
+	/**
+	 * Sends the given operations as a single request. Bulk repositories apply either all operations or none of them.
+	 * The operations are not repeated one by one if the request fails, since it is unknown whether a repository
+	 * applied some of them nevertheless. Instead the errors are assigned to the failed operations, see
+	 * {@link #setBulkErrors(List, OperationResponse[], Response)}, and the remaining operations obtain 412.
+	 *
+	 * @return true if the request was successful.
+	 */
+	private boolean executeBulk(List<OrderedOperation> run, OperationResponse[] responses) {
+		Operation first = run.get(0).getOperation();
+		String type = first.getValue().getType();
+		String method = first.getOp().toUpperCase();
+		String path = moduleContext.getResourceRegistry().getEntry(type).getResourceInformation().getResourcePath();
+
+		Document requestBody = null;
+		if (method.equals(HttpMethod.DELETE.toString())) {
+			List<String> ids = new ArrayList<>();
+			for (OrderedOperation orderedOperation : run) {
+				ids.add(orderedOperation.getOperation().getValue().getId());
+			}
+			path += "/" + StringUtils.join(PathIds.ID_SEPARATOR, ids);
+		}
+		else {
+			List<Resource> resources = new ArrayList<>();
+			for (OrderedOperation orderedOperation : run) {
+				resources.add(orderedOperation.getOperation().getValue());
+			}
+			requestBody = new Document();
+			requestBody.setData(Nullable.of((Object) resources));
+		}
+
 		RequestDispatcher requestDispatcher = moduleContext.getRequestDispatcher();
+		Map<String, Set<String>> parameters = new HashMap<>();
+		RepositoryMethodParameterProvider parameterProvider = null;
+		Response response = requestDispatcher.dispatchRequest(path, method, parameters, parameterProvider, requestBody);
+		Document document = response.getDocument();
+		if (response.getHttpStatus() >= 400) {
+			setBulkErrors(run, responses, response);
+			return false;
+		}
 
-		// get current set of resources after all the updates have been applied
+		List<Resource> resources = null;
+		if (requestBody != null) {
+			if (document == null || !document.getData().isPresent() || document.getCollectionData().get().size() != run
+					.size()) {
+				throw new IllegalStateException("expected " + run.size() + " resources in response to bulk request " +
+						method + " " + path);
+			}
+			resources = document.getCollectionData().get();
+		}
+
+		for (int i = 0; i < run.size(); i++) {
+			OperationResponse operationResponse = new OperationResponse();
+			operationResponse.setStatus(response.getHttpStatus());
+			if (resources != null) {
+				operationResponse.setData(Nullable.of((Object) resources.get(i)));
+			}
+			responses[run.get(i).getOrdinal()] = operationResponse;
+		}
+		return true;
+	}
+
+	/**
+	 * Assigns the errors of a failed bulk request to the operations they belong to. An error belongs to the i-th
+	 * operation if its source pointer starts with <code>/data/i</code>. The pointer is then rewritten to be relative
+	 * to the operation, e.g. <code>/data/1/attributes/name</code> becomes <code>/data/attributes/name</code>.
+	 * Errors without such a pointer cannot be attributed to a particular operation, they are assigned to the first
+	 * operation of the run. All operations without errors obtain 412, as for any other failed operation.
+	 */
+	private void setBulkErrors(List<OrderedOperation> run, OperationResponse[] responses, Response response) {
+		Document document = response.getDocument();
+		List<ErrorData> errors = document != null && document.getErrors() != null ? document.getErrors()
+				: new ArrayList<ErrorData>();
+
+		Map<Integer, List<ErrorData>> operationErrors = new TreeMap<>();
+		for (ErrorData error : errors) {
+			String pointer = error.getSourcePointer();
+			int index = getBulkIndex(pointer, run.size());
+			if (index != -1) {
+				String prefix = DATA_POINTER + "/" + index;
+				error = ErrorData.builder()
+						.setId(error.getId())
+						.setAboutLink(error.getAboutLink())
+						.setStatus(error.getStatus())
+						.setCode(error.getCode())
+						.setTitle(error.getTitle())
+						.setDetail(error.getDetail())
+						.setSourcePointer(DATA_POINTER + pointer.substring(prefix.length()))
+						.setSourceParameter(error.getSourceParameter())
+						.setMeta(error.getMeta())
+						.build();
+			}
+			else {
+				index = 0;
+			}
+			List<ErrorData> list = operationErrors.get(index);
+			if (list == null) {
+				list = new ArrayList<>();
+				operationErrors.put(index, list);
+			}
+			list.add(error);
+		}
+		if (operationErrors.isEmpty()) {
+			operationErrors.put(0, errors);
+		}
+
+		for (Map.Entry<Integer, List<ErrorData>> entry : operationErrors.entrySet()) {
+			OperationResponse operationResponse = new OperationResponse();
+			operationResponse.setStatus(response.getHttpStatus());
+			if (document != null) {
+				operationResponse.setMeta(document.getMeta());
+				operationResponse.setLinks(document.getLinks());
+			}
+			operationResponse.setErrors(entry.getValue());
+			responses[run.get(entry.getKey()).getOrdinal()] = operationResponse;
+		}
+		for (OrderedOperation orderedOperation : run) {
+			if (responses[orderedOperation.getOrdinal()] == null) {
+				OperationResponse operationResponse = new OperationResponse();
+				operationResponse.setStatus(HttpStatus.PRECONDITION_FAILED_412);
+				responses[orderedOperation.getOrdinal()] = operationResponse;
+			}
+		}
+	}
+
+	/**
+	 * @return index of the operation the given source pointer of a bulk request points to or -1 if none.
+	 */
+	private static int getBulkIndex(String pointer, int size) {
+		if (pointer == null || !pointer.startsWith(DATA_POINTER + "/")) {
+			return -1;
+		}
+		int start = DATA_POINTER.length() + 1;
+		int end = pointer.indexOf('/', start);
+		String segment = end == -1 ? pointer.substring(start) : pointer.substring(start, end);
+		if (segment.isEmpty() || segment.length() > 9) {
+			return -1;
+		}
+		for (int i = 0; i < segment.length(); i++) {
+			if (!Character.isDigit(segment.charAt(i))) {
+				return -1;
+			}
+		}
+		int index = Integer.parseInt(segment);
+		return index < size ? index : -1;
+	}
+
+	private boolean isExecutedByLevel(List<OrderedOperation> orderedOperations) {
+		if (executor == null || orderedOperations.size() <= 1 || moduleContext.getResultFactory().isAsync()
+				|| isTransactional()) {
+			return false;
+		}
+		for (OrderedOperation orderedOperation : orderedOperations) {
+			if (orderedOperation.getLevel() == OrderedOperation.UNKNOWN_LEVEL) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return true if operations are applied within a single transaction, which does not span executor threads. The
+	 * executor is not used in this case, see {@link #setExecutor(Executor)}, nor are requests streamed, see
+	 * {@link #setStreamingWindowSize(int)}.
+	 */
+	boolean isTransactional() {
+		for (OperationFilter filter : filters) {
+			if (filter instanceof TransactionOperationFilter) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean executeLevels(List<OrderedOperation> orderedOperations, OperationResponse[] responses) {
+		Map<Integer, List<OrderedOperation>> levels = new TreeMap<>();
+		for (OrderedOperation orderedOperation : orderedOperations) {
+			Integer level = orderedOperation.getLevel();
+			if (!levels.containsKey(level)) {
+				levels.put(level, new ArrayList<OrderedOperation>());
+			}
+			levels.get(level).add(orderedOperation);
+		}
+
+		for (List<OrderedOperation> levelOperations : levels.values()) {
+			// operations of a level are independent of each other, bulk runs are executed as a whole
+			List<List<OrderedOperation>> runs = getRuns(levelOperations);
+			if (runs.size() == 1) {
+				if (!executeRun(runs.get(0), responses)) {
+					return false;
+				}
+				continue;
+			}
+
+			List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+			for (List<OrderedOperation> run : runs) {
+				futures.add(executeAsync(() -> executeRun(run, responses)));
+			}
+
+			boolean successful = true;
+			RuntimeException exception = null;
+			for (CompletableFuture<Boolean> future : futures) {
+				try {
+					successful &= future.join();
+				}
+				catch (CompletionException e) {
+					// wait for all operations of the level before failing
+					if (exception == null) {
+						exception = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+					}
+				}
+			}
+			if (exception != null) {
+				throw exception;
+			}
+			if (!successful) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private <T> CompletableFuture<T> executeAsync(final Supplier<T> work) {
+		final ResultFactory resultFactory = moduleContext.getResultFactory();
+		final Object context = resultFactory.hasThreadContext() ? resultFactory.getThreadContext() : null;
+		return CompletableFuture.supplyAsync(() -> {
+			if (context != null) {
+				resultFactory.setThreadContext(context);
+			}
+			try {
+				return work.get();
+			}
+			finally {
+				if (context != null) {
+					resultFactory.clearContext();
+				}
+			}
+		}, executor);
+	}
+
+	protected void fetchUpToDateResponses(List<OrderedOperation> orderedOperations, OperationResponse[] responses) {
+		// group resources by type and inclusions to fetch each group with a single request
+		Map<String, Map<Set<String>, Map<String, List<OperationResponse>>>> groups = new LinkedHashMap<>();
 		for (OrderedOperation orderedOperation : orderedOperations) {
 			Operation operation = orderedOperation.getOperation();
 			OperationResponse operationResponse = responses[orderedOperation.getOrdinal()];
@@ -144,22 +591,77 @@ public class OperationsModule implements Module {
 			boolean isPatch = operation.getOp().equalsIgnoreCase(HttpMethod.PATCH.toString());
 			if (isPost || isPatch) {
 				Resource resource = operationResponse.getSingleData().get();
+				Set<String> includes = getLoadedRelationshipNames(resource);
+				if (!groups.containsKey(resource.getType())) {
+					groups.put(resource.getType(), new LinkedHashMap<Set<String>, Map<String, List<OperationResponse>>>());
+				}
+				Map<Set<String>, Map<String, List<OperationResponse>>> typeGroups = groups.get(resource.getType());
+				if (!typeGroups.containsKey(includes)) {
+					typeGroups.put(includes, new LinkedHashMap<String, List<OperationResponse>>());
+				}
+				Map<String, List<OperationResponse>> group = typeGroups.get(includes);
+				if (!group.containsKey(resource.getId())) {
+					group.put(resource.getId(), new ArrayList<OperationResponse>());
+				}
+				group.get(resource.getId()).add(operationResponse);
+			}
+		}
+
+		// get current set of resources after all the updates have been applied
+		for (Map.Entry<String, Map<Set<String>, Map<String, List<OperationResponse>>>> typeEntry : groups.entrySet()) {
+			for (Map.Entry<Set<String>, Map<String, List<OperationResponse>>> entry : typeEntry.getValue().entrySet()) {
+				fetchUpToDateResponses(typeEntry.getKey(), entry.getKey(), entry.getValue());
+			}
+		}
+	}
 
-				String path = resource.getType() + "/" + resource.getId();
-				String method = HttpMethod.GET.toString();
-				RepositoryMethodParameterProvider parameterProvider = null;
+	private void fetchUpToDateResponses(String type, Set<String> includes,
+			Map<String, List<OperationResponse>> responsesById) {
+		List<String> ids = new ArrayList<>();
+		for (String id : responsesById.keySet()) {
+			if (!id.contains(PathIds.ID_SEPARATOR)) {
+				ids.add(id);
+			}
+		}
 
-				Map<String, Set<String>> parameters = new HashMap<>();
-				parameters.put("include", getLoadedRelationshipNames(resource));
+		if (ids.size() > 1) {
+			// multiple ids make up a collection request served by a single findAll of the repository
+			Response response = fetch(type + "/" + StringUtils.join(PathIds.ID_SEPARATOR, ids), includes);
+			Document document = response.getDocument();
+			if (response.getHttpStatus() < 400 && document != null && document.getData().isPresent()) {
+				for (Resource resource : document.getCollectionData().get()) {
+					List<OperationResponse> operationResponses = responsesById.remove(resource.getId());
+					if (operationResponses != null) {
+						Document resourceDocument = new Document();
+						resourceDocument.setData(Nullable.of((Object) resource));
+						for (OperationResponse operationResponse : operationResponses) {
+							copyDocument(operationResponse, resourceDocument);
+						}
+					}
+				}
+			}
+		}
 
-				Response response =
-						requestDispatcher.dispatchRequest(path, method, parameters, parameterProvider, null);
+		// fetch remaining resources one by one, like the ones not found by the collection request
+		for (Map.Entry<String, List<OperationResponse>> entry : responsesById.entrySet()) {
+			Response response = fetch(type + "/" + entry.getKey(), includes);
+			for (OperationResponse operationResponse : entry.getValue()) {
 				copyDocument(operationResponse, response.getDocument());
 				operationResponse.setIncluded(null);
 			}
 		}
 	}
 
+	private Response fetch(String path, Set<String> includes) {
+		RequestDispatcher requestDispatcher = moduleContext.getRequestDispatcher();
+		String method = HttpMethod.GET.toString();
+		RepositoryMethodParameterProvider parameterProvider = null;
+
+		Map<String, Set<String>> parameters = new HashMap<>();
+		parameters.put("include", includes);
+		return requestDispatcher.dispatchRequest(path, method, parameters, parameterProvider, null);
+	}
+
 	protected OperationResponse executeOperation(Operation operation) {
 		RequestDispatcher requestDispatcher = moduleContext.getRequestDispatcher();
 
@@ -178,6 +680,13 @@ public class OperationsModule implements Module {
 		return operationResponse;
 	}
 
+	private PathBuilder getPathBuilder() {
+		if (pathBuilder == null) {
+			pathBuilder = new PathBuilder(moduleContext.getResourceRegistry());
+		}
+		return pathBuilder;
+	}
+
 	private Set<String> getLoadedRelationshipNames(Resource resourceBody) {
 		Set<String> result = new HashSet<>();
 		for (Map.Entry<String, Relationship> entry : resourceBody.getRelationships().entrySet()) {
@@ -220,11 +729,21 @@ public class OperationsModule implements Module {
 
 		protected int filterIndex = 0;
 
+		private boolean refresh;
+
+		protected DefaultOperationFilterChain() {
+			this(true);
+		}
+
+		protected DefaultOperationFilterChain(boolean refresh) {
+			this.refresh = refresh;
+		}
+
 		@Override
 		public List<OperationResponse> doFilter(OperationFilterContext context) {
 			List<OperationFilter> filters = getFilters();
 			if (filterIndex == filters.size()) {
-				return executeOperations(context.getOrderedOperations());
+				return executeOperations(context.getOrderedOperations(), refresh);
 			}
 			else {
 				OperationFilter filter = filters.get(filterIndex);
@@ -1,12 +1,26 @@
 package io.crnk.operations.server;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.crnk.core.boot.CrnkProperties;
+import io.crnk.core.engine.document.ErrorData;
 import io.crnk.core.engine.http.HttpRequestContext;
+import io.crnk.core.engine.http.HttpRequestContextProvider;
 import io.crnk.core.engine.http.HttpRequestProcessor;
+import io.crnk.core.engine.http.HttpResponse;
+import io.crnk.core.engine.http.HttpStatus;
+import io.crnk.core.engine.properties.PropertiesProvider;
 import io.crnk.core.module.Module;
 import io.crnk.operations.Operation;
 import io.crnk.operations.OperationResponse;
@@ -19,6 +33,12 @@ public class OperationsRequestProcessor implements HttpRequestProcessor {
 
 	public static final String JSONPATCH_CONTENT_TYPE = "application/json-patch+json";
 
+	/**
+	 * Header to skip fetching the up-to-date state of all resources once all operations have been applied with
+	 * {@code Crnk-Operations-Refresh: false}.
+	 */
+	public static final String HTTP_HEADER_CRNK_OPERATIONS_REFRESH = "Crnk-Operations-Refresh";
+
 	private Module.ModuleContext moduleContext;
 
 	private OperationsModule operationsModule;
@@ -34,9 +54,20 @@ public class OperationsRequestProcessor implements HttpRequestProcessor {
 			try {
 				ObjectMapper mapper = moduleContext.getObjectMapper();
 
-				List<Operation> operations = Arrays.asList(mapper.readValue(context.getRequestBody(), Operation[].class));
+				String refreshHeader = context.getRequestHeader(HTTP_HEADER_CRNK_OPERATIONS_REFRESH);
+				boolean refresh = refreshHeader == null || Boolean.parseBoolean(refreshHeader);
+
+				if (operationsModule.getStreamingWindowSize() > 0 && !operationsModule.isTransactional()) {
+					processStreaming(context, refresh);
+					return;
+				}
 
-				List<OperationResponse> responses = 	operationsModule.apply(operations);
+				InputStream requestBody = getRequestBodyStream(context);
+				Operation[] operationArray = requestBody != null ? mapper.readValue(requestBody, Operation[].class)
+						: mapper.readValue(context.getRequestBody(), Operation[].class);
+				List<Operation> operations = Arrays.asList(operationArray);
+
+				List<OperationResponse> responses = operationsModule.apply(operations, refresh);
 
 				String responseJson = mapper.writeValueAsString(responses);
 				context.setContentType(JSONPATCH_CONTENT_TYPE);
@@ -49,4 +80,216 @@ public class OperationsRequestProcessor implements HttpRequestProcessor {
 		}
 	}
 
+	/**
+	 * @return stream to read the request body from or null if it must be read as a whole to remain available, see
+	 * {@link CrnkProperties#RETAIN_REQUEST_BODY}.
+	 */
+	private InputStream getRequestBodyStream(HttpRequestContext context) throws IOException {
+		PropertiesProvider propertiesProvider = moduleContext.getPropertiesProvider();
+		boolean retainRequestBody = propertiesProvider != null
+				&& Boolean.parseBoolean(propertiesProvider.getProperty(CrnkProperties.RETAIN_REQUEST_BODY));
+		return retainRequestBody ? null : context.getRequestBodyStream();
+	}
+
+	/**
+	 * The first window is read and applied before the status is committed, failing to do so is reported with status
+	 * 500 the same way as for requests that are not streamed. Further operations are read, executed and their
+	 * responses written while the integration writes the response body. The request itself has completed by then,
+	 * its context is made available once more for the operations. Since the status has already been sent, a failure
+	 * of those is reported as part of the responses, see {@link #writeFailure(JsonGenerator, OperationIterator, int)}.
+	 */
+	private void processStreaming(final HttpRequestContext context, final boolean refresh) throws IOException {
+		final ObjectMapper mapper = moduleContext.getObjectMapper();
+		InputStream requestBody = getRequestBodyStream(context);
+		final JsonParser parser = requestBody != null ? mapper.getFactory().createParser(requestBody)
+				: mapper.getFactory().createParser(context.getRequestBody());
+		parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+		if (parser.nextToken() != JsonToken.START_ARRAY) {
+			parser.close();
+			throw new IllegalStateException("expected array of operations");
+		}
+
+		final OperationIterator operations = new OperationIterator(mapper, parser);
+		final List<OperationResponse> firstResponses;
+		try {
+			firstResponses = operationsModule.apply(readWindow(operations), refresh);
+		}
+		catch (RuntimeException e) {
+			parser.close();
+			throw e;
+		}
+		boolean successful = true;
+		for (OperationResponse firstResponse : firstResponses) {
+			successful &= firstResponse.getStatus() < 400;
+		}
+		final boolean firstWindowSuccessful = successful;
+
+		final HttpRequestContextProvider requestContextProvider =
+				moduleContext.getModuleRegistry().getHttpRequestContextProvider();
+
+		HttpResponse response = new HttpResponse();
+		response.setStatusCode(200);
+		response.setContentType(JSONPATCH_CONTENT_TYPE);
+		response.setBodyWriter(outputStream -> {
+			JsonGenerator generator = mapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			// if not even the failure can be written, the response must remain incomplete rather than closed
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+			int[] numWritten = new int[1];
+			requestContextProvider.onRequestStarted(context);
+			try {
+				generator.writeStartArray();
+				for (OperationResponse firstResponse : firstResponses) {
+					writeResponse(generator, firstResponse);
+					numWritten[0]++;
+				}
+				try {
+					if (firstWindowSuccessful) {
+						operationsModule.apply(operations, refresh, operationResponse -> {
+							writeResponse(generator, operationResponse);
+							numWritten[0]++;
+						});
+					}
+					else {
+						writeFailure(generator, operations, numWritten[0]);
+					}
+				}
+				catch (RuntimeException e) {
+					LOGGER.error("failed to execute operations", e);
+					writeFailure(generator, operations, numWritten[0]);
+				}
+				generator.writeEndArray();
+			}
+			finally {
+				requestContextProvider.onRequestFinished();
+				parser.close();
+				generator.close();
+			}
+		});
+		context.setResponse(response);
+	}
+
+	private List<Operation> readWindow(Iterator<Operation> operations) {
+		List<Operation> window = new ArrayList<>();
+		while (window.size() < operationsModule.getStreamingWindowSize() && operations.hasNext()) {
+			window.add(operations.next());
+		}
+		return window;
+	}
+
+	/**
+	 * Completes the responses after a failure. If an operation could not be read, it fails with status 400 and the
+	 * operations of its window are ignored with status 412. Otherwise the operations of the failed window without
+	 * response fail with status 500. Remaining operations are ignored with status 412 as long as they can be read.
+	 */
+	private void writeFailure(JsonGenerator generator, OperationIterator operations, int numWritten) {
+		boolean readFailed = operations.isReadFailed();
+		for (int i = numWritten; i < operations.getNumRead(); i++) {
+			if (readFailed) {
+				writeResponse(generator, HttpStatus.PRECONDITION_FAILED_412, null);
+			}
+			else {
+				writeResponse(generator, HttpStatus.INTERNAL_SERVER_ERROR_500, "failed to execute operation");
+			}
+		}
+		if (readFailed) {
+			writeResponse(generator, HttpStatus.BAD_REQUEST_400, "failed to read operation");
+			return;
+		}
+		try {
+			while (operations.hasNext()) {
+				operations.next();
+				writeResponse(generator, HttpStatus.PRECONDITION_FAILED_412, null);
+			}
+		}
+		catch (IllegalStateException e) {
+			LOGGER.debug("failed to read remaining operations", e);
+		}
+	}
+
+	private void writeResponse(JsonGenerator generator, int status, String errorTitle) {
+		OperationResponse operationResponse = new OperationResponse();
+		operationResponse.setStatus(status);
+		if (errorTitle != null) {
+			ErrorData error = ErrorData.builder().setStatus(Integer.toString(status)).setTitle(errorTitle).build();
+			operationResponse.setErrors(Arrays.asList(error));
+		}
+		writeResponse(generator, operationResponse);
+	}
+
+	private void writeResponse(JsonGenerator generator, OperationResponse operationResponse) {
+		try {
+			moduleContext.getObjectMapper().writeValue(generator, operationResponse);
+			generator.flush();
+		}
+		catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static class OperationIterator implements Iterator<Operation> {
+
+		private final ObjectMapper mapper;
+
+		private final JsonParser parser;
+
+		private Operation next;
+
+		private boolean completed;
+
+		private int numRead;
+
+		private boolean readFailed;
+
+		OperationIterator(ObjectMapper mapper, JsonParser parser) {
+			this.mapper = mapper;
+			this.parser = parser;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (next == null && !completed) {
+				try {
+					JsonToken token = parser.nextToken();
+					if (token == null || token == JsonToken.END_ARRAY) {
+						completed = true;
+					}
+					else {
+						next = mapper.readValue(parser, Operation.class);
+					}
+				}
+				catch (IOException e) {
+					readFailed = true;
+					completed = true;
+					throw new IllegalStateException(e);
+				}
+			}
+			return next != null;
+		}
+
+		/**
+		 * @return number of operations returned so far
+		 */
+		int getNumRead() {
+			return numRead;
+		}
+
+		/**
+		 * @return true if the request could not be read any further
+		 */
+		boolean isReadFailed() {
+			return readFailed;
+		}
+
+		@Override
+		public Operation next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Operation operation = next;
+			next = null;
+			numRead++;
+			return operation;
+		}
+	}
 }
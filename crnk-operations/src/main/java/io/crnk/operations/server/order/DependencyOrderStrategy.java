@@ -37,7 +37,9 @@ public class DependencyOrderStrategy implements OperationOrderStrategy {
 		List<GraphUtils.Node> sortedNodes = GraphUtils.sort(nodeList);
 		List<OrderedOperation> dependencySortedOperations = new ArrayList<>();
 		for (GraphUtils.Node node : sortedNodes) {
-			dependencySortedOperations.add((OrderedOperation) node.getValue());
+			OrderedOperation orderedOperation = (OrderedOperation) node.getValue();
+			dependencySortedOperations.add(new OrderedOperation(orderedOperation.getOperation(),
+					orderedOperation.getOrdinal(), node.getLevel()));
 		}
 		return moveDeletionsToEnd(dependencySortedOperations);
 	}
@@ -75,9 +77,17 @@ public class DependencyOrderStrategy implements OperationOrderStrategy {
 			}
 		}
 
+		// deletions come after all other operations, but are independent of each other
+		int deleteLevel = 0;
+		for (OrderedOperation operation : sortedNonDeleteOperations) {
+			deleteLevel = Math.max(deleteLevel, operation.getLevel() + 1);
+		}
+
 		List<OrderedOperation> sortedOperations = new ArrayList<>();
 		sortedOperations.addAll(sortedNonDeleteOperations);
-		sortedOperations.addAll(sortedDeleteOperations);
+		for (OrderedOperation operation : sortedDeleteOperations) {
+			sortedOperations.add(new OrderedOperation(operation.getOperation(), operation.getOrdinal(), deleteLevel));
+		}
 		return sortedOperations;
 	}
 
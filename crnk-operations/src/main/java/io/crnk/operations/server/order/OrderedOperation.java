@@ -4,13 +4,25 @@ import io.crnk.operations.Operation;
 
 public class OrderedOperation {
 
+	/**
+	 * Level of operations whose dependencies are unknown.
+	 */
+	public static final int UNKNOWN_LEVEL = -1;
+
 	private Operation operation;
 
 	private int ordinal;
 
+	private int level;
+
 	public OrderedOperation(Operation operation, int ordinal) {
+		this(operation, ordinal, UNKNOWN_LEVEL);
+	}
+
+	public OrderedOperation(Operation operation, int ordinal, int level) {
 		this.operation = operation;
 		this.ordinal = ordinal;
+		this.level = level;
 	}
 
 	public Operation getOperation() {
@@ -20,4 +32,13 @@ public class OrderedOperation {
 	public int getOrdinal() {
 		return ordinal;
 	}
+
+	/**
+	 * @return dependency level of this operation. Operations only depend on operations of lower levels, operations
+	 * of the same level can be executed in any order. {@link #UNKNOWN_LEVEL} if not determined by the
+	 * {@link OperationOrderStrategy}.
+	 */
+	public int getLevel() {
+		return level;
+	}
 }
@@ -164,6 +164,29 @@ public class DependencyOrderStrategyTest {
 		Assert.assertEquals(op1, results.get(0));
 	}
 
+	@Test
+	public void testLevels() {
+		Operation op1 = createOperation("movie", "test1", HttpMethod.POST);
+		Operation op2 = createOperation("person", "test2", HttpMethod.POST);
+		Operation op3 = createOperation("person", "test3", HttpMethod.POST);
+		Operation op4 = createOperation("movie", "test4", HttpMethod.DELETE);
+		Operation op5 = createOperation("movie", "test5", HttpMethod.DELETE);
+		addManyDependency(op1, op2, "directors");
+		addManyDependency(op1, op3, "writers");
+
+		List<OrderedOperation> results = strategy.order(Arrays.asList(op1, op2, op3, op4, op5));
+		Assert.assertEquals(5, results.size());
+		Assert.assertEquals(op2, results.get(0).getOperation());
+		Assert.assertEquals(0, results.get(0).getLevel());
+		Assert.assertEquals(op3, results.get(1).getOperation());
+		Assert.assertEquals(0, results.get(1).getLevel());
+		Assert.assertEquals(op1, results.get(2).getOperation());
+		Assert.assertEquals(1, results.get(2).getLevel());
+		Assert.assertEquals(0, results.get(2).getOrdinal());
+		Assert.assertEquals(2, results.get(3).getLevel());
+		Assert.assertEquals(2, results.get(4).getLevel());
+	}
+
 	private List<Operation> toOperations(List<OrderedOperation> orderedOperations) {
 		List<Operation> operations = new ArrayList<>();
 		for (OrderedOperation orderedOperation : orderedOperations) {
@@ -32,6 +32,22 @@ public class GraphUtilsTest {
 		Assert.assertSame(b, results.get(1));
 	}
 
+	@Test
+	public void testLevels() {
+		GraphUtils.Node a = new GraphUtils.Node("a", null);
+		GraphUtils.Node b = new GraphUtils.Node("b", null);
+		GraphUtils.Node c = new GraphUtils.Node("c", null);
+		GraphUtils.Node d = new GraphUtils.Node("d", null);
+		a.addEdge(b);
+		b.addEdge(c);
+		a.addEdge(c);
+		GraphUtils.sort(Arrays.asList(c, b, a, d));
+		Assert.assertEquals(0, a.getLevel());
+		Assert.assertEquals(1, b.getLevel());
+		Assert.assertEquals(2, c.getLevel());
+		Assert.assertEquals(0, d.getLevel());
+	}
+
 	@Test
 	public void testHasPrivateConstructor() {
 		ClassTestUtils.assertPrivateConstructor(GraphUtils.class);
@@ -0,0 +1,278 @@
+package io.crnk.operations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.crnk.core.boot.CrnkProperties;
+
+import io.crnk.core.engine.dispatcher.RequestDispatcher;
+import io.crnk.core.engine.dispatcher.Response;
+import io.crnk.core.engine.document.Document;
+import io.crnk.core.engine.document.ErrorData;
+import io.crnk.core.engine.document.Resource;
+import io.crnk.core.engine.http.HttpMethod;
+import io.crnk.core.engine.http.HttpStatus;
+import io.crnk.core.engine.information.repository.ResourceRepositoryInformation;
+import io.crnk.core.engine.information.resource.ResourceInformation;
+import io.crnk.core.engine.properties.PropertiesProvider;
+import io.crnk.core.engine.internal.repository.ResourceRepositoryAdapter;
+import io.crnk.core.engine.registry.RegistryEntry;
+import io.crnk.core.engine.registry.ResourceRegistry;
+import io.crnk.core.engine.result.ImmediateResultFactory;
+import io.crnk.core.module.Module;
+import io.crnk.core.utils.Nullable;
+import io.crnk.legacy.internal.RepositoryMethodParameterProvider;
+import io.crnk.operations.server.OperationsModule;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class OperationsBulkTest {
+
+	private OperationsModule module;
+
+	private List<String> executedRequests = Collections.synchronizedList(new ArrayList<String>());
+
+	private List<String> appliedIds = Collections.synchronizedList(new ArrayList<String>());
+
+	private String failingId;
+
+	private boolean failingPointer = false;
+
+	private boolean bulkEnabled = true;
+
+	private AtomicInteger executorThreadRequests = new AtomicInteger();
+
+	@Before
+	public void setup() {
+		RequestDispatcher requestDispatcher = Mockito.mock(RequestDispatcher.class);
+		Mockito.when(requestDispatcher.dispatchRequest(Mockito.anyString(), Mockito.anyString(), Mockito.anyMap(),
+				Mockito.any(RepositoryMethodParameterProvider.class), Mockito.any(Document.class)))
+				.thenAnswer(new Answer<Response>() {
+
+					@Override
+					public Response answer(InvocationOnMock invocation) {
+						String path = (String) invocation.getArguments()[0];
+						String method = (String) invocation.getArguments()[1];
+						Document requestBody = (Document) invocation.getArguments()[4];
+						executedRequests.add(method + " " + path);
+						if (Thread.currentThread().getName().equals("operations-bulk-test")) {
+							executorThreadRequests.incrementAndGet();
+						}
+
+						if (method.equals(HttpMethod.DELETE.toString())) {
+							return new Response(null, HttpStatus.NO_CONTENT_204);
+						}
+
+						Document document = new Document();
+						if (requestBody.isMultiple()) {
+							// applies the resources up to the failing one like a repository without rollback
+							List<Resource> resources = requestBody.getCollectionData().get();
+							for (int i = 0; i < resources.size(); i++) {
+								if (resources.get(i).getId().equals(failingId)) {
+									String pointer = failingPointer ? "/data/" + i + "/attributes/name" : null;
+									return new Response(createErrorDocument(pointer), HttpStatus.UNPROCESSABLE_ENTITY_422);
+								}
+								appliedIds.add(resources.get(i).getId());
+							}
+							document.setData(Nullable.of((Object) requestBody.getCollectionData().get()));
+						}
+						else {
+							if (requestBody.getSingleData().get().getId().equals(failingId)) {
+								return new Response(new Document(), HttpStatus.UNPROCESSABLE_ENTITY_422);
+							}
+							appliedIds.add(requestBody.getSingleData().get().getId());
+							document.setData(Nullable.of((Object) requestBody.getSingleData().get()));
+						}
+						return new Response(document, HttpStatus.CREATED_201);
+					}
+				});
+
+		ResourceInformation resourceInformation = Mockito.mock(ResourceInformation.class);
+		Mockito.when(resourceInformation.getResourcePath()).thenReturn("movie");
+		ResourceRepositoryAdapter repositoryAdapter = Mockito.mock(ResourceRepositoryAdapter.class);
+		Mockito.when(repositoryAdapter.isBulk()).thenReturn(true);
+		RegistryEntry entry = Mockito.mock(RegistryEntry.class);
+		Mockito.when(entry.getResourceInformation()).thenReturn(resourceInformation);
+		Mockito.when(entry.getResourceRepository()).thenReturn(repositoryAdapter);
+		Mockito.when(entry.getRepositoryInformation()).thenReturn(Mockito.mock(ResourceRepositoryInformation.class));
+		ResourceRegistry resourceRegistry = Mockito.mock(ResourceRegistry.class);
+		Mockito.when(resourceRegistry.getEntry("movie")).thenReturn(entry);
+		Mockito.when(resourceRegistry.getResources()).thenReturn(Arrays.asList(entry));
+
+		Module.ModuleContext moduleContext = Mockito.mock(Module.ModuleContext.class);
+		Mockito.when(moduleContext.getRequestDispatcher()).thenReturn(requestDispatcher);
+		Mockito.when(moduleContext.getResourceRegistry()).thenReturn(resourceRegistry);
+		Mockito.when(moduleContext.getResultFactory()).thenReturn(new ImmediateResultFactory());
+		Mockito.when(moduleContext.getPropertiesProvider()).thenReturn(new PropertiesProvider() {
+
+			@Override
+			public String getProperty(String key) {
+				return CrnkProperties.BULK_REQUESTS_ENABLED.equals(key) ? Boolean.toString(bulkEnabled) : null;
+			}
+		});
+
+		module = OperationsModule.create();
+		module.setupModule(moduleContext);
+	}
+
+	@Test
+	public void checkConsecutiveOperationsSentAsSingleRequest() {
+		List<OperationResponse> responses = module.apply(Arrays.asList(createPost("movie", "1"),
+				createPost("movie", "2"), createPost("movie", "3"), createPost("person", "1"), createPost("person", "2")),
+				false);
+		// only movies are backed by a bulk repository
+		Assert.assertEquals(Arrays.asList("POST movie", "POST person", "POST person"), executedRequests);
+
+		Assert.assertEquals(5, responses.size());
+		for (int i = 0; i < 3; i++) {
+			Assert.assertEquals(HttpStatus.CREATED_201, responses.get(i).getStatus());
+			Assert.assertEquals(Integer.toString(i + 1), responses.get(i).getSingleData().get().getId());
+		}
+		Assert.assertEquals("person", responses.get(4).getSingleData().get().getType());
+	}
+
+	@Test
+	public void checkFailedBulkRequestNotRepeated() {
+		failingId = "2";
+		List<OperationResponse> responses = module.apply(Arrays.asList(createPost("movie", "1"),
+				createPost("movie", "2"), createPost("movie", "3")), false);
+		Assert.assertEquals(Arrays.asList("POST movie"), executedRequests);
+
+		// the error does not point to an operation, it is reported by the first one
+		Assert.assertEquals(HttpStatus.UNPROCESSABLE_ENTITY_422, responses.get(0).getStatus());
+		Assert.assertEquals(1, responses.get(0).getErrors().size());
+		Assert.assertNull(responses.get(0).getErrors().get(0).getSourcePointer());
+		Assert.assertEquals(HttpStatus.PRECONDITION_FAILED_412, responses.get(1).getStatus());
+		Assert.assertNull(responses.get(1).getErrors());
+		Assert.assertEquals(HttpStatus.PRECONDITION_FAILED_412, responses.get(2).getStatus());
+	}
+
+	@Test
+	public void checkBulkErrorAssignedBySourcePointer() {
+		failingId = "2";
+		failingPointer = true;
+		List<OperationResponse> responses = module.apply(Arrays.asList(createPost("movie", "1"),
+				createPost("movie", "2"), createPost("movie", "3")), false);
+		Assert.assertEquals(Arrays.asList("POST movie"), executedRequests);
+
+		Assert.assertEquals(HttpStatus.PRECONDITION_FAILED_412, responses.get(0).getStatus());
+		Assert.assertNull(responses.get(0).getErrors());
+		Assert.assertEquals(HttpStatus.UNPROCESSABLE_ENTITY_422, responses.get(1).getStatus());
+		Assert.assertEquals(1, responses.get(1).getErrors().size());
+		ErrorData error = responses.get(1).getErrors().get(0);
+		Assert.assertEquals("/data/attributes/name", error.getSourcePointer());
+		Assert.assertEquals("invalid name", error.getDetail());
+		Assert.assertEquals(HttpStatus.PRECONDITION_FAILED_412, responses.get(2).getStatus());
+	}
+
+	@Test
+	public void checkPartiallyAppliedBulkRequestNotAppliedTwice() {
+		failingId = "3";
+		List<OperationResponse> responses = module.apply(Arrays.asList(createPost("movie", "1"),
+				createPost("movie", "2"), createPost("movie", "3"), createPost("person", "1")), false);
+		Assert.assertEquals(Arrays.asList("1", "2"), appliedIds);
+		Assert.assertEquals(Arrays.asList("POST movie"), executedRequests);
+
+		Assert.assertEquals(HttpStatus.UNPROCESSABLE_ENTITY_422, responses.get(0).getStatus());
+		Assert.assertEquals(HttpStatus.PRECONDITION_FAILED_412, responses.get(3).getStatus());
+	}
+
+	@Test
+	public void checkBulkRequestsDisabledByDefault() {
+		bulkEnabled = false;
+		List<OperationResponse> responses = module.apply(Arrays.asList(createPost("movie", "1"),
+				createPost("movie", "2")), false);
+		Assert.assertEquals(Arrays.asList("POST movie", "POST movie"), executedRequests);
+		for (OperationResponse response : responses) {
+			Assert.assertEquals(HttpStatus.CREATED_201, response.getStatus());
+		}
+	}
+
+	@Test
+	public void checkLevelWithExecutorSentAsSingleRequest() {
+		ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> new Thread(runnable,
+				"operations-bulk-test"));
+		try {
+			module.setExecutor(executor);
+			List<OperationResponse> responses = module.apply(Arrays.asList(createPost("movie", "1"),
+					createPost("movie", "2"), createPost("person", "1")), false);
+			// the operations share a level, the movies are sent together next to the person
+			Assert.assertEquals(2, executedRequests.size());
+			Assert.assertEquals(2, executorThreadRequests.get());
+			Assert.assertTrue(executedRequests.contains("POST movie"));
+			Assert.assertTrue(executedRequests.contains("POST person"));
+
+			Assert.assertEquals(3, responses.size());
+			Assert.assertEquals("1", responses.get(0).getSingleData().get().getId());
+			Assert.assertEquals("2", responses.get(1).getSingleData().get().getId());
+			Assert.assertEquals("person", responses.get(2).getSingleData().get().getType());
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void checkDeletesSentAsSingleRequest() {
+		List<OperationResponse> responses = module.apply(Arrays.asList(createDelete("movie", "1"),
+				createDelete("movie", "2")), false);
+		Assert.assertEquals(Arrays.asList("DELETE movie/1,2"), executedRequests);
+		for (OperationResponse response : responses) {
+			Assert.assertEquals(HttpStatus.NO_CONTENT_204, response.getStatus());
+		}
+	}
+
+	@Test
+	public void checkDeletedIdsWithSeparatorNotJoined() {
+		Operation separatedDelete = createDelete("movie", "2%2C3");
+		Resource resource = new Resource();
+		resource.setType("movie");
+		resource.setId("2%2C3");
+		separatedDelete.setValue(resource);
+
+		List<OperationResponse> responses = module.apply(Arrays.asList(createDelete("movie", "1"), separatedDelete,
+				createDelete("movie", "4"), createDelete("movie", "5")), false);
+		// joining the id would delete movies 2 and 3 instead
+		Assert.assertEquals(Arrays.asList("DELETE movie/1", "DELETE movie/2%2C3", "DELETE movie/4,5"),
+				executedRequests);
+		for (OperationResponse response : responses) {
+			Assert.assertEquals(HttpStatus.NO_CONTENT_204, response.getStatus());
+		}
+	}
+
+	private Document createErrorDocument(String sourcePointer) {
+		ErrorData error = ErrorData.builder().setStatus("422").setDetail("invalid name").setSourcePointer(sourcePointer)
+				.build();
+		Document document = new Document();
+		document.setErrors(Arrays.asList(error));
+		return document;
+	}
+
+	private Operation createPost(String type, String id) {
+		Resource resource = new Resource();
+		resource.setId(id);
+		resource.setType(type);
+
+		Operation operation = new Operation();
+		operation.setOp(HttpMethod.POST.toString());
+		operation.setPath(type);
+		operation.setValue(resource);
+		return operation;
+	}
+
+	private Operation createDelete(String type, String id) {
+		Operation operation = new Operation();
+		operation.setOp(HttpMethod.DELETE.toString());
+		operation.setPath(type + "/" + id);
+		return operation;
+	}
+}
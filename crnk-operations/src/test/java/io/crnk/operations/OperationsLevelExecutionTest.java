@@ -0,0 +1,209 @@
+package io.crnk.operations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.crnk.core.engine.dispatcher.RequestDispatcher;
+import io.crnk.core.engine.dispatcher.Response;
+import io.crnk.core.engine.document.Document;
+import io.crnk.core.engine.document.Relationship;
+import io.crnk.core.engine.document.Resource;
+import io.crnk.core.engine.document.ResourceIdentifier;
+import io.crnk.core.engine.http.HttpMethod;
+import io.crnk.core.engine.http.HttpStatus;
+import io.crnk.core.engine.registry.ResourceRegistry;
+import io.crnk.core.engine.result.ImmediateResultFactory;
+import io.crnk.core.engine.transaction.TransactionRunner;
+import io.crnk.core.module.Module;
+import io.crnk.core.module.discovery.ServiceDiscovery;
+import io.crnk.core.utils.Nullable;
+import io.crnk.legacy.internal.RepositoryMethodParameterProvider;
+import io.crnk.operations.server.OperationsModule;
+import io.crnk.operations.server.TransactionOperationFilter;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class OperationsLevelExecutionTest {
+
+	private OperationsModule module;
+
+	private ExecutorService executor;
+
+	private List<String> executedPaths = Collections.synchronizedList(new ArrayList<String>());
+
+	private AtomicInteger executorThreadCalls = new AtomicInteger();
+
+	private String failingPath;
+
+	private ImmediateResultFactory resultFactory = new ImmediateResultFactory();
+
+	private ThreadLocal<Boolean> transaction = new ThreadLocal<>();
+
+	private AtomicInteger transactionalCalls = new AtomicInteger();
+
+	private Module.ModuleContext moduleContext;
+
+	@Before
+	public void setup() {
+		RequestDispatcher requestDispatcher = Mockito.mock(RequestDispatcher.class);
+		Mockito.when(requestDispatcher.dispatchRequest(Mockito.anyString(), Mockito.anyString(), Mockito.anyMap(),
+				Mockito.any(RepositoryMethodParameterProvider.class), Mockito.any(Document.class)))
+				.thenAnswer(new Answer<Response>() {
+
+					@Override
+					public Response answer(InvocationOnMock invocation) {
+						String path = (String) invocation.getArguments()[0];
+						String method = (String) invocation.getArguments()[1];
+						Document requestBody = (Document) invocation.getArguments()[4];
+						// the request context must be available to the dispatched operation
+						Assert.assertEquals("context", resultFactory.getThreadContext());
+						if (Thread.currentThread().getName().startsWith("operations-test")) {
+							executorThreadCalls.incrementAndGet();
+						}
+						if (Boolean.TRUE.equals(transaction.get())) {
+							transactionalCalls.incrementAndGet();
+						}
+						if (!HttpMethod.GET.toString().equals(method)) {
+							executedPaths.add(path);
+						}
+						if (path.equals(failingPath)) {
+							return new Response(new Document(), HttpStatus.UNPROCESSABLE_ENTITY_422);
+						}
+						Document document = new Document();
+						Resource resource = requestBody != null ? requestBody.getSingleData().get() : toResource(path);
+						document.setData(Nullable.of((Object) resource));
+						return new Response(document, HttpStatus.CREATED_201);
+					}
+				});
+
+		moduleContext = Mockito.mock(Module.ModuleContext.class);
+		Mockito.when(moduleContext.getRequestDispatcher()).thenReturn(requestDispatcher);
+		Mockito.when(moduleContext.getResourceRegistry()).thenReturn(Mockito.mock(ResourceRegistry.class));
+		Mockito.when(moduleContext.getResultFactory()).thenReturn(resultFactory);
+
+		executor = Executors.newFixedThreadPool(4, runnable -> new Thread(runnable, "operations-test"));
+		module = OperationsModule.create();
+		module.setupModule(moduleContext);
+		module.setExecutor(executor);
+		resultFactory.setThreadContext("context");
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdown();
+		resultFactory.clearContext();
+	}
+
+	@Test
+	public void checkIndependentOperationsExecutedConcurrently() {
+		Operation movie = createPost("movie", "1");
+		Operation person1 = createPost("person", "1");
+		Operation person2 = createPost("person", "2");
+		addDependency(movie, person1);
+		addDependency(movie, person2);
+
+		List<OperationResponse> responses = module.apply(Arrays.asList(movie, person1, person2));
+		Assert.assertEquals(3, responses.size());
+		for (OperationResponse response : responses) {
+			Assert.assertEquals(HttpStatus.CREATED_201, response.getStatus());
+		}
+		Assert.assertEquals("movie", responses.get(0).getSingleData().get().getType());
+		Assert.assertEquals("person", responses.get(1).getSingleData().get().getType());
+
+		// the dependent movie comes last on its own
+		Assert.assertEquals("movie", executedPaths.get(2));
+		Assert.assertEquals(2, executorThreadCalls.get());
+	}
+
+	@Test
+	public void checkTransactionalOperationsExecutedSequentially() {
+		TransactionRunner transactionRunner = new TransactionRunner() {
+
+			@Override
+			public <T> T doInTransaction(Callable<T> callable) {
+				transaction.set(true);
+				try {
+					return callable.call();
+				}
+				catch (Exception e) {
+					throw new IllegalStateException(e);
+				}
+				finally {
+					transaction.remove();
+				}
+			}
+		};
+		ServiceDiscovery serviceDiscovery = Mockito.mock(ServiceDiscovery.class);
+		Mockito.when(serviceDiscovery.getInstancesByType(TransactionRunner.class))
+				.thenReturn(Arrays.asList(transactionRunner));
+		Mockito.when(moduleContext.getServiceDiscovery()).thenReturn(serviceDiscovery);
+		module.addFilter(new TransactionOperationFilter());
+
+		Operation movie = createPost("movie", "1");
+		Operation person1 = createPost("person", "1");
+		Operation person2 = createPost("person", "2");
+		addDependency(movie, person1);
+		addDependency(movie, person2);
+
+		List<OperationResponse> responses = module.apply(Arrays.asList(movie, person1, person2), false);
+		for (OperationResponse response : responses) {
+			Assert.assertEquals(HttpStatus.CREATED_201, response.getStatus());
+		}
+		// all operations take part in the transaction of the requesting thread
+		Assert.assertEquals(0, executorThreadCalls.get());
+		Assert.assertEquals(3, transactionalCalls.get());
+	}
+
+	@Test
+	public void checkFurtherLevelsIgnoredAfterFailure() {
+		failingPath = "person";
+		Operation movie = createPost("movie", "1");
+		Operation person = createPost("person", "1");
+		Operation other = createPost("other", "1");
+		addDependency(movie, person);
+
+		List<OperationResponse> responses = module.apply(Arrays.asList(movie, person, other));
+		Assert.assertEquals(HttpStatus.PRECONDITION_FAILED_412, responses.get(0).getStatus());
+		Assert.assertEquals(HttpStatus.UNPROCESSABLE_ENTITY_422, responses.get(1).getStatus());
+		Assert.assertEquals(HttpStatus.CREATED_201, responses.get(2).getStatus());
+		Assert.assertEquals(2, executedPaths.size());
+	}
+
+	private static Resource toResource(String path) {
+		String[] elements = path.split("/");
+		Resource resource = new Resource();
+		resource.setType(elements[0]);
+		resource.setId(elements[1]);
+		return resource;
+	}
+
+	private Operation createPost(String type, String id) {
+		Resource resource = new Resource();
+		resource.setId(id);
+		resource.setType(type);
+
+		Operation operation = new Operation();
+		operation.setOp(HttpMethod.POST.toString());
+		operation.setPath(type);
+		operation.setValue(resource);
+		return operation;
+	}
+
+	private void addDependency(Operation operation, Operation dependency) {
+		Resource resource = dependency.getValue();
+		Relationship relationship = new Relationship();
+		relationship.setData(Nullable.of((Object) new ResourceIdentifier(resource.getId(), resource.getType())));
+		operation.getValue().getRelationships().put(resource.getType() + resource.getId(), relationship);
+	}
+}
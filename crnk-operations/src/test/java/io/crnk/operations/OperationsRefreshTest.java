@@ -0,0 +1,161 @@
+package io.crnk.operations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.crnk.core.engine.dispatcher.RequestDispatcher;
+import io.crnk.core.engine.dispatcher.Response;
+import io.crnk.core.engine.document.Document;
+import io.crnk.core.engine.document.Relationship;
+import io.crnk.core.engine.document.Resource;
+import io.crnk.core.engine.document.ResourceIdentifier;
+import io.crnk.core.engine.http.HttpMethod;
+import io.crnk.core.engine.http.HttpStatus;
+import io.crnk.core.engine.registry.ResourceRegistry;
+import io.crnk.core.engine.result.ImmediateResultFactory;
+import io.crnk.core.module.Module;
+import io.crnk.core.utils.Nullable;
+import io.crnk.legacy.internal.RepositoryMethodParameterProvider;
+import io.crnk.operations.server.OperationsModule;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class OperationsRefreshTest {
+
+	private OperationsModule module;
+
+	private Map<String, Set<String>> fetchedPaths = new HashMap<>();
+
+	private String missingId;
+
+	@Before
+	public void setup() {
+		RequestDispatcher requestDispatcher = Mockito.mock(RequestDispatcher.class);
+		Mockito.when(requestDispatcher.dispatchRequest(Mockito.anyString(), Mockito.anyString(), Mockito.anyMap(),
+				Mockito.any(RepositoryMethodParameterProvider.class), Mockito.any(Document.class)))
+				.thenAnswer(new Answer<Response>() {
+
+					@Override
+					public Response answer(InvocationOnMock invocation) {
+						String path = (String) invocation.getArguments()[0];
+						String method = (String) invocation.getArguments()[1];
+						Map<String, Set<String>> parameters = (Map<String, Set<String>>) invocation.getArguments()[2];
+						Document requestBody = (Document) invocation.getArguments()[4];
+
+						Document document = new Document();
+						if (!HttpMethod.GET.toString().equals(method)) {
+							document.setData(Nullable.of((Object) requestBody.getSingleData().get()));
+							return new Response(document, HttpStatus.CREATED_201);
+						}
+
+						fetchedPaths.put(path, parameters.get("include"));
+						String[] elements = path.split("/");
+						String[] ids = elements[1].split(",");
+						if (ids.length == 1) {
+							document.setData(Nullable.of((Object) toFetchedResource(elements[0], ids[0])));
+						}
+						else {
+							List<Resource> resources = new ArrayList<>();
+							for (String id : ids) {
+								if (!id.equals(missingId)) {
+									resources.add(toFetchedResource(elements[0], id));
+								}
+							}
+							document.setData(Nullable.of((Object) resources));
+						}
+						return new Response(document, HttpStatus.OK_200);
+					}
+				});
+
+		Module.ModuleContext moduleContext = Mockito.mock(Module.ModuleContext.class);
+		Mockito.when(moduleContext.getRequestDispatcher()).thenReturn(requestDispatcher);
+		Mockito.when(moduleContext.getResourceRegistry()).thenReturn(Mockito.mock(ResourceRegistry.class));
+		Mockito.when(moduleContext.getResultFactory()).thenReturn(new ImmediateResultFactory());
+
+		module = OperationsModule.create();
+		module.setupModule(moduleContext);
+	}
+
+	@Test
+	public void checkResourcesFetchedByTypeAndInclusions() {
+		Operation movie1 = createPost("movie", "1");
+		Operation movie2 = createPost("movie", "2");
+		Operation movie3 = createPost("movie", "3");
+		Operation person = createPost("person", "1");
+		addRelationship(movie3, "directors", person);
+
+		List<OperationResponse> responses = module.apply(Arrays.asList(movie1, movie2, movie3, person));
+		Assert.assertEquals(3, fetchedPaths.size());
+		Assert.assertTrue(fetchedPaths.get("movie/1,2").isEmpty());
+		Assert.assertEquals("directors", fetchedPaths.get("movie/3").iterator().next());
+		Assert.assertTrue(fetchedPaths.containsKey("person/1"));
+
+		for (int i = 0; i < responses.size(); i++) {
+			OperationResponse response = responses.get(i);
+			Assert.assertEquals(HttpStatus.CREATED_201, response.getStatus());
+			Resource resource = response.getSingleData().get();
+			Assert.assertEquals(i < 3 ? "movie" : "person", resource.getType());
+			Assert.assertEquals(i < 3 ? Integer.toString(i + 1) : "1", resource.getId());
+			Assert.assertTrue(resource.getAttributes().containsKey("fetched"));
+			Assert.assertNull(response.getIncluded());
+		}
+	}
+
+	@Test
+	public void checkMissingResourcesFetchedOneByOne() {
+		missingId = "2";
+		List<OperationResponse> responses = module.apply(Arrays.asList(createPost("movie", "1"), createPost("movie", "2")));
+		Assert.assertEquals(2, fetchedPaths.size());
+		Assert.assertTrue(fetchedPaths.containsKey("movie/1,2"));
+		Assert.assertTrue(fetchedPaths.containsKey("movie/2"));
+		for (OperationResponse response : responses) {
+			Assert.assertTrue(response.getSingleData().get().getAttributes().containsKey("fetched"));
+		}
+	}
+
+	@Test
+	public void checkRefreshCanBeSkipped() {
+		List<OperationResponse> responses = module.apply(Arrays.asList(createPost("movie", "1"), createPost("movie", "2")),
+				false);
+		Assert.assertTrue(fetchedPaths.isEmpty());
+		for (OperationResponse response : responses) {
+			Assert.assertEquals(HttpStatus.CREATED_201, response.getStatus());
+			Assert.assertFalse(response.getSingleData().get().getAttributes().containsKey("fetched"));
+		}
+	}
+
+	private static Resource toFetchedResource(String type, String id) {
+		Resource resource = new Resource();
+		resource.setType(type);
+		resource.setId(id);
+		resource.getAttributes().put("fetched", null);
+		return resource;
+	}
+
+	private Operation createPost(String type, String id) {
+		Resource resource = new Resource();
+		resource.setId(id);
+		resource.setType(type);
+
+		Operation operation = new Operation();
+		operation.setOp(HttpMethod.POST.toString());
+		operation.setPath(type);
+		operation.setValue(resource);
+		return operation;
+	}
+
+	private void addRelationship(Operation operation, String name, Operation target) {
+		Resource resource = target.getValue();
+		Relationship relationship = new Relationship();
+		relationship.setData(Nullable.of((Object) new ResourceIdentifier(resource.getId(), resource.getType())));
+		operation.getValue().getRelationships().put(name, relationship);
+	}
+}
@@ -0,0 +1,295 @@
+package io.crnk.operations;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.crnk.core.engine.dispatcher.RequestDispatcher;
+import io.crnk.core.engine.dispatcher.Response;
+import io.crnk.core.engine.document.Document;
+import io.crnk.core.engine.document.Resource;
+import io.crnk.core.engine.http.HttpMethod;
+import io.crnk.core.engine.http.HttpRequestContext;
+import io.crnk.core.engine.http.HttpRequestContextProvider;
+import io.crnk.core.engine.http.HttpResponse;
+import io.crnk.core.engine.http.HttpStatus;
+import io.crnk.core.engine.internal.jackson.JacksonModule;
+import io.crnk.core.engine.registry.ResourceRegistry;
+import io.crnk.core.engine.result.ImmediateResultFactory;
+import io.crnk.core.engine.result.ResultFactory;
+import io.crnk.core.engine.transaction.TransactionRunner;
+import io.crnk.core.module.Module;
+import io.crnk.core.module.ModuleRegistry;
+import io.crnk.core.module.discovery.ServiceDiscovery;
+import io.crnk.core.utils.Nullable;
+import io.crnk.legacy.internal.RepositoryMethodParameterProvider;
+import io.crnk.operations.server.OperationsModule;
+import io.crnk.operations.server.OperationsRequestProcessor;
+import io.crnk.operations.server.TransactionOperationFilter;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class OperationsStreamingTest {
+
+	private OperationsModule module;
+
+	private Module.ModuleContext moduleContext;
+
+	private ImmediateResultFactory resultFactory = new ImmediateResultFactory();
+
+	private ObjectMapper objectMapper = new ObjectMapper();
+
+	private List<String> executedPaths = new ArrayList<>();
+
+	private String failingPath;
+
+	@Before
+	public void setup() {
+		RequestDispatcher requestDispatcher = Mockito.mock(RequestDispatcher.class);
+		Mockito.when(requestDispatcher.dispatchRequest(Mockito.anyString(), Mockito.anyString(), Mockito.anyMap(),
+				Mockito.any(RepositoryMethodParameterProvider.class), Mockito.any(Document.class)))
+				.thenAnswer(new Answer<Response>() {
+
+					@Override
+					public Response answer(InvocationOnMock invocation) {
+						String path = (String) invocation.getArguments()[0];
+						Document requestBody = (Document) invocation.getArguments()[4];
+						// the request context must be available to the dispatched operation
+						Assert.assertNotNull(resultFactory.getThreadContext());
+						executedPaths.add(path);
+						if (path.equals(failingPath)) {
+							return new Response(new Document(), HttpStatus.UNPROCESSABLE_ENTITY_422);
+						}
+						Document document = new Document();
+						document.setData(Nullable.of((Object) requestBody.getSingleData().get()));
+						return new Response(document, HttpStatus.CREATED_201);
+					}
+				});
+
+		ModuleRegistry moduleRegistry = Mockito.mock(ModuleRegistry.class);
+		Mockito.when(moduleRegistry.getHttpRequestContextProvider())
+				.thenReturn(new HttpRequestContextProvider(() -> (ResultFactory) resultFactory));
+
+		moduleContext = Mockito.mock(Module.ModuleContext.class);
+		Mockito.when(moduleContext.getRequestDispatcher()).thenReturn(requestDispatcher);
+		Mockito.when(moduleContext.getResourceRegistry()).thenReturn(Mockito.mock(ResourceRegistry.class));
+		Mockito.when(moduleContext.getResultFactory()).thenReturn(resultFactory);
+		Mockito.when(moduleContext.getModuleRegistry()).thenReturn(moduleRegistry);
+		Mockito.when(moduleContext.getObjectMapper()).thenReturn(objectMapper);
+
+		objectMapper.registerModule(JacksonModule.createJacksonModule());
+
+		module = OperationsModule.create();
+		module.setupModule(moduleContext);
+		module.setStreamingWindowSize(2);
+	}
+
+	@Test
+	public void checkOperationsAppliedInWindows() {
+		failingPath = "movie/3";
+		List<Operation> operations = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			operations.add(createPost("movie", Integer.toString(i)));
+		}
+		operations.get(3).setPath("movie/3");
+
+		final List<OperationResponse> responses = new ArrayList<>();
+		resultFactory.setThreadContext("context");
+		try {
+			module.apply(operations.iterator(), false, response -> {
+				// responses of a window are available before the next window is read
+				Assert.assertEquals(responses.size() < 2 ? 2 : 4, executedPaths.size());
+				responses.add(response);
+			});
+		}
+		finally {
+			resultFactory.clearContext();
+		}
+
+		Assert.assertEquals(6, responses.size());
+		Assert.assertEquals(HttpStatus.CREATED_201, responses.get(0).getStatus());
+		Assert.assertEquals(HttpStatus.CREATED_201, responses.get(2).getStatus());
+		Assert.assertEquals(HttpStatus.UNPROCESSABLE_ENTITY_422, responses.get(3).getStatus());
+		Assert.assertEquals(HttpStatus.PRECONDITION_FAILED_412, responses.get(4).getStatus());
+		Assert.assertEquals(HttpStatus.PRECONDITION_FAILED_412, responses.get(5).getStatus());
+		Assert.assertEquals(4, executedPaths.size());
+	}
+
+	@Test
+	public void checkResponsesStreamedByProcessor() throws IOException {
+		List<Operation> operations = Arrays.asList(createPost("movie", "1"), createPost("movie", "2"),
+				createPost("person", "1"));
+		byte[] requestBody = objectMapper.writeValueAsBytes(operations);
+
+		HttpRequestContext context = Mockito.mock(HttpRequestContext.class);
+		Mockito.when(context.accepts(OperationsRequestProcessor.JSONPATCH_CONTENT_TYPE)).thenReturn(true);
+		Mockito.when(context.getRequestBodyStream()).thenReturn(new ByteArrayInputStream(requestBody));
+		Mockito.when(context.getRequestHeader(OperationsRequestProcessor.HTTP_HEADER_CRNK_OPERATIONS_REFRESH))
+				.thenReturn("false");
+
+		process(context);
+
+		ArgumentCaptor<HttpResponse> responseCaptor = ArgumentCaptor.forClass(HttpResponse.class);
+		Mockito.verify(context).setResponse(responseCaptor.capture());
+		HttpResponse httpResponse = responseCaptor.getValue();
+		Assert.assertEquals(200, httpResponse.getStatusCode());
+		Assert.assertEquals(OperationsRequestProcessor.JSONPATCH_CONTENT_TYPE, httpResponse.getContentType());
+
+		// the first window decides the status, further operations are only executed once the body gets written
+		Assert.assertEquals(Arrays.asList("movie", "movie"), executedPaths);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		httpResponse.writeBody(out);
+		Assert.assertEquals(Arrays.asList("movie", "movie", "person"), executedPaths);
+		Assert.assertFalse(resultFactory.hasThreadContext());
+
+		OperationResponse[] responses = objectMapper.readValue(out.toByteArray(), OperationResponse[].class);
+		Assert.assertEquals(3, responses.length);
+		Assert.assertEquals("2", responses[1].getSingleData().get().getId());
+		Assert.assertEquals("person", responses[2].getSingleData().get().getType());
+	}
+
+	@Test
+	public void checkFailureCompletesResponses() throws IOException {
+		List<Operation> operations = Arrays.asList(createPost("movie", "1"), createPost("movie", "2"),
+				createPost("movie", "3"), createPost("movie", "4"), createPost("movie", "5"));
+		operations.get(2).setPath("failing");
+		byte[] requestBody = objectMapper.writeValueAsBytes(operations);
+		RequestDispatcher requestDispatcher = moduleContext.getRequestDispatcher();
+		Mockito.doThrow(new IllegalStateException("test")).when(requestDispatcher).dispatchRequest(
+				Mockito.eq("failing"), Mockito.anyString(), Mockito.anyMap(),
+				Mockito.any(RepositoryMethodParameterProvider.class), Mockito.any(Document.class));
+
+		HttpRequestContext context = Mockito.mock(HttpRequestContext.class);
+		Mockito.when(context.accepts(OperationsRequestProcessor.JSONPATCH_CONTENT_TYPE)).thenReturn(true);
+		Mockito.when(context.getRequestBodyStream()).thenReturn(new ByteArrayInputStream(requestBody));
+		Mockito.when(context.getRequestHeader(OperationsRequestProcessor.HTTP_HEADER_CRNK_OPERATIONS_REFRESH))
+				.thenReturn("false");
+
+		process(context);
+		ArgumentCaptor<HttpResponse> responseCaptor = ArgumentCaptor.forClass(HttpResponse.class);
+		Mockito.verify(context).setResponse(responseCaptor.capture());
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		responseCaptor.getValue().writeBody(out);
+
+		// the response remains well-formed with a response for every operation
+		OperationResponse[] responses = objectMapper.readValue(out.toByteArray(), OperationResponse[].class);
+		Assert.assertEquals(5, responses.length);
+		Assert.assertEquals(HttpStatus.CREATED_201, responses[0].getStatus());
+		Assert.assertEquals(HttpStatus.CREATED_201, responses[1].getStatus());
+		Assert.assertEquals(HttpStatus.INTERNAL_SERVER_ERROR_500, responses[2].getStatus());
+		Assert.assertEquals(HttpStatus.INTERNAL_SERVER_ERROR_500, responses[3].getStatus());
+		Assert.assertEquals(1, responses[3].getErrors().size());
+		Assert.assertEquals(HttpStatus.PRECONDITION_FAILED_412, responses[4].getStatus());
+		Assert.assertFalse(resultFactory.hasThreadContext());
+	}
+
+	@Test
+	public void checkMalformedOperationCompletesResponses() throws IOException {
+		byte[] requestBody = ("[" + objectMapper.writeValueAsString(createPost("movie", "1")) + ","
+				+ objectMapper.writeValueAsString(createPost("movie", "2")) + ","
+				+ objectMapper.writeValueAsString(createPost("movie", "3")) + ", 13]").getBytes();
+
+		HttpRequestContext context = Mockito.mock(HttpRequestContext.class);
+		Mockito.when(context.accepts(OperationsRequestProcessor.JSONPATCH_CONTENT_TYPE)).thenReturn(true);
+		Mockito.when(context.getRequestBodyStream()).thenReturn(new ByteArrayInputStream(requestBody));
+		Mockito.when(context.getRequestHeader(OperationsRequestProcessor.HTTP_HEADER_CRNK_OPERATIONS_REFRESH))
+				.thenReturn("false");
+
+		process(context);
+		ArgumentCaptor<HttpResponse> responseCaptor = ArgumentCaptor.forClass(HttpResponse.class);
+		Mockito.verify(context).setResponse(responseCaptor.capture());
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		responseCaptor.getValue().writeBody(out);
+
+		OperationResponse[] responses = objectMapper.readValue(out.toByteArray(), OperationResponse[].class);
+		// the window of the malformed operation is not applied
+		Assert.assertEquals(4, responses.length);
+		Assert.assertEquals(HttpStatus.CREATED_201, responses[1].getStatus());
+		Assert.assertEquals(HttpStatus.PRECONDITION_FAILED_412, responses[2].getStatus());
+		Assert.assertEquals(HttpStatus.BAD_REQUEST_400, responses[3].getStatus());
+		Assert.assertEquals(2, executedPaths.size());
+	}
+
+	@Test
+	public void checkFailureOfFirstWindowDecidesStatus() throws IOException {
+		byte[] requestBody = ("[" + objectMapper.writeValueAsString(createPost("movie", "1")) + ", 13]").getBytes();
+
+		HttpRequestContext context = Mockito.mock(HttpRequestContext.class);
+		Mockito.when(context.accepts(OperationsRequestProcessor.JSONPATCH_CONTENT_TYPE)).thenReturn(true);
+		Mockito.when(context.getRequestBodyStream()).thenReturn(new ByteArrayInputStream(requestBody));
+
+		process(context);
+		Mockito.verify(context).setResponse(500, (byte[]) null);
+		Mockito.verify(context, Mockito.never()).setResponse(Mockito.any(HttpResponse.class));
+		Assert.assertTrue(executedPaths.isEmpty());
+	}
+
+	@Test
+	public void checkNotStreamedWithTransactionOperationFilter() throws IOException {
+		ServiceDiscovery serviceDiscovery = Mockito.mock(ServiceDiscovery.class);
+		Mockito.when(serviceDiscovery.getInstancesByType(TransactionRunner.class))
+				.thenReturn(Arrays.<TransactionRunner>asList(new TransactionRunner() {
+
+					@Override
+					public <T> T doInTransaction(Callable<T> callable) {
+						try {
+							return callable.call();
+						}
+						catch (Exception e) {
+							throw new IllegalStateException(e);
+						}
+					}
+				}));
+		Mockito.when(moduleContext.getServiceDiscovery()).thenReturn(serviceDiscovery);
+		module.addFilter(new TransactionOperationFilter());
+
+		List<Operation> operations = Arrays.asList(createPost("movie", "1"), createPost("movie", "2"),
+				createPost("person", "1"));
+		HttpRequestContext context = Mockito.mock(HttpRequestContext.class);
+		Mockito.when(context.accepts(OperationsRequestProcessor.JSONPATCH_CONTENT_TYPE)).thenReturn(true);
+		Mockito.when(context.getRequestBodyStream())
+				.thenReturn(new ByteArrayInputStream(objectMapper.writeValueAsBytes(operations)));
+		Mockito.when(context.getRequestHeader(OperationsRequestProcessor.HTTP_HEADER_CRNK_OPERATIONS_REFRESH))
+				.thenReturn("false");
+
+		// all windows are applied within a single transaction before responding
+		process(context);
+		Assert.assertEquals(Arrays.asList("movie", "movie", "person"), executedPaths);
+		Mockito.verify(context).setResponse(Mockito.eq(200), Mockito.anyString());
+		Mockito.verify(context, Mockito.never()).setResponse(Mockito.any(HttpResponse.class));
+	}
+
+	private void process(HttpRequestContext context) throws IOException {
+		OperationsRequestProcessor processor = new OperationsRequestProcessor(module, moduleContext);
+		// the request context is available while the request is processed
+		resultFactory.setThreadContext("context");
+		try {
+			processor.process(context);
+		}
+		finally {
+			resultFactory.clearContext();
+		}
+	}
+
+	private Operation createPost(String type, String id) {
+		Resource resource = new Resource();
+		resource.setId(id);
+		resource.setType(type);
+
+		Operation operation = new Operation();
+		operation.setOp(HttpMethod.POST.toString());
+		operation.setPath(type);
+		operation.setValue(resource);
+		return operation;
+	}
+}
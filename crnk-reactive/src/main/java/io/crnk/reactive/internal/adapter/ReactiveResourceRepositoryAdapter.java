@@ -17,6 +17,7 @@ import io.crnk.core.resource.links.LinksInformation;
 import io.crnk.core.resource.list.ResourceList;
 import io.crnk.reactive.internal.MonoResult;
 import io.crnk.reactive.repository.ReactiveResourceRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.Serializable;
@@ -91,6 +92,38 @@ public class ReactiveResourceRepositoryAdapter extends ReactiveRepositoryAdapter
 		return toResponse(result, requestSpec);
 	}
 
+	/**
+	 * Reactive repositories have no bulk counterpart, resources are passed one by one.
+	 */
+	@Override
+	public boolean isBulk() {
+		return false;
+	}
+
+	@Override
+	public Result<JsonApiResponse> createAll(Collection<?> entities, QueryAdapter queryAdapter) {
+		RepositoryRequestSpec requestSpec = RepositoryRequestSpecImpl.forSaveAll(moduleRegistry, HttpMethod.POST,
+				resourceInformation, queryAdapter, entities);
+		Mono result = Flux.fromIterable(entities).concatMap(entity -> repository.create(entity)).collectList();
+		return toResponse(result, requestSpec);
+	}
+
+	@Override
+	public Result<JsonApiResponse> updateAll(Collection<?> entities, QueryAdapter queryAdapter) {
+		RepositoryRequestSpec requestSpec = RepositoryRequestSpecImpl.forSaveAll(moduleRegistry, HttpMethod.PATCH,
+				resourceInformation, queryAdapter, entities);
+		Mono result = Flux.fromIterable(entities).concatMap(entity -> repository.save(entity)).collectList();
+		return toResponse(result, requestSpec);
+	}
+
+	@Override
+	public Result<JsonApiResponse> deleteAll(Collection<?> ids, QueryAdapter queryAdapter) {
+		RepositoryRequestSpec requestSpec =
+				RepositoryRequestSpecImpl.forDeleteAll(moduleRegistry, resourceInformation, queryAdapter, ids);
+		Mono result = Flux.fromIterable(ids).concatMap(id -> repository.delete(id)).then(Mono.just(Boolean.TRUE));
+		return toResponse(result, requestSpec);
+	}
+
 	@Override
 	public Object getResourceRepository() {
 		return repository;
@@ -1,5 +1,7 @@
 package io.crnk.reactive.internal.adapter;
 
+import java.util.Collection;
+
 import io.crnk.core.engine.http.HttpRequestContextProvider;
 import io.crnk.core.engine.information.repository.ResourceRepositoryInformation;
 import io.crnk.core.engine.internal.repository.ResourceRepositoryAdapter;
@@ -50,6 +52,26 @@ public class WorkerResourceRepositoryAdapter implements ResourceRepositoryAdapte
 		return worker.work(() -> adapter.delete(id, queryAdapter));
 	}
 
+	@Override
+	public boolean isBulk() {
+		return adapter.isBulk();
+	}
+
+	@Override
+	public Result<JsonApiResponse> createAll(Collection<?> entities, QueryAdapter queryAdapter) {
+		return worker.work(() -> adapter.createAll(entities, queryAdapter));
+	}
+
+	@Override
+	public Result<JsonApiResponse> updateAll(Collection<?> entities, QueryAdapter queryAdapter) {
+		return worker.work(() -> adapter.updateAll(entities, queryAdapter));
+	}
+
+	@Override
+	public Result<JsonApiResponse> deleteAll(Collection<?> ids, QueryAdapter queryAdapter) {
+		return worker.work(() -> adapter.deleteAll(ids, queryAdapter));
+	}
+
 	@Override
 	public Object getResourceRepository() {
 		return adapter.getResourceRepository();
@@ -12,11 +12,15 @@ import java.util.Set;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.crnk.core.boot.CrnkProperties;
 import io.crnk.core.engine.http.HttpRequestContextBase;
 import io.crnk.core.engine.http.HttpResponse;
+import io.crnk.core.engine.http.HttpResponseBodyWriter;
+import io.crnk.core.engine.internal.utils.PreconditionUtil;
 import io.crnk.core.engine.internal.utils.UrlUtils;
 import io.crnk.core.utils.Nullable;
 import io.crnk.legacy.internal.RepositoryMethodParameterProvider;
@@ -34,6 +38,8 @@ public class JaxrsRequestContext implements HttpRequestContextBase {
 
 	private Nullable<byte[]> requestBody = Nullable.empty();
 
+	private boolean requestBodyStreamed;
+
 	private RepositoryMethodParameterProvider requestParameterProvider;
 
 	private HttpResponse response = new HttpResponse();
@@ -93,6 +99,8 @@ public class JaxrsRequestContext implements HttpRequestContextBase {
 
 	@Override
 	public byte[] getRequestBody() {
+		PreconditionUtil.verify(!requestBodyStreamed, "request body already consumed with getRequestBodyStream(), set %s to "
+				+ "retain it", CrnkProperties.RETAIN_REQUEST_BODY);
 		if (!requestBody.isPresent()) {
 			try {
 				ByteArrayOutputStream buffer = new ByteArrayOutputStream();
@@ -111,6 +119,16 @@ public class JaxrsRequestContext implements HttpRequestContextBase {
 		return requestBody.get();
 	}
 
+	@Override
+	public InputStream getRequestBodyStream() {
+		if (requestBody.isPresent()) {
+			return new ByteArrayInputStream(requestBody.get());
+		}
+		PreconditionUtil.verify(!requestBodyStreamed, "request body can only be consumed once as stream");
+		requestBodyStreamed = true;
+		return requestContext.getEntityStream();
+	}
+
 	@Override
 	public void setResponseHeader(String name, String value) {
 		this.response.setHeader(name, value);
@@ -132,7 +150,11 @@ public class JaxrsRequestContext implements HttpRequestContextBase {
 		if (response != null && response.getStatusCode() != 0) {
 			Response.ResponseBuilder builder = Response.status(response.getStatusCode());
 
-			if (response.getBody() != null) {
+			if (response.getBodyWriter() != null) {
+				HttpResponseBodyWriter bodyWriter = response.getBodyWriter();
+				builder = builder.entity((StreamingOutput) bodyWriter::writeTo);
+			}
+			else if (response.getBody() != null) {
 				builder = builder.entity(new ByteArrayInputStream(response.getBody()));
 			}
 
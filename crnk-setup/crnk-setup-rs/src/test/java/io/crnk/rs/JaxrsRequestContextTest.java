@@ -9,6 +9,7 @@ import javax.ws.rs.core.FeatureContext;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.UriInfo;
 
+import io.crnk.core.engine.internal.utils.IOUtils;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -58,5 +59,28 @@ public class JaxrsRequestContextTest {
 		Assert.assertTrue(Arrays.equals(copy1, body));
 	}
 
+	@Test
+	public void testGetBodyStream() throws IOException {
+		ByteArrayInputStream body = new ByteArrayInputStream("Hello World".getBytes());
+		Mockito.when(requestContext.getEntityStream()).thenReturn(body);
+
+		// streamed without keeping a copy
+		Assert.assertSame(body, context.getRequestBodyStream());
+		try {
+			context.getRequestBody();
+			Assert.fail();
+		}
+		catch (IllegalStateException e) {
+			// ok, already consumed
+		}
+	}
 
+	@Test
+	public void testGetBodyStreamAfterGetBody() throws IOException {
+		byte[] body = "Hello World".getBytes();
+		Mockito.when(requestContext.getEntityStream()).thenReturn(new ByteArrayInputStream(body));
+
+		Assert.assertTrue(Arrays.equals(body, context.getRequestBody()));
+		Assert.assertTrue(Arrays.equals(body, IOUtils.readFully(context.getRequestBodyStream())));
+	}
 }
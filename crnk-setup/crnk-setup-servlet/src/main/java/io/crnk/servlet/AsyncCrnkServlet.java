@@ -108,10 +108,9 @@ public class AsyncCrnkServlet extends HttpServlet {
 						it.getHeaders().entrySet().forEach(entry -> httpResponse.setHeader(entry.getKey(), entry.getValue()));
 						httpResponse.setStatus(it.getStatusCode());
 						try (ServletOutputStream outputStream = httpResponse.getOutputStream()) {
-							byte[] body = it.getBody();
-							if (body != null) {
-								LOGGER.debug("response bodyLength={}", body.length);
-								outputStream.write(body);
+							if (it.hasBody()) {
+								LOGGER.debug("response {}", it);
+								it.writeBody(outputStream);
 							}
 						} catch (Exception e) {
 							LOGGER.error("failed to process request", e);
@@ -1,5 +1,6 @@
 package io.crnk.servlet.internal;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -13,9 +14,11 @@ import javax.servlet.ServletContext;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import io.crnk.core.boot.CrnkProperties;
 import io.crnk.core.engine.http.HttpHeaders;
 import io.crnk.core.engine.http.HttpRequestContextBase;
 import io.crnk.core.engine.http.HttpResponse;
+import io.crnk.core.engine.internal.utils.PreconditionUtil;
 import io.crnk.core.engine.internal.utils.UrlUtils;
 import io.crnk.core.utils.Nullable;
 import io.crnk.legacy.internal.RepositoryMethodParameterProvider;
@@ -47,6 +50,8 @@ public class ServletRequestContext implements HttpRequestContextBase {
 
 	private Nullable<byte[]> requestBody = Nullable.empty();
 
+	private boolean requestBodyStreamed;
+
 	private HttpResponse response = new HttpResponse();
 
 	public ServletRequestContext(final ServletContext servletContext, final HttpServletRequest request,
@@ -162,9 +167,13 @@ public class ServletRequestContext implements HttpRequestContextBase {
 		if (response.getStatusCode() > 0) {
 			servletResponse.setStatus(response.getStatusCode());
 			response.getHeaders().forEach((key, value) -> servletResponse.setHeader(key, value));
-			if (response.getBody() != null) {
+			if (response.hasBody()) {
+				if (response.getBodyWriter() == null) {
+					servletResponse.setContentLength(response.getBody().length);
+				}
+				// streamed bodies have no known length and get sent with chunked transfer encoding
 				OutputStream out = servletResponse.getOutputStream();
-				out.write(response.getBody());
+				response.writeBody(out);
 				out.close();
 			}
 			return true;
@@ -229,6 +238,8 @@ public class ServletRequestContext implements HttpRequestContextBase {
 
 	@Override
 	public byte[] getRequestBody() {
+		PreconditionUtil.verify(!requestBodyStreamed, "request body already consumed with getRequestBodyStream(), set %s to "
+				+ "retain it", CrnkProperties.RETAIN_REQUEST_BODY);
 		if (!requestBody.isPresent()) {
 			try {
 				InputStream is = servletRequest.getInputStream();
@@ -246,6 +257,17 @@ public class ServletRequestContext implements HttpRequestContextBase {
 		return requestBody.get();
 	}
 
+	@Override
+	public InputStream getRequestBodyStream() throws IOException {
+		if (requestBody.isPresent()) {
+			byte[] body = requestBody.get();
+			return body != null ? new ByteArrayInputStream(body) : null;
+		}
+		PreconditionUtil.verify(!requestBodyStreamed, "request body can only be consumed once as stream");
+		requestBodyStreamed = true;
+		return servletRequest.getInputStream();
+	}
+
 	@Override
 	public void setResponseHeader(String name, String value) {
 		response.setHeader(name, value);
@@ -7,8 +7,11 @@ import io.crnk.core.engine.http.HttpStatus;
 import io.crnk.core.engine.result.Result;
 import io.crnk.setup.vertx.internal.VertxModule;
 import io.crnk.setup.vertx.internal.VertxRequestContext;
+import io.crnk.setup.vertx.internal.VertxResponseOutputStream;
 import io.crnk.reactive.ReactiveModule;
 import io.crnk.reactive.internal.MonoResult;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.reactivex.subjects.SingleSubject;
 import io.vertx.core.Handler;
 import io.vertx.reactivex.core.buffer.Buffer;
@@ -28,8 +31,14 @@ public class CrnkVertxHandler {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(CrnkVertxHandler.class);
 
+	private static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
 	protected CrnkBoot boot = new CrnkBoot();
 
+	private ReactiveModule reactiveModule = new ReactiveModule();
+
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+
 	public CrnkVertxHandler() {
 		this((boot) -> {
 		});
@@ -38,7 +47,7 @@ public class CrnkVertxHandler {
 	public CrnkVertxHandler(Consumer<CrnkBoot> configurer) {
 		configurer.accept(boot);
 		boot.addModule(new VertxModule());
-		boot.addModule(new ReactiveModule());
+		boot.addModule(reactiveModule);
 		boot.boot();
 		if (!boot.getModuleRegistry().getResultFactory().isAsync()) {
 			throw new IllegalStateException("make use of an async ResultFactory, e.g. provided by ReactiveModule");
@@ -49,13 +58,24 @@ public class CrnkVertxHandler {
 		return boot;
 	}
 
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * @param chunkSize in bytes after which streamed response bodies are sent with chunked transfer encoding. Only
+	 *                  applies if {@link io.crnk.core.boot.CrnkProperties#SERIALIZE_STREAMING} is enabled.
+	 */
+	public void setChunkSize(int chunkSize) {
+		this.chunkSize = chunkSize;
+	}
+
 	public Publisher<HttpServerRequest> process(HttpServerRequest serverRequest) {
 		VertxRequestContext context = new VertxRequestContext(serverRequest, boot.getWebPathPrefix());
 		Mono<VertxRequestContext> mono = Mono.just(context);
 		SingleSubject<VertxRequestContext> bodySubject = SingleSubject.create();
 		Handler<Buffer> bodyHandler = (event) -> {
-			// TODO encoding, string vs byte[]
-			context.setRequestBody(event.toString().getBytes());
+			context.setRequestBody(event);
 			bodySubject.onSuccess(context);
 		};
 		serverRequest.bodyHandler(bodyHandler);
@@ -79,18 +99,21 @@ public class CrnkVertxHandler {
 				MonoResult<HttpResponse> response = (MonoResult<HttpResponse>) optResponse.get();
 
 				Mono<HttpResponse> mono = response.getMono();
-				return mono.map(it -> {
+				return mono.flatMap(it -> {
 					HttpServerResponse httpResponse = serverRequest.response();
 					LOGGER.debug("delivering response {}", httpResponse);
 					httpResponse.setStatusCode(it.getStatusCode());
 					it.getHeaders().forEach((key, value) -> httpResponse.putHeader(key, value));
-					if (it.getBody() != null) {
-						Buffer bodyBuffer = Buffer.newInstance(io.vertx.core.buffer.Buffer.buffer(it.getBody()));
-						httpResponse.end(bodyBuffer);
-					} else {
-						httpResponse.end();
+					if (it.getBodyWriter() != null) {
+						// body writers serialize and may even apply operations while writing, which must not block
+						// the event loop. The output stream waits for the response to drain on worker threads.
+						return Mono.fromCallable(() -> {
+							writeBody(httpResponse, it);
+							return serverRequest;
+						}).subscribeOn(reactiveModule.getWorkerScheduler());
 					}
-					return serverRequest;
+					writeBody(httpResponse, it);
+					return Mono.just(serverRequest);
 				});
 			} else {
 				serverRequest.response().setStatusCode(HttpStatus.NOT_FOUND_404);
@@ -105,4 +128,28 @@ public class CrnkVertxHandler {
 			LOGGER.debug("prepared request in in {}ms", endTime - startTime);
 		}
 	}
+
+	private void writeBody(HttpServerResponse httpResponse, HttpResponse response) {
+		if (response.getBodyWriter() != null) {
+			// serialize directly into the response buffers, switching to chunked transfer for large documents
+			VertxResponseOutputStream outputStream = new VertxResponseOutputStream(httpResponse, chunkSize);
+			try {
+				response.writeBody(outputStream);
+				outputStream.close();
+			} catch (IOException e) {
+				// do not end a truncated body, the client would accept it as complete
+				outputStream.abort();
+				throw new IllegalStateException(e);
+			} catch (RuntimeException e) {
+				outputStream.abort();
+				throw e;
+			}
+		} else if (response.getBody() != null) {
+			// wrap rather than copy the body
+			ByteBuf byteBuf = Unpooled.wrappedBuffer(response.getBody());
+			httpResponse.end(Buffer.newInstance(io.vertx.core.buffer.Buffer.buffer(byteBuf)));
+		} else {
+			httpResponse.end();
+		}
+	}
 }
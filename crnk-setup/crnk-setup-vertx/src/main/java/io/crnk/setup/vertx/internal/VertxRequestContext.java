@@ -5,10 +5,14 @@ import io.crnk.core.engine.http.HttpResponse;
 import io.crnk.core.engine.internal.utils.PreconditionUtil;
 import io.crnk.core.engine.internal.utils.UrlUtils;
 import io.crnk.legacy.internal.RepositoryMethodParameterProvider;
+import io.netty.buffer.ByteBufInputStream;
 import io.vertx.reactivex.core.MultiMap;
+import io.vertx.reactivex.core.buffer.Buffer;
 import io.vertx.reactivex.core.http.HttpServerRequest;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -20,6 +24,8 @@ public class VertxRequestContext implements HttpRequestContextBase {
 
 	private byte[] requestBody;
 
+	private Buffer requestBodyBuffer;
+
 	private HttpResponse response = new HttpResponse();
 
 	private String pathPrefix;
@@ -31,6 +37,15 @@ public class VertxRequestContext implements HttpRequestContextBase {
 
 	public void setRequestBody(byte[] requestBody) {
 		this.requestBody = requestBody;
+		this.requestBodyBuffer = null;
+	}
+
+	/**
+	 * Sets the request body as received by Vert.x. It is parsed directly from the buffer, without copying it.
+	 */
+	public void setRequestBody(Buffer requestBodyBuffer) {
+		this.requestBodyBuffer = requestBodyBuffer;
+		this.requestBody = null;
 	}
 
 	@Override
@@ -79,9 +94,20 @@ public class VertxRequestContext implements HttpRequestContextBase {
 
 	@Override
 	public byte[] getRequestBody() {
+		if (requestBody == null && requestBodyBuffer != null) {
+			requestBody = requestBodyBuffer.getBytes();
+		}
 		return requestBody;
 	}
 
+	@Override
+	public InputStream getRequestBodyStream() {
+		if (requestBodyBuffer != null) {
+			return new ByteBufInputStream(requestBodyBuffer.getDelegate().getByteBuf().duplicate());
+		}
+		return requestBody != null ? new ByteArrayInputStream(requestBody) : null;
+	}
+
 	@Override
 	public String getMethod() {
 		return serverRequest.rawMethod();
@@ -0,0 +1,122 @@
+package io.crnk.setup.vertx.internal;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+
+import io.vertx.core.Context;
+import io.vertx.reactivex.core.buffer.Buffer;
+import io.vertx.reactivex.core.http.HttpServerResponse;
+
+/**
+ * Writes a response body directly into Vert.x buffers. Small bodies are sent with a single
+ * {@link HttpServerResponse#end(Buffer)}, larger ones switch to chunked transfer encoding and are
+ * sent in chunks of the configured size while still being serialized.
+ * <p>
+ * If the write queue of the response is full, writing blocks until it is drained again. This only applies to
+ * writes outside the event loop, which must never block. On the event loop chunks keep being queued by Vert.x.
+ */
+public class VertxResponseOutputStream extends OutputStream {
+
+	private final HttpServerResponse response;
+
+	private final int chunkSize;
+
+	private final Object drainLock = new Object();
+
+	private io.vertx.core.buffer.Buffer buffer;
+
+	private boolean closed;
+
+	private volatile boolean connectionClosed;
+
+	public VertxResponseOutputStream(HttpServerResponse response, int chunkSize) {
+		this.response = response;
+		this.chunkSize = chunkSize;
+		this.buffer = io.vertx.core.buffer.Buffer.buffer(chunkSize);
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		buffer.appendByte((byte) b);
+		checkChunk();
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		buffer.appendBytes(b, off, len);
+		checkChunk();
+	}
+
+	private void checkChunk() throws IOException {
+		if (buffer.length() >= chunkSize) {
+			if (!response.isChunked()) {
+				response.setChunked(true);
+			}
+			response.write(Buffer.newInstance(buffer));
+			buffer = io.vertx.core.buffer.Buffer.buffer(chunkSize);
+
+			if (response.writeQueueFull() && !Context.isOnEventLoopThread()) {
+				awaitDrain();
+			}
+		}
+	}
+
+	private void awaitDrain() throws IOException {
+		synchronized (drainLock) {
+			response.drainHandler(event -> signalDrain());
+			response.closeHandler(event -> {
+				connectionClosed = true;
+				signalDrain();
+			});
+			try {
+				// queue may have been drained before the handler was registered
+				while (response.writeQueueFull() && !connectionClosed) {
+					drainLock.wait();
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("interrupted while waiting for response to drain");
+			}
+		}
+		if (connectionClosed) {
+			throw new IOException("connection closed by client");
+		}
+	}
+
+	private void signalDrain() {
+		synchronized (drainLock) {
+			drainLock.notifyAll();
+		}
+	}
+
+	/**
+	 * Sends the remaining data and ends the response.
+	 */
+	@Override
+	public void close() {
+		if (!closed) {
+			closed = true;
+			if (buffer.length() > 0) {
+				response.end(Buffer.newInstance(buffer));
+			}
+			else {
+				response.end();
+			}
+			buffer = null;
+		}
+	}
+
+	/**
+	 * Closes the connection without ending the response. To be used if writing the body failed, an ended response
+	 * would make the client accept a truncated body as complete.
+	 */
+	public void abort() {
+		if (!closed) {
+			closed = true;
+			buffer = null;
+			response.close();
+		}
+	}
+}
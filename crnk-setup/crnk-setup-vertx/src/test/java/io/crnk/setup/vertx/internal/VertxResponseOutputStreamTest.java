@@ -0,0 +1,89 @@
+package io.crnk.setup.vertx.internal;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.vertx.core.Handler;
+import io.vertx.reactivex.core.buffer.Buffer;
+import io.vertx.reactivex.core.http.HttpServerResponse;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class VertxResponseOutputStreamTest {
+
+	@Test
+	public void smallBodyEndsWithSingleBuffer() throws IOException {
+		HttpServerResponse response = Mockito.mock(HttpServerResponse.class);
+		VertxResponseOutputStream outputStream = new VertxResponseOutputStream(response, 16);
+		outputStream.write(new byte[]{1, 2, 3}, 0, 3);
+		outputStream.close();
+
+		Mockito.verify(response, Mockito.never()).setChunked(Mockito.anyBoolean());
+		Mockito.verify(response, Mockito.never()).write(Mockito.any(Buffer.class));
+		Mockito.verify(response, Mockito.times(1)).end(Mockito.any(Buffer.class));
+	}
+
+	@Test
+	public void largeBodyGetsChunked() throws IOException {
+		HttpServerResponse response = Mockito.mock(HttpServerResponse.class);
+		VertxResponseOutputStream outputStream = new VertxResponseOutputStream(response, 4);
+		outputStream.write(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, 0, 10);
+		outputStream.write(11);
+		outputStream.write(new byte[]{12, 13}, 0, 2);
+		outputStream.close();
+		outputStream.close();
+
+		Mockito.verify(response, Mockito.times(1)).setChunked(true);
+		Mockito.verify(response, Mockito.times(1)).write(Mockito.any(Buffer.class));
+		Mockito.verify(response, Mockito.times(1)).end(Mockito.any(Buffer.class));
+	}
+
+	@Test
+	public void emptyBodyEndsResponse() {
+		HttpServerResponse response = Mockito.mock(HttpServerResponse.class);
+		VertxResponseOutputStream outputStream = new VertxResponseOutputStream(response, 4);
+		outputStream.close();
+
+		Mockito.verify(response, Mockito.times(1)).end();
+	}
+
+	@Test
+	public void fullWriteQueueBlocksUntilDrained() throws Exception {
+		HttpServerResponse response = Mockito.mock(HttpServerResponse.class);
+		Mockito.when(response.writeQueueFull()).thenReturn(true);
+		VertxResponseOutputStream outputStream = new VertxResponseOutputStream(response, 4);
+
+		CompletableFuture<Void> written = CompletableFuture.runAsync(() -> {
+			try {
+				outputStream.write(new byte[]{1, 2, 3, 4}, 0, 4);
+			}
+			catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+
+		ArgumentCaptor<Handler> drainHandler = ArgumentCaptor.forClass(Handler.class);
+		Mockito.verify(response, Mockito.timeout(5000)).drainHandler(drainHandler.capture());
+		Assert.assertFalse(written.isDone());
+
+		Mockito.when(response.writeQueueFull()).thenReturn(false);
+		drainHandler.getValue().handle(null);
+		written.get(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void abortClosesConnectionWithoutEndingResponse() throws IOException {
+		HttpServerResponse response = Mockito.mock(HttpServerResponse.class);
+		VertxResponseOutputStream outputStream = new VertxResponseOutputStream(response, 16);
+		outputStream.write(new byte[]{1, 2, 3}, 0, 3);
+		outputStream.abort();
+		outputStream.close();
+
+		Mockito.verify(response, Mockito.times(1)).close();
+		Mockito.verify(response, Mockito.never()).end();
+		Mockito.verify(response, Mockito.never()).end(Mockito.any(Buffer.class));
+	}
+}